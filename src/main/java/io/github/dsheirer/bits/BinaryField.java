@@ -0,0 +1,174 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2021 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.bits;
+
+import java.util.Arrays;
+
+/**
+ * Precompiled field definition for extracting a value of up to 64 bits from a binary message.
+ *
+ * A field is defined once (normally as a static constant in a message class) either as a contiguous range of bit
+ * positions or as an arbitrary sequence of bit positions, with the first position as the MSB of the value.  At
+ * construction, the bit positions are compiled into runs of consecutive positions, so that each value read costs one
+ * shift/mask extraction per run instead of one bit test per bit position.  Most fields are a single run.
+ *
+ * @see BinaryMessage#getInt(BinaryField)
+ */
+public final class BinaryField
+{
+    private final int[] mRunStarts;
+    private final int[] mRunWidths;
+    private final int mWidth;
+
+    /**
+     * Constructs an instance from the compiled runs.  Use the static range() or of() factory methods.
+     */
+    private BinaryField(int[] runStarts, int[] runWidths, int width)
+    {
+        mRunStarts = runStarts;
+        mRunWidths = runWidths;
+        mWidth = width;
+    }
+
+    /**
+     * Creates a contiguous field from start to end bit positions, inclusive, where start is the MSB of the value.
+     *
+     * @param start bit position (MSB)
+     * @param end bit position (LSB)
+     * @return field definition
+     */
+    public static BinaryField range(int start, int end)
+    {
+        if(start < 0 || end < start || end - start >= 64)
+        {
+            throw new IllegalArgumentException("Invalid field range [" + start + "-" + end + "] - must be 1 - 64 bits");
+        }
+
+        return new BinaryField(new int[]{start}, new int[]{end - start + 1}, end - start + 1);
+    }
+
+    /**
+     * Creates a field from a sequence of bit positions that will be treated as if they were contiguous bits, with
+     * the first position being the MSB and the last position being the LSB of the value.
+     *
+     * @param bits positions, 1 - 64
+     * @return field definition
+     */
+    public static BinaryField of(int... bits)
+    {
+        if(bits.length < 1 || bits.length > 64)
+        {
+            throw new IllegalArgumentException("Field must contain 1 - 64 bit positions");
+        }
+
+        int[] runStarts = new int[bits.length];
+        int[] runWidths = new int[bits.length];
+        int runCount = 0;
+
+        for(int x = 0; x < bits.length; x++)
+        {
+            if(bits[x] < 0)
+            {
+                throw new IllegalArgumentException("Invalid negative bit position: " + bits[x]);
+            }
+
+            if(runCount > 0 && bits[x] == runStarts[runCount - 1] + runWidths[runCount - 1])
+            {
+                runWidths[runCount - 1]++;
+            }
+            else
+            {
+                runStarts[runCount] = bits[x];
+                runWidths[runCount] = 1;
+                runCount++;
+            }
+        }
+
+        return new BinaryField(Arrays.copyOf(runStarts, runCount), Arrays.copyOf(runWidths, runCount), bits.length);
+    }
+
+    /**
+     * Number of bits in this field
+     */
+    public int width()
+    {
+        return mWidth;
+    }
+
+    /**
+     * Extracts the value of this field from MSB-first packed words.
+     *
+     * @param words packed MSB first
+     * @param offset to apply to each of the bit positions
+     * @return value right-aligned in the returned long
+     */
+    long extract(long[] words, int offset)
+    {
+        if(mRunStarts.length == 1)
+        {
+            return PackedBinaryMessage.extract(words, mRunStarts[0] + offset, mWidth);
+        }
+
+        long value = 0;
+
+        for(int x = 0; x < mRunStarts.length; x++)
+        {
+            //Shift in two steps so that a full 64-bit run doesn't reduce to a zero-bit shift
+            value = ((value << (mRunWidths[x] - 1)) << 1) |
+                PackedBinaryMessage.extract(words, mRunStarts[x] + offset, mRunWidths[x]);
+        }
+
+        return value;
+    }
+
+    /**
+     * Checks that this field fits into a primitive integer value
+     */
+    void checkIntWidth()
+    {
+        if(mWidth > 32)
+        {
+            throw new IllegalArgumentException("Overflow - must be 32 bits or less to fit into a primitive integer value");
+        }
+    }
+
+    @Override
+    public String toString()
+    {
+        StringBuilder sb = new StringBuilder();
+        sb.append("BinaryField [");
+
+        for(int x = 0; x < mRunStarts.length; x++)
+        {
+            if(x > 0)
+            {
+                sb.append(",");
+            }
+
+            sb.append(mRunStarts[x]);
+
+            if(mRunWidths[x] > 1)
+            {
+                sb.append("-").append(mRunStarts[x] + mRunWidths[x] - 1);
+            }
+        }
+
+        return sb.append("]").toString();
+    }
+}
@@ -58,6 +58,14 @@ public class BinaryMessage extends BitSet
      */
     private CRC mCRC;
 
+    /**
+     * Lazily packed (MSB first) copy of the bits in this message, used for bulk field extraction.  Single bit and bit
+     * range modifications are applied to the packed copy in place.  Bulk BitSet operations (and, or, xor, andNot)
+     * discard it (set to null) and it is rebuilt on the next field read.
+     * @see PackedBinaryMessage
+     */
+    private transient long[] mPackedWords;
+
     public BinaryMessage(int size)
     {
         super(size);
@@ -244,6 +252,218 @@ public class BinaryMessage extends BitSet
         mSize = size;
     }
 
+    /**
+     * Packed (MSB first) copy of the bits in this message, rebuilt after any modification of the bits.
+     */
+    private long[] getPackedWords()
+    {
+        long[] packedWords = mPackedWords;
+
+        if(packedWords == null)
+        {
+            packedWords = PackedBinaryMessage.pack(this, mSize);
+            mPackedWords = packedWords;
+        }
+
+        return packedWords;
+    }
+
+    /**
+     * Creates a packed copy of this message
+     */
+    public PackedBinaryMessage toPackedBinaryMessage()
+    {
+        return PackedBinaryMessage.fromBinaryMessage(this);
+    }
+
+    /*
+     * BitSet modification methods are overridden to keep the packed copy of the bits current
+     */
+
+    private static final int PACKED_SET = 0;
+    private static final int PACKED_CLEAR = 1;
+    private static final int PACKED_FLIP = 2;
+
+    /**
+     * Applies a set, clear or flip operation for the bit range to the packed copy of the bits, in place.  Discards
+     * the packed copy if the range extends beyond the packed words.
+     *
+     * @param fromIndex inclusive
+     * @param toIndex exclusive
+     * @param operation PACKED_SET, PACKED_CLEAR or PACKED_FLIP
+     */
+    private void updatePackedWords(int fromIndex, int toIndex, int operation)
+    {
+        long[] packedWords = mPackedWords;
+
+        if(packedWords == null || fromIndex >= toIndex)
+        {
+            return;
+        }
+
+        int lastWord = (toIndex - 1) >>> 6;
+
+        if(lastWord >= packedWords.length)
+        {
+            mPackedWords = null;
+            return;
+        }
+
+        for(int word = fromIndex >>> 6; word <= lastWord; word++)
+        {
+            int wordStart = word << 6;
+            int from = Math.max(fromIndex, wordStart) - wordStart;
+            int to = Math.min(toIndex, wordStart + 64) - wordStart;
+
+            //Bits from (inclusive) to (exclusive) within the word, MSB first
+            long mask = (-1L >>> from) & (to == 64 ? -1L : ~(-1L >>> to));
+
+            switch(operation)
+            {
+                case PACKED_SET:
+                    packedWords[word] |= mask;
+                    break;
+                case PACKED_CLEAR:
+                    packedWords[word] &= ~mask;
+                    break;
+                default:
+                    packedWords[word] ^= mask;
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Applies a single bit set, clear or flip operation to the packed copy of the bits, in place.  Discards the packed
+     * copy if the bit is beyond the packed words.
+     */
+    private void updatePackedWord(int bitIndex, int operation)
+    {
+        long[] packedWords = mPackedWords;
+
+        if(packedWords != null)
+        {
+            int word = bitIndex >>> 6;
+
+            if(word < packedWords.length)
+            {
+                long mask = Long.MIN_VALUE >>> bitIndex;
+
+                switch(operation)
+                {
+                    case PACKED_SET:
+                        packedWords[word] |= mask;
+                        break;
+                    case PACKED_CLEAR:
+                        packedWords[word] &= ~mask;
+                        break;
+                    default:
+                        packedWords[word] ^= mask;
+                        break;
+                }
+            }
+            else
+            {
+                mPackedWords = null;
+            }
+        }
+    }
+
+    @Override
+    public void set(int bitIndex)
+    {
+        super.set(bitIndex);
+        updatePackedWord(bitIndex, PACKED_SET);
+    }
+
+    @Override
+    public void set(int bitIndex, boolean value)
+    {
+        super.set(bitIndex, value);
+        updatePackedWord(bitIndex, value ? PACKED_SET : PACKED_CLEAR);
+    }
+
+    @Override
+    public void set(int fromIndex, int toIndex)
+    {
+        super.set(fromIndex, toIndex);
+        updatePackedWords(fromIndex, toIndex, PACKED_SET);
+    }
+
+    @Override
+    public void set(int fromIndex, int toIndex, boolean value)
+    {
+        super.set(fromIndex, toIndex, value);
+        updatePackedWords(fromIndex, toIndex, value ? PACKED_SET : PACKED_CLEAR);
+    }
+
+    @Override
+    public void clear(int bitIndex)
+    {
+        super.clear(bitIndex);
+        updatePackedWord(bitIndex, PACKED_CLEAR);
+    }
+
+    @Override
+    public void clear(int fromIndex, int toIndex)
+    {
+        super.clear(fromIndex, toIndex);
+        updatePackedWords(fromIndex, toIndex, PACKED_CLEAR);
+    }
+
+    @Override
+    public void flip(int bitIndex)
+    {
+        super.flip(bitIndex);
+        updatePackedWord(bitIndex, PACKED_FLIP);
+    }
+
+    @Override
+    public void flip(int fromIndex, int toIndex)
+    {
+        super.flip(fromIndex, toIndex);
+        updatePackedWords(fromIndex, toIndex, PACKED_FLIP);
+    }
+
+    /**
+     * Overrides the parent so that the clone doesn't share (and update) this message's packed copy of the bits.
+     */
+    @Override
+    public Object clone()
+    {
+        BinaryMessage clone = (BinaryMessage)super.clone();
+        clone.mPackedWords = null;
+        return clone;
+    }
+
+    @Override
+    public void and(BitSet set)
+    {
+        super.and(set);
+        mPackedWords = null;
+    }
+
+    @Override
+    public void or(BitSet set)
+    {
+        super.or(set);
+        mPackedWords = null;
+    }
+
+    @Override
+    public void xor(BitSet set)
+    {
+        super.xor(set);
+        mPackedWords = null;
+    }
+
+    @Override
+    public void andNot(BitSet set)
+    {
+        super.andNot(set);
+        mPackedWords = null;
+    }
+
     /**
      * Clears (sets to false or 0) the bits in this bitset and resets the
      * pointer to zero.
@@ -433,19 +653,7 @@ public class BinaryMessage extends BitSet
                 + "or less to fit into a primitive integer value");
         }
 
-        int value = 0;
-
-        for(int index : bits)
-        {
-            value = Integer.rotateLeft(value, 1);
-
-            if(get(index))
-            {
-                value++;
-            }
-        }
-
-        return value;
+        return (int)PackedBinaryMessage.extract(getPackedWords(), bits, 0);
     }
 
     /**
@@ -465,19 +673,32 @@ public class BinaryMessage extends BitSet
                 + "or less to fit into a primitive integer value");
         }
 
-        int value = 0;
-
-        for(int index : bits)
-        {
-            value = Integer.rotateLeft(value, 1);
+        return (int)PackedBinaryMessage.extract(getPackedWords(), bits, offset);
+    }
 
-            if(get(index + offset))
-            {
-                value++;
-            }
-        }
+    /**
+     * Returns the integer value of the field
+     *
+     * @param field definition of up to 32 bits
+     * @return - integer value of the field
+     */
+    public int getInt(BinaryField field)
+    {
+        field.checkIntWidth();
+        return (int)field.extract(getPackedWords(), 0);
+    }
 
-        return value;
+    /**
+     * Returns the integer value of the field
+     *
+     * @param field definition of up to 32 bits
+     * @param offset to apply to each of the bit positions in the field
+     * @return - integer value of the field
+     */
+    public int getInt(BinaryField field, int offset)
+    {
+        field.checkIntWidth();
+        return (int)field.extract(getPackedWords(), offset);
     }
 
     public void setInt(int value, int[] indices)
@@ -513,19 +734,7 @@ public class BinaryMessage extends BitSet
                 + "indexes to form a proper byte");
         }
 
-        int value = 0;
-
-        for(int index : bits)
-        {
-            value = Integer.rotateLeft(value, 1);
-
-            if(get(index))
-            {
-                value++;
-            }
-        }
-
-        return (byte)(value & 0xFF);
+        return (byte)PackedBinaryMessage.extract(getPackedWords(), bits, 0);
     }
 
     /**
@@ -545,19 +754,7 @@ public class BinaryMessage extends BitSet
                 + "indexes to form a proper byte");
         }
 
-        int value = 0;
-
-        for(int index : bits)
-        {
-            value = Integer.rotateLeft(value, 1);
-
-            if(get(index + offset))
-            {
-                value++;
-            }
-        }
-
-        return (byte)(value & 0xFF);
+        return (byte)PackedBinaryMessage.extract(getPackedWords(), bits, offset);
     }
 
     /**
@@ -569,21 +766,7 @@ public class BinaryMessage extends BitSet
      */
     public byte getByte(int startIndex)
     {
-        int value = 0;
-
-        for(int x = 0; x < 8; x++)
-        {
-            value <<= 1;
-
-            int index = startIndex + x;
-
-            if(index <= size() && get(index))
-            {
-                value++;
-            }
-        }
-
-        return (byte)value;
+        return (byte)getPaddedValue(startIndex, 8);
     }
 
     /**
@@ -613,18 +796,27 @@ public class BinaryMessage extends BitSet
      */
     public int getNibble(int startIndex)
     {
-        int value = 0;
-
-        for(int x = 0; x < 4; x++)
-        {
-            value <<= 1;
+        return getPaddedValue(startIndex, 4);
+    }
 
-            int index = startIndex + x;
+    /**
+     * Returns the value of the width bits starting at the start index, where bit positions beyond the size of this
+     * message are treated as zero.
+     *
+     * Note: the bit position equal to size() is included, for consistency with the original bit-wise implementation.
+     *
+     * @param startIndex of the MSB
+     * @param width of the value, 1 - 31 bits
+     * @return value
+     */
+    private int getPaddedValue(int startIndex, int width)
+    {
+        int value = (int)PackedBinaryMessage.extract(getPackedWords(), startIndex, width);
+        int validBits = size() - startIndex + 1;
 
-            if(index <= size() && get(index))
-            {
-                value++;
-            }
+        if(validBits < width)
+        {
+            value = validBits > 0 ? value & (-1 << (width - validBits)) : 0;
         }
 
         return value;
@@ -673,19 +865,7 @@ public class BinaryMessage extends BitSet
                 + "or less to fit into a primitive long value");
         }
 
-        long value = 0;
-
-        for(int index : bits)
-        {
-            value = Long.rotateLeft(value, 1);
-
-            if(get(index))
-            {
-                value++;
-            }
-        }
-
-        return value;
+        return PackedBinaryMessage.extract(getPackedWords(), bits, 0);
     }
 
     /**
@@ -705,19 +885,30 @@ public class BinaryMessage extends BitSet
                 + "or less to fit into a primitive long value");
         }
 
-        long value = 0;
-
-        for(int index : bits)
-        {
-            value = Long.rotateLeft(value, 1);
+        return PackedBinaryMessage.extract(getPackedWords(), bits, offset);
+    }
 
-            if(get(index + offset))
-            {
-                value++;
-            }
-        }
+    /**
+     * Returns the long value of the field
+     *
+     * @param field definition of up to 64 bits
+     * @return - long value of the field
+     */
+    public long getLong(BinaryField field)
+    {
+        return field.extract(getPackedWords(), 0);
+    }
 
-        return value;
+    /**
+     * Returns the long value of the field
+     *
+     * @param field definition of up to 64 bits
+     * @param offset to apply to each of the bit positions in the field
+     * @return - long value of the field
+     */
+    public long getLong(BinaryField field, int offset)
+    {
+        return field.extract(getPackedWords(), offset);
     }
 
     /**
@@ -782,6 +973,24 @@ public class BinaryMessage extends BitSet
         }
     }
 
+    /**
+     * Formats the field value as hexadecimal, prefixing the value with zeros to provide a total length of
+     * digitDisplayCount
+     *
+     * @param field definition of up to 64 bits
+     * @param digitDisplayCount total number of hexadecimal digits
+     * @return formatted value
+     */
+    public String getHex(BinaryField field, int digitDisplayCount)
+    {
+        if(field.width() <= 32)
+        {
+            return String.format("%0" + digitDisplayCount + "X", getInt(field));
+        }
+
+        return String.format("%0" + digitDisplayCount + "X", getLong(field));
+    }
+
     /**
      * Returns the int value represented by the bit range.  This method will
      * parse the bits in big endian or little endian format.  The start value
@@ -802,6 +1011,11 @@ public class BinaryMessage extends BitSet
                 + "or less to fit into a primitive integer value");
         }
 
+        if(start <= end && end - start < 32)
+        {
+            return (int)PackedBinaryMessage.extract(getPackedWords(), start, end - start + 1);
+        }
+
         int value = 0;
 
         if(start < end)
@@ -872,6 +1086,11 @@ public class BinaryMessage extends BitSet
                 + "or less to fit into a primitive long value");
         }
 
+        if(start <= end && end - start < 64)
+        {
+            return PackedBinaryMessage.extract(getPackedWords(), start, end - start + 1);
+        }
+
         long value = 0;
 
         if(start < end)
@@ -1128,11 +1347,15 @@ public class BinaryMessage extends BitSet
      */
     public void xor(int offset, int width, int value)
     {
-        BinaryMessage mask = new BinaryMessage(this.size());
-
-        mask.load(offset, width, value);
+        for(int x = 0; x < width; x++)
+        {
+            long mask = Long.rotateLeft(1, width - x - 1);
 
-        this.xor(mask);
+            if((mask & value) == mask)
+            {
+                flip(offset + x);
+            }
+        }
     }
 
     public static void main(String[] args)
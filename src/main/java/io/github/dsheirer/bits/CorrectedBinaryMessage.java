@@ -26,6 +26,7 @@ import java.util.BitSet;
 public class CorrectedBinaryMessage extends BinaryMessage
 {
     private int mCorrectedBitCount;
+    private float[] mSoftBits;
 
     /**
      * Subclass of binary message class to allow capturing a corrected bits metric.
@@ -81,6 +82,27 @@ public class CorrectedBinaryMessage extends BinaryMessage
         mCorrectedBitCount += additionalCount;
     }
 
+    /**
+     * Optional soft decision reliability values, one per message bit, where a larger value indicates a more
+     * confident bit decision.
+     *
+     * @return soft bit values or null if only hard bit decisions are available for this message
+     */
+    public float[] getSoftBits()
+    {
+        return mSoftBits;
+    }
+
+    /**
+     * Sets the soft decision reliability values for the bits in this message.
+     *
+     * @param softBits array with one value per message bit, or null to clear
+     */
+    public void setSoftBits(float[] softBits)
+    {
+        mSoftBits = softBits;
+    }
+
     /**
      * Returns a new binary message containing the bits from (inclusive) to end (exclusive).
      *
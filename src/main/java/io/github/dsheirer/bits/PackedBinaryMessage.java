@@ -0,0 +1,483 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2021 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.bits;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Fixed length binary message backed by a packed long array.
+ *
+ * Bits are packed most significant bit first: message bit 0 is the MSB of the first word and bit 63 is the LSB of
+ * the first word.  This matches the transmitted bit order of the protocols that we decode, so a contiguous field of up
+ * to 64 bits can be extracted with at most two word reads, a shift and a mask, instead of testing each bit.
+ *
+ * Sub-messages are views onto the same backing words, so creating a sub-message does not copy any bits and changes
+ * made through a view are visible in the parent message.
+ *
+ * Use fromBinaryMessage() and toBinaryMessage() to convert to and from the BitSet based BinaryMessage.
+ */
+public class PackedBinaryMessage
+{
+    private long[] mWords;
+    private int mOffset;
+    private int mSize;
+
+    /**
+     * Constructs an empty (all zeros) message
+     *
+     * @param size in bits
+     */
+    public PackedBinaryMessage(int size)
+    {
+        this(new long[getWordCount(size)], 0, size);
+    }
+
+    /**
+     * Constructs a view of size bits over the words array, starting at the offset bit position.
+     */
+    private PackedBinaryMessage(long[] words, int offset, int size)
+    {
+        mWords = words;
+        mOffset = offset;
+        mSize = size;
+    }
+
+    /**
+     * Size of this message in bits
+     */
+    public int size()
+    {
+        return mSize;
+    }
+
+    /**
+     * Indicates if the bit at the index is set
+     */
+    public boolean get(int index)
+    {
+        checkIndex(index);
+        int position = mOffset + index;
+        return (mWords[position >>> 6] << position) < 0;
+    }
+
+    /**
+     * Sets the bit at the index
+     */
+    public void set(int index)
+    {
+        checkIndex(index);
+        int position = mOffset + index;
+        mWords[position >>> 6] |= Long.MIN_VALUE >>> position;
+    }
+
+    /**
+     * Clears the bit at the index
+     */
+    public void clear(int index)
+    {
+        checkIndex(index);
+        int position = mOffset + index;
+        mWords[position >>> 6] &= ~(Long.MIN_VALUE >>> position);
+    }
+
+    /**
+     * Sets or clears the bit at the index
+     */
+    public void set(int index, boolean value)
+    {
+        if(value)
+        {
+            set(index);
+        }
+        else
+        {
+            clear(index);
+        }
+    }
+
+    /**
+     * Returns the integer value of the contiguous field starting at the start index (MSB) spanning width bits.
+     *
+     * Note: unlike BinaryMessage.getInt(start, end), the second argument is the field width, not the end index.
+     *
+     * @param start bit index of the field MSB
+     * @param width of the field in bits (1 - 32)
+     * @return field value
+     */
+    public int getInt(int start, int width)
+    {
+        if(width < 1 || width > 32)
+        {
+            throw new IllegalArgumentException("Width must be 1 - 32 bits to fit into a primitive integer value");
+        }
+
+        checkRange(start, width);
+        return (int)extract(mWords, mOffset + start, width);
+    }
+
+    /**
+     * Returns the long value of the contiguous field starting at the start index (MSB) spanning width bits.
+     *
+     * @param start bit index of the field MSB
+     * @param width of the field in bits (1 - 64)
+     * @return field value
+     */
+    public long getLong(int start, int width)
+    {
+        if(width < 1 || width > 64)
+        {
+            throw new IllegalArgumentException("Width must be 1 - 64 bits to fit into a primitive long value");
+        }
+
+        checkRange(start, width);
+        return extract(mWords, mOffset + start, width);
+    }
+
+    /**
+     * Returns the integer value represented by the bit array
+     *
+     * @param bits - an array of bit positions that will be treated as if they were contiguous bits, with index 0
+     * being the MSB and index length - 1 being the LSB
+     * @return - integer value of the bit array
+     */
+    public int getInt(int[] bits)
+    {
+        return getInt(bits, 0);
+    }
+
+    /**
+     * Returns the integer value represented by the bit array
+     *
+     * @param bits - an array of bit positions that will be treated as if they were contiguous bits, with index 0
+     * being the MSB and index length - 1 being the LSB
+     * @param offset to apply to each of the bit positions in the bits array.
+     * @return - integer value of the bit array
+     */
+    public int getInt(int[] bits, int offset)
+    {
+        if(bits.length > 32)
+        {
+            throw new IllegalArgumentException("Overflow - must be 32 bits or less to fit into a primitive integer value");
+        }
+
+        return (int)getLong(bits, offset);
+    }
+
+    /**
+     * Returns the long value represented by the bit array
+     *
+     * @param bits - an array of bit positions that will be treated as if they were contiguous bits, with index 0
+     * being the MSB and index length - 1 being the LSB
+     * @return - long value of the bit array
+     */
+    public long getLong(int[] bits)
+    {
+        return getLong(bits, 0);
+    }
+
+    /**
+     * Returns the long value represented by the bit array
+     *
+     * @param bits - an array of bit positions that will be treated as if they were contiguous bits, with index 0
+     * being the MSB and index length - 1 being the LSB
+     * @param offset to apply to each of the bit positions in the bits array.
+     * @return - long value of the bit array
+     */
+    public long getLong(int[] bits, int offset)
+    {
+        if(bits.length > 64)
+        {
+            throw new IllegalArgumentException("Overflow - must be 64 bits or less to fit into a primitive long value");
+        }
+
+        for(int bit : bits)
+        {
+            checkIndex(bit + offset);
+        }
+
+        return extract(mWords, bits, mOffset + offset);
+    }
+
+    /**
+     * Writes the width least significant bits of the value into the field starting at the start index (MSB).
+     *
+     * @param start bit index of the field MSB
+     * @param width of the field in bits (1 - 64)
+     * @param value to write
+     */
+    public void setLong(int start, int width, long value)
+    {
+        if(width < 1 || width > 64)
+        {
+            throw new IllegalArgumentException("Width must be 1 - 64 bits");
+        }
+
+        checkRange(start, width);
+
+        int position = mOffset + start;
+        int wordIndex = position >>> 6;
+        int bit = position & 63;
+
+        //Left-align the field value and the field mask within a 64-bit value
+        long aligned = value << (64 - width);
+        long mask = -1L << (64 - width);
+
+        mWords[wordIndex] = (mWords[wordIndex] & ~(mask >>> bit)) | (aligned >>> bit);
+
+        if(bit + width > 64)
+        {
+            mWords[wordIndex + 1] = (mWords[wordIndex + 1] & ~(mask << (64 - bit))) | (aligned << (64 - bit));
+        }
+    }
+
+    /**
+     * Writes the width least significant bits of the value into the field starting at the start index (MSB).
+     *
+     * @param start bit index of the field MSB
+     * @param width of the field in bits (1 - 32)
+     * @param value to write
+     */
+    public void setInt(int start, int width, int value)
+    {
+        if(width > 32)
+        {
+            throw new IllegalArgumentException("Width must be 1 - 32 bits");
+        }
+
+        setLong(start, width, value);
+    }
+
+    /**
+     * Creates a view of the bits from start (inclusive) to end (exclusive).  The view shares the backing words with
+     * this message and does not copy any bits.
+     *
+     * @param start index (inclusive)
+     * @param end index (exclusive)
+     * @return sub-message view
+     */
+    public PackedBinaryMessage getSubMessage(int start, int end)
+    {
+        if(start < 0 || end < start || end > mSize)
+        {
+            throw new IndexOutOfBoundsException("Invalid sub-message range [" + start + "," + end + ") for message size " +
+                mSize);
+        }
+
+        return new PackedBinaryMessage(mWords, mOffset + start, end - start);
+    }
+
+    /**
+     * Creates a (new) copy of this message that does not share the backing words with this message.
+     */
+    public PackedBinaryMessage copy()
+    {
+        PackedBinaryMessage copy = new PackedBinaryMessage(mSize);
+
+        for(int x = 0; x < mSize; x += 64)
+        {
+            int width = Math.min(64, mSize - x);
+            copy.setLong(x, width, getLong(x, width));
+        }
+
+        return copy;
+    }
+
+    /**
+     * Creates a BinaryMessage containing the bits from this message.
+     */
+    public BinaryMessage toBinaryMessage()
+    {
+        return new BinaryMessage(toBitSet(), mSize);
+    }
+
+    /**
+     * Creates a CorrectedBinaryMessage containing the bits from this message.
+     */
+    public CorrectedBinaryMessage toCorrectedBinaryMessage()
+    {
+        return new CorrectedBinaryMessage(toBitSet(), mSize);
+    }
+
+    /**
+     * Creates a packed message containing the bits from the binary message.
+     */
+    public static PackedBinaryMessage fromBinaryMessage(BinaryMessage message)
+    {
+        long[] words = Arrays.copyOf(pack(message, message.size()), getWordCount(message.size()));
+        return new PackedBinaryMessage(words, 0, message.size());
+    }
+
+    /**
+     * Converts this message to a BitSet where bit 0 of this message is bit 0 of the BitSet.
+     */
+    private BitSet toBitSet()
+    {
+        long[] words = new long[getWordCount(mSize)];
+
+        for(int x = 0; x < words.length; x++)
+        {
+            int width = Math.min(64, mSize - (x * 64));
+
+            //Left-align the bits in the word and reverse them for the little-endian BitSet word layout
+            words[x] = Long.reverse(getLong(x * 64, width) << (64 - width));
+        }
+
+        return BitSet.valueOf(words);
+    }
+
+    @Override
+    public String toString()
+    {
+        StringBuilder sb = new StringBuilder();
+
+        for(int x = 0; x < mSize; x++)
+        {
+            sb.append(get(x) ? "1" : "0");
+        }
+
+        return sb.toString();
+    }
+
+    /**
+     * Hexadecimal representation of this message, zero padded in the least significant bits of the final nibble.
+     */
+    public String toHexString()
+    {
+        StringBuilder sb = new StringBuilder();
+
+        for(int x = 0; x < mSize; x += 4)
+        {
+            int width = Math.min(4, mSize - x);
+            sb.append(Integer.toHexString(getInt(x, width) << (4 - width)).toUpperCase());
+        }
+
+        return sb.toString();
+    }
+
+    private void checkIndex(int index)
+    {
+        if(index < 0 || index >= mSize)
+        {
+            throw new IndexOutOfBoundsException("Index " + index + " is outside of message size " + mSize);
+        }
+    }
+
+    private void checkRange(int start, int width)
+    {
+        if(start < 0 || start + width > mSize)
+        {
+            throw new IndexOutOfBoundsException("Field [" + start + "," + (start + width) +
+                ") is outside of message size " + mSize);
+        }
+    }
+
+    /**
+     * Number of 64-bit words required to hold the number of bits
+     */
+    private static int getWordCount(int size)
+    {
+        return (size + 63) >>> 6;
+    }
+
+    /**
+     * Packs the contents of the bit set into MSB-first words.  All set bits are packed, including any that are beyond
+     * the size argument, so that the packed words are an exact image of the bit set.  The returned array holds at
+     * least size bits and positions beyond the end of the array are zero.
+     *
+     * @param bitSet to pack
+     * @param size minimum number of bits to hold in the packed words
+     * @return packed words
+     */
+    static long[] pack(BitSet bitSet, int size)
+    {
+        long[] source = bitSet.toLongArray();
+        long[] words = source.length >= getWordCount(size) ? source : Arrays.copyOf(source, getWordCount(size));
+
+        for(int x = 0; x < source.length; x++)
+        {
+            words[x] = Long.reverse(source[x]);
+        }
+
+        return words;
+    }
+
+    /**
+     * Extracts a contiguous field from MSB-first packed words.  Bit positions beyond the end of the words array are
+     * treated as zero and negative bit positions are rejected, consistent with BitSet.get().
+     *
+     * @param words packed MSB first
+     * @param start bit position of the field MSB
+     * @param width of the field (1 - 64)
+     * @return field value right-aligned in the returned long
+     */
+    static long extract(long[] words, int start, int width)
+    {
+        if(start < 0)
+        {
+            throw new IndexOutOfBoundsException("Bit index " + start + " is negative");
+        }
+
+        int wordIndex = start >>> 6;
+        int bit = start & 63;
+
+        long value = wordIndex < words.length ? words[wordIndex] << bit : 0;
+
+        if(bit + width > 64 && wordIndex + 1 < words.length)
+        {
+            value |= words[wordIndex + 1] >>> (64 - bit);
+        }
+
+        return value >>> (64 - width);
+    }
+
+    /**
+     * Extracts the value represented by an array of bit positions from MSB-first packed words, with bits[0] as the
+     * MSB of the value.  Runs of consecutive ascending bit positions are extracted as a single contiguous field, so
+     * a field array that describes a contiguous range costs one or two word reads.  Bit positions beyond the end of
+     * the words array are treated as zero.
+     *
+     * @param words packed MSB first
+     * @param bits positions, up to 64
+     * @param offset to apply to each of the bit positions
+     * @return value right-aligned in the returned long
+     */
+    static long extract(long[] words, int[] bits, int offset)
+    {
+        long value = 0;
+        int x = 0;
+
+        while(x < bits.length)
+        {
+            int start = bits[x];
+            int width = 1;
+
+            while(x + width < bits.length && width < 64 && bits[x + width] == start + width)
+            {
+                width++;
+            }
+
+            //Shift in two steps so that a full 64-bit run doesn't reduce to a zero-bit shift
+            value = ((value << (width - 1)) << 1) | extract(words, start + offset, width);
+            x += width;
+        }
+
+        return value;
+    }
+}
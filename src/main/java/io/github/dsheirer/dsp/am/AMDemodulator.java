@@ -26,7 +26,6 @@ import org.apache.commons.math3.util.FastMath;
 public class AMDemodulator
 {
     private ReusableBufferQueue mReusableBufferQueue = new ReusableBufferQueue("AMDemodulator");
-    private int mOutputBufferPointer;
     private float mGain;
 
     /**
@@ -59,6 +58,26 @@ public class AMDemodulator
         return (float) FastMath.sqrt((inphase * inphase) + (quadrature * quadrature)) * mGain;
     }
 
+    /**
+     * Demodulates the interleaved complex samples into the output array.
+     *
+     * @param samples interleaved complex samples to demodulate
+     * @param length of the samples array (2 x complex sample count) to demodulate
+     * @param output array to receive (length / 2) demodulated samples
+     */
+    public void demodulate(float[] samples, int length, float[] output)
+    {
+        float gain = mGain;
+        float inphase, quadrature;
+
+        for(int x = 0; x < length / 2; x++)
+        {
+            inphase = samples[2 * x];
+            quadrature = samples[2 * x + 1];
+            output[x] = (float)Math.sqrt((inphase * inphase) + (quadrature * quadrature)) * gain;
+        }
+    }
+
     /**
      * Demodulates the reusable comples sample buffer and returns a demodulated audio buffer.
      * @param complexBuffer to demodulate
@@ -68,13 +87,7 @@ public class AMDemodulator
     {
         ReusableFloatBuffer reusableFloatBuffer = mReusableBufferQueue.getBuffer(complexBuffer.getSampleCount());
         float[] input = complexBuffer.getSamples();
-        float[] output = reusableFloatBuffer.getSamples();
-        mOutputBufferPointer = 0;
-
-        for(int x= 0; x < complexBuffer.getSamples().length; x += 2)
-        {
-            output[mOutputBufferPointer++] = demodulate(input[x], input[x + 1]);
-        }
+        demodulate(input, input.length, reusableFloatBuffer.getSamples());
 
         complexBuffer.decrementUserCount();
 
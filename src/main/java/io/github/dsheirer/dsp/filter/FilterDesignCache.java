@@ -0,0 +1,360 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2021 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.dsp.filter;
+
+import io.github.dsheirer.dsp.filter.design.FilterDesignException;
+import io.github.dsheirer.properties.SystemProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Process-wide, thread-safe cache of designed filter coefficients, backed by an on-disk store in the application's
+ * filters folder.
+ *
+ * Filter designs are identified by a design key that fully describes the design inputs (for example,
+ * FIRFilterSpecification.getDesignKey()).  Lookups are served from memory first, then from the on-disk store, and the
+ * designer is only invoked when neither has the design.  Newly designed filters are persisted so that subsequent runs
+ * of the application don't have to redesign them.
+ *
+ * Each stored design is a single file named with the SHA-1 hash of the design key.  The file contains a format
+ * version, the design key and the coefficients, and the key is verified on load so that stale, colliding or corrupt
+ * files are deleted and replaced.  Design keys include the version of the design algorithm (e.g.
+ * RemezFIRFilterDesigner.DESIGN_VERSION) so that a change to a designer invalidates the designs persisted by the
+ * previous version.  Persisted designs that are no longer used age out: the store is limited to the most recently
+ * used designs and the oldest files are removed at startup.  Persistence can be disabled with the application
+ * property filter.design.cache.persist.
+ *
+ * Returned coefficient arrays are copies and can be freely modified by the caller.
+ */
+public class FilterDesignCache
+{
+    private final static Logger mLog = LoggerFactory.getLogger(FilterDesignCache.class);
+
+    public static final String PROPERTY_FILTER_DESIGN_CACHE_PERSIST = "filter.design.cache.persist";
+    private static final String FILTER_CACHE_FOLDER = "filters";
+    private static final String FILE_SUFFIX = ".filter";
+    private static final int FORMAT_VERSION = 1;
+    private static final int MAXIMUM_COEFFICIENTS = 1 << 20;
+    private static final int MAXIMUM_PERSISTED_DESIGNS = 256;
+
+    private static final Map<String,float[]> sDesigns = new ConcurrentHashMap<>();
+    private static Path sCacheFolder;
+    private static boolean sCacheFolderResolved;
+
+    /**
+     * Filter designer invoked when a design is not available from the cache.
+     */
+    @FunctionalInterface
+    public interface Designer
+    {
+        /**
+         * Designs the filter
+         * @return filter coefficients or null if the filter cannot be designed
+         * @throws FilterDesignException if the filter cannot be designed
+         */
+        float[] design() throws FilterDesignException;
+    }
+
+    /**
+     * Utility class - private constructor
+     */
+    private FilterDesignCache()
+    {
+    }
+
+    /**
+     * Provides the filter coefficients for the design key, using the designer to create the filter if it isn't
+     * available from the memory or the on-disk cache.
+     *
+     * @param designKey that uniquely identifies the filter design
+     * @param designer to create the filter on a cache miss
+     * @return a copy of the filter coefficients, or null if the designer cannot produce the filter
+     * @throws FilterDesignException if the designer throws an exception
+     */
+    public static float[] get(String designKey, Designer designer) throws FilterDesignException
+    {
+        float[] coefficients = sDesigns.get(designKey);
+
+        if(coefficients == null)
+        {
+            coefficients = load(designKey);
+
+            if(coefficients == null)
+            {
+                coefficients = designer.design();
+
+                if(coefficients == null)
+                {
+                    return null;
+                }
+
+                store(designKey, coefficients);
+            }
+
+            //Concurrent requests for the same design may both miss - keep the first one that was cached
+            float[] existing = sDesigns.putIfAbsent(designKey, coefficients);
+
+            if(existing != null)
+            {
+                coefficients = existing;
+            }
+        }
+
+        return coefficients.clone();
+    }
+
+    /**
+     * Removes all designs from the memory cache.  Persisted designs are not affected.
+     */
+    public static void clear()
+    {
+        sDesigns.clear();
+    }
+
+    /**
+     * Folder for persisted filter designs, or null if persistence is disabled or the folder is not available.
+     */
+    private static synchronized Path getCacheFolder()
+    {
+        if(!sCacheFolderResolved)
+        {
+            sCacheFolderResolved = true;
+
+            if(SystemProperties.getInstance().get(PROPERTY_FILTER_DESIGN_CACHE_PERSIST, true))
+            {
+                Path folder = SystemProperties.getInstance().getApplicationFolder(FILTER_CACHE_FOLDER);
+
+                if(folder != null && Files.isDirectory(folder) && Files.isWritable(folder))
+                {
+                    sCacheFolder = folder;
+                    prune(folder);
+                }
+                else
+                {
+                    mLog.warn("Filter design cache folder [" + folder + "] is not available - filter designs will " +
+                        "not be persisted");
+                }
+            }
+        }
+
+        return sCacheFolder;
+    }
+
+    /**
+     * Removes the least recently used persisted designs when the store exceeds the maximum number of designs.  The
+     * last modified time of a design file is updated each time that it is loaded.
+     */
+    private static void prune(Path folder)
+    {
+        List<Path> paths = new ArrayList<>();
+
+        try(DirectoryStream<Path> stream = Files.newDirectoryStream(folder, "*" + FILE_SUFFIX))
+        {
+            for(Path path : stream)
+            {
+                paths.add(path);
+            }
+        }
+        catch(IOException ioe)
+        {
+            mLog.warn("Unable to list persisted filter designs in [" + folder + "]", ioe);
+            return;
+        }
+
+        if(paths.size() <= MAXIMUM_PERSISTED_DESIGNS)
+        {
+            return;
+        }
+
+        Map<Path,Long> lastModified = new HashMap<>();
+
+        for(Path path : paths)
+        {
+            try
+            {
+                lastModified.put(path, Files.getLastModifiedTime(path).toMillis());
+            }
+            catch(IOException ioe)
+            {
+                lastModified.put(path, 0L);
+            }
+        }
+
+        paths.sort(Comparator.comparing(lastModified::get));
+
+        for(int x = 0; x < paths.size() - MAXIMUM_PERSISTED_DESIGNS; x++)
+        {
+            delete(paths.get(x));
+        }
+    }
+
+    /**
+     * Deletes the persisted design file, ignoring any errors.
+     */
+    private static void delete(Path path)
+    {
+        try
+        {
+            Files.deleteIfExists(path);
+        }
+        catch(IOException ioe)
+        {
+            //Do nothing
+        }
+    }
+
+    /**
+     * Path of the persisted file for the design key
+     */
+    private static Path getPath(Path folder, String designKey)
+    {
+        try
+        {
+            MessageDigest digest = MessageDigest.getInstance("SHA-1");
+            byte[] hash = digest.digest(designKey.getBytes(StandardCharsets.UTF_8));
+            StringBuilder sb = new StringBuilder();
+
+            for(byte b : hash)
+            {
+                sb.append(String.format("%02x", b));
+            }
+
+            return folder.resolve(sb.append(FILE_SUFFIX).toString());
+        }
+        catch(NoSuchAlgorithmException nsae)
+        {
+            //SHA-1 is a required algorithm for all Java platform implementations
+            throw new IllegalStateException("SHA-1 message digest is not available", nsae);
+        }
+    }
+
+    /**
+     * Loads the persisted design for the key.
+     * @return coefficients or null if the design is not persisted or can't be read
+     */
+    private static float[] load(String designKey)
+    {
+        Path folder = getCacheFolder();
+
+        if(folder == null)
+        {
+            return null;
+        }
+
+        Path path = getPath(folder, designKey);
+
+        if(!Files.exists(path))
+        {
+            return null;
+        }
+
+        try(DataInputStream input = new DataInputStream(Files.newInputStream(path)))
+        {
+            if(input.readInt() == FORMAT_VERSION && designKey.equals(input.readUTF()))
+            {
+                int length = input.readInt();
+
+                //Reject corrupt lengths before allocating - each coefficient occupies 4 bytes in the file
+                if(length >= 0 && length <= MAXIMUM_COEFFICIENTS && length * 4L <= Files.size(path))
+                {
+                    float[] coefficients = new float[length];
+
+                    for(int x = 0; x < coefficients.length; x++)
+                    {
+                        coefficients[x] = input.readFloat();
+                    }
+
+                    Files.setLastModifiedTime(path, FileTime.fromMillis(System.currentTimeMillis()));
+                    return coefficients;
+                }
+            }
+        }
+        catch(IOException ioe)
+        {
+            //Fall through to delete the file
+        }
+
+        mLog.warn("Persisted filter design [" + path + "] is stale or corrupt - the filter will be redesigned");
+        delete(path);
+        return null;
+    }
+
+    /**
+     * Persists the design for the key.  The design is written to a temporary file and then moved into place so that
+     * a partially written file is never visible to a concurrent reader.
+     */
+    private static void store(String designKey, float[] coefficients)
+    {
+        Path folder = getCacheFolder();
+
+        if(folder == null)
+        {
+            return;
+        }
+
+        Path path = getPath(folder, designKey);
+        Path temp = null;
+
+        try
+        {
+            temp = Files.createTempFile(folder, "design", ".tmp");
+
+            try(DataOutputStream output = new DataOutputStream(Files.newOutputStream(temp)))
+            {
+                output.writeInt(FORMAT_VERSION);
+                output.writeUTF(designKey);
+                output.writeInt(coefficients.length);
+
+                for(float coefficient : coefficients)
+                {
+                    output.writeFloat(coefficient);
+                }
+            }
+
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        catch(IOException ioe)
+        {
+            mLog.warn("Unable to persist filter design [" + path + "]", ioe);
+
+            if(temp != null)
+            {
+                delete(temp);
+            }
+        }
+    }
+}
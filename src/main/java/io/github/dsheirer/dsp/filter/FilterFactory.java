@@ -40,6 +40,13 @@ public class FilterFactory
     private static final double PERFECT_RECONSTRUCTION_GAIN_AT_BAND_EDGE = -6.020599842071533; //decibel(0.5, 0.0)
     private static final double MARGIN_OF_ERROR = 0.0003;
 
+    /**
+     * Sinc M2 channelizer design algorithm version, included in the filter design key.  Increment this value for any
+     * change to designSincM2Channelizer() that changes the designed coefficients, so that designs persisted by the
+     * FilterDesignCache under the previous version are no longer used.
+     */
+    private static final int SINC_M2_CHANNELIZER_DESIGN_VERSION = 1;
+
     /**
      * Generates coefficients for a unity-gain, windowed low-pass filter
      *
@@ -662,7 +669,8 @@ public class FilterFactory
     }
 
     /**
-     * Creates a filter from the filter specification using the remez exchange design algorithm
+     * Creates a filter from the filter specification using the remez exchange design algorithm.  Designs are cached
+     * process-wide and persisted across runs by the FilterDesignCache.
      *
      * @param specification
      * @return filter coefficients
@@ -670,14 +678,16 @@ public class FilterFactory
      */
     public static float[] getTaps(FIRFilterSpecification specification) throws FilterDesignException
     {
-        RemezFIRFilterDesigner designer = new RemezFIRFilterDesigner(specification);
+        return FilterDesignCache.get(specification.getDesignKey(), () -> {
+            RemezFIRFilterDesigner designer = new RemezFIRFilterDesigner(specification);
 
-        if(designer.isValid())
-        {
-            return designer.getImpulseResponse();
-        }
+            if(designer.isValid())
+            {
+                return designer.getImpulseResponse();
+            }
 
-        return null;
+            return null;
+        });
     }
 
     /**
@@ -807,6 +817,19 @@ public class FilterFactory
      */
     public static float[] getSincM2Channelizer(double channelBandwidth, int channels, int tapsPerChannel,
                                                boolean logResults) throws FilterDesignException
+    {
+        String designKey = "sincM2Channelizer-v" + SINC_M2_CHANNELIZER_DESIGN_VERSION + ":" + channelBandwidth + ":" +
+            channels + ":" + tapsPerChannel;
+
+        return FilterDesignCache.get(designKey, () -> designSincM2Channelizer(channelBandwidth, channels,
+            tapsPerChannel, logResults));
+    }
+
+    /**
+     * Designs the polyphase M2 channelizer sync filter.  See getSincM2Channelizer().
+     */
+    private static float[] designSincM2Channelizer(double channelBandwidth, int channels, int tapsPerChannel,
+                                                   boolean logResults) throws FilterDesignException
     {
         int currentTapsPerChannel = tapsPerChannel;
         int filterLength = (channels * currentTapsPerChannel) - 1;
@@ -72,6 +72,7 @@ public abstract class AbstractComplexPolyphaseChannelizer implements Listener<Re
     {
         mSampleRate = sampleRate;
         mChannelCount = channelCount;
+        mSubChannelCount = channelCount * 2;
         mChannelSampleRate = mSampleRate / (double)mChannelCount;
     }
 
@@ -18,12 +18,14 @@
  ******************************************************************************/
 package io.github.dsheirer.dsp.filter.channelizer;
 
+import io.github.dsheirer.controller.NamingThreadFactory;
 import io.github.dsheirer.dsp.filter.FilterFactory;
 import io.github.dsheirer.dsp.filter.design.FilterDesignException;
 import io.github.dsheirer.sample.IOverflowListener;
 import io.github.dsheirer.sample.Listener;
 import io.github.dsheirer.sample.buffer.ReusableChannelResultsBuffer;
 import io.github.dsheirer.sample.buffer.ReusableComplexBuffer;
+import io.github.dsheirer.sample.buffer.ReusableComplexBufferQueue;
 import org.apache.commons.math3.util.FastMath;
 import org.jtransforms.fft.FloatFFT_1D;
 import org.slf4j.Logger;
@@ -33,6 +35,13 @@ import java.text.DecimalFormat;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Non-Maximally Decimated Polyphase Filter Bank (NMDPFB) channelizer that divides the input baseband complex sample
@@ -57,6 +66,17 @@ import java.util.List;
  *   -Rearrange the sub-channel results to correctly order the sub-channels
  *   -Perform IFFT
  *
+ * Parallel processing: when the thread count is set greater than one, each incoming sample buffer is partitioned
+ * into contiguous ranges of sample blocks that are filtered, reordered and IFFT processed concurrently by a pool of
+ * worker threads.  Each worker reconstructs the serpentine sample buffer for its blocks from a contiguous sample
+ * history, so the channel results are identical to the single-threaded output and are added to the channel results
+ * buffer in block order with the timestamp of the incoming sample buffer.
+ *
+ * Demand-driven channel synthesis: when the set of active (consumed) channels is provided via setActiveChannels()
+ * and the number of active channels is at or below the break-even threshold, only the active output channels are
+ * calculated using a direct (pruned) DFT and the remaining channels are zeroed.  Above the threshold, or when no
+ * active channel set is provided, the full IFFT is used.
+ *
  * Note: design the prototype filter as a Nyquist windowed filter with a -6.02 db attenuation at the channel edge
  * frequency if you need Perfect Reconstruction where you'll later re-join two or more channels to form a wider
  * bandwidth channel or to isolate a signal that located between two channels.
@@ -67,17 +87,35 @@ public class ComplexPolyphaseChannelizerM2 extends AbstractComplexPolyphaseChann
     private static final DecimalFormat DECIMAL_FORMAT = new DecimalFormat("0.0");
     private static final int DEFAULT_MINIMUM_CHANNEL_BANDWIDTH = 25000;
 
+    //Maximum active channel count for calculating individual channels instead of a full IFFT.  Measured break-even
+    //is 3-4 channels for 80-800 channel IFFT sizes since a full IFFT costs about 4x a single channel DFT.
+    private static final int SPARSE_TRANSFORM_MAXIMUM_CHANNELS = 3;
+    private static final long WORKER_SHUTDOWN_TIMEOUT_MS = 1000;
+
     //Sized at 152 buffers a second where max = 5 seconds and reset = 2 seconds worth of buffers
     private IFFTProcessor mIFFTProcessor = new IFFTProcessor((5 * 152), (2 * 152));
     private FloatFFT_1D mFFT;
+    private float[] mTransformSamples;
+    private float[] mTransformCosine;
+    private float[] mTransformSine;
+    private volatile int[] mActiveChannels;
     private float[] mInlineSamples;
     private float[] mInlineFilter;
+    private float[] mFilterAccumulator;
     private boolean mTopBlockIndicator = true;
     private int[] mTopBlockMap;
     private int[] mMiddleBlockMap;
     private int mSampleBufferPointer;
     private int mSamplesPerBlock;
     private int mTapsPerChannel;
+    private int mThreadCount = 1;
+    private volatile ExecutorService mWorkerExecutorService;
+    private volatile boolean mStopped;
+    private BlockWorker[] mBlockWorkers;
+    private Future<?>[] mBlockWorkerFutures;
+    private float[][] mBlockResults = new float[0][];
+    private float[] mSampleHistory;
+    private int mSampleHistoryPointer;
 
     /**
      * Creates a NMDPFB channelizer instance.
@@ -128,15 +166,160 @@ public class ComplexPolyphaseChannelizerM2 extends AbstractComplexPolyphaseChann
      */
     public void start()
     {
-        mIFFTProcessor.start();
+        mStopped = false;
+
+        if(mThreadCount > 1)
+        {
+            if(mWorkerExecutorService == null)
+            {
+                mWorkerExecutorService = Executors.newFixedThreadPool(mThreadCount - 1,
+                    new NamingThreadFactory("sdrtrunk channelizer"));
+            }
+        }
+        else
+        {
+            mIFFTProcessor.start();
+        }
     }
 
     /**
-     * Stops sample processing.
+     * Stops sample processing.  Incoming sample buffers are discarded from this point on and the worker thread pool is
+     * shutdown after it completes any sample blocks that were submitted before the stop.
      */
     public void stop()
     {
+        mStopped = true;
         mIFFTProcessor.stop();
+
+        ExecutorService executorService = mWorkerExecutorService;
+        mWorkerExecutorService = null;
+
+        if(executorService != null)
+        {
+            executorService.shutdown();
+
+            try
+            {
+                if(!executorService.awaitTermination(WORKER_SHUTDOWN_TIMEOUT_MS, TimeUnit.MILLISECONDS))
+                {
+                    mLog.warn("Timeout while waiting for polyphase channelizer worker threads to finish");
+                }
+            }
+            catch(InterruptedException ie)
+            {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Sets the number of threads used to process each incoming sample buffer.  A value of one (default) processes
+     * the polyphase filter on the calling thread and the IFFT on a separate processing thread.  Values greater than
+     * one partition each sample buffer across the calling thread and a pool of (threads - 1) worker threads that
+     * perform both the filtering and the IFFT.
+     *
+     * Note: this method should be invoked before the channelizer is started.
+     *
+     * @param threads to use for processing
+     */
+    public void setThreadCount(int threads)
+    {
+        if(mWorkerExecutorService != null)
+        {
+            throw new IllegalStateException("Thread count cannot be changed while the channelizer is running");
+        }
+
+        mThreadCount = FastMath.max(threads, 1);
+        initWorkers();
+    }
+
+    /**
+     * Number of threads used to process each incoming sample buffer.
+     */
+    public int getThreadCount()
+    {
+        return mThreadCount;
+    }
+
+    /**
+     * Sets the polyphase channel indexes that are currently being consumed by channel output processors.  When the
+     * number of active channels is small, only the active channels are calculated for each channel results array.
+     *
+     * @param channels to calculate, or null to calculate all channels
+     */
+    public void setActiveChannels(Collection<Integer> channels)
+    {
+        if(channels == null)
+        {
+            mActiveChannels = null;
+        }
+        else
+        {
+            int[] active = new int[channels.size()];
+            int pointer = 0;
+
+            for(Integer channel: channels)
+            {
+                active[pointer++] = channel;
+            }
+
+            mActiveChannels = active;
+        }
+    }
+
+    /**
+     * Rotates each of the channels to the correct phase, using either the full IFFT or a direct DFT of only the
+     * active channels when the active channel count is at or below the break-even threshold.
+     *
+     * @param channelResults array of interleaved I/Q polyphase filter outputs, transformed in place
+     * @param fft to use for the full IFFT
+     * @param transformSamples scratch array sized to the channel results for the direct DFT
+     */
+    private void transform(float[] channelResults, FloatFFT_1D fft, float[] transformSamples)
+    {
+        int[] activeChannels = mActiveChannels;
+
+        if(activeChannels == null || activeChannels.length > SPARSE_TRANSFORM_MAXIMUM_CHANNELS)
+        {
+            fft.complexInverse(channelResults, true);
+            return;
+        }
+
+        int channelCount = mTransformCosine.length;
+        float scale = 1.0f / channelCount;
+
+        System.arraycopy(channelResults, 0, transformSamples, 0, channelResults.length);
+        Arrays.fill(channelResults, 0.0f);
+
+        for(int channel: activeChannels)
+        {
+            if(channel < 0 || channel >= channelCount)
+            {
+                continue;
+            }
+
+            float inphase = 0.0f;
+            float quadrature = 0.0f;
+            int twiddle = 0;
+
+            for(int x = 0; x < channelCount; x++)
+            {
+                float sampleI = transformSamples[2 * x];
+                float sampleQ = transformSamples[2 * x + 1];
+                inphase += (sampleI * mTransformCosine[twiddle]) - (sampleQ * mTransformSine[twiddle]);
+                quadrature += (sampleI * mTransformSine[twiddle]) + (sampleQ * mTransformCosine[twiddle]);
+
+                twiddle += channel;
+
+                if(twiddle >= channelCount)
+                {
+                    twiddle -= channelCount;
+                }
+            }
+
+            channelResults[2 * channel] = inphase * scale;
+            channelResults[2 * channel + 1] = quadrature * scale;
+        }
     }
 
     /**
@@ -189,6 +372,18 @@ public class ComplexPolyphaseChannelizerM2 extends AbstractComplexPolyphaseChann
     @Override
     public void receive(ReusableComplexBuffer reusableComplexBuffer)
     {
+        if(mStopped)
+        {
+            reusableComplexBuffer.decrementUserCount();
+            return;
+        }
+
+        if(mThreadCount > 1)
+        {
+            receiveParallel(reusableComplexBuffer);
+            return;
+        }
+
         ReusableChannelResultsBuffer channelResultsBuffer = getChannelResultsBuffer();
         channelResultsBuffer.setTimestamp(reusableComplexBuffer.getTimestamp());
 
@@ -234,6 +429,123 @@ public class ComplexPolyphaseChannelizerM2 extends AbstractComplexPolyphaseChann
         reusableComplexBuffer.decrementUserCount();
     }
 
+    /**
+     * Processes the complex sample buffer by partitioning the complete sample blocks across the worker threads and
+     * then dispatches the results to the registered channels.  Any partial sample block is retained in the sample
+     * history for processing with the next buffer.
+     */
+    private void receiveParallel(ReusableComplexBuffer reusableComplexBuffer)
+    {
+        //Use the same thread pool for the whole buffer since stop() can shutdown and clear the pool at any time
+        ExecutorService executorService = mWorkerExecutorService;
+
+        ReusableChannelResultsBuffer channelResultsBuffer = getChannelResultsBuffer();
+        channelResultsBuffer.setTimestamp(reusableComplexBuffer.getTimestamp());
+
+        float[] samples = reusableComplexBuffer.getSamples();
+
+        if(mSampleHistory.length < mSampleHistoryPointer + samples.length)
+        {
+            mSampleHistory = Arrays.copyOf(mSampleHistory, mSampleHistoryPointer + samples.length);
+        }
+
+        System.arraycopy(samples, 0, mSampleHistory, mSampleHistoryPointer, samples.length);
+        mSampleHistoryPointer += samples.length;
+
+        //Decrement the user count to let the originator know we're done with their buffer
+        reusableComplexBuffer.decrementUserCount();
+
+        int historyLength = mInlineSamples.length - mSamplesPerBlock;
+        int blockCount = (mSampleHistoryPointer - historyLength) / mSamplesPerBlock;
+
+        if(blockCount > 0)
+        {
+            if(mBlockResults.length < blockCount)
+            {
+                mBlockResults = new float[blockCount][];
+            }
+
+            for(int x = 0; x < blockCount; x++)
+            {
+                mBlockResults[x] = channelResultsBuffer.getEmptyBuffer(getSubChannelCount());
+            }
+
+            int workerCount = FastMath.min(mBlockWorkers.length, blockCount);
+            int blocksPerWorker = (int)FastMath.ceil((double)blockCount / (double)workerCount);
+
+            for(int x = 0; x < workerCount; x++)
+            {
+                int start = x * blocksPerWorker;
+                mBlockWorkers[x].setBlocks(start, FastMath.min(start + blocksPerWorker, blockCount),
+                    mTopBlockIndicator);
+            }
+
+            //Submit all but the first worker to the thread pool and process the first worker on this thread
+            for(int x = 1; x < workerCount; x++)
+            {
+                if(executorService != null)
+                {
+                    try
+                    {
+                        mBlockWorkerFutures[x] = executorService.submit(mBlockWorkers[x]);
+                    }
+                    catch(RejectedExecutionException ree)
+                    {
+                        //Thread pool was shutdown by a stop request - process the blocks on this thread
+                        mBlockWorkers[x].run();
+                    }
+                }
+                else
+                {
+                    mBlockWorkers[x].run();
+                }
+            }
+
+            mBlockWorkers[0].run();
+
+            for(int x = 1; x < workerCount; x++)
+            {
+                if(mBlockWorkerFutures[x] != null)
+                {
+                    try
+                    {
+                        mBlockWorkerFutures[x].get();
+                    }
+                    catch(CancellationException ce)
+                    {
+                        //Worker didn't complete - process the blocks on this thread
+                        mBlockWorkers[x].run();
+                    }
+                    catch(InterruptedException | ExecutionException e)
+                    {
+                        mLog.error("Error while processing polyphase channelizer sample blocks", e);
+                    }
+
+                    mBlockWorkerFutures[x] = null;
+                }
+            }
+
+            //Add the channel results in block order
+            for(int x = 0; x < blockCount; x++)
+            {
+                channelResultsBuffer.addChannelResults(mBlockResults[x]);
+                mBlockResults[x] = null;
+            }
+
+            if(blockCount % 2 != 0)
+            {
+                mTopBlockIndicator = !mTopBlockIndicator;
+            }
+
+            //Shift the unprocessed samples and the history for the next buffer to the front of the history buffer
+            int processed = blockCount * mSamplesPerBlock;
+            System.arraycopy(mSampleHistory, processed, mSampleHistory, 0, mSampleHistoryPointer - processed);
+            mSampleHistoryPointer -= processed;
+        }
+
+        dispatch(channelResultsBuffer);
+    }
+
     /**
      * Creates a top-block processing accumulator map that maps each interim filter and sample index product
      * to the corresponding final output index for the array that will feed the IFFT.
@@ -336,60 +648,83 @@ public class ComplexPolyphaseChannelizerM2 extends AbstractComplexPolyphaseChann
      */
     private void process(ReusableChannelResultsBuffer channelResultsBuffer)
     {
-        int bufferLength = getSubChannelCount() * mTapsPerChannel;
-        float[] inlineInterimOutput = new float[bufferLength];
+        filter(mInlineSamples, mInlineFilter, mFilterAccumulator, mTapsPerChannel);
 
-        //Multiply each of the samples by the corresponding filter tap
-        for(int x = 0; x < mInlineSamples.length; x++)
-        {
-            inlineInterimOutput[x] = mInlineSamples[x] * mInlineFilter[x];
-        }
-
-        float[] filterAccumulator = new float[getSubChannelCount()];
+        float[] processed = channelResultsBuffer.getEmptyBuffer(getSubChannelCount());
+        reorder(mFilterAccumulator, mTopBlockIndicator ? mTopBlockMap : mMiddleBlockMap, processed);
+        channelResultsBuffer.addChannelResults(processed);
 
-        int tapOffset = 0;
+        mTopBlockIndicator = !mTopBlockIndicator;
+    }
 
-        //Accumulate the sample/filter product results into each of the I/Q sub-channels
-        for(int tap = 0; tap < mTapsPerChannel; tap++)
-        {
-            tapOffset = tap * getSubChannelCount();
+    /**
+     * Multiplies each of the samples by the corresponding filter tap and accumulates the sample/filter product
+     * results into each of the I/Q sub-channels in a single pass.
+     *
+     * Subclasses can override this method to provide an alternate implementation, but must produce identical
+     * results where each sub-channel accumulates the products in tap order.
+     *
+     * @param samples buffer arranged as tapsPerChannel blocks of interleaved I/Q sub-channel samples
+     * @param filter coefficients aligned to the samples buffer
+     * @param accumulator to receive the accumulated results, sized to the sub-channel count
+     * @param tapsPerChannel number of filter taps per channel
+     */
+    protected void filter(float[] samples, float[] filter, float[] accumulator, int tapsPerChannel)
+    {
+        int subChannelCount = accumulator.length;
 
-            for(int channel = 0; channel < getSubChannelCount(); channel++)
-            {
-                filterAccumulator[channel] += inlineInterimOutput[tapOffset + channel];
-            }
-        }
+        //Clear the accumulator that is reused across each block of samples
+        Arrays.fill(accumulator, 0.0f);
 
-        float[] processed = channelResultsBuffer.getEmptyBuffer(getSubChannelCount());
+        int tapOffset;
 
-        if(mTopBlockIndicator)
+        for(int tap = 0; tap < tapsPerChannel; tap++)
         {
-            for(int x = 0; x < getSubChannelCount(); x++)
+            tapOffset = tap * subChannelCount;
+
+            for(int channel = 0; channel < subChannelCount; channel++)
             {
-                processed[x] = filterAccumulator[mTopBlockMap[x]];
+                accumulator[channel] += samples[tapOffset + channel] * filter[tapOffset + channel];
             }
         }
-        else
+    }
+
+    /**
+     * Rearranges the accumulated sub-channel results into the order required by the IFFT, using either the top block
+     * or the middle block map.
+     *
+     * @param accumulator containing filtered sub-channel results
+     * @param map of output index to accumulator index
+     * @param processed array to receive the reordered results
+     */
+    protected void reorder(float[] accumulator, int[] map, float[] processed)
+    {
+        for(int x = 0; x < processed.length; x++)
         {
-            for(int x = 0; x < getSubChannelCount(); x++)
-            {
-                processed[x] = filterAccumulator[mMiddleBlockMap[x]];
-            }
+            processed[x] = accumulator[map[x]];
         }
-
-        channelResultsBuffer.addChannelResults(processed);
-
-        mTopBlockIndicator = !mTopBlockIndicator;
     }
 
     /**
-     * Initializes the channelizer filter structures.
+     * Initializes the channelizer filter structures and the scratch buffers that are reused for each block of
+     * samples.  This is only invoked on construction and when the sample rate changes.
      *
      * @param coefficients of the prototype filter for this channelizer
      */
     private void init(float[] coefficients)
     {
         mFFT = new FloatFFT_1D(getChannelCount());
+        mTransformSamples = new float[getSubChannelCount()];
+        mTransformCosine = new float[getChannelCount()];
+        mTransformSine = new float[getChannelCount()];
+
+        for(int x = 0; x < getChannelCount(); x++)
+        {
+            double angle = 2.0 * FastMath.PI * x / getChannelCount();
+            mTransformCosine[x] = (float)FastMath.cos(angle);
+            mTransformSine[x] = (float)FastMath.sin(angle);
+        }
+
         int channelCount = getChannelCount();
         int bufferLength = getSubChannelCount() * mTapsPerChannel;
         mSamplesPerBlock = getChannelCount(); //Same as subChannelCount / 2
@@ -397,6 +732,92 @@ public class ComplexPolyphaseChannelizerM2 extends AbstractComplexPolyphaseChann
         mMiddleBlockMap = getMiddleBlockMap(channelCount);
         mInlineFilter = getAlignedFilter(coefficients, channelCount, mTapsPerChannel);
         mInlineSamples = new float[bufferLength];
+        mFilterAccumulator = new float[getSubChannelCount()];
+        initWorkers();
+    }
+
+    /**
+     * Initializes the block workers and the sample history used for parallel processing.  The sample history is
+     * preloaded with zero valued samples equivalent to the empty serpentine sample buffer.
+     */
+    private void initWorkers()
+    {
+        if(mThreadCount > 1)
+        {
+            mSampleHistoryPointer = mInlineSamples.length - mSamplesPerBlock;
+            mSampleHistory = new float[mSampleHistoryPointer];
+            mBlockWorkers = new BlockWorker[mThreadCount];
+
+            for(int x = 0; x < mThreadCount; x++)
+            {
+                mBlockWorkers[x] = new BlockWorker();
+            }
+
+            mBlockWorkerFutures = new Future<?>[mThreadCount];
+        }
+        else
+        {
+            mSampleHistory = null;
+            mBlockWorkers = null;
+            mBlockWorkerFutures = null;
+        }
+    }
+
+    /**
+     * Filters, reorders and performs an IFFT for a contiguous range of sample blocks from the sample history.  Each
+     * worker uses its own scratch buffers and FFT instance so that workers can run concurrently.
+     */
+    public class BlockWorker implements Runnable
+    {
+        private float[] mWorkerInlineSamples = new float[mInlineSamples.length];
+        private float[] mWorkerFilterAccumulator = new float[getSubChannelCount()];
+        private FloatFFT_1D mWorkerFFT = new FloatFFT_1D(getChannelCount());
+        private float[] mWorkerTransformSamples = new float[getSubChannelCount()];
+        private int mStartBlock;
+        private int mEndBlock;
+        private boolean mFirstBlockTop;
+
+        /**
+         * Sets the range of blocks to process.
+         * @param startBlock index, inclusive
+         * @param endBlock index, exclusive
+         * @param firstBlockTop indicates if the first block (index 0) of the buffer is processed as a top block
+         */
+        public void setBlocks(int startBlock, int endBlock, boolean firstBlockTop)
+        {
+            mStartBlock = startBlock;
+            mEndBlock = endBlock;
+            mFirstBlockTop = firstBlockTop;
+        }
+
+        @Override
+        public void run()
+        {
+            int blockSize = mSamplesPerBlock;
+            int blocksPerBuffer = mWorkerInlineSamples.length / blockSize;
+            int historyLength = mWorkerInlineSamples.length - blockSize;
+
+            for(int block = mStartBlock; block < mEndBlock; block++)
+            {
+                //Reconstruct the serpentine sample buffer with the newest block first
+                int blockOffset = historyLength + (block * blockSize);
+
+                for(int x = 0; x < blocksPerBuffer; x++)
+                {
+                    System.arraycopy(mSampleHistory, blockOffset - (x * blockSize), mWorkerInlineSamples,
+                        x * blockSize, blockSize);
+                }
+
+                filter(mWorkerInlineSamples, mInlineFilter, mWorkerFilterAccumulator, mTapsPerChannel);
+
+                boolean topBlock = (block % 2 == 0) == mFirstBlockTop;
+                float[] processed = mBlockResults[block];
+                reorder(mWorkerFilterAccumulator, topBlock ? mTopBlockMap : mMiddleBlockMap, processed);
+
+                //Rotate each of the channels to the correct phase
+                transform(processed, mWorkerFFT, mWorkerTransformSamples);
+            }
+        }
     }
 
     /**
@@ -419,8 +840,8 @@ public class ComplexPolyphaseChannelizerM2 extends AbstractComplexPolyphaseChann
                 {
                     for(float[] channelResults: buffer.getChannelResults())
                     {
-                        //Rotate each of the channels to the correct phase using the IFFT
-                        mFFT.complexInverse(channelResults, true);
+                        //Rotate each of the channels to the correct phase
+                        transform(channelResults, mFFT, mTransformSamples);
                     }
 
                     dispatch(buffer);
@@ -26,6 +26,7 @@ import io.github.dsheirer.dsp.filter.channelizer.output.IPolyphaseChannelOutputP
 import io.github.dsheirer.dsp.filter.channelizer.output.OneChannelOutputProcessor;
 import io.github.dsheirer.dsp.filter.channelizer.output.TwoChannelOutputProcessor;
 import io.github.dsheirer.dsp.filter.design.FilterDesignException;
+import io.github.dsheirer.properties.SystemProperties;
 import io.github.dsheirer.sample.Broadcaster;
 import io.github.dsheirer.sample.Listener;
 import io.github.dsheirer.sample.buffer.IReusableComplexBufferProvider;
@@ -38,10 +39,12 @@ import io.github.dsheirer.source.tuner.TunerController;
 import io.github.dsheirer.source.tuner.channel.ChannelSpecification;
 import io.github.dsheirer.source.tuner.channel.TunerChannel;
 import io.github.dsheirer.source.tuner.channel.TunerChannelSource;
+import io.github.dsheirer.util.VectorSupport;
 import org.apache.commons.math3.util.FastMath;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.lang.reflect.InvocationTargetException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -74,6 +77,9 @@ public class PolyphaseChannelManager implements ISourceEventProcessor
     private static final double CHANNEL_OVERSAMPLING = 2.0;
     private static final int POLYPHASE_CHANNELIZER_TAPS_PER_CHANNEL = 9;
     private static final int POLYPHASE_SYNTHESIZER_TAPS_PER_CHANNEL = 9;
+    private static final String PROPERTY_CHANNELIZER_THREADS = "channelizer.threads";
+    private static final String VECTOR_CHANNELIZER_CLASS =
+        "io.github.dsheirer.dsp.filter.channelizer.VectorComplexPolyphaseChannelizerM2";
 
     private Broadcaster<SourceEvent> mSourceEventBroadcaster = new Broadcaster<>();
     private IReusableComplexBufferProvider mReusableBufferProvider;
@@ -235,6 +241,8 @@ public class PolyphaseChannelManager implements ISourceEventProcessor
 
             checkChannelizerConfiguration();
 
+            //Update the active channels before adding the channel so that its channels are calculated
+            updateActiveChannels();
             mPolyphaseChannelizer.addChannel(channelSource);
             mSourceEventBroadcaster.broadcast(SourceEvent.channelCountChange(getTunerChannelCount()));
 
@@ -260,6 +268,7 @@ public class PolyphaseChannelManager implements ISourceEventProcessor
         {
             mChannelSources.remove(channelSource);
             mPolyphaseChannelizer.removeChannel(channelSource);
+            updateActiveChannels();
             mSourceEventBroadcaster.broadcast(SourceEvent.channelCountChange(getTunerChannelCount()));
 
             //If this is the last/only channel, deregister to stop the sample buffers
@@ -343,8 +352,7 @@ public class PolyphaseChannelManager implements ISourceEventProcessor
 
             try
             {
-                mPolyphaseChannelizer = new ComplexPolyphaseChannelizerM2(tunerSampleRate,
-                    POLYPHASE_CHANNELIZER_TAPS_PER_CHANNEL);
+                mPolyphaseChannelizer = createChannelizer(tunerSampleRate);
             }
             catch(IllegalArgumentException iae)
             {
@@ -360,6 +368,61 @@ public class PolyphaseChannelManager implements ISourceEventProcessor
         }
     }
 
+    /**
+     * Creates a polyphase channelizer for the sample rate, preferring the Vector API implementation when it is
+     * supported by the JVM and falling back to the scalar implementation otherwise.  The channelizer thread count is
+     * set from the channelizer.threads application property.
+     *
+     * @param sampleRate of the tuner
+     * @return channelizer
+     * @throws FilterDesignException if the channelizer filter cannot be designed for the sample rate
+     */
+    private static ComplexPolyphaseChannelizerM2 createChannelizer(double sampleRate) throws FilterDesignException
+    {
+        ComplexPolyphaseChannelizerM2 channelizer = null;
+
+        Class<? extends ComplexPolyphaseChannelizerM2> vectorChannelizer =
+            VectorSupport.getImplementation(VECTOR_CHANNELIZER_CLASS, ComplexPolyphaseChannelizerM2.class);
+
+        if(vectorChannelizer != null)
+        {
+            try
+            {
+                channelizer = vectorChannelizer.getConstructor(double.class, int.class)
+                    .newInstance(sampleRate, POLYPHASE_CHANNELIZER_TAPS_PER_CHANNEL);
+            }
+            catch(InvocationTargetException ite)
+            {
+                if(ite.getCause() instanceof FilterDesignException)
+                {
+                    throw (FilterDesignException)ite.getCause();
+                }
+
+                mLog.error("Unable to create vector polyphase channelizer - using scalar channelizer", ite.getCause());
+            }
+            catch(ReflectiveOperationException | LinkageError e)
+            {
+                mLog.error("Unable to create vector polyphase channelizer - using scalar channelizer", e);
+            }
+        }
+
+        if(channelizer == null)
+        {
+            channelizer = new ComplexPolyphaseChannelizerM2(sampleRate, POLYPHASE_CHANNELIZER_TAPS_PER_CHANNEL);
+        }
+
+        int threads = SystemProperties.getInstance().get(PROPERTY_CHANNELIZER_THREADS, 1);
+
+        if(threads > 1)
+        {
+            mLog.info("Polyphase channelizer using [" + threads + "] threads");
+        }
+
+        channelizer.setThreadCount(threads);
+
+        return channelizer;
+    }
+
     /**
      * Updates each of the output processors for any changes in the tuner's center frequency or sample rate, which
      * would cause the output processors to change the polyphase channelizer results channel(s) that the processor is
@@ -369,6 +432,8 @@ public class PolyphaseChannelManager implements ISourceEventProcessor
      */
     private void updateOutputProcessors(SourceEvent sourceEvent)
     {
+        updateActiveChannels();
+
         for(PolyphaseChannelSource channelSource: mChannelSources)
         {
             updateOutputProcessor(channelSource);
@@ -388,6 +453,32 @@ public class PolyphaseChannelManager implements ISourceEventProcessor
         }
     }
 
+    /**
+     * Updates the channelizer with the set of polyphase channel indexes that are consumed by the current channel
+     * sources so that the channelizer can limit output channel synthesis to the active channels.
+     */
+    private void updateActiveChannels()
+    {
+        if(mPolyphaseChannelizer != null)
+        {
+            SortedSet<Integer> activeChannels = new TreeSet<>();
+
+            for(PolyphaseChannelSource channelSource: mChannelSources)
+            {
+                try
+                {
+                    activeChannels.addAll(mChannelCalculator.getChannelIndexes(channelSource.getTunerChannel()));
+                }
+                catch(IllegalArgumentException iae)
+                {
+                    //The channel is no longer viable and will be stopped when its output processor is updated
+                }
+            }
+
+            mPolyphaseChannelizer.setActiveChannels(activeChannels);
+        }
+    }
+
     /**
      * Updates the polyphase channel source's output processor due to a change in the center frequency or sample
      * rate for the source providing sample buffers to the polyphase channelizer, or whenever the DDC channel's
@@ -18,12 +18,14 @@
  */
 package io.github.dsheirer.dsp.filter.channelizer;
 
+import io.github.dsheirer.dsp.filter.FilterDesignCache;
 import io.github.dsheirer.dsp.filter.channelizer.output.IPolyphaseChannelOutputProcessor;
 import io.github.dsheirer.dsp.filter.design.FilterDesignException;
 import io.github.dsheirer.dsp.filter.fir.FIRFilterSpecification;
 import io.github.dsheirer.dsp.filter.fir.complex.ComplexFIRFilter2;
 import io.github.dsheirer.dsp.filter.fir.remez.RemezFIRFilterDesigner;
 import io.github.dsheirer.sample.Listener;
+import io.github.dsheirer.sample.OverflowableRingBuffer;
 import io.github.dsheirer.sample.buffer.ReusableChannelResultsBuffer;
 import io.github.dsheirer.sample.buffer.ReusableComplexBuffer;
 import io.github.dsheirer.sample.buffer.ReusableComplexBufferAssembler;
@@ -32,20 +34,17 @@ import io.github.dsheirer.source.tuner.channel.ChannelSpecification;
 import io.github.dsheirer.source.tuner.channel.TunerChannel;
 import io.github.dsheirer.source.tuner.channel.TunerChannelSource;
 
-import java.util.HashMap;
-import java.util.Map;
-
 public class PolyphaseChannelSource extends TunerChannelSource
 {
 //    private final static Logger mLog = LoggerFactory.getLogger(PolyphaseChannelSource.class);
 
-    private static final int PROCESSED_BUFFER_SAMPLE_SIZE = 2048;
+    //Size of each channel sample buffer in floats (interleaved I/Q), or 1024 complex samples
+    public static final int PROCESSED_BUFFER_SAMPLE_SIZE = 2048;
     private ReusableComplexBufferAssembler mReusableComplexBufferAssembler;
     private IPolyphaseChannelOutputProcessor mPolyphaseChannelOutputProcessor;
     private IPolyphaseChannelOutputProcessor mReplacementPolyphaseChannelOutputProcessor;
     private long mReplacementFrequency;
     private ComplexFIRFilter2 mLowPassFilter;
-    private static Map<Integer,float[]> sLowPassFilters = new HashMap();
 
     private double mChannelSampleRate;
     private long mIndexCenterFrequency;
@@ -174,6 +173,18 @@ public class PolyphaseChannelSource extends TunerChannelSource
         mPolyphaseChannelOutputProcessor.receiveChannelResults(channelResultsBuffer);
     }
 
+    /**
+     * Channel results queue of the current output processor, for monitoring queue occupancy and overflows.
+     *
+     * @return buffer queue or null if there is no output processor
+     */
+    @Override
+    public OverflowableRingBuffer<?> getBufferQueue()
+    {
+        IPolyphaseChannelOutputProcessor outputProcessor = mPolyphaseChannelOutputProcessor;
+        return outputProcessor != null ? outputProcessor.getBufferQueue() : null;
+    }
+
     /**
      * Downstream channel sample rate
      *
@@ -285,13 +296,6 @@ public class PolyphaseChannelSource extends TunerChannelSource
      */
     private float[] getLowPassFilter(double sampleRate, double passFrequency, double stopFrequency) throws FilterDesignException
     {
-        //Use existing filter if we've already designed one
-        float[] filter = sLowPassFilters.get((int) sampleRate);
-        if(filter != null)
-        {
-            return filter;
-        }
-
         FIRFilterSpecification specification = FIRFilterSpecification.lowPassBuilder()
             .sampleRate(sampleRate)
             .gridDensity(16)
@@ -303,13 +307,9 @@ public class PolyphaseChannelSource extends TunerChannelSource
             .stopBandRipple(0.01)
             .build();
 
-        RemezFIRFilterDesigner designer = new RemezFIRFilterDesigner(specification);
-
-        //This will throw an exception if the filter cannot be designed
-        float[] taps = designer.getImpulseResponse();
-
-        sLowPassFilters.put((int)sampleRate, taps);
-
-        return taps;
+        //Designs are cached process-wide and persisted across runs.  This will throw an exception if the filter
+        //cannot be designed
+        return FilterDesignCache.get(specification.getDesignKey(),
+            () -> new RemezFIRFilterDesigner(specification).getImpulseResponse());
     }
 }
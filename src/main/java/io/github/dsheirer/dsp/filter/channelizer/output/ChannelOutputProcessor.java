@@ -19,9 +19,9 @@
 package io.github.dsheirer.dsp.filter.channelizer.output;
 
 import io.github.dsheirer.dsp.mixer.IOscillator;
-import io.github.dsheirer.dsp.mixer.Oscillator;
+import io.github.dsheirer.dsp.mixer.NumericallyControlledOscillator;
 import io.github.dsheirer.sample.IOverflowListener;
-import io.github.dsheirer.sample.buffer.OverflowableReusableBufferTransferQueue;
+import io.github.dsheirer.sample.buffer.OverflowableReusableBufferRingBuffer;
 import io.github.dsheirer.sample.buffer.ReusableChannelResultsBuffer;
 import io.github.dsheirer.sample.buffer.ReusableComplexBufferAssembler;
 import io.github.dsheirer.source.Source;
@@ -35,7 +35,13 @@ public abstract class ChannelOutputProcessor implements IPolyphaseChannelOutputP
 {
     private final static Logger mLog = LoggerFactory.getLogger(ChannelOutputProcessor.class);
 
-    private OverflowableReusableBufferTransferQueue<ReusableChannelResultsBuffer> mChannelResultsQueue;
+    //Maximum number of queued channel results buffers before the queue enters overflow state
+    private static final int CHANNEL_RESULTS_QUEUE_MAXIMUM_SIZE = 500;
+
+    //Threshold for resetting channel results queue overflow state
+    private static final int CHANNEL_RESULTS_QUEUE_RESET_THRESHOLD = 100;
+
+    private OverflowableReusableBufferRingBuffer<ReusableChannelResultsBuffer> mChannelResultsQueue;
     private List<ReusableChannelResultsBuffer> mChannelResultsToProcess = new ArrayList<>();
     private int mMaxResultsToProcess;
 
@@ -57,11 +63,11 @@ public abstract class ChannelOutputProcessor implements IPolyphaseChannelOutputP
         mInputChannelCount = inputChannelCount;
         mGain = gain;
 
-//TODO: swap this out and use the LowPhaseNoiseOscillator
-        mFrequencyCorrectionMixer = new Oscillator(0, sampleRate);
+        mFrequencyCorrectionMixer = new NumericallyControlledOscillator(0, sampleRate);
         mMaxResultsToProcess = (int)(sampleRate / 10) * 2;  //process at 100 millis interval, twice the expected inflow rate
 
-        mChannelResultsQueue = new OverflowableReusableBufferTransferQueue<>((int)(sampleRate * 3), (int)(sampleRate * 0.5));
+        mChannelResultsQueue = new OverflowableReusableBufferRingBuffer<>(CHANNEL_RESULTS_QUEUE_MAXIMUM_SIZE,
+            CHANNEL_RESULTS_QUEUE_RESET_THRESHOLD);
     }
 
     protected double getGain()
@@ -149,6 +155,12 @@ public abstract class ChannelOutputProcessor implements IPolyphaseChannelOutputP
         mChannelResultsQueue.setSourceOverflowListener(source);
     }
 
+    @Override
+    public OverflowableReusableBufferRingBuffer<ReusableChannelResultsBuffer> getBufferQueue()
+    {
+        return mChannelResultsQueue;
+    }
+
     /**
      * Removes the overflow listener from monitoring the internal channelizer channel results queue overflow state
      */
@@ -18,6 +18,7 @@
  ******************************************************************************/
 package io.github.dsheirer.dsp.filter.channelizer.output;
 
+import io.github.dsheirer.sample.OverflowableRingBuffer;
 import io.github.dsheirer.sample.buffer.ReusableChannelResultsBuffer;
 import io.github.dsheirer.sample.buffer.ReusableComplexBufferAssembler;
 import io.github.dsheirer.source.Source;
@@ -76,6 +77,11 @@ public interface IPolyphaseChannelOutputProcessor
      */
     void setSourceOverflowListener(Source source);
 
+    /**
+     * Internal queue of channel results awaiting processing, for monitoring queue occupancy and overflow counters
+     */
+    OverflowableRingBuffer<?> getBufferQueue();
+
 
     void dispose();
 }
@@ -0,0 +1,291 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2021 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.dsp.filter.cic;
+
+import io.github.dsheirer.dsp.filter.FilterDesignCache;
+import io.github.dsheirer.dsp.filter.design.FilterDesignException;
+import io.github.dsheirer.dsp.filter.fir.FIRFilterSpecification;
+import io.github.dsheirer.dsp.filter.fir.complex.ComplexFIRFilter2;
+import io.github.dsheirer.dsp.filter.fir.remez.RemezFIRFilterDesigner;
+import io.github.dsheirer.sample.Listener;
+import io.github.dsheirer.sample.buffer.ReusableComplexBuffer;
+import io.github.dsheirer.sample.buffer.ReusableComplexBufferQueue;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Fourth order Cascaded Integrator-Comb (Hogenauer) decimation filter using fixed-point integer arithmetic.
+ *
+ * Incoming float samples are quantized to fixed-point values and run through four integrators at the input rate and
+ * four combs at the decimated output rate.  The integrators are allowed to overflow: two's complement wrap-around
+ * arithmetic guarantees that the comb outputs are exact as long as the final output value fits within the 64-bit
+ * accumulator, which is enforced by limiting the maximum decimation rate.  Since the integrators are exact, the
+ * filter state never drifts, unlike a floating point running sum.
+ *
+ * The CIC pass band droop is corrected by a 3-tap inverse-sinc compensator that is convolved into the final low-pass
+ * cleanup filter, so that compensation and channel filtering are applied in a single FIR pass at the output rate.
+ *
+ * Samples are processed a buffer at a time and each incoming buffer produces one decimated output buffer that is
+ * filtered directly into a reusable buffer from an internal queue.
+ */
+public class ComplexCICDecimator implements Listener<ReusableComplexBuffer>
+{
+    //Number of integrator and comb stages
+    public static final int ORDER = 4;
+
+    //Fixed-point scaling applied to incoming samples (15 fractional bits)
+    private static final float INPUT_SCALE = 32768.0f;
+
+    //Input samples (after mixing) may slightly exceed unity, so allow 17 bits for the signed input values
+    private static final int INPUT_BITS = 17;
+
+    //Largest decimation where the output bit growth (INPUT_BITS + ORDER * log2(decimation)) fits in a 64-bit long
+    public static final int MAXIMUM_DECIMATION = (int)Math.floor(Math.pow(2.0, (64 - INPUT_BITS) / (double)ORDER));
+
+    private ReusableComplexBufferQueue mReusableComplexBufferQueue = new ReusableComplexBufferQueue("ComplexCICDecimator");
+    private ComplexFIRFilter2 mCleanupFilter;
+    private Listener<ReusableComplexBuffer> mListener;
+    private float[] mDecimatedSamples = new float[0];
+    private double mSampleRate;
+    private int mDecimation;
+    private int mDecimationCounter;
+    private float mOutputGain;
+
+    //Integrator accumulators
+    private long mI1, mI2, mI3, mI4;
+    private long mQ1, mQ2, mQ3, mQ4;
+
+    //Comb delay elements
+    private long mICombDelay1, mICombDelay2, mICombDelay3, mICombDelay4;
+    private long mQCombDelay1, mQCombDelay2, mQCombDelay3, mQCombDelay4;
+
+    /**
+     * Constructs a new decimation filter.
+     *
+     * An example setup for a 2.4 MHz input sample rate and 25 kHz output channel rate with a desired 12.5 kHz channel
+     * pass band might be:
+     * sampleRate = 2,400,000.0
+     * decimation = 96
+     * passFrequency = 6250 (1/4 of the channel rate)
+     * stopFrequency = 7000
+     *
+     * @param sampleRate of the input sample stream
+     * @param decimation - overall decimation rate, up to MAXIMUM_DECIMATION
+     * @param passFrequency for the final cleanup filter
+     * @param stopFrequency for the final cleanup filter
+     * @throws FilterDesignException if a final low-pass cleanup filter cannot be created for the output channel rate
+     *                               and specified pass/stop frequencies.
+     */
+    public ComplexCICDecimator(double sampleRate, int decimation, double passFrequency, double stopFrequency)
+        throws FilterDesignException
+    {
+        Validate.isTrue(decimation >= 1 && decimation <= MAXIMUM_DECIMATION,
+            "Decimation must be in range 1 - " + MAXIMUM_DECIMATION);
+
+        mSampleRate = sampleRate;
+        mDecimation = decimation;
+        mOutputGain = (float)(1.0 / (Math.pow(decimation, ORDER) * INPUT_SCALE));
+
+        double outputSampleRate = sampleRate / (double)decimation;
+        float[] cleanup = getLowPassFilter(outputSampleRate, passFrequency, stopFrequency);
+        float[] compensation = getCompensationFilter(decimation, passFrequency / outputSampleRate);
+        mCleanupFilter = new ComplexFIRFilter2(convolve(cleanup, compensation), 1.0f);
+    }
+
+    public void dispose()
+    {
+        mListener = null;
+        mCleanupFilter.dispose();
+        mReusableComplexBufferQueue.dispose();
+    }
+
+    /**
+     * Adds a listener to receive the output of this CIC decimation filter
+     */
+    public void setListener(Listener<ReusableComplexBuffer> listener)
+    {
+        mListener = listener;
+    }
+
+    /**
+     * Removes listener from output of this CIC decimation filter
+     */
+    public void removeListener()
+    {
+        mListener = null;
+    }
+
+    /**
+     * Primary input method for receiving sample arrays composed as I,Q,I,Q, etc.  Decimates and filters the samples
+     * and dispatches a single output buffer when the input buffer produces at least one decimated sample.
+     */
+    @Override
+    public void receive(ReusableComplexBuffer buffer)
+    {
+        float[] samples = buffer.getSamples();
+        int decimation = mDecimation;
+        int counter = mDecimationCounter;
+
+        //Index of the input sample that produces the first output sample, used to adjust the output timestamp
+        int firstOutputIndex = decimation - 1 - counter;
+
+        int maximumOutputLength = ((samples.length / 2 + counter) / decimation) * 2;
+
+        if(mDecimatedSamples.length < maximumOutputLength)
+        {
+            mDecimatedSamples = new float[maximumOutputLength];
+        }
+
+        float[] decimated = mDecimatedSamples;
+        float gain = mOutputGain;
+        int outputPointer = 0;
+
+        long i1 = mI1, i2 = mI2, i3 = mI3, i4 = mI4;
+        long q1 = mQ1, q2 = mQ2, q3 = mQ3, q4 = mQ4;
+        long iDelay1 = mICombDelay1, iDelay2 = mICombDelay2, iDelay3 = mICombDelay3, iDelay4 = mICombDelay4;
+        long qDelay1 = mQCombDelay1, qDelay2 = mQCombDelay2, qDelay3 = mQCombDelay3, qDelay4 = mQCombDelay4;
+
+        for(int x = 0; x < samples.length; x += 2)
+        {
+            //Integrators - wrap-around overflow is intentional
+            i1 += (long)(samples[x] * INPUT_SCALE);
+            i2 += i1;
+            i3 += i2;
+            i4 += i3;
+
+            q1 += (long)(samples[x + 1] * INPUT_SCALE);
+            q2 += q1;
+            q3 += q2;
+            q4 += q3;
+
+            if(++counter >= decimation)
+            {
+                counter = 0;
+
+                //Combs
+                long i = i4 - iDelay1;
+                iDelay1 = i4;
+                long comb = i - iDelay2;
+                iDelay2 = i;
+                i = comb - iDelay3;
+                iDelay3 = comb;
+                comb = i - iDelay4;
+                iDelay4 = i;
+                decimated[outputPointer++] = comb * gain;
+
+                long q = q4 - qDelay1;
+                qDelay1 = q4;
+                comb = q - qDelay2;
+                qDelay2 = q;
+                q = comb - qDelay3;
+                qDelay3 = comb;
+                comb = q - qDelay4;
+                qDelay4 = q;
+                decimated[outputPointer++] = comb * gain;
+            }
+        }
+
+        mI1 = i1; mI2 = i2; mI3 = i3; mI4 = i4;
+        mQ1 = q1; mQ2 = q2; mQ3 = q3; mQ4 = q4;
+        mICombDelay1 = iDelay1; mICombDelay2 = iDelay2; mICombDelay3 = iDelay3; mICombDelay4 = iDelay4;
+        mQCombDelay1 = qDelay1; mQCombDelay2 = qDelay2; mQCombDelay3 = qDelay3; mQCombDelay4 = qDelay4;
+        mDecimationCounter = counter;
+
+        long timestamp = buffer.getTimestamp() + (long)(firstOutputIndex * 1000.0 / mSampleRate);
+        buffer.decrementUserCount();
+
+        Listener<ReusableComplexBuffer> listener = mListener;
+
+        if(outputPointer > 0 && listener != null)
+        {
+            ReusableComplexBuffer filteredBuffer = mReusableComplexBufferQueue.getBuffer(outputPointer);
+            filteredBuffer.setTimestamp(timestamp);
+            mCleanupFilter.filter(decimated, filteredBuffer.getSamples(), 0, outputPointer);
+            listener.receive(filteredBuffer);
+        }
+    }
+
+    /**
+     * Creates a 3-tap inverse-sinc filter [-a, 1 + 2a, -a] that compensates the CIC magnitude droop.  The coefficient
+     * is chosen so that the compensated response is unity at the pass band edge.
+     *
+     * @param decimation rate of the CIC filter
+     * @param passFraction pass band edge frequency as a fraction of the output sample rate (0 - 0.5)
+     * @return compensation filter coefficients
+     */
+    private static float[] getCompensationFilter(int decimation, double passFraction)
+    {
+        double cicResponse = 1.0;
+
+        if(passFraction > 0.0 && decimation > 1)
+        {
+            double angle = Math.PI * passFraction;
+            cicResponse = Math.pow(Math.sin(angle) / (decimation * Math.sin(angle / decimation)), ORDER);
+        }
+
+        double cosine = Math.cos(2.0 * Math.PI * passFraction);
+        double a = cosine < 1.0 ? (1.0 / cicResponse - 1.0) / (2.0 * (1.0 - cosine)) : 0.0;
+
+        return new float[]{(float)-a, (float)(1.0 + 2.0 * a), (float)-a};
+    }
+
+    /**
+     * Convolves the two filters to produce a single filter with the combined response.
+     */
+    private static float[] convolve(float[] a, float[] b)
+    {
+        float[] combined = new float[a.length + b.length - 1];
+
+        for(int x = 0; x < a.length; x++)
+        {
+            for(int y = 0; y < b.length; y++)
+            {
+                combined[x + y] += a[x] * b[y];
+            }
+        }
+
+        return combined;
+    }
+
+    /**
+     * Creates a low-pass filter to use as the final cleanup filter for the decimated output stream
+     *
+     * @param sampleRate for the final output channel rate
+     * @param passFrequency for half of the desired channel rate
+     * @param stopFrequency for the attenuated band
+     * @return a newly designed filter or a previously designed (cached) filter
+     * @throws FilterDesignException
+     */
+    private static float[] getLowPassFilter(double sampleRate, double passFrequency, double stopFrequency)
+        throws FilterDesignException
+    {
+        FIRFilterSpecification specification = FIRFilterSpecification.lowPassBuilder()
+            .sampleRate(sampleRate)
+            .gridDensity(16)
+            .passBandCutoff(passFrequency)
+            .passBandAmplitude(1.0)
+            .passBandRipple(0.01)
+            .stopBandStart(stopFrequency)
+            .stopBandAmplitude(0.0)
+            .stopBandRipple(0.01)
+            .build();
+
+        return FilterDesignCache.get(specification.getDesignKey(),
+            () -> new RemezFIRFilterDesigner(specification).getImpulseResponse());
+    }
+}
@@ -32,6 +32,17 @@ public class ComplexDecimateX0Filter implements IComplexDecimationFilter
         return samples;
     }
 
+    @Override
+    public int decimateComplex(float[] samples, int length, float[] output)
+    {
+        if(samples != output)
+        {
+            System.arraycopy(samples, 0, output, 0, length);
+        }
+
+        return length;
+    }
+
     @Override
     public ReusableComplexBuffer decimate(ReusableComplexBuffer buffer)
     {
@@ -0,0 +1,112 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2022 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+
+package io.github.dsheirer.dsp.filter.decimate;
+
+import io.github.dsheirer.dsp.filter.halfband.complex.ComplexHalfBandDecimationFilter;
+import io.github.dsheirer.sample.buffer.ReusableComplexBuffer;
+import io.github.dsheirer.sample.buffer.ReusableComplexBufferQueue;
+
+/**
+ * Multi-stage decimation filter for complex valued sample buffers that decimates by a power of two using a cascade
+ * of half-band decimation filters.
+ *
+ * The first stage decimates from the samples array into an internal scratch array and each subsequent stage
+ * decimates in-place within the scratch array, with the final stage writing directly into the output array or into
+ * a reusable buffer.  The scratch array is retained across calls and only grows when a larger sample array is
+ * processed, so decimating does not allocate.
+ */
+public class ComplexMultiStageDecimationFilter implements IComplexDecimationFilter
+{
+    private ReusableComplexBufferQueue mReusableComplexBufferQueue =
+        new ReusableComplexBufferQueue("Multi-Stage Decimation Filter");
+    private ComplexHalfBandDecimationFilter[] mStages;
+    private float[] mScratch = new float[0];
+    private int mDecimationRate;
+
+    /**
+     * Constructs the decimation filter.
+     * @param decimationRate power of two decimation rate in the range 2 - 1024
+     */
+    public ComplexMultiStageDecimationFilter(int decimationRate)
+    {
+        float[][] stageFilters = DecimationFilterFactory.getHalfBandStageFilters(decimationRate);
+
+        mDecimationRate = decimationRate;
+        mStages = new ComplexHalfBandDecimationFilter[stageFilters.length];
+
+        for(int x = 0; x < stageFilters.length; x++)
+        {
+            mStages[x] = new ComplexHalfBandDecimationFilter(stageFilters[x]);
+        }
+    }
+
+    /**
+     * Decimation rate for this filter
+     */
+    public int getDecimationRate()
+    {
+        return mDecimationRate;
+    }
+
+    @Override
+    public float[] decimateComplex(float[] samples)
+    {
+        float[] decimated = new float[samples.length / mDecimationRate];
+        decimateComplex(samples, samples.length, decimated);
+        return decimated;
+    }
+
+    @Override
+    public int decimateComplex(float[] samples, int length, float[] output)
+    {
+        if(length % (mDecimationRate * 2) != 0)
+        {
+            throw new IllegalArgumentException("Sample buffer length [" + length +
+                "] must be an integer multiple of " + (mDecimationRate * 2));
+        }
+
+        if(mStages.length > 1 && mScratch.length < length / 2)
+        {
+            mScratch = new float[length / 2];
+        }
+
+        float[] input = samples;
+
+        for(int x = 0; x < mStages.length; x++)
+        {
+            float[] stageOutput = (x == mStages.length - 1) ? output : mScratch;
+            length = mStages[x].decimateComplex(input, length, stageOutput);
+            input = stageOutput;
+        }
+
+        return length;
+    }
+
+    @Override
+    public ReusableComplexBuffer decimate(ReusableComplexBuffer buffer)
+    {
+        float[] samples = buffer.getSamples();
+        ReusableComplexBuffer decimated = mReusableComplexBufferQueue.getBuffer(samples.length / mDecimationRate);
+        decimated.setTimestamp(buffer.getTimestamp());
+        decimateComplex(samples, samples.length, decimated.getSamples());
+        buffer.decrementUserCount();
+        return decimated;
+    }
+}
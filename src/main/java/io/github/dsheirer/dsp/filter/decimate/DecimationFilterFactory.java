@@ -19,6 +19,11 @@
 
 package io.github.dsheirer.dsp.filter.decimate;
 
+import io.github.dsheirer.dsp.filter.FilterFactory;
+import io.github.dsheirer.dsp.filter.Window;
+
+import java.util.Arrays;
+
 /**
  * Factory for creating real and complex decimation filters.
  */
@@ -26,6 +31,15 @@ public class DecimationFilterFactory
 {
     private static final int[] SUPPORTED_RATES = new int[]{0,2,4,8,16,32,64,128,256,512,1024};
 
+    //Half-band filter length and window for each decimate-by-2 stage, indexed by stage number where stage 0 is the
+    //final (lowest sample rate) stage.  Early (high sample rate) stages only have to protect the final pass band from
+    //aliasing, so they can use shorter filters than the final stage.
+    private static final int[] STAGE_FILTER_LENGTHS = new int[]{63,23,15,15,11,11,11,11,11,11};
+    private static final Window.WindowType[] STAGE_WINDOW_TYPES = new Window.WindowType[]{Window.WindowType.HAMMING,
+        Window.WindowType.BLACKMAN, Window.WindowType.BLACKMAN, Window.WindowType.BLACKMAN,
+        Window.WindowType.BLACKMAN, Window.WindowType.BLACKMAN, Window.WindowType.BLACKMAN,
+        Window.WindowType.BLACKMAN, Window.WindowType.BLACKMAN, Window.WindowType.BLACKMAN};
+
     /**
      * Creates a real-valued decimation filter for float array sample buffers providing greater than 100 dB of
      * attenuation for out of band signal aliases.  Supports power of 2 decimation rates up to 1024.
@@ -35,34 +49,14 @@ public class DecimationFilterFactory
      */
     public static IRealDecimationFilter getRealDecimationFilter(int decimationRate)
     {
-        switch(decimationRate)
+        validate(decimationRate);
+
+        if(decimationRate == 0)
         {
-            case 0:
-                return new RealDecimateX0Filter();
-            case 2:
-                return new RealDecimateX2Filter();
-            case 4:
-                return new RealDecimateX4Filter();
-            case 8:
-                return new RealDecimateX8Filter();
-            case 16:
-                return new RealDecimateX16Filter();
-            case 32:
-                return new RealDecimateX32Filter();
-            case 64:
-                return new RealDecimateX64Filter();
-            case 128:
-                return new RealDecimateX128Filter();
-            case 256:
-                return new RealDecimateX256Filter();
-            case 512:
-                return new RealDecimateX512Filter();
-            case 1024:
-                return new RealDecimateX1024Filter();
-            default:
-                throw new IllegalArgumentException("Unsupported decimation rate: " + decimationRate +
-                        ".  Supported decimation rates are:" + SUPPORTED_RATES);
+            return new RealDecimateX0Filter();
         }
+
+        return new RealMultiStageDecimationFilter(decimationRate);
     }
 
     /**
@@ -74,33 +68,48 @@ public class DecimationFilterFactory
      */
     public static IComplexDecimationFilter getComplexDecimationFilter(int decimationRate)
     {
-        switch(decimationRate)
+        validate(decimationRate);
+
+        if(decimationRate == 0)
+        {
+            return new ComplexDecimateX0Filter();
+        }
+
+        return new ComplexMultiStageDecimationFilter(decimationRate);
+    }
+
+    /**
+     * Half-band filter coefficients for each decimate-by-2 stage of a multi-stage decimation filter, in processing
+     * order (highest sample rate stage first).
+     *
+     * @param decimationRate power of two decimation rate in the range 2 - 1024
+     * @return half-band filter coefficients for each stage
+     */
+    static float[][] getHalfBandStageFilters(int decimationRate)
+    {
+        validate(decimationRate);
+
+        int stageCount = Integer.numberOfTrailingZeros(decimationRate);
+        float[][] filters = new float[stageCount][];
+
+        for(int x = 0; x < stageCount; x++)
+        {
+            int stage = stageCount - 1 - x;
+            filters[x] = FilterFactory.getHalfBand(STAGE_FILTER_LENGTHS[stage], STAGE_WINDOW_TYPES[stage]);
+        }
+
+        return filters;
+    }
+
+    /**
+     * Validates that the decimation rate is supported.
+     */
+    private static void validate(int decimationRate)
+    {
+        if(Arrays.binarySearch(SUPPORTED_RATES, decimationRate) < 0)
         {
-            case 0:
-                return new ComplexDecimateX0Filter();
-            case 2:
-                return new ComplexDecimateX2Filter();
-            case 4:
-                return new ComplexDecimateX4Filter();
-            case 8:
-                return new ComplexDecimateX8Filter();
-            case 16:
-                return new ComplexDecimateX16Filter();
-            case 32:
-                return new ComplexDecimateX32Filter();
-            case 64:
-                return new ComplexDecimateX64Filter();
-            case 128:
-                return new ComplexDecimateX128Filter();
-            case 256:
-                return new ComplexDecimateX256Filter();
-            case 512:
-                return new ComplexDecimateX512Filter();
-            case 1024:
-                return new ComplexDecimateX1024Filter();
-            default:
-                throw new IllegalArgumentException("Unsupported decimation rate: " + decimationRate +
-                        ".  Supported decimation rates are:" + SUPPORTED_RATES);
+            throw new IllegalArgumentException("Unsupported decimation rate: " + decimationRate +
+                    ".  Supported decimation rates are:" + Arrays.toString(SUPPORTED_RATES));
         }
     }
 }
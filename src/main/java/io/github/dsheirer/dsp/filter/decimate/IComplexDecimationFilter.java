@@ -33,6 +33,16 @@ public interface IComplexDecimationFilter
      */
     float[] decimateComplex(float[] samples);
 
+    /**
+     * Decimates an array of float complex samples into the output array without allocating a new array.  The output
+     * array can be the same as the samples array.
+     * @param samples to decimate
+     * @param length of the samples array (2 x complex sample count) to decimate, starting at index 0
+     * @param output to receive the decimated samples, starting at index 0
+     * @return number of decimated array elements placed in the output array
+     */
+    int decimateComplex(float[] samples, int length, float[] output);
+
     /**
      * Decimates an buffer of float complex samples
      * @param buffer to decimate
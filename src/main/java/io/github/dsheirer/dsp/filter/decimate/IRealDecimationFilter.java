@@ -24,5 +24,20 @@ package io.github.dsheirer.dsp.filter.decimate;
  */
 public interface IRealDecimationFilter
 {
+    /**
+     * Decimates an array of float samples
+     * @param samples to decimate
+     * @return decimated samples
+     */
     float[] decimateReal(float[] samples);
+
+    /**
+     * Decimates an array of float samples into the output array without allocating a new array.  The output array
+     * can be the same as the samples array.
+     * @param samples to decimate
+     * @param length of samples to decimate, starting at index 0
+     * @param output to receive the decimated samples, starting at index 0
+     * @return number of decimated samples placed in the output array
+     */
+    int decimateReal(float[] samples, int length, float[] output);
 }
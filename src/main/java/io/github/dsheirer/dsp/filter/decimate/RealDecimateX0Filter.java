@@ -29,4 +29,15 @@ public class RealDecimateX0Filter implements IRealDecimationFilter
     {
         return samples;
     }
+
+    @Override
+    public int decimateReal(float[] samples, int length, float[] output)
+    {
+        if(samples != output)
+        {
+            System.arraycopy(samples, 0, output, 0, length);
+        }
+
+        return length;
+    }
 }
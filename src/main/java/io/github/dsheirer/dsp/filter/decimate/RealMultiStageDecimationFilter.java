@@ -0,0 +1,97 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2022 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+
+package io.github.dsheirer.dsp.filter.decimate;
+
+import io.github.dsheirer.dsp.filter.halfband.real.RealHalfBandDecimationFilter;
+
+/**
+ * Multi-stage decimation filter for real valued sample buffers that decimates by a power of two using a cascade of
+ * half-band decimation filters.
+ *
+ * The first stage decimates from the samples array into an internal scratch array and each subsequent stage
+ * decimates in-place within the scratch array, with the final stage writing directly into the output array.  The
+ * scratch array is retained across calls and only grows when a larger sample array is processed, so decimating into
+ * a caller-supplied output array does not allocate.
+ */
+public class RealMultiStageDecimationFilter implements IRealDecimationFilter
+{
+    private RealHalfBandDecimationFilter[] mStages;
+    private float[] mScratch = new float[0];
+    private int mDecimationRate;
+
+    /**
+     * Constructs the decimation filter.
+     * @param decimationRate power of two decimation rate in the range 2 - 1024
+     */
+    public RealMultiStageDecimationFilter(int decimationRate)
+    {
+        float[][] stageFilters = DecimationFilterFactory.getHalfBandStageFilters(decimationRate);
+
+        mDecimationRate = decimationRate;
+        mStages = new RealHalfBandDecimationFilter[stageFilters.length];
+
+        for(int x = 0; x < stageFilters.length; x++)
+        {
+            mStages[x] = new RealHalfBandDecimationFilter(stageFilters[x]);
+        }
+    }
+
+    /**
+     * Decimation rate for this filter
+     */
+    public int getDecimationRate()
+    {
+        return mDecimationRate;
+    }
+
+    @Override
+    public float[] decimateReal(float[] samples)
+    {
+        float[] decimated = new float[samples.length / mDecimationRate];
+        decimateReal(samples, samples.length, decimated);
+        return decimated;
+    }
+
+    @Override
+    public int decimateReal(float[] samples, int length, float[] output)
+    {
+        if(length % mDecimationRate != 0)
+        {
+            throw new IllegalArgumentException("Sample buffer length [" + length +
+                "] must be an integer multiple of " + mDecimationRate);
+        }
+
+        if(mStages.length > 1 && mScratch.length < length / 2)
+        {
+            mScratch = new float[length / 2];
+        }
+
+        float[] input = samples;
+
+        for(int x = 0; x < mStages.length; x++)
+        {
+            float[] stageOutput = (x == mStages.length - 1) ? output : mScratch;
+            length = mStages[x].decimateReal(input, length, stageOutput);
+            input = stageOutput;
+        }
+
+        return length;
+    }
+}
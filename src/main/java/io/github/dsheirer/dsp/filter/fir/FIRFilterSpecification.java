@@ -1,6 +1,7 @@
 package io.github.dsheirer.dsp.filter.fir;
 
 import io.github.dsheirer.dsp.filter.fir.remez.FIRLinearPhaseFilterType;
+import io.github.dsheirer.dsp.filter.fir.remez.RemezFIRFilterDesigner;
 import org.apache.commons.lang3.Validate;
 import org.apache.commons.math3.util.FastMath;
 import org.slf4j.Logger;
@@ -61,6 +62,31 @@ public class FIRFilterSpecification
         return sb.toString();
     }
 
+    /**
+     * Key that uniquely identifies the filter design produced by this specification.  Two specifications with the same
+     * key produce identical filter designs, so the key can be used to cache designed filter coefficients.
+     */
+    public String getDesignKey()
+    {
+        StringBuilder sb = new StringBuilder();
+        sb.append("remez-v").append(RemezFIRFilterDesigner.DESIGN_VERSION);
+        sb.append(":").append(mRemezFilterType.name());
+        sb.append(":").append(mOrder);
+        sb.append(":").append(mGridDensity);
+
+        for(FrequencyBand band : mFrequencyBands)
+        {
+            sb.append(":[").append(band.mStart);
+            sb.append(",").append(band.mEnd);
+            sb.append(",").append(band.mAmplitude);
+            sb.append(",").append(band.mRippleDB);
+            sb.append(",").append(band.mWeight);
+            sb.append("]");
+        }
+
+        return sb.toString();
+    }
+
     public void addFrequencyBand(FrequencyBand band)
     {
         mFrequencyBands.add(band);
@@ -16,33 +16,47 @@
 package io.github.dsheirer.dsp.filter.fir.complex;
 
 import io.github.dsheirer.dsp.filter.fir.FIRFilter;
-import io.github.dsheirer.dsp.filter.fir.real.RealFIRFilter2;
 import io.github.dsheirer.sample.buffer.ReusableComplexBuffer;
 import io.github.dsheirer.sample.buffer.ReusableComplexBufferQueue;
 import io.github.dsheirer.sample.complex.Complex;
 
-public class ComplexFIRFilter2 extends FIRFilter
+/**
+ * Complex FIR filter for processing complex sample pairs.
+ *
+ * Inphase and quadrature samples are each loaded into a mirrored, double-length circular delay line (see
+ * RealFIRFilter2) so that loading a sample doesn't require shifting the delay line.  Buffer filtering computes
+ * the inphase and quadrature outputs in a single pass over the filter coefficients.
+ */
+public class ComplexFIRFilter2 extends FIRFilter implements IComplexFIRFilter
 {
     private ReusableComplexBufferQueue mReusableComplexBufferQueue = new ReusableComplexBufferQueue("Complex FIR Filter");
-    private RealFIRFilter2 mIFilter;
-    private RealFIRFilter2 mQFilter;
+    private float[] mCoefficients;
+    private float[] mIData;
+    private float[] mQData;
+    private int mIPointer;
+    private int mQPointer;
+    private int mLength;
+    private float mGain;
+    private float mIAccumulator;
+    private float mQAccumulator;
 
     /**
-     * Complex FIR Filter for processing complex sample pairs that internally uses two RealFIRFilter
-     * instances.
+     * Complex FIR Filter for processing complex sample pairs.
      *
      * @param coefficients - filter taps
      * @param gain - gain to apply to filtered outputs - use 1.0f for no gain
      */
     public ComplexFIRFilter2(float[] coefficients, float gain)
     {
-        mIFilter = new RealFIRFilter2(coefficients, gain);
-        mQFilter = new RealFIRFilter2(coefficients, gain);
+        mCoefficients = coefficients;
+        mGain = gain;
+        mLength = coefficients.length;
+        mIData = new float[mLength * 2];
+        mQData = new float[mLength * 2];
     }
 
     /**
-     * Complex FIR Filter for processing complex sample pairs that internally uses two RealFIRFilter
-     * instances.  This constructor uses a default gain of 1.0f.
+     * Complex FIR Filter for processing complex sample pairs.  This constructor uses a default gain of 1.0f.
      *
      * @param coefficients - filter taps
      */
@@ -58,7 +72,17 @@ public class ComplexFIRFilter2 extends FIRFilter
      */
     public float filterInphase(float sample)
     {
-        return mIFilter.filter(sample);
+        if(--mIPointer < 0)
+        {
+            mIPointer = mLength - 1;
+        }
+
+        mIData[mIPointer] = sample;
+        mIData[mIPointer + mLength] = sample;
+
+        mIAccumulator = convolve(mIData, mIPointer) * mGain;
+
+        return mIAccumulator;
     }
 
     /**
@@ -66,7 +90,7 @@ public class ComplexFIRFilter2 extends FIRFilter
      */
     public float currentInphaseValue()
     {
-        return mIFilter.currentValue();
+        return mIAccumulator;
     }
 
     /**
@@ -76,7 +100,17 @@ public class ComplexFIRFilter2 extends FIRFilter
      */
     public float filterQuadrature(float sample)
     {
-        return mQFilter.filter(sample);
+        if(--mQPointer < 0)
+        {
+            mQPointer = mLength - 1;
+        }
+
+        mQData[mQPointer] = sample;
+        mQData[mQPointer + mLength] = sample;
+
+        mQAccumulator = convolve(mQData, mQPointer) * mGain;
+
+        return mQAccumulator;
     }
 
     /**
@@ -84,7 +118,23 @@ public class ComplexFIRFilter2 extends FIRFilter
      */
     public float currentQuadratureValue()
     {
-        return mQFilter.currentValue();
+        return mQAccumulator;
+    }
+
+    /**
+     * Calculates the dot product of the coefficients and the delay line samples starting at the offset.
+     */
+    private float convolve(float[] data, int offset)
+    {
+        float[] coefficients = mCoefficients;
+        float accumulator = 0.0f;
+
+        for(int x = 0; x < coefficients.length; x++)
+        {
+            accumulator = Math.fma(data[offset + x], coefficients[x], accumulator);
+        }
+
+        return accumulator;
     }
 
     /**
@@ -100,6 +150,67 @@ public class ComplexFIRFilter2 extends FIRFilter
         return new Complex(i, q);
     }
 
+    /**
+     * Filters the interleaved complex samples in the input array and places the filtered samples in the output
+     * array.  The input and output arrays can be the same array.
+     *
+     * @param input interleaved complex samples to filter
+     * @param output array to receive interleaved filtered samples
+     * @param offset to the first inphase sample in both arrays
+     * @param length number of array elements (2 x complex sample count) to filter
+     */
+    @Override
+    public void filter(float[] input, float[] output, int offset, int length)
+    {
+        float[] coefficients = mCoefficients;
+        float[] iData = mIData;
+        float[] qData = mQData;
+        int filterLength = mLength;
+        int iPointer = mIPointer;
+        int qPointer = mQPointer;
+        float gain = mGain;
+        float iAccumulator = mIAccumulator;
+        float qAccumulator = mQAccumulator;
+
+        for(int x = offset; x < offset + length; x += 2)
+        {
+            if(--iPointer < 0)
+            {
+                iPointer = filterLength - 1;
+            }
+
+            if(--qPointer < 0)
+            {
+                qPointer = filterLength - 1;
+            }
+
+            iData[iPointer] = input[x];
+            iData[iPointer + filterLength] = input[x];
+            qData[qPointer] = input[x + 1];
+            qData[qPointer + filterLength] = input[x + 1];
+
+            iAccumulator = 0.0f;
+            qAccumulator = 0.0f;
+
+            for(int tap = 0; tap < coefficients.length; tap++)
+            {
+                iAccumulator = Math.fma(iData[iPointer + tap], coefficients[tap], iAccumulator);
+                qAccumulator = Math.fma(qData[qPointer + tap], coefficients[tap], qAccumulator);
+            }
+
+            iAccumulator *= gain;
+            qAccumulator *= gain;
+
+            output[x] = iAccumulator;
+            output[x + 1] = qAccumulator;
+        }
+
+        mIPointer = iPointer;
+        mQPointer = qPointer;
+        mIAccumulator = iAccumulator;
+        mQAccumulator = qAccumulator;
+    }
+
     /**
      * Filters the complex samples from the reusable buffer and returns a new complex buffer with the filtered output
      *
@@ -109,19 +220,15 @@ public class ComplexFIRFilter2 extends FIRFilter
      * @param originalBuffer with complex samples to filter
      * @return new buffer containing filtered complex samples
      */
+    @Override
     public ReusableComplexBuffer filter(ReusableComplexBuffer originalBuffer)
     {
-        ReusableComplexBuffer filteredBuffer = mReusableComplexBufferQueue.getBuffer(originalBuffer.getSamples().length);
-        filteredBuffer.setTimestamp(originalBuffer.getTimestamp());
-
         float[] samples = originalBuffer.getSamples();
-        float[] filteredSamples = filteredBuffer.getSamples();
 
-        for(int x = 0; x < originalBuffer.getSamples().length; x += 2)
-        {
-            filteredSamples[x] = filterInphase(samples[x]);
-            filteredSamples[x + 1] = filterQuadrature(samples[x + 1]);
-        }
+        ReusableComplexBuffer filteredBuffer = mReusableComplexBufferQueue.getBuffer(samples.length);
+        filteredBuffer.setTimestamp(originalBuffer.getTimestamp());
+
+        filter(samples, filteredBuffer.getSamples(), 0, samples.length);
 
         originalBuffer.decrementUserCount();
 
@@ -131,8 +238,9 @@ public class ComplexFIRFilter2 extends FIRFilter
     @Override
     public void dispose()
     {
-        mIFilter.dispose();
-        mQFilter.dispose();
+        mCoefficients = null;
+        mIData = null;
+        mQData = null;
         mReusableComplexBufferQueue.dispose();
     }
 }
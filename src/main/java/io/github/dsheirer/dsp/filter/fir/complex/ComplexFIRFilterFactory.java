@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * sdr-trunk
+ * Copyright (C) 2014-2018 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by  the Free Software Foundation, either version 3 of the License, or  (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful,  but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License  along with this program.
+ * If not, see <http://www.gnu.org/licenses/>
+ *
+ ******************************************************************************/
+package io.github.dsheirer.dsp.filter.fir.complex;
+
+import io.github.dsheirer.dsp.filter.channelizer.PolyphaseChannelSource;
+import io.github.dsheirer.dsp.filter.fir.FIRFilterMode;
+
+/**
+ * Factory for creating complex FIR filters that selects between direct form convolution (ComplexFIRFilter2) and FFT
+ * fast convolution (ComplexOverlapSaveFIRFilter) according to the filter length and the expected number of complex
+ * samples in each buffer that is filtered.
+ */
+public class ComplexFIRFilterFactory
+{
+    //Relative cost of an FFT floating point operation versus a direct form multiply-accumulate.  The direct form
+    //accumulator is a serial (dependent) fused multiply-add chain, so the FFT operations are comparatively cheaper
+    //than the operation counts suggest.  Measured crossover is near 0.6, rounded up to favor direct form.
+    private static final double FFT_COST_FACTOR = 0.75;
+
+    //Number of complex samples in a channel sample buffer produced by the polyphase channel sources, where the
+    //channel source buffer size is specified in floats (interleaved I/Q)
+    public static final int DEFAULT_BLOCK_SIZE = PolyphaseChannelSource.PROCESSED_BUFFER_SAMPLE_SIZE / 2;
+
+    //Direct form is always used below this filter length
+    private static final int MINIMUM_FFT_FILTER_LENGTH = 48;
+
+    /**
+     * Creates a complex FIR filter using the specified mode.
+     *
+     * @param coefficients - filter taps
+     * @param gain - gain to apply to filtered outputs - use 1.0f for no gain
+     * @param blockSize expected number of complex samples in each filtered buffer
+     * @param mode to use for the filter, or AUTOMATIC to select the mode with the lowest estimated cost
+     * @return filter
+     */
+    public static IComplexFIRFilter getFilter(float[] coefficients, float gain, int blockSize, FIRFilterMode mode)
+    {
+        if(mode == FIRFilterMode.AUTOMATIC)
+        {
+            mode = getOptimalMode(coefficients.length, blockSize);
+        }
+
+        if(mode == FIRFilterMode.FFT)
+        {
+            return new ComplexOverlapSaveFIRFilter(coefficients, gain);
+        }
+
+        return new ComplexFIRFilter2(coefficients, gain);
+    }
+
+    /**
+     * Creates a complex FIR filter with unity gain, automatically selecting the mode with the lowest estimated cost.
+     *
+     * @param coefficients - filter taps
+     * @param blockSize expected number of complex samples in each filtered buffer
+     * @return filter
+     */
+    public static IComplexFIRFilter getFilter(float[] coefficients, int blockSize)
+    {
+        return getFilter(coefficients, 1.0f, blockSize, FIRFilterMode.AUTOMATIC);
+    }
+
+    /**
+     * Creates a complex FIR filter with unity gain for filtering tuner channel sample buffers, automatically
+     * selecting the mode with the lowest estimated cost.
+     *
+     * @param coefficients - filter taps
+     * @return filter
+     */
+    public static IComplexFIRFilter getFilter(float[] coefficients)
+    {
+        return getFilter(coefficients, DEFAULT_BLOCK_SIZE);
+    }
+
+    /**
+     * Determines the filter mode with the lowest estimated processing cost per sample.
+     *
+     * Direct form costs one complex-by-real multiply-accumulate (4 operations) per tap per sample.  Overlap-save
+     * costs a forward and an inverse complex FFT (5 x N x log2(N) operations each) plus N complex multiplies
+     * (6 operations) per block, where each block produces up to N - taps + 1 samples.  Buffers that are shorter than
+     * the block length (or that leave a partial final block) amortize the FFT cost over fewer samples.
+     *
+     * @param filterLength number of filter taps
+     * @param blockSize expected number of complex samples in each filtered buffer
+     * @return DIRECT or FFT mode
+     */
+    public static FIRFilterMode getOptimalMode(int filterLength, int blockSize)
+    {
+        if(filterLength < MINIMUM_FFT_FILTER_LENGTH || blockSize <= 0)
+        {
+            return FIRFilterMode.DIRECT;
+        }
+
+        int fftSize = ComplexOverlapSaveFIRFilter.getFFTSize(filterLength);
+        int blockLength = ComplexOverlapSaveFIRFilter.getBlockLength(filterLength);
+        int blocksPerBuffer = (blockSize + blockLength - 1) / blockLength;
+
+        double log2 = Integer.numberOfTrailingZeros(fftSize);
+        double fftCostPerBlock = (2.0 * 5.0 * fftSize * log2 + 6.0 * fftSize) * FFT_COST_FACTOR;
+        double fftCostPerSample = fftCostPerBlock * blocksPerBuffer / blockSize;
+        double directCostPerSample = 4.0 * filterLength;
+
+        return fftCostPerSample < directCostPerSample ? FIRFilterMode.FFT : FIRFilterMode.DIRECT;
+    }
+}
@@ -0,0 +1,175 @@
+/*******************************************************************************
+ * sdr-trunk
+ * Copyright (C) 2014-2018 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by  the Free Software Foundation, either version 3 of the License, or  (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful,  but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License  along with this program.
+ * If not, see <http://www.gnu.org/licenses/>
+ *
+ ******************************************************************************/
+package io.github.dsheirer.dsp.filter.fir.complex;
+
+import io.github.dsheirer.dsp.filter.fir.FIRFilter;
+import io.github.dsheirer.sample.buffer.ReusableComplexBuffer;
+import io.github.dsheirer.sample.buffer.ReusableComplexBufferQueue;
+import org.jtransforms.fft.FloatFFT_1D;
+
+import java.util.Arrays;
+
+/**
+ * Complex FIR filter that uses FFT fast convolution (overlap-save) to filter interleaved complex sample buffers.
+ *
+ * The frequency response of the (zero-padded) filter is calculated once at construction.  Each block of up to
+ * FFT size - (filter length - 1) new samples is loaded behind the filter length - 1 samples retained from the
+ * previous block, transformed, multiplied by the frequency response and inverse transformed.  The first filter
+ * length - 1 outputs are discarded (circular convolution wrap-around) and the remaining outputs are identical (within
+ * floating point rounding) to the direct form convolution performed by ComplexFIRFilter2.
+ *
+ * Partial blocks are zero-padded, so this filter introduces no additional latency and can process sample buffers of
+ * any length.  Processing cost per sample is roughly proportional to log2(FFT size) instead of the filter length,
+ * which makes this filter preferable for long filters.  Use ComplexFIRFilterFactory to choose between this filter
+ * and the direct form filter.
+ */
+public class ComplexOverlapSaveFIRFilter extends FIRFilter implements IComplexFIRFilter
+{
+    //FFT size is set to this multiple of the filter length to balance FFT cost against the discarded outputs
+    private static final int FFT_SIZE_MULTIPLIER = 4;
+    private static final int MINIMUM_FFT_SIZE = 64;
+
+    private ReusableComplexBufferQueue mReusableComplexBufferQueue =
+        new ReusableComplexBufferQueue("Complex Overlap-Save FIR Filter");
+    private FloatFFT_1D mFFT;
+    private float[] mFrequencyResponse;
+    private float[] mWorkspace;
+    private float[] mHistory;
+    private int mHistoryLength;
+    private int mBlockLength;
+
+    /**
+     * Constructs an instance.
+     *
+     * @param coefficients - filter taps
+     * @param gain - gain to apply to filtered outputs - use 1.0f for no gain
+     */
+    public ComplexOverlapSaveFIRFilter(float[] coefficients, float gain)
+    {
+        int fftSize = getFFTSize(coefficients.length);
+
+        //History is maintained as interleaved complex samples, filter length - 1 samples
+        mHistoryLength = 2 * (coefficients.length - 1);
+        mBlockLength = getBlockLength(coefficients.length);
+        mFFT = new FloatFFT_1D(fftSize);
+        mWorkspace = new float[2 * fftSize];
+        mHistory = new float[mHistoryLength];
+
+        //Real filter taps are loaded as complex values with gain applied and zero imaginary component
+        mFrequencyResponse = new float[2 * fftSize];
+
+        for(int x = 0; x < coefficients.length; x++)
+        {
+            mFrequencyResponse[2 * x] = coefficients[x] * gain;
+        }
+
+        mFFT.complexForward(mFrequencyResponse);
+    }
+
+    /**
+     * Constructs an instance with a default gain of 1.0f.
+     *
+     * @param coefficients - filter taps
+     */
+    public ComplexOverlapSaveFIRFilter(float[] coefficients)
+    {
+        this(coefficients, 1.0f);
+    }
+
+    /**
+     * FFT size used for a filter of the specified length
+     */
+    public static int getFFTSize(int filterLength)
+    {
+        int size = Integer.highestOneBit(Math.max(1, filterLength * FFT_SIZE_MULTIPLIER - 1)) << 1;
+        return Math.max(size, MINIMUM_FFT_SIZE);
+    }
+
+    /**
+     * Maximum number of new complex samples that are processed by each FFT for a filter of the specified length
+     */
+    public static int getBlockLength(int filterLength)
+    {
+        return getFFTSize(filterLength) - filterLength + 1;
+    }
+
+    @Override
+    public void filter(float[] input, float[] output, int offset, int length)
+    {
+        float[] workspace = mWorkspace;
+        float[] history = mHistory;
+        float[] response = mFrequencyResponse;
+        int historyLength = mHistoryLength;
+        int maximumBlock = mBlockLength * 2;
+        int pointer = offset;
+        int end = offset + length;
+
+        while(pointer < end)
+        {
+            int block = Math.min(maximumBlock, end - pointer);
+
+            //Load the history followed by the new samples and zero-pad the remainder of the workspace
+            System.arraycopy(history, 0, workspace, 0, historyLength);
+            System.arraycopy(input, pointer, workspace, historyLength, block);
+            Arrays.fill(workspace, historyLength + block, workspace.length, 0.0f);
+
+            //Retain the most recent samples as history for the next block
+            System.arraycopy(workspace, block, history, 0, historyLength);
+
+            mFFT.complexForward(workspace);
+
+            for(int x = 0; x < workspace.length; x += 2)
+            {
+                float i = workspace[x];
+                float q = workspace[x + 1];
+                workspace[x] = i * response[x] - q * response[x + 1];
+                workspace[x + 1] = q * response[x] + i * response[x + 1];
+            }
+
+            mFFT.complexInverse(workspace, true);
+
+            //Discard the wrap-around outputs and transfer the valid outputs
+            System.arraycopy(workspace, historyLength, output, pointer, block);
+
+            pointer += block;
+        }
+    }
+
+    @Override
+    public ReusableComplexBuffer filter(ReusableComplexBuffer originalBuffer)
+    {
+        float[] samples = originalBuffer.getSamples();
+
+        ReusableComplexBuffer filteredBuffer = mReusableComplexBufferQueue.getBuffer(samples.length);
+        filteredBuffer.setTimestamp(originalBuffer.getTimestamp());
+
+        filter(samples, filteredBuffer.getSamples(), 0, samples.length);
+
+        originalBuffer.decrementUserCount();
+
+        return filteredBuffer;
+    }
+
+    @Override
+    public void dispose()
+    {
+        mFFT = null;
+        mFrequencyResponse = null;
+        mWorkspace = null;
+        mHistory = null;
+        mReusableComplexBufferQueue.dispose();
+    }
+}
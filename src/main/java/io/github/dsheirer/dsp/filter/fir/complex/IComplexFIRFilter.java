@@ -0,0 +1,51 @@
+/*******************************************************************************
+ * sdr-trunk
+ * Copyright (C) 2014-2018 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by  the Free Software Foundation, either version 3 of the License, or  (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful,  but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License  along with this program.
+ * If not, see <http://www.gnu.org/licenses/>
+ *
+ ******************************************************************************/
+package io.github.dsheirer.dsp.filter.fir.complex;
+
+import io.github.dsheirer.sample.buffer.ReusableComplexBuffer;
+
+/**
+ * Interface for a FIR filter that processes interleaved complex sample buffers
+ */
+public interface IComplexFIRFilter
+{
+    /**
+     * Filters the interleaved complex samples in the input array and places the filtered samples in the output
+     * array.  The input and output arrays can be the same array.
+     *
+     * @param input interleaved complex samples to filter
+     * @param output array to receive interleaved filtered samples
+     * @param offset to the first inphase sample in both arrays
+     * @param length number of array elements (2 x complex sample count) to filter
+     */
+    void filter(float[] input, float[] output, int offset, int length);
+
+    /**
+     * Filters the complex samples from the reusable buffer and returns a new complex buffer with the filtered output
+     *
+     * Note: the original reusable buffer user count is decremented and a new reusable buffer is returned
+     * with the user count already incremented to one.
+     *
+     * @param originalBuffer with complex samples to filter
+     * @return new buffer containing filtered complex samples
+     */
+    ReusableComplexBuffer filter(ReusableComplexBuffer originalBuffer);
+
+    /**
+     * Disposes this filter to prepare for garbage collection.
+     */
+    void dispose();
+}
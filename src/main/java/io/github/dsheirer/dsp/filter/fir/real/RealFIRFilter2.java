@@ -22,6 +22,11 @@ import io.github.dsheirer.sample.buffer.ReusableFloatBuffer;
 /**
  * Finite Impulse Response (FIR) filter for filtering individual float samples or float sample arrays.
  *
+ * The delay line is a mirrored, double-length circular buffer: each sample is written twice, at the current pointer
+ * and at pointer + filter length, so the most recent filter-length samples are always contiguous (newest first)
+ * starting at the pointer.  Loading a sample is a constant-time operation (no delay line shift) and the convolution
+ * is a contiguous dot product.
+ *
  * Note: filtering operations in this class are structured to leverage SIMD processor intrinsics when
  * available to the Java runtime.
  */
@@ -30,6 +35,8 @@ public class RealFIRFilter2 extends FIRFilter
     private ReusableBufferQueue mReusableBufferQueue = new ReusableBufferQueue("RealFIRFilter2");
 
     private float[] mData;
+    private int mDataPointer;
+    private int mLength;
     private float[] mCoefficients;
     private float mGain;
     private float mAccumulator;
@@ -44,7 +51,8 @@ public class RealFIRFilter2 extends FIRFilter
     {
         mGain = gain;
         mCoefficients = coefficients;
-        mData = new float[coefficients.length];
+        mLength = coefficients.length;
+        mData = new float[mLength * 2];
     }
 
     /**
@@ -76,22 +84,75 @@ public class RealFIRFilter2 extends FIRFilter
      */
     public float filter(float sample)
     {
-        //Use array copy to leverage SIMD intrinsics
-        System.arraycopy(mData, 0, mData, 1, mData.length - 1);
-        mData[0] = sample;
+        //Move the pointer back one position and load the sample at the pointer and at its mirror position
+        if(--mDataPointer < 0)
+        {
+            mDataPointer = mLength - 1;
+        }
+
+        mData[mDataPointer] = sample;
+        mData[mDataPointer + mLength] = sample;
 
-        mAccumulator = 0.0f;
+        mAccumulator = convolve(mData, mDataPointer, mCoefficients) * mGain;
+
+        return mAccumulator;
+    }
+
+    /**
+     * Calculates the dot product of the coefficients and the delay line samples starting at the offset.
+     *
+     * @param data delay line containing samples ordered newest to oldest from the offset
+     * @param offset to the newest sample
+     * @param coefficients of the filter
+     * @return dot product
+     */
+    private static float convolve(float[] data, int offset, float[] coefficients)
+    {
+        float accumulator = 0.0f;
 
         //Use vector dot product to leverage SIMD intrinsics
-        for(int x = 0; x < mCoefficients.length; x++)
+        for(int x = 0; x < coefficients.length; x++)
         {
-            mAccumulator = Math.fma(mData[x], mCoefficients[x], mAccumulator);
+            accumulator = Math.fma(data[offset + x], coefficients[x], accumulator);
         }
 
-        /* Apply gain and return the filtered value */
-        mAccumulator *= mGain;
+        return accumulator;
+    }
+
+    /**
+     * Filters the samples in the input array and places the filtered samples in the output array.  The input and
+     * output arrays can be the same array.
+     *
+     * @param input samples to filter
+     * @param output array to receive filtered samples
+     * @param offset to the first sample in both arrays
+     * @param length number of samples to filter
+     */
+    public void filter(float[] input, float[] output, int offset, int length)
+    {
+        float[] data = mData;
+        float[] coefficients = mCoefficients;
+        int filterLength = mLength;
+        int pointer = mDataPointer;
+        float gain = mGain;
+        float accumulator = mAccumulator;
+
+        for(int x = offset; x < offset + length; x++)
+        {
+            if(--pointer < 0)
+            {
+                pointer = filterLength - 1;
+            }
 
-        return mAccumulator;
+            data[pointer] = input[x];
+            data[pointer + filterLength] = input[x];
+
+            accumulator = convolve(data, pointer, coefficients) * gain;
+            output[x] = accumulator;
+        }
+
+        mDataPointer = pointer;
+        mAccumulator = accumulator;
     }
 
     /**
@@ -118,12 +179,7 @@ public class RealFIRFilter2 extends FIRFilter
         float[] unfilteredSamples = unfilteredBuffer.getSamples();
 
         ReusableFloatBuffer filteredBuffer = mReusableBufferQueue.getBuffer(unfilteredSamples.length);
-        float[] filteredSamples = filteredBuffer.getSamples();
-
-        for(int x = 0; x < unfilteredSamples.length; x++)
-        {
-            filteredSamples[x] = filter(unfilteredSamples[x]);
-        }
+        filter(unfilteredSamples, filteredBuffer.getSamples(), 0, unfilteredSamples.length);
 
         unfilteredBuffer.decrementUserCount();
 
@@ -19,6 +19,13 @@ public class RemezFIRFilterDesigner
     public static final int MAXIMUM_ITERATION_COUNT = 40;
     public static final double TWO_PI = 2.0 * FastMath.PI;
 
+    /**
+     * Design algorithm version, included in the filter design key.  Increment this value for any change to the
+     * designer that changes the designed coefficients, so that designs persisted by the FilterDesignCache under the
+     * previous version are no longer used.
+     */
+    public static final int DESIGN_VERSION = 1;
+
     private static final DecimalFormat DECIMAL_FORMATTER = new DecimalFormat( "0.00000000" );
 
     private FIRFilterSpecification mSpecification;
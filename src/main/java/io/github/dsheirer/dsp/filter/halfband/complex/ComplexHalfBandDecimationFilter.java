@@ -25,17 +25,18 @@ import io.github.dsheirer.sample.buffer.ReusableComplexBufferQueue;
 
 /**
  * Complex half-band filter that processes samples on a per-array basis, versus a per-sample basis.
+ *
+ * Only the non-zero coefficients from one half of the (symmetrical) filter are used in the convolution.  The
+ * internal sample buffer is retained across calls and only grows when a larger sample array is processed, so
+ * decimating into a caller-supplied or reusable output buffer does not allocate.
  */
 public class ComplexHalfBandDecimationFilter implements IComplexDecimationFilter
 {
     private static final float CENTER_COEFFICIENT = 0.5f;
-    private float[] mCoefficients;
+    private float[] mTaps;
+    private int mFirstTap;
     private float[] mBuffer;
-    private float mIAccumulator;
-    private float mQAccumulator;
-    private int mCoefficientPointer;
     private int mCoefficientsLengthMinus2;
-    private int mBufferPointer;
     private int mHalf;
     private ReusableComplexBufferQueue mReusableComplexBufferQueue = new ReusableComplexBufferQueue("half-band decimation filter");
 
@@ -52,74 +53,112 @@ public class ComplexHalfBandDecimationFilter implements IComplexDecimationFilter
                     "symmetrical where L = [x * 4 - 1]");
         }
 
-        mCoefficients = new float[coefficients.length * 2];
-        for(int x = 0; x < coefficients.length; x++)
+        //Offsets are into the interleaved complex sample buffer
+        mCoefficientsLengthMinus2 = coefficients.length * 2 - 2;
+        mHalf = coefficients.length - 1;
+
+        //Skip any leading zero-valued coefficients (ie window end points) and retain the even index coefficients
+        //from the first half of the filter, since the odd index coefficients are zero valued.
+        int firstTap = 0;
+
+        while(firstTap < mHalf / 2 && coefficients[firstTap] == 0.0f)
+        {
+            firstTap += 2;
+        }
+
+        mTaps = new float[Math.max(0, (mHalf / 2 - firstTap + 1) / 2)];
+
+        for(int x = 0; x < mTaps.length; x++)
         {
-            mCoefficients[2 * x] = coefficients[x];
-            mCoefficients[2 * x + 1] = coefficients[x];
+            mTaps[x] = coefficients[firstTap + 2 * x];
         }
 
-        mCoefficientsLengthMinus2 = mCoefficients.length - 2;
-        mHalf = mCoefficients.length / 2 - 1;
+        //Offset of the first tap in the interleaved complex sample buffer
+        mFirstTap = 2 * firstTap;
+
+        mBuffer = new float[mCoefficientsLengthMinus2];
     }
 
+    /**
+     * Decimates the complex samples and returns a new array containing the decimated samples.
+     * @param samples to decimate
+     * @return decimated samples
+     */
+    @Override
     public float[] decimateComplex(float[] samples)
     {
-        if(samples.length % 4 != 0)
+        float[] filtered = new float[samples.length / 2];
+        decimateComplex(samples, samples.length, filtered);
+        return filtered;
+    }
+
+    /**
+     * Decimates the interleaved complex samples into the output array.  The output array can be the same as the
+     * samples array.
+     * @param samples to decimate
+     * @param length of the samples array (2 x complex sample count) to decimate, starting at index 0
+     * @param output to receive the decimated samples, starting at index 0
+     * @return number of decimated array elements placed in the output array
+     */
+    @Override
+    public int decimateComplex(float[] samples, int length, float[] output)
+    {
+        if(length % 4 != 0)
         {
             throw new IllegalArgumentException("Samples array length must be an integer multiple of 4");
         }
 
-        int bufferLength = samples.length + mCoefficientsLengthMinus2;
+        int historyLength = mCoefficientsLengthMinus2;
+        int bufferLength = length + historyLength;
 
-        if(mBuffer == null)
-        {
-            mBuffer = new float[bufferLength];
-        }
-        else if(mBuffer.length != bufferLength)
+        if(mBuffer.length < bufferLength)
         {
             float[] temp = new float[bufferLength];
-            //Move residual samples from end of old buffer to the beginning of the new temp buffer
-            System.arraycopy(mBuffer, mBuffer.length - mCoefficientsLengthMinus2, temp, 0, mCoefficientsLengthMinus2);
+            //Move residual samples from the beginning of the old buffer to the beginning of the new buffer
+            System.arraycopy(mBuffer, 0, temp, 0, historyLength);
             mBuffer = temp;
         }
-        else
-        {
-            //Move residual samples from end of buffer to the beginning of the buffer
-            System.arraycopy(mBuffer, samples.length, mBuffer, 0, mCoefficientsLengthMinus2);
-        }
 
-        //Copy new sample array into end of buffer
-        System.arraycopy(samples, 0, mBuffer, mCoefficientsLengthMinus2, samples.length);
+        float[] buffer = mBuffer;
+        float[] taps = mTaps;
+        int half = mHalf;
+        int firstTap = mFirstTap;
 
-        float[] filtered = new float[samples.length / 2];
+        //Copy new sample array into the buffer after the residual samples
+        System.arraycopy(samples, 0, buffer, historyLength, length);
 
-        for(mBufferPointer = 0; mBufferPointer < samples.length; mBufferPointer += 4)
+        float iAccumulator;
+        float qAccumulator;
+
+        for(int bufferPointer = 0; bufferPointer < length; bufferPointer += 4)
         {
-            mIAccumulator = 0.0f;
-            mQAccumulator = 0.0f;
+            iAccumulator = 0.0f;
+            qAccumulator = 0.0f;
+
+            int front = bufferPointer + firstTap;
+            int back = bufferPointer + historyLength - firstTap;
 
-            for(mCoefficientPointer = 0; mCoefficientPointer < mHalf; mCoefficientPointer += 4)
+            for(int x = 0; x < taps.length; x++)
             {
                 //Half band filter coefficients are mirrored, so we add the mirrored samples and then multiply by
                 //one of the coefficients to achieve the same effect.
-                mIAccumulator += mCoefficients[mCoefficientPointer] *
-                        (mBuffer[mBufferPointer + mCoefficientPointer] +
-                                mBuffer[mBufferPointer + (mCoefficientsLengthMinus2 - mCoefficientPointer)]);
-
-                mQAccumulator += mCoefficients[mCoefficientPointer] *
-                        (mBuffer[mBufferPointer + mCoefficientPointer + 1] +
-                                mBuffer[mBufferPointer + (mCoefficientsLengthMinus2 - mCoefficientPointer) + 1]);
+                iAccumulator += taps[x] * (buffer[front] + buffer[back]);
+                qAccumulator += taps[x] * (buffer[front + 1] + buffer[back + 1]);
+                front += 4;
+                back -= 4;
             }
 
-            mIAccumulator += mBuffer[mBufferPointer + mHalf] * CENTER_COEFFICIENT;
-            mQAccumulator += mBuffer[mBufferPointer + mHalf + 1] * CENTER_COEFFICIENT;
+            iAccumulator += buffer[bufferPointer + half] * CENTER_COEFFICIENT;
+            qAccumulator += buffer[bufferPointer + half + 1] * CENTER_COEFFICIENT;
 
-            filtered[mBufferPointer / 2] = mIAccumulator;
-            filtered[mBufferPointer / 2 + 1] = mQAccumulator;
+            output[bufferPointer / 2] = iAccumulator;
+            output[bufferPointer / 2 + 1] = qAccumulator;
         }
 
-        return filtered;
+        //Move residual samples from end of buffer to the beginning of the buffer
+        System.arraycopy(buffer, length, buffer, 0, historyLength);
+
+        return length / 2;
     }
 
     /**
@@ -130,8 +169,11 @@ public class ComplexHalfBandDecimationFilter implements IComplexDecimationFilter
     @Override
     public ReusableComplexBuffer decimate(ReusableComplexBuffer buffer)
     {
-        float[] decimated = decimateComplex(buffer.getSamples());
+        float[] samples = buffer.getSamples();
+        ReusableComplexBuffer decimated = mReusableComplexBufferQueue.getBuffer(samples.length / 2);
+        decimated.setTimestamp(buffer.getTimestamp());
+        decimateComplex(samples, samples.length, decimated.getSamples());
         buffer.decrementUserCount();
-        return mReusableComplexBufferQueue.getBuffer(decimated, buffer.getTimestamp());
+        return decimated;
     }
 }
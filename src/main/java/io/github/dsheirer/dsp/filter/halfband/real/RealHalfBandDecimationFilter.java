@@ -27,17 +27,17 @@ import io.github.dsheirer.dsp.filter.decimate.IRealDecimationFilter;
  * supported by the host CPU.
  *
  * Note: this class is structured to process an entire float array, versus processing one sample at a time from the
- * array.
+ * array.  Only the non-zero coefficients from one half of the (symmetrical) filter are used in the convolution.  The
+ * internal sample buffer is retained across calls and only grows when a larger sample array is processed, so
+ * decimating into a caller-supplied output array does not allocate.
  */
 public class RealHalfBandDecimationFilter implements IRealDecimationFilter
 {
     private static final float CENTER_COEFFICIENT = 0.5f;
-    private float[] mCoefficients;
+    private float[] mTaps;
+    private int mFirstTap;
     private float[] mBuffer;
-    private float mAccumulator;
-    private int mCoefficientPointer;
     private int mCoefficientsLengthMinus1;
-    private int mBufferPointer;
     private int mHalf;
 
     /**
@@ -53,60 +53,99 @@ public class RealHalfBandDecimationFilter implements IRealDecimationFilter
             throw new IllegalArgumentException("Half-band filter coefficients must be odd-length and symmetrical (length = [x * 4 + 1]");
         }
 
-        mCoefficients = coefficients;
-        mCoefficientsLengthMinus1 = mCoefficients.length - 1;
+        mCoefficientsLengthMinus1 = coefficients.length - 1;
         mHalf = mCoefficientsLengthMinus1 / 2;
+
+        //Skip any leading zero-valued coefficients (ie window end points) and retain the even index coefficients
+        //from the first half of the filter, since the odd index coefficients are zero valued.
+        mFirstTap = 0;
+
+        while(mFirstTap < mHalf && coefficients[mFirstTap] == 0.0f)
+        {
+            mFirstTap += 2;
+        }
+
+        mTaps = new float[Math.max(0, (mHalf - mFirstTap + 1) / 2)];
+
+        for(int x = 0; x < mTaps.length; x++)
+        {
+            mTaps[x] = coefficients[mFirstTap + 2 * x];
+        }
+
+        mBuffer = new float[mCoefficientsLengthMinus1];
     }
 
+    /**
+     * Decimates the samples and returns a new array containing the decimated samples.
+     * @param samples to decimate
+     * @return decimated samples
+     */
+    @Override
     public float[] decimateReal(float[] samples)
     {
-        if(samples.length % 2 != 0)
+        float[] filtered = new float[samples.length / 2];
+        decimateReal(samples, samples.length, filtered);
+        return filtered;
+    }
+
+    /**
+     * Decimates the samples into the output array.  The output array can be the same as the samples array.
+     * @param samples to decimate
+     * @param length of samples to decimate, starting at index 0
+     * @param output to receive the decimated samples, starting at index 0
+     * @return number of decimated samples placed in the output array
+     */
+    @Override
+    public int decimateReal(float[] samples, int length, float[] output)
+    {
+        if(length % 2 != 0)
         {
             throw new IllegalArgumentException("Samples array length must be an integer multiple of 2");
         }
 
-        int bufferLength = samples.length + mCoefficientsLengthMinus1;
+        int historyLength = mCoefficientsLengthMinus1;
+        int bufferLength = length + historyLength;
 
-        if(mBuffer == null)
-        {
-            mBuffer = new float[bufferLength];
-        }
-        else if(mBuffer.length != bufferLength)
+        if(mBuffer.length < bufferLength)
         {
             float[] temp = new float[bufferLength];
-            //Move residual samples from end of old buffer to the beginning of the new temp buffer
-            System.arraycopy(mBuffer, mBuffer.length - mCoefficientsLengthMinus1, temp, 0, mCoefficientsLengthMinus1);
+            //Move residual samples from the beginning of the old buffer to the beginning of the new buffer
+            System.arraycopy(mBuffer, 0, temp, 0, historyLength);
             mBuffer = temp;
         }
-        else
-        {
-            //Move residual samples from end of buffer to the beginning of the buffer
-            System.arraycopy(mBuffer, samples.length, mBuffer, 0, mCoefficientsLengthMinus1);
-        }
 
-        //Copy new sample array into end of buffer
-        System.arraycopy(samples, 0, mBuffer, mCoefficientsLengthMinus1, samples.length);
+        float[] buffer = mBuffer;
+        float[] taps = mTaps;
+        int half = mHalf;
+        int firstTap = mFirstTap;
 
-        float[] filtered = new float[samples.length / 2];
+        //Copy new sample array into the buffer after the residual samples
+        System.arraycopy(samples, 0, buffer, historyLength, length);
+
+        float accumulator;
 
-        for(mBufferPointer = 0; mBufferPointer < samples.length; mBufferPointer += 2)
+        for(int bufferPointer = 0; bufferPointer < length; bufferPointer += 2)
         {
-            mAccumulator = 0.0f;
+            accumulator = 0.0f;
 
-            for(mCoefficientPointer = 0; mCoefficientPointer < mHalf; mCoefficientPointer += 2)
+            int front = bufferPointer + firstTap;
+            int back = bufferPointer + historyLength - firstTap;
+
+            for(int x = 0; x < taps.length; x++)
             {
                 //Half band filter coefficients are mirrored, so we add the mirrored samples and then multiply by
                 //one of the coefficients to achieve the same effect.
-                mAccumulator += mCoefficients[mCoefficientPointer] *
-                        (mBuffer[mBufferPointer + mCoefficientPointer] +
-                                mBuffer[mBufferPointer + (mCoefficientsLengthMinus1 - mCoefficientPointer)]);
+                accumulator += taps[x] * (buffer[front + 2 * x] + buffer[back - 2 * x]);
             }
 
-            mAccumulator += mBuffer[mBufferPointer + mHalf] * CENTER_COEFFICIENT;
+            accumulator += buffer[bufferPointer + half] * CENTER_COEFFICIENT;
 
-            filtered[mBufferPointer / 2] = mAccumulator;
+            output[bufferPointer / 2] = accumulator;
         }
 
-        return filtered;
+        //Move residual samples from end of buffer to the beginning of the buffer
+        System.arraycopy(buffer, length, buffer, 0, historyLength);
+
+        return length / 2;
     }
 }
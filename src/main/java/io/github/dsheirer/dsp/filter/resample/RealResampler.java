@@ -15,37 +15,165 @@
  ******************************************************************************/
 package io.github.dsheirer.dsp.filter.resample;
 
-import com.laszlosystems.libresample4j.Resampler;
-import com.laszlosystems.libresample4j.SampleBuffers;
+import io.github.dsheirer.dsp.filter.FilterFactory;
+import io.github.dsheirer.dsp.filter.design.FilterDesignException;
 import io.github.dsheirer.sample.Listener;
 import io.github.dsheirer.sample.buffer.ReusableBufferQueue;
 import io.github.dsheirer.sample.buffer.ReusableFloatBuffer;
+import org.apache.commons.math3.util.ArithmeticUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.nio.ByteBuffer;
-import java.nio.FloatBuffer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Polyphase resampler for real sample buffers.
+ *
+ * When the input and output sample rates are integers that reduce to a rational ratio of L/M (interpolation L,
+ * decimation M) with L no larger than MAXIMUM_INTERPOLATION, each output sample is produced by a single dot product
+ * between one phase of an L-phase polyphase filter bank and the most recent input samples.  Otherwise, a fractional
+ * resampler uses a FRACTIONAL_PHASES filter bank and linearly interpolates between the outputs of the two phases
+ * that bracket the (arbitrary) output sample time.
+ *
+ * Filter banks are designed once per ratio and shared across all resampler instances.  Input samples are read
+ * directly from the incoming buffer and resampled outputs are written directly into reusable output buffers of the
+ * requested output buffer size, which are dispatched to the listener as they fill.
+ */
 public class RealResampler
 {
     protected static final Logger mLog = LoggerFactory.getLogger(RealResampler.class);
 
+    private static final int MAXIMUM_INTERPOLATION = 256;
+    private static final int FRACTIONAL_PHASES = 128;
+    private static final int TAPS_PER_PHASE = 48;
+    private static final double KAISER_ATTENUATION = 80.0;
+
+    //Pass band edge as a fraction of the Nyquist frequency of the lower of the input and output sample rates
+    private static final double PASS_BAND_FACTOR = 0.9;
+
+    private static final Map<String,float[][]> FILTER_BANKS = new ConcurrentHashMap<>();
+
     private ReusableBufferQueue mReusableBufferQueue = new ReusableBufferQueue("RealResampler");
-    private Resampler mResampler;
     private Listener<ReusableFloatBuffer> mResampledListener;
-    private BufferManager mBufferManager;
-    private double mResampleFactor;
+    private float[][] mFilterBank;
+    private float[] mBuffer;
+    private int mBufferCount;
+    private int mBufferPointer;
+    private boolean mRational;
+    private int mInterpolation;
+    private int mDecimation;
+    private int mPhase;
+    private double mFractionalStep;
+    private double mFractionalPosition;
+    private int mOutputBufferSize;
+    private ReusableFloatBuffer mOutputBuffer;
+    private int mOutputPointer;
 
     /**
      * Resampler for real sample buffers.
-     * @param inputRate
-     * @param outputRate
+     * @param inputRate sample rate of the incoming buffers
+     * @param outputRate sample rate of the resampled output
+     * @param inputBufferSize expected number of samples in each incoming buffer
+     * @param outputBufferSize number of samples in each resampled output buffer
      */
     public RealResampler(double inputRate, double outputRate, int inputBufferSize, int outputBufferSize)
     {
-        mResampleFactor = outputRate / inputRate;
-        mResampler = new Resampler(true, mResampleFactor, mResampleFactor);
-        mBufferManager = new BufferManager(inputBufferSize, outputBufferSize);
+        if(inputRate <= 0.0 || outputRate <= 0.0)
+        {
+            throw new IllegalArgumentException("Input [" + inputRate + "] and output [" + outputRate +
+                "] sample rates must be positive");
+        }
+
+        mOutputBufferSize = Math.max(outputBufferSize, 1);
+
+        long input = Math.round(inputRate);
+        long output = Math.round(outputRate);
+
+        if(input == inputRate && output == outputRate)
+        {
+            long gcd = ArithmeticUtils.gcd(input, output);
+
+            if(output / gcd <= MAXIMUM_INTERPOLATION)
+            {
+                mRational = true;
+                mInterpolation = (int)(output / gcd);
+                mDecimation = (int)(input / gcd);
+            }
+        }
+
+        double cutoff = PASS_BAND_FACTOR * 0.5 * Math.min(inputRate, outputRate) / inputRate;
+
+        if(mRational)
+        {
+            mFilterBank = getFilterBank(mInterpolation, cutoff, false);
+        }
+        else
+        {
+            mFilterBank = getFilterBank(FRACTIONAL_PHASES, cutoff, true);
+            mFractionalStep = inputRate / outputRate;
+        }
+
+        //Buffer is loaded with the previous (TAPS_PER_PHASE - 1) samples followed by the incoming samples
+        mBuffer = new float[TAPS_PER_PHASE - 1 + inputBufferSize];
+        mBufferCount = TAPS_PER_PHASE - 1;
+        mBufferPointer = TAPS_PER_PHASE - 1;
+    }
+
+    /**
+     * Provides a polyphase filter bank where each phase is ordered for convolution against the input samples in
+     * oldest to newest order.  Filter banks are designed once and cached for reuse by all resamplers.
+     *
+     * @param phases in the bank
+     * @param cutoff frequency relative to the input sample rate
+     * @param extraPhase to include a final phase (one input sample later than phase 0) for fractional interpolation
+     * @return filter bank
+     */
+    private static float[][] getFilterBank(int phases, double cutoff, boolean extraPhase)
+    {
+        String key = phases + ":" + cutoff + ":" + extraPhase;
+
+        return FILTER_BANKS.computeIfAbsent(key, k -> {
+            int length = phases * TAPS_PER_PHASE + 1;
+            float[] prototype;
+
+            try
+            {
+                prototype = FilterFactory.getKaiserSinc(length, cutoff / phases, KAISER_ATTENUATION);
+            }
+            catch(FilterDesignException fde)
+            {
+                throw new IllegalStateException("Unable to design resampler filter", fde);
+            }
+
+            //Each phase should have unity gain at DC
+            double sum = 0.0;
+
+            for(float coefficient: prototype)
+            {
+                sum += coefficient;
+            }
+
+            float gain = (float)(phases / sum);
+
+            float[][] bank = new float[extraPhase ? phases + 1 : phases][TAPS_PER_PHASE];
+
+            for(int phase = 0; phase < bank.length; phase++)
+            {
+                for(int tap = 0; tap < TAPS_PER_PHASE; tap++)
+                {
+                    int index = phase + tap * phases;
+
+                    if(index < length)
+                    {
+                        //Reverse the tap order so that the oldest input sample is convolved first
+                        bank[phase][TAPS_PER_PHASE - 1 - tap] = prototype[index] * gain;
+                    }
+                }
+            }
+
+            return bank;
+        });
     }
 
     /**
@@ -54,95 +182,143 @@ public class RealResampler
      */
     public void resample(ReusableFloatBuffer reusableFloatBuffer)
     {
-        mBufferManager.load(reusableFloatBuffer);
-        mResampler.process(mResampleFactor, mBufferManager, false);
+        float[] samples = reusableFloatBuffer.getSamples();
+
+        if(mBuffer.length < mBufferCount + samples.length)
+        {
+            float[] temp = new float[mBufferCount + samples.length];
+            System.arraycopy(mBuffer, 0, temp, 0, mBufferCount);
+            mBuffer = temp;
+        }
+
+        System.arraycopy(samples, 0, mBuffer, mBufferCount, samples.length);
+        mBufferCount += samples.length;
+        reusableFloatBuffer.decrementUserCount();
+
+        if(mRational)
+        {
+            resampleRational();
+        }
+        else
+        {
+            resampleFractional();
+        }
+
+        //Retain the most recent samples for the next buffer
+        int retained = TAPS_PER_PHASE - 1;
+        int shift = mBufferCount - retained;
+        System.arraycopy(mBuffer, shift, mBuffer, 0, retained);
+        mBufferCount = retained;
+        mBufferPointer -= shift;
     }
 
     /**
-     * Registers the listener to receive the resampled buffer output
-     * @param resampledBufferListener to receive buffers
+     * Produces output samples for the buffered samples using integer phase stepping through the filter bank.
      */
-    public void setListener(Listener<ReusableFloatBuffer> resampledBufferListener)
+    private void resampleRational()
     {
-        mResampledListener = resampledBufferListener;
+        float[] buffer = mBuffer;
+        float[][] bank = mFilterBank;
+        int interpolation = mInterpolation;
+        int decimation = mDecimation;
+        int pointer = mBufferPointer;
+        int phase = mPhase;
+
+        while(pointer < mBufferCount)
+        {
+            output(convolve(bank[phase], buffer, pointer - TAPS_PER_PHASE + 1));
+
+            phase += decimation;
+            pointer += phase / interpolation;
+            phase %= interpolation;
+        }
+
+        mBufferPointer = pointer;
+        mPhase = phase;
     }
 
     /**
-     * Buffer manager for input and output buffers used during the resampling process.  The manager will
-     * auto-resize the input and output buffers to meet the size of the incoming sample buffers.
+     * Produces output samples for the buffered samples using interpolation between adjacent filter bank phases.
      */
-    public class BufferManager implements SampleBuffers
+    private void resampleFractional()
     {
-        private int mOutputBufferSize;
-        private FloatBuffer mInputBuffer;
-        private FloatBuffer mOutputBuffer;
+        float[] buffer = mBuffer;
+        float[][] bank = mFilterBank;
+        int pointer = mBufferPointer;
+        double position = mFractionalPosition;
 
-        public BufferManager(int inputBufferSize, int outputBufferSize)
+        while(pointer < mBufferCount)
         {
-            mOutputBufferSize = outputBufferSize;
+            double phasePosition = position * FRACTIONAL_PHASES;
+            int phase = (int)phasePosition;
+            float fraction = (float)(phasePosition - phase);
+            int offset = pointer - TAPS_PER_PHASE + 1;
 
-            //The size of the underlying byte buffer in bytes is 4 times the requested input buffer size in floats
-            mInputBuffer = ByteBuffer.allocate(inputBufferSize * 4).asFloatBuffer();
-            mOutputBuffer = ByteBuffer.allocate(inputBufferSize * 4).asFloatBuffer();
-        }
+            float current = convolve(bank[phase], buffer, offset);
+            float next = convolve(bank[phase + 1], buffer, offset);
 
-        /**
-         * Queues the buffer sample for resampling
-         */
-        public void load(ReusableFloatBuffer reusableFloatBuffer)
-        {
-            mInputBuffer.put(reusableFloatBuffer.getSamples());
-            reusableFloatBuffer.decrementUserCount();
-        }
+            output(current + (next - current) * fraction);
 
-        @Override
-        public int getInputBufferLength()
-        {
-            return mInputBuffer.position();
+            position += mFractionalStep;
+            int whole = (int)position;
+            pointer += whole;
+            position -= whole;
         }
 
-        @Override
-        public int getOutputBufferLength()
+        mBufferPointer = pointer;
+        mFractionalPosition = position;
+    }
+
+    /**
+     * Calculates the dot product of the filter phase and the buffered samples starting at the offset.
+     */
+    private static float convolve(float[] phase, float[] buffer, int offset)
+    {
+        float accumulator = 0.0f;
+
+        for(int x = 0; x < phase.length; x++)
         {
-            return mOutputBuffer.remaining();
+            accumulator += phase[x] * buffer[offset + x];
         }
 
-        /**
-         * Provides input to the resampler
-         */
-        @Override
-        public void produceInput(float[] samples, int offset, int length)
+        return accumulator;
+    }
+
+    /**
+     * Loads the resampled sample into the current output buffer and dispatches the buffer once it is full.
+     */
+    private void output(float sample)
+    {
+        if(mOutputBuffer == null)
         {
-            mInputBuffer.flip();
-            mInputBuffer.get(samples, offset, length);
-            mInputBuffer.compact();
+            mOutputBuffer = mReusableBufferQueue.getBuffer(mOutputBufferSize);
+            mOutputPointer = 0;
         }
 
-        /**
-         * Receives output from the resampler and dispatches output buffers periodically.
-         */
-        @Override
-        public void consumeOutput(float[] samples, int offset, int length)
+        mOutputBuffer.getSamples()[mOutputPointer++] = sample;
+
+        if(mOutputPointer == mOutputBufferSize)
         {
-            mOutputBuffer.put(samples, offset, length);
+            ReusableFloatBuffer outputBuffer = mOutputBuffer;
+            mOutputBuffer = null;
 
-            while(mOutputBuffer.position() > mOutputBufferSize)
+            if(mResampledListener != null)
             {
-                ReusableFloatBuffer outputBuffer = mReusableBufferQueue.getBuffer(mOutputBufferSize);
-
-                mOutputBuffer.flip();
-                mOutputBuffer.get(outputBuffer.getSamples());
-                mOutputBuffer.compact();
-
-                if(mResampledListener != null)
-                {
-                    mResampledListener.receive(outputBuffer);
-                }
-                else
-                {
-                    outputBuffer.decrementUserCount();
-                }
+                mResampledListener.receive(outputBuffer);
+            }
+            else
+            {
+                outputBuffer.decrementUserCount();
             }
         }
     }
+
+    /**
+     * Registers the listener to receive the resampled buffer output
+     * @param resampledBufferListener to receive buffers
+     */
+    public void setListener(Listener<ReusableFloatBuffer> resampledBufferListener)
+    {
+        mResampledListener = resampledBufferListener;
+    }
 }
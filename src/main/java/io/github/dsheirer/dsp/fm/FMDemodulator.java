@@ -21,14 +21,26 @@ import io.github.dsheirer.sample.buffer.ReusableBufferQueue;
 import io.github.dsheirer.sample.buffer.ReusableComplexBuffer;
 import io.github.dsheirer.sample.buffer.ReusableFloatBuffer;
 import io.github.dsheirer.sample.complex.Complex;
+import io.github.dsheirer.util.ArcTangent;
+import io.github.dsheirer.util.VectorSupport;
 import org.apache.commons.math3.util.FastMath;
+import org.slf4j.LoggerFactory;
 
 /**
  * FM Demodulator for demodulating complex samples and producing demodulated floating point samples.
+ *
+ * The phase delta between successive samples is calculated with a float polynomial arc-tangent (see ArcTangent) that
+ * has a maximum error of ArcTangent.sPOLYNOMIAL_MAXIMUM_ERROR radians (before gain).  Sample buffers are demodulated
+ * in two passes: the conjugate products for the whole buffer are calculated first and then the arc-tangent is
+ * calculated across the product arrays, using the Vector API when it is available.
  */
 public class FMDemodulator
 {
+    private static final IFMDiscriminator VECTOR_DISCRIMINATOR = createVectorDiscriminator();
+
     private ReusableBufferQueue mReusableBufferQueue = new ReusableBufferQueue("FMDemodulator");
+    private float[] mInphaseProducts = new float[0];
+    private float[] mQuadratureProducts = new float[0];
     private float mPreviousI = 0.0f;
     private float mPreviousQ = 0.0f;
     protected float mGain;
@@ -67,23 +79,8 @@ public class FMDemodulator
          *
          * Negating the previous sample quadrature produces the conjugate
          */
-        double inphase = (currentI * mPreviousI) - (currentQ * -mPreviousQ);
-        double quadrature = (currentQ * mPreviousI) + (currentI * -mPreviousQ);
-
-        double angle = 0.0f;
-
-        //Check for divide by zero
-        if(inphase != 0)
-        {
-            /**
-             * Use the arc-tangent of quadrature divided by inphase to
-             * get the phase angle (+/-) which was directly manipulated by the
-             * original message waveform during the modulation.  This value now
-             * serves as the instantaneous amplitude of the demodulated signal
-             */
-            double denominator = 1.0d / inphase;
-            angle = FastMath.atan((double)quadrature * denominator);
-        }
+        float inphase = (currentI * mPreviousI) - (currentQ * -mPreviousQ);
+        float quadrature = (currentQ * mPreviousI) + (currentI * -mPreviousQ);
 
         /**
          * Store the current sample to use during the next iteration
@@ -91,7 +88,66 @@ public class FMDemodulator
         mPreviousI = currentI;
         mPreviousQ = currentQ;
 
-        return (float)(angle * mGain);
+        /**
+         * Use the arc-tangent of quadrature divided by inphase to
+         * get the phase angle (+/-) which was directly manipulated by the
+         * original message waveform during the modulation.  This value now
+         * serves as the instantaneous amplitude of the demodulated signal
+         */
+        return ArcTangent.atan(quadrature, inphase) * mGain;
+    }
+
+    /**
+     * Demodulates the interleaved complex samples into the output array.
+     *
+     * @param samples interleaved complex samples to demodulate
+     * @param length of the samples array (2 x complex sample count) to demodulate
+     * @param output array to receive (length / 2) demodulated samples
+     */
+    public void demodulate(float[] samples, int length, float[] output)
+    {
+        int sampleCount = length / 2;
+
+        if(mInphaseProducts.length < sampleCount)
+        {
+            mInphaseProducts = new float[sampleCount];
+            mQuadratureProducts = new float[sampleCount];
+        }
+
+        float[] inphaseProducts = mInphaseProducts;
+        float[] quadratureProducts = mQuadratureProducts;
+        float previousI = mPreviousI;
+        float previousQ = mPreviousQ;
+        float currentI, currentQ;
+
+        //Pass 1: multiply each sample by the complex conjugate of the previous sample
+        for(int x = 0; x < sampleCount; x++)
+        {
+            currentI = samples[2 * x];
+            currentQ = samples[2 * x + 1];
+            inphaseProducts[x] = (currentI * previousI) - (currentQ * -previousQ);
+            quadratureProducts[x] = (currentQ * previousI) + (currentI * -previousQ);
+            previousI = currentI;
+            previousQ = currentQ;
+        }
+
+        mPreviousI = previousI;
+        mPreviousQ = previousQ;
+
+        //Pass 2: arc-tangent of the phase delta
+        if(VECTOR_DISCRIMINATOR != null)
+        {
+            VECTOR_DISCRIMINATOR.discriminate(inphaseProducts, quadratureProducts, output, sampleCount, mGain);
+        }
+        else
+        {
+            float gain = mGain;
+
+            for(int x = 0; x < sampleCount; x++)
+            {
+                output[x] = ArcTangent.atan(quadratureProducts[x], inphaseProducts[x]) * gain;
+            }
+        }
     }
 
     /**
@@ -135,12 +191,7 @@ public class FMDemodulator
         ReusableFloatBuffer demodulatedBuffer = mReusableBufferQueue.getBuffer(basebandSampleBuffer.getSampleCount());
 
         float[] basebandSamples = basebandSampleBuffer.getSamples();
-        float[] demodulatedSamples = demodulatedBuffer.getSamples();
-
-        for(int x = 0; x < basebandSamples.length; x += 2)
-        {
-            demodulatedSamples[x / 2] = demodulate(basebandSamples[x], basebandSamples[x + 1]);
-        }
+        demodulate(basebandSamples, basebandSamples.length, demodulatedBuffer.getSamples());
 
         basebandSampleBuffer.decrementUserCount();
 
@@ -152,6 +203,41 @@ public class FMDemodulator
         //no-op
     }
 
+    /**
+     * Creates the Vector API discriminator when it is supported.
+     * @return vector discriminator or null to use the scalar arc-tangent
+     */
+    private static IFMDiscriminator createVectorDiscriminator()
+    {
+        Class<? extends IFMDiscriminator> discriminator =
+            VectorSupport.getImplementation("io.github.dsheirer.dsp.fm.VectorFMDiscriminator", IFMDiscriminator.class);
+
+        if(discriminator != null)
+        {
+            try
+            {
+                return discriminator.getConstructor().newInstance();
+            }
+            catch(ReflectiveOperationException | LinkageError e)
+            {
+                LoggerFactory.getLogger(FMDemodulator.class).error("Unable to create vector FM discriminator - " +
+                    "using scalar discriminator", e);
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Sets the stored previous sample that the next demodulated sample is referenced to.  Use this to maintain
+     * sample continuity when a block of samples is skipped rather than demodulated.
+     */
+    protected void setPreviousSample(float inphase, float quadrature)
+    {
+        mPreviousI = inphase;
+        mPreviousQ = quadrature;
+    }
+
     /**
      * Resets this demodulator by zeroing the stored previous sample.
      */
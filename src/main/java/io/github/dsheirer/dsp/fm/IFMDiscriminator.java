@@ -0,0 +1,38 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2021 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.dsp.fm;
+
+/**
+ * FM discriminator (arc-tangent) stage that calculates the demodulated output for arrays of inphase and quadrature
+ * phase-delta (conjugate product) values.
+ */
+public interface IFMDiscriminator
+{
+    /**
+     * Calculates gain * atan(quadrature / inphase) for each element of the arrays, with an output of zero where the
+     * inphase value is zero.
+     *
+     * @param inphase values
+     * @param quadrature values
+     * @param output array for the demodulated values
+     * @param length number of values to process
+     * @param gain to apply to the output
+     */
+    void discriminate(float[] inphase, float[] quadrature, float[] output, int length, float gain);
+}
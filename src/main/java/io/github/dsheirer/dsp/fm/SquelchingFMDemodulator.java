@@ -24,17 +24,23 @@ import io.github.dsheirer.sample.buffer.ReusableComplexBuffer;
 import io.github.dsheirer.sample.buffer.ReusableFloatBuffer;
 import io.github.dsheirer.source.SourceEvent;
 
+import java.util.Arrays;
+
 /**
  * FM Demodulator for demodulating complex samples and producing demodulated floating point samples.
  *
  * Implements listener of source events to process runtime squelch threshold change request events
  * which are forwarded to the power squelch control.
+ *
+ * Each buffer is processed in blocks: the power squelch gate is calculated for the whole buffer first, and then the
+ * buffer is demodulated and gated.  Demodulation is skipped entirely for buffers that are fully squelched.
  */
 public class SquelchingFMDemodulator extends FMDemodulator implements Listener<SourceEvent>
 {
     private ReusableBufferQueue mReusableBufferQueue = new ReusableBufferQueue("SquelchingFMDemodulator");
     private PowerSquelch mPowerSquelch;
     private boolean mSquelchChanged = false;
+    private float[] mGate = new float[0];
 
     /**
      * Creates an FM demodulator instance with a default gain of 1.0.
@@ -62,33 +68,41 @@ public class SquelchingFMDemodulator extends FMDemodulator implements Listener<S
     @Override
     public ReusableFloatBuffer demodulate(ReusableComplexBuffer basebandSampleBuffer)
     {
-        setSquelchChanged(false);
-
-        ReusableFloatBuffer demodulatedBuffer = mReusableBufferQueue.getBuffer(basebandSampleBuffer.getSampleCount());
+        int sampleCount = basebandSampleBuffer.getSampleCount();
+        ReusableFloatBuffer demodulatedBuffer = mReusableBufferQueue.getBuffer(sampleCount);
 
         float[] basebandSamples = basebandSampleBuffer.getSamples();
         float[] demodulatedSamples = demodulatedBuffer.getSamples();
-        float i,q;
 
-        for(int x = 0; x < basebandSamples.length; x += 2)
+        if(mGate.length < sampleCount)
         {
-            i = basebandSamples[x];
-            q = basebandSamples[x + 1];
+            mGate = new float[sampleCount];
+        }
 
-            mPowerSquelch.process(i, q);
+        float[] gate = mGate;
+        int openCount = mPowerSquelch.process(basebandSamples, basebandSamples.length, gate);
+        setSquelchChanged(mPowerSquelch.isSquelchChanged());
 
-            if(mPowerSquelch.isUnmuted() || mPowerSquelch.isDecay())
-            {
-                demodulatedSamples[x / 2] = demodulate(i, q);
-            }
-            else
+        if(openCount == 0)
+        {
+            //Fully squelched - skip demodulation and keep the last sample as the reference for the next buffer
+            Arrays.fill(demodulatedSamples, 0, sampleCount, 0.0f);
+
+            if(sampleCount > 0)
             {
-                demodulatedSamples[x / 2] = 0.0f;
+                setPreviousSample(basebandSamples[2 * sampleCount - 2], basebandSamples[2 * sampleCount - 1]);
             }
+        }
+        else
+        {
+            demodulate(basebandSamples, basebandSamples.length, demodulatedSamples);
 
-            if(mPowerSquelch.isSquelchChanged())
+            if(openCount < sampleCount)
             {
-                setSquelchChanged(true);
+                for(int x = 0; x < sampleCount; x++)
+                {
+                    demodulatedSamples[x] *= gate[x];
+                }
             }
         }
 
@@ -111,31 +111,26 @@ public class ComplexFeedForwardGainControl implements ComplexSampleListener
         mListener = listener;
     }
 
-    public float[] filter(float[] complesSamples)
+    /**
+     * Current gain value applied to the samples
+     */
+    public float getGain()
     {
-        mMaxEnvelope = MINIMUM_ENVELOPE;
-        float currentEnvelope;
-
-        for(int x = 0; x < complesSamples.length; x += 2)
-        {
-            currentEnvelope = Complex.envelope(complesSamples[x], complesSamples[x + 1]);
-
-            if(currentEnvelope > mMaxEnvelope)
-            {
-                mMaxEnvelope = currentEnvelope;
-            }
-        }
+        return mGain;
+    }
 
-        adjustGain();
+    /**
+     * Current maximum envelope value that was used to derive the gain
+     */
+    public float getMaxEnvelope()
+    {
+        return mMaxEnvelope;
+    }
 
+    public float[] filter(float[] complesSamples)
+    {
         float[] processed = new float[complesSamples.length];
-
-        for(int x = 0; x < complesSamples.length; x += 2)
-        {
-            processed[x] = complesSamples[x] * mGain;
-            processed[x + 1] = complesSamples[x + 1] * mGain;
-        }
-
+        process(complesSamples, processed, complesSamples.length);
         return processed;
     }
 
@@ -151,32 +146,48 @@ public class ComplexFeedForwardGainControl implements ComplexSampleListener
         ReusableComplexBuffer filteredBuffer = mReusableComplexBufferQueue.getBuffer(samples.length);
         filteredBuffer.setTimestamp(buffer.getTimestamp());
 
-        float[] filtered = filteredBuffer.getSamples();
+        process(samples, filteredBuffer.getSamples(), samples.length);
 
-        mMaxEnvelope = MINIMUM_ENVELOPE;
+        buffer.decrementUserCount();
 
-        float currentEnvelope;
+        return filteredBuffer;
+    }
 
-        for(int x = 0; x < samples.length; x += 2)
+    /**
+     * Applies a single gain value to a block of interleaved complex samples, where the gain is derived from the
+     * maximum envelope across the block.  The envelope is calculated without branches (larger component plus 0.4
+     * times the smaller component, the same as Complex.envelope()) and the gain is applied across the block as one
+     * flat loop so that both passes can be compiled to vector instructions.
+     *
+     * @param samples interleaved complex samples
+     * @param output array to receive the gain-adjusted samples (may be the same array as samples)
+     * @param length of the samples array to process (2 x complex sample count)
+     */
+    public void process(float[] samples, float[] output, int length)
+    {
+        float maxEnvelope = MINIMUM_ENVELOPE;
+
+        for(int x = 0; x < length; x += 2)
         {
-            currentEnvelope = Complex.envelope(samples[x], samples[x + 1]);
+            float inphaseAbsolute = Math.abs(samples[x]);
+            float quadratureAbsolute = Math.abs(samples[x + 1]);
+            float envelope = Math.max(inphaseAbsolute, quadratureAbsolute) +
+                (0.4f * Math.min(inphaseAbsolute, quadratureAbsolute));
 
-            if(currentEnvelope > mMaxEnvelope)
+            if(envelope > maxEnvelope)
             {
-                mMaxEnvelope = currentEnvelope;
+                maxEnvelope = envelope;
             }
         }
 
+        mMaxEnvelope = maxEnvelope;
         adjustGain();
 
-        for(int x = 0; x < samples.length; x += 2)
+        float gain = mGain;
+
+        for(int x = 0; x < length; x++)
         {
-            filtered[x] = samples[x] * mGain;
-            filtered[x + 1] = samples[x + 1] * mGain;
+            output[x] = samples[x] * gain;
         }
-
-        buffer.decrementUserCount();
-
-        return filteredBuffer;
     }
 }
@@ -115,6 +115,26 @@ public abstract class AbstractOscillator implements IOscillator
         return samples;
     }
 
+    /**
+     * Performs complex heterodyne against the samples using this oscillator and places the results in the mixed array
+     * @param samples to mix with this oscillator
+     * @param mixed array to receive the mixed samples
+     */
+    @Override
+    public void mixComplex(float[] samples, float[] mixed)
+    {
+        for(int x = 0; x < samples.length; x += 2)
+        {
+            float i = Complex.multiplyInphase(samples[x], samples[x + 1], inphase(), quadrature());
+            float q = Complex.multiplyQuadrature(samples[x], samples[x + 1], inphase(), quadrature());
+
+            mixed[x] = i;
+            mixed[x + 1] = q;
+
+            rotate();
+        }
+    }
+
     /**
      * Generates an array of real samples from this oscillator.
      * @param sampleCount number of samples to generate and length of the resulting float array.
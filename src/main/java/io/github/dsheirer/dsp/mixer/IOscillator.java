@@ -112,4 +112,12 @@ public interface IOscillator
      * @return mixed/heterdyned samples
      */
     float[] mixComplex(float[] complexSamples);
+
+    /**
+     * Mixes (heterodynes) the complex sample array using the current settings of this oscillator and places the
+     * results in the mixed array.  The samples and mixed arguments may be the same array.
+     * @param complexSamples to mix to a new frequency
+     * @param mixed array to receive the mixed samples, with a length of at least complexSamples.length
+     */
+    void mixComplex(float[] complexSamples, float[] mixed);
 }
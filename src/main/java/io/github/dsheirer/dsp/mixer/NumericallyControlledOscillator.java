@@ -0,0 +1,281 @@
+/*******************************************************************************
+ * sdr-trunk
+ * Copyright (C) 2014-2018 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by  the Free Software Foundation, either version 3 of the License, or  (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful,  but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License  along with this program.
+ * If not, see <http://www.gnu.org/licenses/>
+ *
+ ******************************************************************************/
+package io.github.dsheirer.dsp.mixer;
+
+/**
+ * Numerically controlled oscillator (NCO) that uses a 32-bit fixed-point phase accumulator and a shared sine lookup
+ * table with linear interpolation to generate the complex rotation vector for each sample.
+ *
+ * Unlike the recursive oscillators, each sample is computed directly from the accumulated phase, so there is no
+ * amplitude or phase drift to correct.  The phase accumulator wraps naturally at 2 * PI on integer overflow, which
+ * provides the periodic renormalization for free, and the oscillator can run indefinitely with a frequency resolution
+ * of sampleRate / 2^32 hertz.
+ *
+ * This oscillator is optimized for block processing.  Use the mixComplex() and generateComplex() array methods to
+ * generate or apply rotation vectors for an entire sample buffer in a single pass.  Block methods process the buffer
+ * in sub-blocks of BLOCK_SIZE samples: the rotation vector at the start of each sub-block is looked up from the phase
+ * accumulator and each sample within the sub-block is rotated from that vector by a precomputed step rotation.  The
+ * rotation values within a sub-block are independent of each other, and the lookup at each sub-block boundary
+ * renormalizes the rotation so that float rounding never accumulates beyond a single sub-block.
+ *
+ * The per-sample inphase(), quadrature() and rotate() methods are supported for compatibility with the IOscillator
+ * interface.
+ */
+public class NumericallyControlledOscillator extends AbstractOscillator
+{
+    private static final int TABLE_BITS = 12;
+    private static final int TABLE_SIZE = 1 << TABLE_BITS;
+    private static final int TABLE_MASK = TABLE_SIZE - 1;
+    private static final int FRACTION_BITS = 32 - TABLE_BITS;
+    private static final float FRACTION_SCALE = 1.0f / (1 << FRACTION_BITS);
+    private static final int FRACTION_MASK = (1 << FRACTION_BITS) - 1;
+    private static final int QUARTER_CYCLE = 1 << 30;
+    private static final double PHASE_UNITS_PER_CYCLE = 4294967296.0; //2^32
+    private static final int BLOCK_SIZE = 64;
+
+    //Sine table with one extra entry so that interpolation never needs to wrap the upper index
+    private static final float[] SINE_TABLE = new float[TABLE_SIZE + 1];
+
+    static
+    {
+        for(int x = 0; x <= TABLE_SIZE; x++)
+        {
+            SINE_TABLE[x] = (float)Math.sin(2.0 * Math.PI * x / TABLE_SIZE);
+        }
+    }
+
+    private int mPhase;
+    private int mPhaseIncrement;
+    private float[] mStepInphase;
+    private float[] mStepQuadrature;
+
+    /**
+     * Constructs an instance
+     *
+     * @param frequency to generate in hertz
+     * @param sampleRate of the oscillator in hertz
+     */
+    public NumericallyControlledOscillator(double frequency, double sampleRate)
+    {
+        super(frequency, sampleRate);
+
+        update();
+    }
+
+    /**
+     * Updates the phase increment after a frequency or sample rate change.  The current phase is retained so that the
+     * generated tone remains phase continuous across frequency changes.
+     */
+    @Override
+    protected void update()
+    {
+        if(getSampleRate() > 0)
+        {
+            mPhaseIncrement = (int)Math.round(getFrequency() / getSampleRate() * PHASE_UNITS_PER_CYCLE);
+        }
+        else
+        {
+            mPhaseIncrement = 0;
+        }
+
+        //This method is invoked from the super class constructor before the field initializers run
+        if(mStepInphase == null)
+        {
+            mStepInphase = new float[BLOCK_SIZE];
+            mStepQuadrature = new float[BLOCK_SIZE];
+        }
+
+        //Step rotations are derived from the quantized phase increment so that they agree with the phase accumulator
+        double anglePerSample = 2.0 * Math.PI * mPhaseIncrement / PHASE_UNITS_PER_CYCLE;
+
+        for(int x = 0; x < BLOCK_SIZE; x++)
+        {
+            mStepInphase[x] = (float)Math.cos(anglePerSample * x);
+            mStepQuadrature[x] = (float)Math.sin(anglePerSample * x);
+        }
+    }
+
+    /**
+     * Current phase accumulator value where the full 32-bit range represents one cycle (0 to 2 * PI)
+     */
+    public int getPhase()
+    {
+        return mPhase;
+    }
+
+    /**
+     * Sets the phase accumulator value where the full 32-bit range represents one cycle (0 to 2 * PI)
+     */
+    public void setPhase(int phase)
+    {
+        mPhase = phase;
+    }
+
+    /**
+     * Looks up the sine of the phase value using linear interpolation between adjacent table entries.
+     * @param phase where the full 32-bit range represents one cycle
+     * @return sine of the phase
+     */
+    private static float sine(int phase)
+    {
+        int index = phase >>> FRACTION_BITS;
+        float fraction = (phase & FRACTION_MASK) * FRACTION_SCALE;
+        float lower = SINE_TABLE[index];
+        return lower + (SINE_TABLE[index + 1] - lower) * fraction;
+    }
+
+    /**
+     * Looks up the cosine of the phase value as the sine of the phase advanced by a quarter cycle.
+     * @param phase where the full 32-bit range represents one cycle
+     * @return cosine of the phase
+     */
+    private static float cosine(int phase)
+    {
+        return sine(phase + QUARTER_CYCLE);
+    }
+
+    @Override
+    public float inphase()
+    {
+        return cosine(mPhase);
+    }
+
+    @Override
+    public float quadrature()
+    {
+        return sine(mPhase);
+    }
+
+    @Override
+    public void rotate()
+    {
+        mPhase += mPhaseIncrement;
+    }
+
+    /**
+     * Generates rotation vectors for the specified number of samples into the output array, arranged as interleaved
+     * inphase and quadrature values (i0,q0,i1,q1 ... iN-1,qN-1) and advances the oscillator by sampleCount samples.
+     *
+     * @param output array with a length of at least 2 * sampleCount
+     * @param sampleCount number of complex samples to generate
+     */
+    public void generateComplex(float[] output, int sampleCount)
+    {
+        int phase = mPhase;
+        int increment = mPhaseIncrement;
+        float[] stepInphase = mStepInphase;
+        float[] stepQuadrature = mStepQuadrature;
+
+        for(int offset = 0; offset < sampleCount; offset += BLOCK_SIZE)
+        {
+            int blockLength = Math.min(BLOCK_SIZE, sampleCount - offset);
+            float startInphase = cosine(phase);
+            float startQuadrature = sine(phase);
+            int index = offset * 2;
+
+            for(int x = 0; x < blockLength; x++)
+            {
+                output[index++] = (startInphase * stepInphase[x]) - (startQuadrature * stepQuadrature[x]);
+                output[index++] = (startQuadrature * stepInphase[x]) + (startInphase * stepQuadrature[x]);
+            }
+
+            phase += increment * blockLength;
+        }
+
+        mPhase = phase;
+    }
+
+    @Override
+    public float[] generateComplex(int sampleCount)
+    {
+        float[] samples = new float[sampleCount * 2];
+        generateComplex(samples, sampleCount);
+        return samples;
+    }
+
+    @Override
+    public float[] generateReal(int sampleCount)
+    {
+        float[] samples = new float[sampleCount];
+
+        int phase = mPhase;
+        int increment = mPhaseIncrement;
+
+        for(int x = 0; x < sampleCount; x++)
+        {
+            phase += increment;
+            samples[x] = sine(phase);
+        }
+
+        mPhase = phase;
+
+        return samples;
+    }
+
+    /**
+     * Performs complex heterodyne of the interleaved samples in place, in a single pass.
+     * @param samples to mix with this oscillator
+     * @return mixed samples (same array as the argument)
+     */
+    @Override
+    public float[] mixComplex(float[] samples)
+    {
+        mixComplex(samples, samples);
+        return samples;
+    }
+
+    /**
+     * Performs complex heterodyne of the interleaved input samples and places the results in the output array in a
+     * single pass.  The input and output arrays may be the same array.
+     *
+     * @param samples to mix with this oscillator
+     * @param mixed array to receive the mixed samples, with a length of at least samples.length
+     */
+    @Override
+    public void mixComplex(float[] samples, float[] mixed)
+    {
+        int phase = mPhase;
+        int increment = mPhaseIncrement;
+        float[] stepInphase = mStepInphase;
+        float[] stepQuadrature = mStepQuadrature;
+        int sampleCount = samples.length / 2;
+        float inphase, quadrature, oscillatorInphase, oscillatorQuadrature;
+
+        for(int offset = 0; offset < sampleCount; offset += BLOCK_SIZE)
+        {
+            int blockLength = Math.min(BLOCK_SIZE, sampleCount - offset);
+            float startInphase = cosine(phase);
+            float startQuadrature = sine(phase);
+            int index = offset * 2;
+
+            for(int x = 0; x < blockLength; x++)
+            {
+                oscillatorInphase = (startInphase * stepInphase[x]) - (startQuadrature * stepQuadrature[x]);
+                oscillatorQuadrature = (startQuadrature * stepInphase[x]) + (startInphase * stepQuadrature[x]);
+                inphase = samples[index];
+                quadrature = samples[index + 1];
+
+                mixed[index] = (inphase * oscillatorInphase) - (quadrature * oscillatorQuadrature);
+                mixed[index + 1] = (quadrature * oscillatorInphase) + (inphase * oscillatorQuadrature);
+                index += 2;
+            }
+
+            phase += increment * blockLength;
+        }
+
+        mPhase = phase;
+    }
+}
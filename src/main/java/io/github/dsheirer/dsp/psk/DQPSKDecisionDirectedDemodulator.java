@@ -22,12 +22,12 @@ import io.github.dsheirer.sample.complex.Complex;
 public class DQPSKDecisionDirectedDemodulator extends PSKDemodulator<Dibit>
 {
     protected DQPSKDecisionDirectedSymbolEvaluator mSymbolEvaluator = new DQPSKDecisionDirectedSymbolEvaluator();
-    private Complex mPreviousPrecedingSample = new Complex(0, 0);
-    private Complex mPreviousCurrentSample = new Complex(0, 0);
-    private Complex mPrecedingSample = new Complex(0, 0);
-    private Complex mCurrentSample = new Complex(0, 0);
-    private Complex mPrecedingSymbol = new Complex(0, 0);
-    protected Complex mCurrentSymbol = new Complex(0, 0);
+    private float mPreviousPrecedingSampleInphase;
+    private float mPreviousPrecedingSampleQuadrature;
+    private float mPreviousCurrentSampleInphase;
+    private float mPreviousCurrentSampleQuadrature;
+    protected float mCurrentSymbolInphase;
+    protected float mCurrentSymbolQuadrature;
 
     /**
      * Decoder for Differential Quaternary Phase Shift Keying (DQPSK).  This decoder uses both a Costas Loop (PLL) and
@@ -50,41 +50,63 @@ public class DQPSKDecisionDirectedDemodulator extends PSKDemodulator<Dibit>
     protected void calculateSymbol()
     {
         //Get preceding sample and an interpolated current sample from the interpolating buffer
-        mPrecedingSample = getInterpolatingSampleBuffer().getPrecedingSample();
-        mCurrentSample = getInterpolatingSampleBuffer().getCurrentSample();
+        InterpolatingSampleBuffer buffer = getInterpolatingSampleBuffer();
+        float precedingSampleInphase = buffer.getPrecedingInphase();
+        float precedingSampleQuadrature = buffer.getPrecedingQuadrature();
+        float currentSampleInphase = buffer.getCurrentInphase();
+        float currentSampleQuadrature = buffer.getCurrentQuadrature();
 
         //Differential decode preceding and current symbols by calculating the angular rotation between the previous and
         //current samples (current sample x complex conjugate of previous sample).
 
         //Note: preceding symbol is a preceding measurement of the current symbol that is simply used as a reference
         //point to determine vector rotation to the current symbol -- it is not the true predecessor symbol
-        mPrecedingSymbol.setInphase(Complex.multiplyInphase(mPrecedingSample.inphase(), mPrecedingSample.quadrature(),
-            mPreviousPrecedingSample.inphase(), -mPreviousPrecedingSample.quadrature()));
-        mPrecedingSymbol.setQuadrature(Complex.multiplyQuadrature(mPrecedingSample.inphase(), mPrecedingSample.quadrature(),
-            mPreviousPrecedingSample.inphase(), -mPreviousPrecedingSample.quadrature()));
+        float precedingSymbolInphase = Complex.multiplyInphase(precedingSampleInphase, precedingSampleQuadrature,
+            mPreviousPrecedingSampleInphase, -mPreviousPrecedingSampleQuadrature);
+        float precedingSymbolQuadrature = Complex.multiplyQuadrature(precedingSampleInphase, precedingSampleQuadrature,
+            mPreviousPrecedingSampleInphase, -mPreviousPrecedingSampleQuadrature);
 
-        mCurrentSymbol.setInphase(Complex.multiplyInphase(mCurrentSample.inphase(), mCurrentSample.quadrature(),
-            mPreviousCurrentSample.inphase(), -mPreviousCurrentSample.quadrature()));
-        mCurrentSymbol.setQuadrature(Complex.multiplyQuadrature(mCurrentSample.inphase(), mCurrentSample.quadrature(),
-            mPreviousCurrentSample.inphase(), -mPreviousCurrentSample.quadrature()));
+        float currentSymbolInphase = Complex.multiplyInphase(currentSampleInphase, currentSampleQuadrature,
+            mPreviousCurrentSampleInphase, -mPreviousCurrentSampleQuadrature);
+        float currentSymbolQuadrature = Complex.multiplyQuadrature(currentSampleInphase, currentSampleQuadrature,
+            mPreviousCurrentSampleInphase, -mPreviousCurrentSampleQuadrature);
 
         //Set gain to unity before we calculate the error value
-        mPrecedingSymbol.normalize();
-        mCurrentSymbol.normalize();
+        float magnitude = Complex.magnitude(precedingSymbolInphase, precedingSymbolQuadrature);
 
-        //Apply symbols to evaluator to calculate phase and timing error and make a symbol decision
-        mSymbolEvaluator.setSymbol(mPrecedingSymbol, mCurrentSymbol);
+        if(magnitude != 0)
+        {
+            precedingSymbolQuadrature *= 1.0f / magnitude;
+        }
+
+        magnitude = Complex.magnitude(currentSymbolInphase, currentSymbolQuadrature);
+
+        if(magnitude != 0)
+        {
+            float gain = 1.0f / magnitude;
+            currentSymbolInphase *= gain;
+            currentSymbolQuadrature *= gain;
+        }
+
+        mCurrentSymbolInphase = currentSymbolInphase;
+        mCurrentSymbolQuadrature = currentSymbolQuadrature;
+
+        //Apply symbols to evaluator to calculate phase and timing error and make a symbol decision.  Only the
+        //quadrature component of the preceding symbol is used by the evaluator.
+        mSymbolEvaluator.setSymbol(precedingSymbolQuadrature, currentSymbolInphase, currentSymbolQuadrature);
 
         //Update the symbol timing error
-        getInterpolatingSampleBuffer().resetAndAdjust(mSymbolEvaluator.getTimingError());
+        buffer.resetAndAdjust(mSymbolEvaluator.getTimingError());
 
         //Update the costas loop (PLL) with any measured phase error
         getPLL().adjust(clip(mSymbolEvaluator.getPhaseError(), 0.5f));
 
         //Store current samples/symbols to use for the next symbol period
-        mPreviousPrecedingSample.setValues(mPrecedingSample);
-        mPreviousCurrentSample.setValues(mCurrentSample);
+        mPreviousPrecedingSampleInphase = precedingSampleInphase;
+        mPreviousPrecedingSampleQuadrature = precedingSampleQuadrature;
+        mPreviousCurrentSampleInphase = currentSampleInphase;
+        mPreviousCurrentSampleQuadrature = currentSampleQuadrature;
 
-        broadcast(mSymbolEvaluator.getSymbolDecision());
+        broadcastDibit(mSymbolEvaluator.getSymbolDecision(), currentSymbolInphase, currentSymbolQuadrature);
     }
 }
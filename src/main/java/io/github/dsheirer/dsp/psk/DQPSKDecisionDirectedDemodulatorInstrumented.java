@@ -91,7 +91,7 @@ public class DQPSKDecisionDirectedDemodulatorInstrumented extends DQPSKDecisionD
         //Send to an external constellation symbol listener when registered
         if(mComplexSymbolListener != null)
         {
-            mComplexSymbolListener.receive(mCurrentSymbol);
+            mComplexSymbolListener.receive(new Complex(mCurrentSymbolInphase, mCurrentSymbolQuadrature));
         }
 
         if(mPLLErrorListener != null)
@@ -26,7 +26,6 @@ public class DQPSKDecisionDirectedSymbolEvaluator implements IPSKSymbolEvaluator
     private static final Complex ROTATE_FROM_MINUS_45 = Complex.fromAngle(1.0 * FastMath.PI / 4.0);
     private static final Complex ROTATE_FROM_MINUS_135 = Complex.fromAngle(3.0 * FastMath.PI / 4.0);
 
-    private Complex mEvaluationSymbol = new Complex(0, 0);
     private float mPhaseError = 0.0f;
     private float mTimingError = 0.0f;
     private float mTimingErrorPolarity = 1.0f;
@@ -60,43 +59,59 @@ public class DQPSKDecisionDirectedSymbolEvaluator implements IPSKSymbolEvaluator
      */
     public void setSymbol(Complex preceding, Complex current)
     {
-        mEvaluationSymbol.setValues(current);
+        setSymbol(preceding.quadrature(), current.inphase(), current.quadrature());
+    }
+
+    /**
+     * Sets the current symbol to be evaluated, using only the quadrature component of the preceding symbol for the
+     * timing error polarity.
+     *
+     * @param precedingQuadrature of the preceding differentially-decoded symbol
+     * @param currentInphase of the current differentially-decoded symbol
+     * @param currentQuadrature of the current differentially-decoded symbol
+     * @see #setSymbol(Complex, Complex)
+     */
+    public void setSymbol(float precedingQuadrature, float currentInphase, float currentQuadrature)
+    {
+        Complex rotation;
 
-        if(mEvaluationSymbol.quadrature() > 0.0f)
+        if(currentQuadrature > 0.0f)
         {
-            if(mEvaluationSymbol.inphase() > 0.0f)
+            if(currentInphase > 0.0f)
             {
                 mSymbolDecision = Dibit.D00_PLUS_1;
-                mTimingErrorPolarity = (preceding.quadrature() > current.quadrature() ? 1.0f : -1.0f);
-                mEvaluationSymbol.multiply(ROTATE_FROM_PLUS_45);
+                mTimingErrorPolarity = (precedingQuadrature > currentQuadrature ? 1.0f : -1.0f);
+                rotation = ROTATE_FROM_PLUS_45;
             }
             else
             {
                 mSymbolDecision = Dibit.D01_PLUS_3;
-                mTimingErrorPolarity = (preceding.quadrature() < current.quadrature() ? 1.0f : -1.0f);
-                mEvaluationSymbol.multiply(ROTATE_FROM_PLUS_135);
+                mTimingErrorPolarity = (precedingQuadrature < currentQuadrature ? 1.0f : -1.0f);
+                rotation = ROTATE_FROM_PLUS_135;
             }
 
         }
         else
         {
-            if(mEvaluationSymbol.inphase() > 0.0f)
+            if(currentInphase > 0.0f)
             {
                 mSymbolDecision = Dibit.D10_MINUS_1;
-                mTimingErrorPolarity = (preceding.quadrature() > current.quadrature() ? 1.0f : -1.0f);
-                mEvaluationSymbol.multiply(ROTATE_FROM_MINUS_45);
+                mTimingErrorPolarity = (precedingQuadrature > currentQuadrature ? 1.0f : -1.0f);
+                rotation = ROTATE_FROM_MINUS_45;
             }
             else
             {
                 mSymbolDecision = Dibit.D11_MINUS_3;
-                mTimingErrorPolarity = (preceding.quadrature() < current.quadrature() ? 1.0f : -1.0f);
-                mEvaluationSymbol.multiply(ROTATE_FROM_MINUS_135);
+                mTimingErrorPolarity = (precedingQuadrature < currentQuadrature ? 1.0f : -1.0f);
+                rotation = ROTATE_FROM_MINUS_135;
             }
         }
 
         //Since we've rotated the error symbol back to 0 radians, the quadrature value closely approximates the
         //arctan of the error angle relative to 0 radians and this provides our error value
-        float errorNormalized = normalize(mEvaluationSymbol.quadrature(), 0.3f);
+        float rotatedQuadrature = Complex.multiplyQuadrature(currentInphase, currentQuadrature, rotation.inphase(),
+            rotation.quadrature());
+        float errorNormalized = normalize(rotatedQuadrature, 0.3f);
 
         mPhaseError = -errorNormalized;
 
@@ -88,7 +88,7 @@ public class DQPSKGardnerDemodulatorInstrumented extends DQPSKGardnerDemodulator
         //Send to an external constellation symbol listener when registered
         if(mComplexSymbolListener != null)
         {
-            mComplexSymbolListener.receive(mCurrentSymbol);
+            mComplexSymbolListener.receive(new Complex(mCurrentSymbolInphase, mCurrentSymbolQuadrature));
         }
 
         if(mPLLErrorListener != null)
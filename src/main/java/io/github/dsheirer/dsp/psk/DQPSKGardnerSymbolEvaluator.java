@@ -29,8 +29,8 @@ public class DQPSKGardnerSymbolEvaluator implements IPSKSymbolEvaluator<Dibit>
     private float mPhaseError = 0.0f;
     private float mTimingError = 0.0f;
     private Dibit mSymbolDecision = Dibit.D00_PLUS_1;
-    private Complex mPreviousSymbol = new Complex(0, 0);
-    private Complex mEvaluationSymbol = new Complex(0, 0);
+    private float mPreviousSymbolInphase = 0.0f;
+    private float mPreviousSymbolQuadrature = 0.0f;
 
     /**
      * Differential QPSK Decision-directed symbol phase and timing error detector and symbol decision slicer.
@@ -59,49 +59,67 @@ public class DQPSKGardnerSymbolEvaluator implements IPSKSymbolEvaluator<Dibit>
      * @param current interpolated differentially-decoded symbol
      */
     public void setSymbols(Complex middle, Complex current)
+    {
+        setSymbols(middle.inphase(), middle.quadrature(), current.inphase(), current.quadrature());
+    }
+
+    /**
+     * Sets the middle and current symbols to be evaluated for phase and timing errors and to determine the
+     * transmitted symbol relative to the closest reference symbol.
+     *
+     * @param middleInphase of the interpolated differentially-decoded sample midway between previous/current symbols
+     * @param middleQuadrature of the interpolated differentially-decoded sample midway between previous/current symbols
+     * @param currentInphase of the interpolated differentially-decoded symbol
+     * @param currentQuadrature of the interpolated differentially-decoded symbol
+     * @see #setSymbols(Complex, Complex)
+     */
+    public void setSymbols(float middleInphase, float middleQuadrature, float currentInphase, float currentQuadrature)
     {
         //Gardner timing error calculation
-        float errorInphase = (mPreviousSymbol.inphase() - current.inphase()) * middle.inphase();
-        float errorQuadrature = (mPreviousSymbol.quadrature() - current.quadrature()) * middle.quadrature();
+        float errorInphase = (mPreviousSymbolInphase - currentInphase) * middleInphase;
+        float errorQuadrature = (mPreviousSymbolQuadrature - currentQuadrature) * middleQuadrature;
         mTimingError = normalize(errorInphase + errorQuadrature, .3f);
 
         //Store the current symbol to use in the next symbol calculation
-        mPreviousSymbol.setValues(current);
+        mPreviousSymbolInphase = currentInphase;
+        mPreviousSymbolQuadrature = currentQuadrature;
 
         //Phase error and symbol decision calculations ...
-        mEvaluationSymbol.setValues(current);
+        Complex rotation;
 
-        if(mEvaluationSymbol.quadrature() > 0.0f)
+        if(currentQuadrature > 0.0f)
         {
-            if(mEvaluationSymbol.inphase() > 0.0f)
+            if(currentInphase > 0.0f)
             {
                 mSymbolDecision = Dibit.D00_PLUS_1;
-                mEvaluationSymbol.multiply(ROTATE_FROM_PLUS_45);
+                rotation = ROTATE_FROM_PLUS_45;
             }
             else
             {
                 mSymbolDecision = Dibit.D01_PLUS_3;
-                mEvaluationSymbol.multiply(ROTATE_FROM_PLUS_135);
+                rotation = ROTATE_FROM_PLUS_135;
             }
 
         }
         else
         {
-            if(mEvaluationSymbol.inphase() > 0.0f)
+            if(currentInphase > 0.0f)
             {
                 mSymbolDecision = Dibit.D10_MINUS_1;
-                mEvaluationSymbol.multiply(ROTATE_FROM_MINUS_45);
+                rotation = ROTATE_FROM_MINUS_45;
             }
             else
             {
                 mSymbolDecision = Dibit.D11_MINUS_3;
-                mEvaluationSymbol.multiply(ROTATE_FROM_MINUS_135);
+                rotation = ROTATE_FROM_MINUS_135;
             }
         }
 
         //Since we've rotated the error symbol back to 0 radians, the quadrature value closely approximates the
         //arctan of the error angle relative to 0 radians and this provides our error value
-        mPhaseError = normalize(-mEvaluationSymbol.quadrature(), 0.3f);
+        float rotatedQuadrature = Complex.multiplyQuadrature(currentInphase, currentQuadrature, rotation.inphase(),
+            rotation.quadrature());
+        mPhaseError = normalize(-rotatedQuadrature, 0.3f);
     }
 
     /**
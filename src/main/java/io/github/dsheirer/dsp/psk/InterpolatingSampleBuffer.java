@@ -74,18 +74,32 @@ public class InterpolatingSampleBuffer
      * @param sample
      */
     public void receive(Complex sample)
+    {
+        receive(sample.inphase(), sample.quadrature());
+    }
+
+    /**
+     * Stores the sample in the buffer and updates pointers.
+     * @param inphase value of the sample
+     * @param quadrature value of the sample
+     */
+    public void receive(float inphase, float quadrature)
     {
         mSamplingPoint--;
 
         //Fill up the delay line to use with the interpolator
-        mDelayLineInphase[mDelayLinePointer] = sample.inphase();
-        mDelayLineInphase[mDelayLinePointer + mTwiceSamplesPerSymbol] = sample.inphase();
-        mDelayLineQuadrature[mDelayLinePointer] = sample.quadrature();
-        mDelayLineQuadrature[mDelayLinePointer + mTwiceSamplesPerSymbol] = sample.quadrature();
+        mDelayLineInphase[mDelayLinePointer] = inphase;
+        mDelayLineInphase[mDelayLinePointer + mTwiceSamplesPerSymbol] = inphase;
+        mDelayLineQuadrature[mDelayLinePointer] = quadrature;
+        mDelayLineQuadrature[mDelayLinePointer + mTwiceSamplesPerSymbol] = quadrature;
 
         //Increment pointer and keep pointer in bounds
         mDelayLinePointer++;
-        mDelayLinePointer = mDelayLinePointer % mTwiceSamplesPerSymbol;
+
+        if(mDelayLinePointer >= mTwiceSamplesPerSymbol)
+        {
+            mDelayLinePointer = 0;
+        }
     }
 
     /**
@@ -147,10 +161,28 @@ public class InterpolatingSampleBuffer
      */
     public Complex getPrecedingSample()
     {
-        mPrecedingSample.setValues(mDelayLineInphase[mDelayLinePointer + 3], mDelayLineQuadrature[mDelayLinePointer + 3]);
+        mPrecedingSample.setValues(getPrecedingInphase(), getPrecedingQuadrature());
         return mPrecedingSample;
     }
 
+    /**
+     * Inphase value of the un-interpolated sample that precedes the current interpolated sampling point.
+     * @see #getPrecedingSample()
+     */
+    public float getPrecedingInphase()
+    {
+        return mDelayLineInphase[mDelayLinePointer + 3];
+    }
+
+    /**
+     * Quadrature value of the un-interpolated sample that precedes the current interpolated sampling point.
+     * @see #getPrecedingSample()
+     */
+    public float getPrecedingQuadrature()
+    {
+        return mDelayLineQuadrature[mDelayLinePointer + 3];
+    }
+
     /**
      * Interpolated current sample for the symbol.
      *
@@ -159,10 +191,28 @@ public class InterpolatingSampleBuffer
     public Complex getCurrentSample()
     {
         /* Calculate interpolated current sample */
-        mCurrentSample.setValues(getInphase(mSamplingPoint), getQuadrature(mSamplingPoint));
+        mCurrentSample.setValues(getCurrentInphase(), getCurrentQuadrature());
         return mCurrentSample;
     }
 
+    /**
+     * Inphase value of the interpolated current sample for the symbol.
+     * @see #getCurrentSample()
+     */
+    public float getCurrentInphase()
+    {
+        return getInphase(mSamplingPoint);
+    }
+
+    /**
+     * Quadrature value of the interpolated current sample for the symbol.
+     * @see #getCurrentSample()
+     */
+    public float getCurrentQuadrature()
+    {
+        return getQuadrature(mSamplingPoint);
+    }
+
     /**
      * Interpolated sample that is 1/2 symbol away from (after) the current sample.
      *
@@ -170,14 +220,29 @@ public class InterpolatingSampleBuffer
      */
     public Complex getMiddleSample()
     {
-        float halfDetectedSamplesPerSymbol = mDetectedSamplesPerSymbol / 2.0f;
-
         //Interpolated sample that is half a symbol away from (occurred before) the current sample.
-        mMiddleSample.setValues(getInphase(halfDetectedSamplesPerSymbol),
-                                getQuadrature(halfDetectedSamplesPerSymbol));
+        mMiddleSample.setValues(getMiddleInphase(), getMiddleQuadrature());
         return mMiddleSample;
     }
 
+    /**
+     * Inphase value of the interpolated sample that is 1/2 symbol away from (after) the current sample.
+     * @see #getMiddleSample()
+     */
+    public float getMiddleInphase()
+    {
+        return getInphase(mDetectedSamplesPerSymbol / 2.0f);
+    }
+
+    /**
+     * Quadrature value of the interpolated sample that is 1/2 symbol away from (after) the current sample.
+     * @see #getMiddleSample()
+     */
+    public float getMiddleQuadrature()
+    {
+        return getQuadrature(mDetectedSamplesPerSymbol / 2.0f);
+    }
+
     /**
      * Returns the interpolated inphase value for the specified offset
      * @param interpolation into the buffer to calculate the interpolated sample
@@ -16,17 +16,28 @@
 package io.github.dsheirer.dsp.psk;
 
 import io.github.dsheirer.dsp.psk.pll.IPhaseLockedLoop;
+import io.github.dsheirer.dsp.symbol.Dibit;
+import io.github.dsheirer.dsp.symbol.IDibitBatchListener;
+import io.github.dsheirer.dsp.symbol.ISoftDibitBatchListener;
 import io.github.dsheirer.sample.Listener;
 import io.github.dsheirer.sample.buffer.ReusableComplexBuffer;
 import io.github.dsheirer.sample.complex.Complex;
+import io.github.dsheirer.sample.complex.ComplexSampleBatchListener;
 import io.github.dsheirer.sample.complex.ComplexSampleListener;
 
-public abstract class PSKDemodulator<T> implements ComplexSampleListener
+public abstract class PSKDemodulator<T> implements ComplexSampleListener, ComplexSampleBatchListener
 {
+    //Maximum number of dibit symbol decisions to accumulate before dispatching a batch
+    private static final int DIBIT_BATCH_SIZE = 1024;
+
     private InterpolatingSampleBuffer mInterpolatingSampleBuffer;
     private IPhaseLockedLoop mPLL;
-    private Complex mReceivedSample = new Complex(0, 0);
     private Listener<T> mSymbolListener;
+    private IDibitBatchListener mDibitBatchListener;
+    private ISoftDibitBatchListener mSoftDibitBatchListener;
+    private byte[] mDibitBatch;
+    private float[] mSoftBitBatch;
+    private int mDibitBatchCount;
 
     /**
      * Abstract Phase Shift Keyed (PSK) demodulator
@@ -40,11 +51,43 @@ public abstract class PSKDemodulator<T> implements ComplexSampleListener
     }
 
     /**
-     * Registers the listener to receive symbol decisions from this demodulator
+     * Registers the listener to receive symbol decisions from this demodulator.  When the listener supports batched
+     * dibit delivery (IDibitBatchListener), dibit symbol decisions are accumulated and delivered to the listener in a
+     * single batch at the end of each sample buffer.  When the listener supports soft bit delivery
+     * (ISoftDibitBatchListener), the soft bit reliability values are delivered with each batch.
      */
     public void setSymbolListener(Listener<T> listener)
     {
+        flushSymbols();
         mSymbolListener = listener;
+
+        if(listener instanceof IDibitBatchListener)
+        {
+            mDibitBatchListener = (IDibitBatchListener)listener;
+
+            if(mDibitBatch == null)
+            {
+                mDibitBatch = new byte[DIBIT_BATCH_SIZE];
+            }
+        }
+        else
+        {
+            mDibitBatchListener = null;
+        }
+
+        if(listener instanceof ISoftDibitBatchListener)
+        {
+            mSoftDibitBatchListener = (ISoftDibitBatchListener)listener;
+
+            if(mSoftBitBatch == null)
+            {
+                mSoftBitBatch = new float[DIBIT_BATCH_SIZE * 2];
+            }
+        }
+        else
+        {
+            mSoftDibitBatchListener = null;
+        }
     }
 
     /**
@@ -53,12 +96,78 @@ public abstract class PSKDemodulator<T> implements ComplexSampleListener
      */
     protected void broadcast(T symbol)
     {
-        if(mSymbolListener != null)
+        broadcast(symbol, ISoftDibitBatchListener.HARD_DECISION_RELIABILITY,
+            ISoftDibitBatchListener.HARD_DECISION_RELIABILITY);
+    }
+
+    /**
+     * Broadcasts the symbol decision and the soft reliability of each of the decision bits to the registered
+     * symbol listener.  Soft values are only delivered to a soft dibit batch listener.
+     *
+     * @param symbol decision
+     * @param bit1Reliability of the first decision bit, where a larger value indicates a more confident decision
+     * @param bit2Reliability of the second decision bit
+     */
+    protected void broadcast(T symbol, float bit1Reliability, float bit2Reliability)
+    {
+        if(mDibitBatchListener != null && symbol instanceof Dibit)
+        {
+            if(mDibitBatchCount == DIBIT_BATCH_SIZE)
+            {
+                flushSymbols();
+            }
+
+            if(mSoftDibitBatchListener != null)
+            {
+                mSoftBitBatch[mDibitBatchCount * 2] = bit1Reliability;
+                mSoftBitBatch[mDibitBatchCount * 2 + 1] = bit2Reliability;
+            }
+
+            mDibitBatch[mDibitBatchCount++] = (byte)((Dibit)symbol).getValue();
+        }
+        else if(mSymbolListener != null)
         {
             mSymbolListener.receive(symbol);
         }
     }
 
+    /**
+     * Broadcasts a differential QPSK symbol decision with soft reliability values derived from the unit-magnitude
+     * symbol.  The first decision bit is the sign of the quadrature and the second bit is the sign of the inphase
+     * component, so each component's magnitude is that bit's soft reliability.
+     *
+     * @param symbol decision
+     * @param inphase component of the unit-magnitude symbol
+     * @param quadrature component of the unit-magnitude symbol
+     */
+    protected void broadcastDibit(T symbol, float inphase, float quadrature)
+    {
+        broadcast(symbol, Math.abs(quadrature), Math.abs(inphase));
+    }
+
+    /**
+     * Dispatches any accumulated dibit symbol decisions to the batch listener
+     */
+    protected void flushSymbols()
+    {
+        if(mDibitBatchCount > 0)
+        {
+            IDibitBatchListener listener = mDibitBatchListener;
+            ISoftDibitBatchListener softListener = mSoftDibitBatchListener;
+            int count = mDibitBatchCount;
+            mDibitBatchCount = 0;
+
+            if(softListener != null)
+            {
+                softListener.receive(mDibitBatch, mSoftBitBatch, 0, count);
+            }
+            else if(listener != null)
+            {
+                listener.receive(mDibitBatch, 0, count);
+            }
+        }
+    }
+
     /**
      * Interpolating sample buffer for receiving the incoming complex sample stream and providing access to
      * indexed and interpolated samples
@@ -83,13 +192,43 @@ public abstract class PSKDemodulator<T> implements ComplexSampleListener
     public void receive(ReusableComplexBuffer reusableComplexBuffer)
     {
         float[] samples = reusableComplexBuffer.getSamples();
+        receive(samples, 0, samples.length);
+        reusableComplexBuffer.decrementUserCount();
+    }
+
+    /**
+     * Demodulates the batch of interleaved complex samples and dispatches any batched symbol decisions once the
+     * batch is processed.
+     */
+    @Override
+    public void receive(float[] samples, int offset, int length)
+    {
+        IPhaseLockedLoop pll = mPLL;
+        InterpolatingSampleBuffer buffer = mInterpolatingSampleBuffer;
+        int end = offset + length;
+        float inphase, quadrature, pllInphase, pllQuadrature;
 
-        for(int x = 0; x < samples.length; x += 2)
+        for(int x = offset; x < end; x += 2)
         {
-            receive(samples[x], samples[x + 1]);
+            inphase = samples[x];
+            quadrature = samples[x + 1];
+
+            //Mix sample with costas loop to remove any rotation that is present from a mis-tuned carrier frequency
+            pll.increment();
+            pllInphase = pll.getCurrentInphase();
+            pllQuadrature = pll.getCurrentQuadrature();
+
+            buffer.receive(Complex.multiplyInphase(inphase, quadrature, pllInphase, pllQuadrature),
+                Complex.multiplyQuadrature(inphase, quadrature, pllInphase, pllQuadrature));
+
+            //Calculate the symbol once we've stored enough samples
+            if(buffer.hasSymbol())
+            {
+                calculateSymbol();
+            }
         }
 
-        reusableComplexBuffer.decrementUserCount();
+        flushSymbols();
     }
 
     /**
@@ -100,14 +239,14 @@ public abstract class PSKDemodulator<T> implements ComplexSampleListener
     @Override
     public void receive(float inphase, float quadrature)
     {
-        //Update current sample with values
-        mReceivedSample.setValues(inphase, quadrature);
-
         //Mix current sample with costas loop to remove any rotation that is present from a mis-tuned carrier frequency
-        mReceivedSample.multiply(mPLL.incrementAndGetCurrentVector());
+        mPLL.increment();
+        float pllInphase = mPLL.getCurrentInphase();
+        float pllQuadrature = mPLL.getCurrentQuadrature();
 
         //Store the sample in the interpolating buffer
-        mInterpolatingSampleBuffer.receive(mReceivedSample);
+        mInterpolatingSampleBuffer.receive(Complex.multiplyInphase(inphase, quadrature, pllInphase, pllQuadrature),
+            Complex.multiplyQuadrature(inphase, quadrature, pllInphase, pllQuadrature));
 
         //Calculate the symbol once we've stored enough samples
         if(mInterpolatingSampleBuffer.hasSymbol())
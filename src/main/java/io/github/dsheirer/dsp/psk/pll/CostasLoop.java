@@ -158,6 +158,18 @@ public class CostasLoop implements IPhaseLockedLoop
         return mCurrentVector;
     }
 
+    @Override
+    public float getCurrentInphase()
+    {
+        return (float)FastMath.cos(mLoopPhase);
+    }
+
+    @Override
+    public float getCurrentQuadrature()
+    {
+        return (float)FastMath.sin(mLoopPhase);
+    }
+
     @Override
     public Complex incrementAndGetCurrentVector()
     {
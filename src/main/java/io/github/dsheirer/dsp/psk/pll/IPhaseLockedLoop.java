@@ -46,6 +46,18 @@ public interface IPhaseLockedLoop
      */
     Complex getCurrentVector();
 
+    /**
+     * Inphase component of the current vector of the PLL to use in de-spinning the incoming samples.
+     * @return inphase value of the current vector
+     */
+    float getCurrentInphase();
+
+    /**
+     * Quadrature component of the current vector of the PLL to use in de-spinning the incoming samples.
+     * @return quadrature value of the current vector
+     */
+    float getCurrentQuadrature();
+
     /**
      * Increments the phase rotation and gets the current vector of the PLL to use in de-spinning the incoming samples.
      * @return complex vector
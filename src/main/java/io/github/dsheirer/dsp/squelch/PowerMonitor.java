@@ -66,16 +66,49 @@ public class PowerMonitor
      */
     public void process(ReusableComplexBuffer buffer)
     {
-        float[] samples = buffer.getSamples();
-        int offset;
+        process(buffer.getSamples(), buffer.getSampleCount() * 2);
+    }
+
+    /**
+     * Processes a block of interleaved complex samples.  Power is only measured across the short run of samples
+     * that precedes each power level notification, so the block is processed by advancing the sample counter
+     * directly across the intervening samples.
+     *
+     * @param samples interleaved complex samples
+     * @param length of the samples array to process (2 x complex sample count)
+     */
+    public void process(float[] samples, int length)
+    {
+        int sampleCount = length / 2;
+        int x = 0;
 
-        for(int x = 0; x < buffer.getSampleCount(); x++)
+        while(x < sampleCount)
         {
-            offset = x * 2;
-            process(samples[offset], samples[offset + 1]);
+            //Skip ahead to the first sample that will be measured
+            int skip = Math.min(mPowerLevelBroadcastThreshold - mPowerLevelBroadcastCount, sampleCount - x);
+
+            if(skip > 0)
+            {
+                mPowerLevelBroadcastCount += skip;
+                x += skip;
+            }
+            else
+            {
+                process(samples[2 * x], samples[2 * x + 1]);
+                x++;
+            }
         }
     }
 
+    /**
+     * Most recently measured channel power level
+     * @return power level in decibels
+     */
+    public double getPowerLevel()
+    {
+        return 10.0 * Math.log10(mPowerFilter.getValue());
+    }
+
     /**
      * Registers the listener to receive power level notifications and squelch threshold requests
      */
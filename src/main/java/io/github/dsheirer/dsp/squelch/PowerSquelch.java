@@ -22,7 +22,6 @@ public class PowerSquelch implements Listener<SourceEvent>
     private int mRampThreshold;
     private int mRampCount;
     private boolean mSquelchChanged = false;
-    private boolean mStateChange = false;
     private int mPowerLevelBroadcastCount = 0;
     private int mPowerLevelBroadcastThreshold;
     private Listener<SourceEvent> mSourceEventListener;
@@ -88,15 +87,87 @@ public class PowerSquelch implements Listener<SourceEvent>
     public void process(double inphase, double quadrature)
     {
         mPower = mFilter.filter(inphase * inphase + quadrature * quadrature);
+        updatePowerLevelBroadcast();
 
+        //Signal that the squelch state has changed if we modify the squelch state.
+        setSquelchChanged(updateState());
+    }
+
+    /**
+     * Processes a block of interleaved complex samples, updating the signal power and squelch state for each sample,
+     * and fills the gate array with a gain value for each sample: 1.0 when the squelch is unmuted or decaying and 0.0
+     * when the squelch is muted or in the attack ramp.  After processing, isSquelchChanged() indicates if the squelch
+     * state changed at any point within the block.
+     *
+     * The squelch is normally either muted with the power below the threshold or unmuted with the power above the
+     * threshold, so the state machine is only evaluated when the power crosses the threshold or while ramping.
+     *
+     * @param samples interleaved complex samples
+     * @param length of the samples array to process (2 x complex sample count)
+     * @param gate array to receive (length / 2) gain values
+     * @return count of samples that are gated open (1.0)
+     */
+    public int process(float[] samples, int length, float[] gate)
+    {
+        boolean changed = false;
+        int openCount = 0;
+        int index = 0;
+
+        for(int x = 0; x < length; x += 2)
+        {
+            double inphase = samples[x];
+            double quadrature = samples[x + 1];
+            mPower = mFilter.filter(inphase * inphase + quadrature * quadrature);
+            updatePowerLevelBroadcast();
+
+            boolean mute = mute();
+
+            if((mState == State.MUTE && mute) || (mState == State.UNMUTE && !mute))
+            {
+                //Steady state - no change
+            }
+            else
+            {
+                changed |= updateState();
+            }
+
+            if(mState == State.UNMUTE || mState == State.DECAY)
+            {
+                gate[index++] = 1.0f;
+                openCount++;
+            }
+            else
+            {
+                gate[index++] = 0.0f;
+            }
+        }
+
+        setSquelchChanged(changed);
+
+        return openCount;
+    }
+
+    /**
+     * Counts the processed sample and broadcasts the current power level each time the broadcast threshold is reached
+     */
+    private void updatePowerLevelBroadcast()
+    {
         mPowerLevelBroadcastCount++;
-        if(mPowerLevelBroadcastCount % mPowerLevelBroadcastThreshold == 0)
+
+        if(mPowerLevelBroadcastCount >= mPowerLevelBroadcastThreshold)
         {
             mPowerLevelBroadcastCount = 0;
             broadcast(SourceEvent.channelPowerLevel(null, 10.0 * Math.log10(mPower)));
         }
+    }
 
-        mStateChange = false;
+    /**
+     * Updates the squelch state from the current power level.
+     * @return true if the squelch state changed between muted and unmuted
+     */
+    private boolean updateState()
+    {
+        boolean stateChange = false;
 
         switch(mState)
         {
@@ -111,7 +182,7 @@ public class PowerSquelch implements Listener<SourceEvent>
                     else
                     {
                         mState = State.UNMUTE;
-                        mStateChange = true;
+                        stateChange = true;
                     }
                 }
             }
@@ -119,7 +190,7 @@ public class PowerSquelch implements Listener<SourceEvent>
                 if(mRampCount >= mRampThreshold)
                 {
                     mState = State.UNMUTE;
-                    mStateChange = true;
+                    stateChange = true;
                 }
                 else
                 {
@@ -130,7 +201,7 @@ public class PowerSquelch implements Listener<SourceEvent>
                 if(mRampCount <= 0)
                 {
                     mState = State.MUTE;
-                    mStateChange = true;
+                    stateChange = true;
                 }
                 else
                 {
@@ -148,14 +219,13 @@ public class PowerSquelch implements Listener<SourceEvent>
                     else
                     {
                         mState = State.MUTE;
-                        mStateChange = true;
+                        stateChange = true;
                     }
                 }
             }
         }
 
-        //Signal that the squelch state has changed if we modified the squelch state above.
-        setSquelchChanged(mStateChange);
+        return stateChange;
     }
 
     /**
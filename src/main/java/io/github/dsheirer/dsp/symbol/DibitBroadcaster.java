@@ -0,0 +1,70 @@
+/*******************************************************************************
+ * sdr-trunk
+ * Copyright (C) 2014-2018 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by  the Free Software Foundation, either version 3 of the License, or  (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful,  but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License  along with this program.
+ * If not, see <http://www.gnu.org/licenses/>
+ *
+ ******************************************************************************/
+package io.github.dsheirer.dsp.symbol;
+
+import io.github.dsheirer.sample.Broadcaster;
+import io.github.dsheirer.sample.Listener;
+
+/**
+ * Dibit broadcaster that supports batched dibit delivery.  Registered listeners that implement IDibitBatchListener
+ * receive each batch with a single call and all other listeners receive the batch one dibit at a time.  Soft bit
+ * batches are delivered with the soft bit values to listeners that implement ISoftDibitBatchListener and as hard
+ * decisions to all other listeners.
+ */
+public class DibitBroadcaster extends Broadcaster<Dibit> implements ISoftDibitBatchListener
+{
+    @Override
+    public void receive(byte[] dibits, float[] softBits, int offset, int length)
+    {
+        for(Listener<Dibit> listener : mListeners)
+        {
+            if(listener instanceof ISoftDibitBatchListener)
+            {
+                ((ISoftDibitBatchListener)listener).receive(dibits, softBits, offset, length);
+            }
+            else if(listener instanceof IDibitBatchListener)
+            {
+                ((IDibitBatchListener)listener).receive(dibits, offset, length);
+            }
+            else
+            {
+                for(int x = offset; x < offset + length; x++)
+                {
+                    listener.receive(Dibit.fromValue(dibits[x]));
+                }
+            }
+        }
+    }
+
+    @Override
+    public void receive(byte[] dibits, int offset, int length)
+    {
+        for(Listener<Dibit> listener : mListeners)
+        {
+            if(listener instanceof IDibitBatchListener)
+            {
+                ((IDibitBatchListener)listener).receive(dibits, offset, length);
+            }
+            else
+            {
+                for(int x = offset; x < offset + length; x++)
+                {
+                    listener.receive(Dibit.fromValue(dibits[x]));
+                }
+            }
+        }
+    }
+}
@@ -25,7 +25,7 @@ import org.slf4j.LoggerFactory;
 /**
  * Assembles reusable byte buffers from an incoming stream of Dibits.
  */
-public class DibitToByteBufferAssembler implements Listener<Dibit>, IReusableByteBufferProvider
+public class DibitToByteBufferAssembler implements Listener<Dibit>, IDibitBatchListener, IReusableByteBufferProvider
 {
     private final static Logger mLog = LoggerFactory.getLogger(DibitToByteBufferAssembler.class);
 
@@ -99,6 +99,22 @@ public class DibitToByteBufferAssembler implements Listener<Dibit>, IReusableByt
         }
     }
 
+    /**
+     * Primary method for streaming batches of decoded dibit symbols.
+     *
+     * @param dibits array of dibit values (0-3)
+     * @param offset to the first dibit
+     * @param length number of dibits
+     */
+    @Override
+    public void receive(byte[] dibits, int offset, int length)
+    {
+        for(int x = offset; x < offset + length; x++)
+        {
+            receive(Dibit.fromValue(dibits[x]));
+        }
+    }
+
     /**
      * Registers the listener to receive fully assembled byte buffers from this assembler.
      */
@@ -0,0 +1,33 @@
+/*******************************************************************************
+ * sdr-trunk
+ * Copyright (C) 2014-2018 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by  the Free Software Foundation, either version 3 of the License, or  (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful,  but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License  along with this program.
+ * If not, see <http://www.gnu.org/licenses/>
+ *
+ ******************************************************************************/
+package io.github.dsheirer.dsp.symbol;
+
+/**
+ * Receives a batch of dibit symbol decisions in a single call.  Each array element holds one dibit value (0-3) as
+ * returned by Dibit.getValue().  Receiving symbols in batches allows the receiver to process the symbols in a tight
+ * loop instead of incurring a listener call per symbol.
+ */
+public interface IDibitBatchListener
+{
+    /**
+     * Receives a batch of dibits.
+     *
+     * @param dibits array of dibit values (0-3)
+     * @param offset to the first dibit in the array
+     * @param length number of dibits to process
+     */
+    void receive(byte[] dibits, int offset, int length);
+}
@@ -0,0 +1,39 @@
+/*******************************************************************************
+ * sdr-trunk
+ * Copyright (C) 2014-2018 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by  the Free Software Foundation, either version 3 of the License, or  (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful,  but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License  along with this program.
+ * If not, see <http://www.gnu.org/licenses/>
+ *
+ ******************************************************************************/
+package io.github.dsheirer.dsp.symbol;
+
+/**
+ * Receives a batch of dibit symbol decisions along with a soft reliability value for each decision bit.  The soft
+ * bits array holds two values per dibit (bit 1, then bit 2) where a larger value indicates a more confident
+ * decision and zero indicates a decision that fell on the decision boundary.
+ */
+public interface ISoftDibitBatchListener extends IDibitBatchListener
+{
+    /**
+     * Soft bit reliability value assigned to hard symbol decisions that don't carry a soft value.
+     */
+    float HARD_DECISION_RELIABILITY = 1.0f;
+
+    /**
+     * Receives a batch of dibits and their soft bit reliability values.
+     *
+     * @param dibits array of dibit values (0-3)
+     * @param softBits array of bit reliability values, two per dibit, indexed as 2 x dibit index
+     * @param offset to the first dibit in the array
+     * @param length number of dibits to process
+     */
+    void receive(byte[] dibits, float[] softBits, int offset, int length);
+}
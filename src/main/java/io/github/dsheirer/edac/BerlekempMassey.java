@@ -27,15 +27,26 @@ import org.apache.commons.math3.util.FastMath;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Berlekemp Massey decoder for primitive RS/BCH block codes
  *
  * Original C implementation by Simon Rockliff, 26 June 1991
+ *
+ * The Galois field log/antilog lookup tables are generated once per field and generator polynomial and shared by all
+ * decoder instances.  Decoder instances are normally shared static instances, so each thread that invokes decode()
+ * gets its own preallocated decoder workspace and decoding doesn't allocate any memory.
  */
 public class BerlekempMassey
 {
     public final static Logger mLog = LoggerFactory.getLogger(BerlekempMassey.class);
 
+    /* Shared alpha_to and index_of lookup tables, keyed by field size, code length and generator polynomial */
+    private static final Map<String,int[][]> sGaloisFieldTables = new ConcurrentHashMap<>();
+
     /* Golay field size GF( 2 ** MM ) */
     private int MM;
 
@@ -53,6 +64,9 @@ public class BerlekempMassey
     int[] index_of;
     int[] gg;
 
+    /* Per-thread decoding workspace */
+    private ThreadLocal<Workspace> mWorkspace;
+
     /**
      * Constructs an instance
      *
@@ -82,17 +96,16 @@ public class BerlekempMassey
         KK = k;
         TT = (int)Math.floor((NN - KK) / 2);
 
-        //Since this may be a shortened code, setup arrays to the max size of NN
-        int maxNN = (int)Math.pow(2, MM) - 1;
-
-        alpha_to = new int[maxNN + 1];
-        index_of = new int[maxNN + 1];
+        int[][] tables = sGaloisFieldTables.computeIfAbsent(MM + ":" + NN + ":" + Arrays.toString(generatorPolynomial),
+            key -> generate_gf(generatorPolynomial));
+        alpha_to = tables[0];
+        index_of = tables[1];
 
         gg = new int[NN - KK + 1];
 
-        generate_gf(generatorPolynomial);
-
         gen_poly();
+
+        mWorkspace = ThreadLocal.withInitial(() -> new Workspace(NN, KK, TT));
     }
 
     /**
@@ -110,9 +123,16 @@ public class BerlekempMassey
      * alpha_to = 2 is the primitive element of GF( 2**mm )
      *
      * @param generator_polynomial
+     * @return alpha_to and index_of tables
      */
-    private void generate_gf(int[] generator_polynomial)
+    private int[][] generate_gf(int[] generator_polynomial)
     {
+        //Since this may be a shortened code, setup arrays to the max size of NN
+        int maxNN = (int)Math.pow(2, MM) - 1;
+
+        int[] alpha_to = new int[maxNN + 1];
+        int[] index_of = new int[maxNN + 1];
+
         int i;
         int mask = 1;
 
@@ -150,6 +170,8 @@ public class BerlekempMassey
         }
 
         index_of[0] = -1;
+
+        return new int[][]{alpha_to, index_of};
     }
 
     /**
@@ -219,18 +241,19 @@ public class BerlekempMassey
     public boolean decode(final int[] input, int[] output) //input, output
     {
         int u, q;
-        int[][] elp = new int[NN - KK + 2][NN - KK];
-        int[] d = new int[NN - KK + 2];
-        int[] l = new int[NN - KK + 2];
-        int[] u_lu = new int[NN - KK + 2];
-        int[] s = new int[NN - KK + 1];
+        Workspace workspace = mWorkspace.get();
+        int[][] elp = workspace.elp;
+        int[] d = workspace.d;
+        int[] l = workspace.l;
+        int[] u_lu = workspace.u_lu;
+        int[] s = workspace.s;
         int count = 0;
         boolean syn_error = false;
-        int[] root = new int[TT];
-        int[] loc = new int[TT];
-        int[] z = new int[TT + 1];
-        int[] err = new int[NN];
-        int[] reg = new int[TT + 1];
+        int[] root = workspace.root;
+        int[] loc = workspace.loc;
+        int[] z = workspace.z;
+        int[] err = workspace.err;
+        int[] reg = workspace.reg;
 
         boolean irrecoverable_error = false;
 
@@ -266,6 +289,9 @@ public class BerlekempMassey
 
         if(syn_error) /* if errors, try and correct */
         {
+            /* reset the workspace left over from the previous decode - not needed when there are no errors */
+            workspace.clear();
+
             /* compute the error location polynomial via the Berlekamp iterative algorithm,
              following the terminology of Lin and Costello :   d[u] is the 'mu'th
              discrepancy, where u='mu'+1 and 'mu' (the Greek letter!) is the step number
@@ -556,4 +582,56 @@ public class BerlekempMassey
 
         return irrecoverable_error;
     }
+
+    /**
+     * Preallocated working arrays for a single decode operation.
+     */
+    private static class Workspace
+    {
+        private int[][] elp;
+        private int[] d;
+        private int[] l;
+        private int[] u_lu;
+        private int[] s;
+        private int[] root;
+        private int[] loc;
+        private int[] z;
+        private int[] err;
+        private int[] reg;
+
+        private Workspace(int nn, int kk, int tt)
+        {
+            elp = new int[nn - kk + 2][nn - kk];
+            d = new int[nn - kk + 2];
+            l = new int[nn - kk + 2];
+            u_lu = new int[nn - kk + 2];
+            s = new int[nn - kk + 1];
+            root = new int[tt];
+            loc = new int[tt];
+            z = new int[tt + 1];
+            err = new int[nn];
+            reg = new int[tt + 1];
+        }
+
+        /**
+         * Resets the error correction arrays to their initial (zero) state.  The syndrome array is fully rewritten by
+         * each decode and isn't cleared.
+         */
+        private void clear()
+        {
+            for(int[] row : elp)
+            {
+                Arrays.fill(row, 0);
+            }
+
+            Arrays.fill(d, 0);
+            Arrays.fill(l, 0);
+            Arrays.fill(u_lu, 0);
+            Arrays.fill(root, 0);
+            Arrays.fill(loc, 0);
+            Arrays.fill(z, 0);
+            Arrays.fill(err, 0);
+            Arrays.fill(reg, 0);
+        }
+    }
 }
@@ -22,8 +22,50 @@ public class Hamming10
      * @return - 0 = no errors
      * 1 = a single-bit error was corrected
      * 2 = more than 1 bit error detected - unable to correct word
+     *
+     * When the frame carries soft bit values and the word can't be corrected, the least reliable bit in the word is
+     * flipped and the word is checked again, so that a second bit error can be corrected when one of the errors
+     * is in the least reliable bit.  The return value is 1 when this corrects the word.
      */
     public static int checkAndCorrect(CorrectedBinaryMessage frame, int startIndex)
+    {
+        int result = correct(frame, startIndex);
+
+        float[] softBits = frame.getSoftBits();
+
+        if(result == 2 && softBits != null && softBits.length >= startIndex + 10)
+        {
+            int leastReliable = startIndex;
+
+            for(int x = startIndex + 1; x < startIndex + 10; x++)
+            {
+                if(softBits[x] < softBits[leastReliable])
+                {
+                    leastReliable = x;
+                }
+            }
+
+            frame.flip(leastReliable);
+
+            if(correct(frame, startIndex) == 1)
+            {
+                frame.incrementCorrectedBitCount(1);
+                return 1;
+            }
+
+            //Restore the word when the second attempt fails
+            frame.flip(leastReliable);
+        }
+
+        return result;
+    }
+
+    /**
+     * Performs error detection and correction of any single-bit errors using the syndrome.
+     *
+     * @return - 0 = no errors, 1 = a single-bit error was corrected, 2 = unable to correct word
+     */
+    private static int correct(CorrectedBinaryMessage frame, int startIndex)
     {
         int syndrome = getSyndrome(frame, startIndex);
 
@@ -18,67 +18,64 @@
  ******************************************************************************/
 package io.github.dsheirer.edac.trellis;
 
-import org.apache.commons.math3.util.FastMath;
-
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.HashMap;
-import java.util.Map;
+import io.github.dsheirer.bits.BinaryMessage;
+import io.github.dsheirer.bits.CorrectedBinaryMessage;
 
+/**
+ * Viterbi decoder for trellis coded modulation (TCM) encoded binary sequences.
+ *
+ * The trellis state is the preceding input value and the transmitted output value for each time instant is defined by
+ * a state transition matrix indexed as [state][input value].  Decoding uses an add-compare-select loop over fixed
+ * path metric arrays and records the surviving predecessor state for each state and time instant in a packed
+ * traceback buffer, so that decoding a message doesn't create any per-symbol objects.
+ *
+ * Branch errors are the Hamming distance between the expected and the transmitted output values.  When soft bit
+ * values are available, each differing bit instead contributes its soft reliability value, so that confidently
+ * received bits weigh more than bits that were near the demodulator's decision boundary.  When two candidate paths
+ * have the same cumulative error, the path from the lowest numbered preceding state survives.
+ */
 public abstract class ViterbiDecoder
 {
+    //Path metric starting value for states that can't be reached from the starting state
+    private static final float UNREACHABLE_ERROR = Float.MAX_VALUE / 4.0f;
+
     private int mInputBitLength;
     private int mInputValueCount;
     private int mOutputBitLength;
     private int mOutputValueCount;
+    private int[] mTransitions;
+
+    /* Per-thread decoding workspace */
+    private ThreadLocal<Workspace> mWorkspace;
 
     /**
      * Viterbi decoder for trellis coded modulation (TCM) encoded binary sequences.
      *
      * @param inputBitLength for coding (e.g. 3/4 rate input bit length is 3)
      * @param outputBitLength for coding (e.g. 3/4 rate output bit length is 4)
+     * @param transitionMatrix of transmitted output values indexed as [state][input value] where the state is the
+     * preceding input value.
      */
-    public ViterbiDecoder(int inputBitLength, int outputBitLength)
+    public ViterbiDecoder(int inputBitLength, int outputBitLength, int[][] transitionMatrix)
     {
         mInputBitLength = inputBitLength;
         mOutputBitLength = outputBitLength;
 
-        mInputValueCount = (int) FastMath.pow(2.0, mInputBitLength);
-        mOutputValueCount = (int)FastMath.pow(2.0, mOutputBitLength);
-    }
+        mInputValueCount = 1 << mInputBitLength;
+        mOutputValueCount = 1 << mOutputBitLength;
 
-    /**
-     * Creates a node that represents an input value and the actual/transmitted output value.
-     *
-     * Note: this method must be implemented by a sub-class since the node requires a specific state transition
-     * table/matrix implementation.
-     *
-     * @param inputValue for the specific trellis node
-     * @param transmittedOutputValue the actual transmitted output value
-     * @return node for decoding
-     */
-    protected abstract Node createNode(int inputValue, int transmittedOutputValue);
+        mTransitions = new int[mInputValueCount * mInputValueCount];
 
-    /**
-     * Creates a flushing or final node that represents an actual/transmitted output value and a flushing input value.
-     *
-     * The final flushing input value is implementation-specific, therefore this will be implemented in any subclass
-     * of this decoder.  A normal flushing input value is zero.
-     *
-     * @param transmittedOutputValue the actual transmitted output value
-     * @return flushing node
-     */
-    protected abstract Node createFlushingNode(int transmittedOutputValue);
+        for(int state = 0; state < mInputValueCount; state++)
+        {
+            for(int input = 0; input < mInputValueCount; input++)
+            {
+                mTransitions[state * mInputValueCount + input] = transitionMatrix[state][input];
+            }
+        }
 
-    /**
-     * Creates a starting node that represents a starting state and notional transmitted output value.
-     *
-     * The starting input value is implementation-specific, therefore this will be implemented in any subclass
-     * of this decoder.  A normal starting input value is zero.
-     *
-     * @return starting node
-     */
-    protected abstract Node createStartingNode();
+        mWorkspace = ThreadLocal.withInitial(() -> new Workspace(mInputValueCount, mOutputValueCount));
+    }
 
     /**
      * Size in bits of the input and state values (e.g. 3/4 rate input size is 3)
@@ -121,108 +118,206 @@ public abstract class ViterbiDecoder
     }
 
     /**
-     * Decodes the TCM encoded transmitted output values and returns a path the represents the most likely transmitted
-     * sequence of nodes.
+     * Soft bit values for the encoded message, when available.
      *
-     * @param transmittedOutputValues from the encoded message
-     * @return most likely path representing the transmitted values
+     * @param encodedMessage to inspect
+     * @return soft bit values with one value per message bit, or null if the message doesn't carry soft bits
      */
-    public Path decode(int[] transmittedOutputValues)
+    protected static float[] getSoftBits(BinaryMessage encodedMessage)
     {
-        Collection<Path> survivingPaths = new ArrayList<>();
-
-        survivingPaths.add(new Path(createStartingNode()));
-
-        //Add all but the last transmitted value to the starting path, creating a set of survivors at each iteration.
-        for(int x = 0; x < transmittedOutputValues.length - 1; x++)
+        if(encodedMessage instanceof CorrectedBinaryMessage)
         {
-            survivingPaths = add(survivingPaths, transmittedOutputValues[x]);
+            float[] softBits = ((CorrectedBinaryMessage)encodedMessage).getSoftBits();
+
+            if(softBits != null && softBits.length >= encodedMessage.size())
+            {
+                return softBits;
+            }
         }
 
-        //Flush the survivors with the final transmitted value and return the lone surviving path
-        return flush(survivingPaths, transmittedOutputValues[transmittedOutputValues.length - 1]);
+        return null;
     }
 
     /**
-     * Creates a set of new nodes representing all possible input values and the transmitted output value argument
-     * and iteratively adds the set of nodes to a copy of each of the surviving paths.  A set of surviving paths is
-     * returned that represents each path that terminates at a distinct input/state value that has the least error
-     * value.
+     * Decodes the TCM encoded transmitted output values using hard decisions.
      *
-     * @param survivingPaths from the previous time instant to evaluate for the next time instant in the trellis
-     * using the transmitted output value.
-     *
-     * @param transmittedOutputValue that will be decoded for this time instant.
-     *
-     * @return paths that have survived (ie have the lowest error value) after adding nodes for the transmitted
-     * output value
+     * @param transmittedOutputValues from the encoded message
+     * @return decoded message
+     * @see #decode(int[], float[])
+     */
+    public CorrectedBinaryMessage decode(int[] transmittedOutputValues)
+    {
+        return decode(transmittedOutputValues, null);
+    }
+
+    /**
+     * Decodes the TCM encoded transmitted output values and returns the most likely sequence of input values as a
+     * message.  The encoder starts in state zero and the final transmitted value is produced by a flushing input value
+     * of zero, so the message contains one input value for each transmitted value except the last.
      *
+     * @param transmittedOutputValues from the encoded message
+     * @param softBits for the encoded message bits, one per bit with the most significant bit of each transmitted
+     * value first, or null to decode using hard decisions only
+     * @return decoded message with the number of transmitted bits that differ from the most likely path set as the
+     * corrected bit count
      */
-    public Collection<Path> add(Collection<Path> survivingPaths, int transmittedOutputValue)
+    public CorrectedBinaryMessage decode(int[] transmittedOutputValues, float[] softBits)
     {
-        Map<Integer,Path> survivingPathMap = new HashMap<>();
+        int stateCount = mInputValueCount;
+        int stateBits = mInputBitLength;
+        int stateMask = stateCount - 1;
+        int outputBits = mOutputBitLength;
+        int[] transitions = mTransitions;
+        int length = transmittedOutputValues.length - 1;
 
-        for(int x = 0; x < getInputValueCount(); x++)
+        //Working metrics for the current and next time instants, branch errors for each output error mask and a
+        //packed traceback buffer where each time instant holds the surviving predecessor state for each state.
+        //These are held per thread so that a decoder instance can be shared across threads.
+        Workspace workspace = mWorkspace.get();
+        float[] metrics = workspace.metrics;
+        float[] maskErrors = workspace.maskErrors;
+        int[] traceback = workspace.getTraceback(length);
+
+        metrics[0] = 0.0f;
+
+        for(int state = 1; state < stateCount; state++)
         {
-            //Create a single/unique node for each possible input value combined with the transmitted output value
-            Node node = createNode(x, transmittedOutputValue);
+            metrics[state] = UNREACHABLE_ERROR;
+        }
 
-            //Evaluate each surviving path by creating a copy and adding the node to it and see if it survives
-            for(Path path: survivingPaths)
-            {
-                Path pathToEvaluate = path.copyOf();
+        int current = 0;
+        int next = stateCount;
+
+        for(int x = 0; x < length; x++)
+        {
+            int symbol = transmittedOutputValues[x];
+            updateMaskErrors(maskErrors, softBits, x * outputBits, outputBits);
+            int packed = 0;
 
-                pathToEvaluate.add(node);
+            for(int input = 0; input < stateCount; input++)
+            {
+                float bestError = metrics[current] + maskErrors[transitions[input] ^ symbol];
+                int bestState = 0;
 
-                if(survivingPathMap.containsKey(node.getInputValue()))
+                for(int state = 1; state < stateCount; state++)
                 {
-                    Path survivingPath = survivingPathMap.get(node.getInputValue());
+                    float error = metrics[current + state] +
+                        maskErrors[transitions[state * stateCount + input] ^ symbol];
 
-                    //Replace the current survivor path if this evaluate path has a lower error value
-                    if(pathToEvaluate.getError() < survivingPath.getError())
+                    if(error < bestError)
                     {
-                        survivingPathMap.put(node.getInputValue(), pathToEvaluate);
+                        bestError = error;
+                        bestState = state;
                     }
                 }
-                else
+
+                metrics[next + input] = bestError;
+                packed |= bestState << (input * stateBits);
+            }
+
+            traceback[x] = packed;
+
+            int swap = current;
+            current = next;
+            next = swap;
+        }
+
+        //Flush each surviving path with a zero input value and select the path with the lowest cumulative error
+        int flushSymbol = transmittedOutputValues[length];
+        updateMaskErrors(maskErrors, softBits, length * outputBits, outputBits);
+        float bestError = metrics[current] + maskErrors[transitions[0] ^ flushSymbol];
+        int bestState = 0;
+
+        for(int state = 1; state < stateCount; state++)
+        {
+            float error = metrics[current + state] + maskErrors[transitions[state * stateCount] ^ flushSymbol];
+
+            if(error < bestError)
+            {
+                bestError = error;
+                bestState = state;
+            }
+        }
+
+        //Trace back through the surviving predecessor states.  The state at each time instant is the input value.
+        //Count the transmitted bits that differ from the output values of the most likely path as we go.
+        CorrectedBinaryMessage message = new CorrectedBinaryMessage(length * stateBits);
+        int state = bestState;
+        int correctedBitCount = Integer.bitCount(transitions[state * stateCount] ^ flushSymbol);
+
+        for(int x = length - 1; x >= 0; x--)
+        {
+            int messageOffset = x * stateBits;
+
+            for(int bit = 0; bit < stateBits; bit++)
+            {
+                if((state & (1 << (stateBits - 1 - bit))) != 0)
                 {
-                    //No survivor yet -- set this evaluate path as the first survivor
-                    survivingPathMap.put(node.getInputValue(), pathToEvaluate);
+                    message.set(messageOffset + bit);
                 }
             }
+
+            int precedingState = x > 0 ? (traceback[x] >> (state * stateBits)) & stateMask : 0;
+            correctedBitCount += Integer.bitCount(transitions[precedingState * stateCount + state] ^
+                transmittedOutputValues[x]);
+            state = precedingState;
         }
 
-        return survivingPathMap.values();
+        //Transfer the corrected error count to the message
+        message.setCorrectedBitCount(correctedBitCount);
+
+        return message;
     }
 
     /**
-     * Flushes each of the surviving paths with a final/flushing node using the transmitted symbol.  A final flushing
-     * input value or state is implementation-specific, but normally uses a value of zero.  Since all paths will be
-     * evaluated against each other as terminating at the same state, only the path with the lowest error value will
-     * be returned from this method.
-     *
-     * @param survivingPaths to flush with the final flushing node
-     * @param transmittedOutputValue to use for the final flushing node
+     * Calculates the branch error for each possible error mask (expected output XOR transmitted output) for a single
+     * transmitted value.  Hard decisions use the count of differing bits.
      *
-     * @return the single survivor path that remains after adding the flushing node to each of the candidate argument
-     * survivor paths.
+     * @param maskErrors to update, sized to the output value count
+     * @param softBits for the message or null for hard decisions
+     * @param offset to the soft value for the most significant bit of the transmitted value
+     * @param outputBits count of bits per transmitted value
      */
-    public Path flush(Collection<Path> survivingPaths, int transmittedOutputValue)
+    private static void updateMaskErrors(float[] maskErrors, float[] softBits, int offset, int outputBits)
     {
-        Node flushingNode = createFlushingNode(transmittedOutputValue);
+        maskErrors[0] = 0.0f;
 
-        Path bestPath = null;
+        for(int mask = 1; mask < maskErrors.length; mask++)
+        {
+            //Error for the lowest set bit plus the error for the remaining bits
+            int lowestBit = Integer.numberOfTrailingZeros(mask);
+            float bitError = softBits != null ? softBits[offset + outputBits - 1 - lowestBit] : 1.0f;
+            maskErrors[mask] = maskErrors[mask & (mask - 1)] + bitError;
+        }
+    }
+
+    /**
+     * Preallocated working arrays for a single decode operation.  Each decode fully rewrites the array elements that
+     * it reads, so the arrays aren't cleared between decodes.
+     */
+    private static class Workspace
+    {
+        private float[] metrics;
+        private float[] maskErrors;
+        private int[] traceback = new int[0];
 
-        for(Path survivingPath: survivingPaths)
+        private Workspace(int stateCount, int outputValueCount)
         {
-            survivingPath.add(flushingNode);
+            metrics = new float[stateCount * 2];
+            maskErrors = new float[outputValueCount];
+        }
 
-            if(bestPath == null || (survivingPath.getError() < bestPath.getError()))
+        /**
+         * Traceback buffer with at least one element per time instant of the message, resized as needed.
+         */
+        private int[] getTraceback(int length)
+        {
+            if(traceback.length < length)
             {
-                bestPath = survivingPath;
+                traceback = new int[length];
             }
-        }
 
-        return bestPath;
+            return traceback;
+        }
     }
 }
@@ -45,12 +45,30 @@ public class ViterbiDecoder_3_4_DMR extends ViterbiDecoder
         78, 79, 92, 93, 94, 95, 108, 109, 110, 111, 124, 125, 126, 127, 140, 141, 142, 143, 156, 157, 158, 159, 172,
         173, 174, 175, 188, 189, 190, 191};
 
+    /**
+     * Transmitted quad-bit value, derived from ETSI TS 102-361-1, Table B.7 Trellis encoder state transition table
+     *
+     * Note: the B.7 table contains constellation point ID numbers that have to be converted into actual bit values
+     * where the bits represent the dibit pair for the constellation point.
+     */
+    public static final int[][] DMR_TRANSITION_MATRIX = new int[][]
+    {
+        {2,13,14,1,7,8,11,4},
+        {14,1,7,8,11,4,2,13},
+        {10,5,6,9,15,0,3,12},
+        {6,9,15,0,3,12,10,5},
+        {15,0,3,12,10,5,6,9},
+        {3,12,10,5,6,9,15,0},
+        {7,8,11,4,2,13,14,1},
+        {11,4,2,13,14,1,7,8}
+    };
+
     /**
      * Viterbi decoder for Digital Mobile Radio (DMR) 3/4 rate Trellis Coded Modulation (TCM) encoded messages.
      */
     public ViterbiDecoder_3_4_DMR()
     {
-        super(3, 4);
+        super(3, 4, DMR_TRANSITION_MATRIX);
     }
 
     public static void main(String[] args)
@@ -99,53 +117,7 @@ public class ViterbiDecoder_3_4_DMR extends ViterbiDecoder
     public CorrectedBinaryMessage decode(CorrectedBinaryMessage encodedMessage)
     {
         CorrectedBinaryMessage deinterleaved = deinterleave(encodedMessage);
-        int[] symbols = getSymbols(deinterleaved);
-        Path mostLikelyPath = decode(symbols);
-        return getMessage(mostLikelyPath);
-    }
-
-    /**
-     * Extracts the decoded/corrected message from the surviving path argument.
-     *
-     * @param path to extract a message from
-     * @return corrected binary message.
-     */
-    private static CorrectedBinaryMessage getMessage(Path path)
-    {
-        List<Node> mNodes = path.getNodes();
-
-        //Each node contains an input value excluding the starting(0) and final flushing(0) nodes.
-        CorrectedBinaryMessage message = new CorrectedBinaryMessage((mNodes.size() - 2) * 3);
-
-        if(mNodes.size() > 2)
-        {
-            for(int x = 1; x < mNodes.size() - 1; x++)
-            {
-                int inputValue = mNodes.get(x).getInputValue();
-
-                int messageOffset = 3 * (x - 1);
-
-                if((inputValue & 4) == 4)
-                {
-                    message.set(messageOffset);
-                }
-
-                if((inputValue & 2) == 2)
-                {
-                    message.set(messageOffset + 1);
-                }
-
-                if((inputValue & 1) == 1)
-                {
-                    message.set(messageOffset + 2);
-                }
-            }
-        }
-
-        //Transfer the corrected error count to the message
-        message.setCorrectedBitCount(path.getError());
-
-        return message;
+        return decode(getSymbols(deinterleaved));
     }
 
     /**
@@ -177,39 +149,4 @@ public class ViterbiDecoder_3_4_DMR extends ViterbiDecoder
 
         return symbols;
     }
-
-    /**
-     * Creates a DMR node
-     *
-     * @param inputValue for the specific trellis node
-     * @param transmittedOutputValue the actual transmitted output value
-     * @return created node
-     */
-    @Override
-    protected Node createNode(int inputValue, int transmittedOutputValue)
-    {
-        return new DMR_3_4_Node(inputValue, transmittedOutputValue);
-    }
-
-    /**
-     * Creates a DMR flushing node.  DMR uses an input value of zero to flush the final output value out of the
-     * encoder.
-     *
-     * @param transmittedOutputValue the actual transmitted output value
-     * @return
-     */
-    @Override
-    protected Node createFlushingNode(int transmittedOutputValue)
-    {
-        return new DMR_3_4_Node(0, transmittedOutputValue);
-    }
-
-    /**
-     * Creates a DMR starting node.  DMR uses a starting input value of zero for the initial node.
-     */
-    @Override
-    protected Node createStartingNode()
-    {
-        return new DMR_3_4_Node(0, 0);
-    }
 }
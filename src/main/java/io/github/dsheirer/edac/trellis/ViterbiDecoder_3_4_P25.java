@@ -21,76 +21,42 @@ package io.github.dsheirer.edac.trellis;
 import io.github.dsheirer.bits.BinaryMessage;
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
 
-import java.util.List;
-
 public class ViterbiDecoder_3_4_P25 extends ViterbiDecoder
 {
+    /**
+     * Trellis encoder state transition table.  Note: this table is converted from the ICD state
+     * transition table where the table symbol is converted to the transmitted bit value.
+     */
+    public static final int[][] TRANSITION_MATRIX = new int[][]
+    {
+        {2,13,14,1,7,8,11,4},
+        {14,1,7,8,11,4,2,13},
+        {10,5,6,9,15,0,3,12},
+        {6,9,15,0,3,12,10,5},
+        {15,0,3,12,10,5,6,9},
+        {3,12,10,5,6,9,15,0},
+        {7,8,11,4,2,13,14,1},
+        {11,4,2,13,14,1,7,8}
+    };
+
     /**
      * Viterbi decoder for P25 3/4 rate Trellis Coded Modulation (TCM) encoded messages.
      */
     public ViterbiDecoder_3_4_P25()
     {
-        super(3, 4);
+        super(3, 4, TRANSITION_MATRIX);
     }
 
     /**
      * Decodes a 3/4 rate trellis coded modulation (TCM) encoded P25 binary message containing 196 bits that have
-     * already been deinterleaved.
+     * already been deinterleaved.  Soft decision decoding is used when the message carries soft bit values.
      *
      * @param encodedMessage to decode that has already been deinterleaved.
      * @return decoded message
      */
     public CorrectedBinaryMessage decode(BinaryMessage encodedMessage)
     {
-        int[] symbols = getSymbols(encodedMessage);
-
-        Path mostLikelyPath = decode(symbols);
-
-        return getMessage(mostLikelyPath);
-    }
-
-    /**
-     * Extracts the decoded/corrected message from the surviving path argument.
-     *
-     * @param path to extract a message from
-     * @return corrected binary message.
-     */
-    private static CorrectedBinaryMessage getMessage(Path path)
-    {
-        List<Node> mNodes = path.getNodes();
-
-        //Each node contains an input value excluding the starting(0) and final flushing(0) nodes.
-        CorrectedBinaryMessage message = new CorrectedBinaryMessage((mNodes.size() - 2) * 3);
-
-        if(mNodes.size() > 2)
-        {
-            for(int x = 1; x < mNodes.size() - 1; x++)
-            {
-                int inputValue = mNodes.get(x).getInputValue();
-
-                int messageOffset = 3 * (x - 1);
-
-                if((inputValue & 4) == 4)
-                {
-                    message.set(messageOffset);
-                }
-
-                if((inputValue & 2) == 2)
-                {
-                    message.set(messageOffset + 1);
-                }
-
-                if((inputValue & 1) == 1)
-                {
-                    message.set(messageOffset + 2);
-                }
-            }
-        }
-
-        //Transfer the corrected error count to the message
-        message.setCorrectedBitCount(path.getError());
-
-        return message;
+        return decode(getSymbols(encodedMessage), getSoftBits(encodedMessage));
     }
 
     /**
@@ -122,39 +88,4 @@ public class ViterbiDecoder_3_4_P25 extends ViterbiDecoder
 
         return symbols;
     }
-
-    /**
-     * Creates a P25 node
-     *
-     * @param inputValue for the specific trellis node
-     * @param transmittedOutputValue the actual transmitted output value
-     * @return created node
-     */
-    @Override
-    protected Node createNode(int inputValue, int transmittedOutputValue)
-    {
-        return new P25_3_4_Node(inputValue, transmittedOutputValue);
-    }
-
-    /**
-     * Creates a P25 flushing node.  P25 uses an input value of zero to flush the final output value out of the
-     * encoder.
-     *
-     * @param transmittedOutputValue the actual transmitted output value
-     * @return
-     */
-    @Override
-    protected Node createFlushingNode(int transmittedOutputValue)
-    {
-        return new P25_3_4_Node(0, transmittedOutputValue);
-    }
-
-    /**
-     * Creates a P25 starting node.  P25 uses a starting input value of zero for the initial node.
-     */
-    @Override
-    protected Node createStartingNode()
-    {
-        return new P25_3_4_Node(0, 0);
-    }
 }
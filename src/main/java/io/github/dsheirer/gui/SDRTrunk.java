@@ -43,6 +43,8 @@ import io.github.dsheirer.preference.UserPreferences;
 import io.github.dsheirer.properties.SystemProperties;
 import io.github.dsheirer.record.AudioRecordingManager;
 import io.github.dsheirer.sample.Listener;
+import io.github.dsheirer.sample.buffer.AbstractReusableBuffer;
+import io.github.dsheirer.sample.buffer.AbstractReusableBufferQueue;
 import io.github.dsheirer.settings.SettingsManager;
 import io.github.dsheirer.source.SourceManager;
 import io.github.dsheirer.source.tuner.Tuner;
@@ -157,6 +159,15 @@ public class SDRTrunk implements Listener<TunerEvent>
         //Log current properties setting
         SystemProperties.getInstance().logCurrentSettings();
 
+        //Apply the optional reusable buffer pool bounds (0 = unbounded)
+        AbstractReusableBufferQueue.setPoolDefaults(
+            SystemProperties.getInstance().get(AbstractReusableBufferQueue.PROPERTY_POOL_MAXIMUM_IDLE_FOOTPRINT_KB, 0) * 1024L,
+            SystemProperties.getInstance().get(AbstractReusableBufferQueue.PROPERTY_POOL_IDLE_TIMEOUT_SECONDS, 0) * 1000L);
+        AbstractReusableBuffer.setLeakDetectionEnabled(
+            SystemProperties.getInstance().get(AbstractReusableBuffer.PROPERTY_LEAK_DETECTION_ENABLED, false));
+        AbstractReusableBufferQueue.setLeakDetectionWindow(
+            SystemProperties.getInstance().get(AbstractReusableBufferQueue.PROPERTY_LEAK_DETECTION_WINDOW_SECONDS, 60) * 1000L);
+
         //Register FontAwesome so we can use the fonts in Swing windows
         IconFontSwing.register(FontAwesome.getIconFont());
 
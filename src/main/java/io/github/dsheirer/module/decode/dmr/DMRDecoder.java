@@ -21,7 +21,8 @@ package io.github.dsheirer.module.decode.dmr;
 
 import io.github.dsheirer.dsp.filter.FilterFactory;
 import io.github.dsheirer.dsp.filter.fir.FIRFilterSpecification;
-import io.github.dsheirer.dsp.filter.fir.complex.ComplexFIRFilter2;
+import io.github.dsheirer.dsp.filter.fir.complex.ComplexFIRFilterFactory;
+import io.github.dsheirer.dsp.filter.fir.complex.IComplexFIRFilter;
 import io.github.dsheirer.dsp.gain.ComplexFeedForwardGainControl;
 import io.github.dsheirer.dsp.psk.DQPSKDecisionDirectedDemodulator;
 import io.github.dsheirer.dsp.psk.InterpolatingSampleBuffer;
@@ -30,10 +31,10 @@ import io.github.dsheirer.dsp.psk.pll.FrequencyCorrectionSyncMonitor;
 import io.github.dsheirer.dsp.psk.pll.PLLBandwidth;
 import io.github.dsheirer.dsp.squelch.PowerMonitor;
 import io.github.dsheirer.dsp.symbol.Dibit;
+import io.github.dsheirer.dsp.symbol.DibitBroadcaster;
 import io.github.dsheirer.dsp.symbol.DibitToByteBufferAssembler;
 import io.github.dsheirer.module.decode.DecoderType;
 import io.github.dsheirer.module.decode.FeedbackDecoder;
-import io.github.dsheirer.sample.Broadcaster;
 import io.github.dsheirer.sample.Listener;
 import io.github.dsheirer.sample.buffer.IReusableByteBufferProvider;
 import io.github.dsheirer.sample.buffer.IReusableComplexBufferListener;
@@ -45,8 +46,6 @@ import io.github.dsheirer.source.SourceEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.HashMap;
-import java.util.Map;
 
 /**
  * DMR decoder module.
@@ -58,12 +57,11 @@ public class DMRDecoder extends FeedbackDecoder implements ISourceEventListener,
     protected static final float SAMPLE_COUNTER_GAIN = 0.4f;
     private static final double SYMBOL_RATE = 4800.0;
     private double mSampleRate;
-    private Broadcaster<Dibit> mDibitBroadcaster = new Broadcaster<>();
+    private DibitBroadcaster mDibitBroadcaster = new DibitBroadcaster();
     private DibitToByteBufferAssembler mByteBufferAssembler = new DibitToByteBufferAssembler(300);
     private DMRMessageProcessor mMessageProcessor;
     private ComplexFeedForwardGainControl mAGC = new ComplexFeedForwardGainControl(32);
-    private Map<Double,float[]> mBasebandFilters = new HashMap<>();
-    private ComplexFIRFilter2 mBasebandFilter;
+    private IComplexFIRFilter mBasebandFilter;
     protected InterpolatingSampleBuffer mInterpolatingSampleBuffer;
     protected DQPSKDecisionDirectedDemodulator mQPSKDemodulator;
     protected CostasLoop mCostasLoop;
@@ -113,7 +111,7 @@ public class DMRDecoder extends FeedbackDecoder implements ISourceEventListener,
 
         mPowerMonitor.setSampleRate((int)sampleRate);
         mSampleRate = sampleRate;
-        mBasebandFilter = new ComplexFIRFilter2(getBasebandFilter());
+        mBasebandFilter = ComplexFIRFilterFactory.getFilter(getBasebandFilter());
         mCostasLoop = new CostasLoop(getSampleRate(), getSymbolRate());
         mCostasLoop.setPLLBandwidth(PLLBandwidth.BW_300);
         mFrequencyCorrectionSyncMonitor = new FrequencyCorrectionSyncMonitor(mCostasLoop, this);
@@ -174,38 +172,31 @@ public class DMRDecoder extends FeedbackDecoder implements ISourceEventListener,
      */
     private float[] getBasebandFilter()
     {
-        //Attempt to reuse a cached (ie already-designed) filter if available
-        float[] filter = mBasebandFilters.get(getSampleRate());
+        //Filter designs are cached process-wide (and across runs) by the filter factory
+        float[] filter = null;
+
+        FIRFilterSpecification specification = FIRFilterSpecification.lowPassBuilder()
+            .sampleRate((int)getSampleRate())
+            .passBandCutoff(5100)
+            .passBandAmplitude(1.0)
+            .passBandRipple(0.01)
+            .stopBandAmplitude(0.0)
+            .stopBandStart(6500)
+            .stopBandRipple(0.01)
+            .build();
+
+        try
+        {
+            filter = FilterFactory.getTaps(specification);//
+        }
+        catch(Exception fde) //FilterDesignException
+        {
+            mLog.error("Couldn't design low pass baseband filter for sample rate: " + getSampleRate());
+        }
 
         if(filter == null)
         {
-            FIRFilterSpecification specification = FIRFilterSpecification.lowPassBuilder()
-                .sampleRate((int)getSampleRate())
-                .passBandCutoff(5100)
-                .passBandAmplitude(1.0)
-                .passBandRipple(0.01)
-                .stopBandAmplitude(0.0)
-                .stopBandStart(6500)
-                .stopBandRipple(0.01)
-                .build();
-
-            try
-            {
-                filter = FilterFactory.getTaps(specification);//
-            }
-            catch(Exception fde) //FilterDesignException
-            {
-                mLog.error("Couldn't design low pass baseband filter for sample rate: " + getSampleRate());
-            }
-
-            if(filter != null)
-            {
-                mBasebandFilters.put(getSampleRate(), filter);
-            }
-            else
-            {
-                throw new IllegalStateException("Couldn't design a DMR baseband filter for sample rate: " + getSampleRate());
-            }
+            throw new IllegalStateException("Couldn't design a DMR baseband filter for sample rate: " + getSampleRate());
         }
 
         return filter;
@@ -242,7 +233,7 @@ public class DMRDecoder extends FeedbackDecoder implements ISourceEventListener,
     /**
      * Assembler for packaging Dibit stream into reusable byte buffers.
      */
-    protected Broadcaster<Dibit> getDibitBroadcaster()
+    protected DibitBroadcaster getDibitBroadcaster()
     {
         return mDibitBroadcaster;
     }
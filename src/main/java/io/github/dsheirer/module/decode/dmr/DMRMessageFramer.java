@@ -21,6 +21,7 @@ package io.github.dsheirer.module.decode.dmr;
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
 import io.github.dsheirer.dsp.psk.pll.IPhaseLockedLoop;
 import io.github.dsheirer.dsp.symbol.Dibit;
+import io.github.dsheirer.dsp.symbol.IDibitBatchListener;
 import io.github.dsheirer.dsp.symbol.ISyncDetectListener;
 import io.github.dsheirer.message.IMessage;
 import io.github.dsheirer.message.SyncLossMessage;
@@ -58,7 +59,7 @@ import java.util.function.Consumer;
  * DMR Sync Detector and Message Framer.  Includes capability to detect PLL out-of-phase lock errors
  * and issue phase corrections.
  */
-public class DMRMessageFramer implements Listener<Dibit>, IDMRBurstDetectListener
+public class DMRMessageFramer implements Listener<Dibit>, IDibitBatchListener, IDMRBurstDetectListener
 {
     private final static Logger mLog = LoggerFactory.getLogger(DMRMessageFramer.class);
 
@@ -168,6 +169,22 @@ public class DMRMessageFramer implements Listener<Dibit>, IDMRBurstDetectListene
         mBurstFramer.receive(dibit);
     }
 
+    /**
+     * Primary method for streaming batches of decoded dibit symbols.
+     *
+     * @param dibits array of dibit values (0-3)
+     * @param offset to the first dibit
+     * @param length number of dibits
+     */
+    @Override
+    public void receive(byte[] dibits, int offset, int length)
+    {
+        for(int x = offset; x < offset + length; x++)
+        {
+            receive(Dibit.fromValue(dibits[x]));
+        }
+    }
+
     /**
      * Primary method for streaming decoded symbol byte arrays.
      *
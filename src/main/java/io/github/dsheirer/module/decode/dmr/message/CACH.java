@@ -1,5 +1,6 @@
 package io.github.dsheirer.module.decode.dmr.message;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.BinaryMessage;
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
 import io.github.dsheirer.module.decode.dmr.message.type.LCSS;
@@ -14,8 +15,8 @@ public class CACH
         15, 16, 17, 19, 20, 21, 23};
     private static final int INBOUND_CHANNEL_ACCESS_TYPE = 0;
     private static final int OUTBOUND_BURST_TIMESLOT = 1;
-    private static final int[] LINK_CONTROL_START_STOP = new int[]{2, 3};
-    private static final int[] CACH_CRC = new int[]{4, 5, 6};
+    private static final BinaryField LINK_CONTROL_START_STOP = BinaryField.range(2, 3);
+    private static final BinaryField CACH_CRC = BinaryField.range(4, 6);
     private static final int[] CHECKSUMS = new int[]{5, 7, 6, 3};
     private static final int PAYLOAD_START = 7;
     private static final int PAYLOAD_END = 24;
@@ -19,6 +19,7 @@
 
 package io.github.dsheirer.module.decode.dmr.message.data.block;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
 import io.github.dsheirer.module.decode.dmr.DMRSyncPattern;
 import io.github.dsheirer.module.decode.dmr.message.CACH;
@@ -29,7 +30,7 @@ import io.github.dsheirer.module.decode.dmr.message.data.SlotType;
  */
 public class DataBlock3_4Rate extends DataBlock
 {
-    private static final int[] DATA_BLOCK_SERIAL_NUMBER = new int[]{0, 1, 2, 3, 4, 5, 6};
+    private static final BinaryField DATA_BLOCK_SERIAL_NUMBER = BinaryField.range(0, 6);
     private static final int[] CRC = new int[]{7, 8, 9, 10, 11, 12, 13, 14, 15};
     private static final int CONFIRMED_PAYLOAD_START = 16;
     private static final int UNCONFIRMED_PAYLOAD_START = 0;
@@ -19,6 +19,7 @@
 
 package io.github.dsheirer.module.decode.dmr.message.data.csbk.hytera;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.identifier.integer.IntegerIdentifier;
@@ -38,11 +39,11 @@ import java.util.List;
  */
 public class HyteraXPTPreamble extends Preamble
 {
-    private static final int[] FREE_REPEATER = new int[]{32, 33, 34, 35};
-    private static final int[] PRIORITY_REPEATER = new int[]{36, 37, 38, 39};
-    private static final int[] TARGET_ADDRESS = new int[]{40, 41, 42, 43, 44, 45, 46, 47, 48, 49, 50, 51, 52, 53, 54, 55};
-    private static final int[] PRIORITY_CALL_HASHED_ADDRESS = new int[]{56, 57, 58, 59, 60, 61, 62, 63};
-    private static final int[] SOURCE_ADDRESS = new int[]{64, 65, 66, 67, 68, 69, 70, 71, 72, 73, 74, 75, 76, 77, 78, 79};
+    private static final BinaryField FREE_REPEATER = BinaryField.range(32, 35);
+    private static final BinaryField PRIORITY_REPEATER = BinaryField.range(36, 39);
+    private static final BinaryField TARGET_ADDRESS = BinaryField.range(40, 55);
+    private static final BinaryField PRIORITY_CALL_HASHED_ADDRESS = BinaryField.range(56, 63);
+    private static final BinaryField SOURCE_ADDRESS = BinaryField.range(64, 79);
 
     private IntegerIdentifier mTargetAddress;
     private RadioIdentifier mSourceAddress;
@@ -19,6 +19,7 @@
 
 package io.github.dsheirer.module.decode.dmr.message.data.csbk.hytera;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.module.decode.dmr.DMRSyncPattern;
@@ -38,17 +39,17 @@ import java.util.List;
  */
 public class HyteraXPTSiteState extends CSBKMessage
 {
-    private static final int[] SEQUENCE_NUMBER = new int[]{0, 1};
-    private static final int[] FREE_REPEATER = new int[]{16, 17, 18, 19};
-    private static final int[] REPEATER_A_STATE = new int[]{20, 21, 22, 23};
-    private static final int[] REPEATER_B_STATE = new int[]{24, 25, 26, 27};
-    private static final int[] REPEATER_C_STATE = new int[]{28, 29, 30, 31};
-    private static final int[] REPEATER_A_TS0_ADDRESS = new int[]{32, 33, 34, 35, 36, 37, 38, 39};
-    private static final int[] REPEATER_A_TS1_ADDRESS = new int[]{40, 41, 42, 43, 44, 45, 46, 47};
-    private static final int[] REPEATER_B_TS0_ADDRESS = new int[]{48, 49, 50, 51, 52, 53, 54, 55};
-    private static final int[] REPEATER_B_TS1_ADDRESS = new int[]{56, 57, 58, 59, 60, 61, 62, 63};
-    private static final int[] REPEATER_C_TS0_ADDRESS = new int[]{64, 65, 66, 67, 68, 69, 70, 71};
-    private static final int[] REPEATER_C_TS1_ADDRESS = new int[]{72, 73, 74, 75, 76, 77, 78, 79};
+    private static final BinaryField SEQUENCE_NUMBER = BinaryField.range(0, 1);
+    private static final BinaryField FREE_REPEATER = BinaryField.range(16, 19);
+    private static final BinaryField REPEATER_A_STATE = BinaryField.range(20, 23);
+    private static final BinaryField REPEATER_B_STATE = BinaryField.range(24, 27);
+    private static final BinaryField REPEATER_C_STATE = BinaryField.range(28, 31);
+    private static final BinaryField REPEATER_A_TS0_ADDRESS = BinaryField.range(32, 39);
+    private static final BinaryField REPEATER_A_TS1_ADDRESS = BinaryField.range(40, 47);
+    private static final BinaryField REPEATER_B_TS0_ADDRESS = BinaryField.range(48, 55);
+    private static final BinaryField REPEATER_B_TS1_ADDRESS = BinaryField.range(56, 63);
+    private static final BinaryField REPEATER_C_TS0_ADDRESS = BinaryField.range(64, 71);
+    private static final BinaryField REPEATER_C_TS1_ADDRESS = BinaryField.range(72, 79);
 
     private List<Identifier> mIdentifiers;
 
@@ -19,6 +19,7 @@
 
 package io.github.dsheirer.module.decode.dmr.message.data.csbk.motorola;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.identifier.radio.RadioIdentifier;
@@ -39,9 +40,9 @@ import java.util.List;
 public class CapacityPlusDataRevertWindowGrant extends CSBKMessage
 {
     //Note: bits 16-23 may be reserved for 24-bit target address, however Cap+ radio IDs are limited to 16-bit values.
-    private static final int[] TARGET_ADDRESS = new int[]{24, 25, 26, 27, 28, 29, 30, 31, 32, 33, 34, 35, 36, 37, 38, 39};
-    private static final int[] WINDOW = new int[]{40, 41, 42, 43, 44, 45, 46, 47};
-    private static final int[] SUPER_FRAME = new int[]{48, 49, 50, 51, 52, 53, 54, 55};
+    private static final BinaryField TARGET_ADDRESS = BinaryField.range(24, 39);
+    private static final BinaryField WINDOW = BinaryField.range(40, 47);
+    private static final BinaryField SUPER_FRAME = BinaryField.range(48, 55);
 
     private RadioIdentifier mTargetAddress;
     private List<Identifier> mIdentifiers;
@@ -19,6 +19,7 @@
 
 package io.github.dsheirer.module.decode.dmr.message.data.csbk.motorola;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.identifier.radio.RadioIdentifier;
@@ -39,13 +40,12 @@ import java.util.List;
  */
 public class ConnectPlusDataChannelGrant extends CSBKMessage implements ITimeslotFrequencyReceiver
 {
-    private static final int[] TARGET_ADDRESS = new int[]{16, 17, 18, 19, 20, 21, 22, 23, 24, 25, 26, 27, 28, 29, 30, 31,
-        32, 33, 34, 35, 36, 37, 38, 39};
-    private static final int[] REPEATER = new int[]{40, 41, 42, 43};
-    private static final int[] CHANNEL_GRANT_TIMESLOT = new int[]{44};
+    private static final BinaryField TARGET_ADDRESS = BinaryField.range(16, 39);
+    private static final BinaryField REPEATER = BinaryField.range(40, 43);
+    private static final BinaryField CHANNEL_GRANT_TIMESLOT = BinaryField.range(44, 44);
 
     //Analysis: this field correlates to UNKNOWN_FIELD_1(bits: 40-48) in ConnectPlusTerminateChannelGrant.
-    private static final int[] UNKNOWN_FIELD = new int[]{48, 49, 50, 51, 52, 53, 54, 55};
+    private static final BinaryField UNKNOWN_FIELD = BinaryField.range(48, 55);
 
     private RadioIdentifier mTargetRadio;
     private DMRLogicalChannel mDMRLogicalChannel;
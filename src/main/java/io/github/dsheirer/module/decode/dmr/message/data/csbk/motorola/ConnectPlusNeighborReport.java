@@ -20,6 +20,7 @@
 package io.github.dsheirer.module.decode.dmr.message.data.csbk.motorola;
 
 import com.google.common.base.Joiner;
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.identifier.site.SiteIdentifier;
@@ -38,8 +39,7 @@ import java.util.List;
 public class ConnectPlusNeighborReport extends CSBKMessage
 {
     private static final int SITE_ARRAY_START = 16;
-    private static final int[] UNKNOWN = new int[]{56, 57, 58, 59, 60, 61, 62, 63, 64, 65, 66, 67, 68, 69, 70, 71, 72,
-        73, 74, 75, 76, 77, 78, 79};
+    private static final BinaryField UNKNOWN = BinaryField.range(56, 79);
 
     private List<SiteIdentifier> mNeighbors;
     private List<Identifier> mIdentifiers;
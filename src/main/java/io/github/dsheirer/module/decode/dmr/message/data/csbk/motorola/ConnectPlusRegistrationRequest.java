@@ -19,6 +19,7 @@
 
 package io.github.dsheirer.module.decode.dmr.message.data.csbk.motorola;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.identifier.radio.RadioIdentifier;
@@ -36,11 +37,9 @@ import java.util.List;
  */
 public class ConnectPlusRegistrationRequest extends CSBKMessage
 {
-    private static final int[] SOURCE_ADDRESS = new int[]{16, 17, 18, 19, 20, 21, 22, 23, 24, 25, 26, 27, 28, 29, 30,
-        31, 32, 33, 34, 35, 36, 37, 38, 39};
-    private static final int[] TARGET_ADDRESS = new int[]{40, 41, 42, 43, 44, 45, 46, 47, 48, 49, 50, 51, 52, 53, 54,
-        55, 56, 57, 58, 59, 60, 61, 62, 63};
-    private static final int[] UNKNOWN = new int[]{64, 65, 66, 67, 68, 69, 70, 71};
+    private static final BinaryField SOURCE_ADDRESS = BinaryField.range(16, 39);
+    private static final BinaryField TARGET_ADDRESS = BinaryField.range(40, 63);
+    private static final BinaryField UNKNOWN = BinaryField.range(64, 71);
 
     private List<Identifier> mIdentifiers;
     private RadioIdentifier mSourceRadio;
@@ -19,6 +19,7 @@
 
 package io.github.dsheirer.module.decode.dmr.message.data.csbk.motorola;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.identifier.radio.RadioIdentifier;
@@ -38,11 +39,9 @@ import java.util.List;
  */
 public class ConnectPlusTalkgroupAffiliation extends CSBKMessage
 {
-    private static final int[] RADIO = new int[]{16, 17, 18, 19, 20, 21, 22, 23, 24, 25, 26, 27, 28, 29, 30,
-        31, 32, 33, 34, 35, 36, 37, 38, 39};
-    private static final int[] TALKGROUP = new int[]{40, 41, 42, 43, 44, 45, 46, 47, 48, 49, 50, 51, 52, 53, 54,
-        55, 56, 57, 58, 59, 60, 61, 62, 63};
-    private static final int[] UNKNOWN = new int[]{64, 65, 66, 67, 68, 69, 70, 71};
+    private static final BinaryField RADIO = BinaryField.range(16, 39);
+    private static final BinaryField TALKGROUP = BinaryField.range(40, 63);
+    private static final BinaryField UNKNOWN = BinaryField.range(64, 71);
 
     private List<Identifier> mIdentifiers;
     private RadioIdentifier mRadio;
@@ -19,6 +19,7 @@
 
 package io.github.dsheirer.module.decode.dmr.message.data.csbk.motorola;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.identifier.radio.RadioIdentifier;
@@ -41,13 +42,11 @@ import java.util.List;
  */
 public class ConnectPlusVoiceChannelUser extends CSBKMessage implements ITimeslotFrequencyReceiver
 {
-    private static final int[] SOURCE_ADDRESS = new int[]{16, 17, 18, 19, 20, 21, 22, 23, 24, 25, 26, 27, 28, 29, 30, 31,
-        32, 33, 34, 35, 36, 37, 38, 39};
-    private static final int[] GROUP_ADDRESS = new int[]{40, 41, 42, 43, 44, 45, 46, 47, 48, 49, 50, 51, 52, 53, 54, 55,
-        56, 57, 58, 59, 60, 61, 62, 63};
-    private static final int[] TRAFFIC_CHANNEL_REPEATER = new int[]{64, 65, 66, 67};
-    private static final int[] TRAFFIC_CHANNEL_TIMESLOT = new int[]{68};
-    private static final int[] UNKNOWN_FIELD = new int[]{72, 73, 74, 75, 76, 77, 78, 79};
+    private static final BinaryField SOURCE_ADDRESS = BinaryField.range(16, 39);
+    private static final BinaryField GROUP_ADDRESS = BinaryField.range(40, 63);
+    private static final BinaryField TRAFFIC_CHANNEL_REPEATER = BinaryField.range(64, 67);
+    private static final BinaryField TRAFFIC_CHANNEL_TIMESLOT = BinaryField.range(68, 68);
+    private static final BinaryField UNKNOWN_FIELD = BinaryField.range(72, 79);
 
     private RadioIdentifier mRadio;
     private TalkgroupIdentifier mTalkgroup;
@@ -19,6 +19,7 @@
 
 package io.github.dsheirer.module.decode.dmr.message.data.csbk.standard;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.identifier.radio.RadioIdentifier;
@@ -42,14 +43,13 @@ import java.util.List;
 public class MoveTSCC extends CSBKMessage
 {
     private static final int[] RESERVED = new int[]{16, 17, 18, 19, 20, 20, 22, 23, 24};
-    private static final int[] MASK = new int[]{25, 26, 27, 28, 29};
+    private static final BinaryField MASK = BinaryField.range(25, 29);
     private static final int[] RESERVED_2 = new int[]{30, 31, 32, 33, 34};
     private static final int REGISTRATION_REQUIRED_FLAG = 35;
     private static final int[] BACKOFF = new int[]{36, 37, 38, 39};
     private static final int[] RESERVED_3 = new int[]{40, 41, 42, 43};
-    private static final int[] CHANNEL_NUMBER = new int[]{44, 45, 46, 47, 48, 49, 50, 51, 52, 53, 54, 55};
-    private static final int[] RADIO = new int[]{56, 57, 58, 59, 60, 61, 62, 63, 64, 65, 66, 67, 68, 69, 70, 71, 72,
-            73, 74, 75, 76, 77, 78, 79};
+    private static final BinaryField CHANNEL_NUMBER = BinaryField.range(44, 55);
+    private static final BinaryField RADIO = BinaryField.range(56, 79);
 
     private RadioIdentifier mRadioIdentifier;
     private DMRChannel mDMRChannel;
@@ -19,6 +19,7 @@
 
 package io.github.dsheirer.module.decode.dmr.message.data.csbk.standard;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.identifier.integer.IntegerIdentifier;
@@ -39,12 +40,10 @@ import java.util.List;
  */
 public class Protect extends CSBKMessage
 {
-    private static final int[] PROTECT_KIND = new int[]{28, 29, 30};
+    private static final BinaryField PROTECT_KIND = BinaryField.range(28, 30);
     private static final int TALKGROUP_FLAG = 31;
-    protected static final int[] DESTINATION = new int[]{32, 33, 34, 35, 36, 37, 38, 39, 40, 41, 42, 43, 44, 45, 46, 47,
-        48, 49, 50, 51, 52, 53, 54, 55};
-    protected static final int[] SOURCE = new int[]{56, 57, 58, 59, 60, 61, 62, 63, 64, 65, 66, 67, 68, 69, 70, 71, 72,
-        73, 74, 75, 76, 77, 78, 79};
+    protected static final BinaryField DESTINATION = BinaryField.range(32, 55);
+    protected static final BinaryField SOURCE = BinaryField.range(56, 79);
 
     private List<Identifier> mIdentifiers;
     private RadioIdentifier mSourceRadio;
@@ -19,6 +19,7 @@
 
 package io.github.dsheirer.module.decode.dmr.message.data.csbk.standard.ahoy;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
 import io.github.dsheirer.identifier.integer.IntegerIdentifier;
 import io.github.dsheirer.module.decode.dmr.DMRSyncPattern;
@@ -40,11 +41,9 @@ public abstract class Ahoy extends CSBKMessage
     private static final int AMBIENT_LISTENING_SERVICE_FLAG = 24;
     private static final int TALKGROUP_FLAG = 25;
     protected static final int[] APPENDED_BLOCKS_OR_STATUS = new int[]{26, 27};
-    private static final int[] SERVICE_KIND = new int[]{28, 29, 30, 31};
-    protected static final int[] TARGET_ADDRESS = new int[]{32, 33, 34, 35, 36, 37, 38, 39, 40, 41, 42, 43, 44, 45, 46,
-        47, 48, 49, 50, 51, 52, 53, 54, 55};
-    protected static final int[] MULTI_PURPOSE_FIELD = new int[]{56, 57, 58, 59, 60, 61, 62, 63, 64, 65, 66, 67, 68, 69,
-        70, 71, 72, 73, 74, 75, 76, 77, 78, 79};
+    private static final BinaryField SERVICE_KIND = BinaryField.range(28, 31);
+    protected static final BinaryField TARGET_ADDRESS = BinaryField.range(32, 55);
+    protected static final BinaryField MULTI_PURPOSE_FIELD = BinaryField.range(56, 79);
 
     private IntegerIdentifier mTargetAddress;
 
@@ -19,6 +19,7 @@
 
 package io.github.dsheirer.module.decode.dmr.message.data.csbk.standard.announcement;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.module.decode.dmr.DMRSyncPattern;
@@ -34,12 +35,12 @@ import java.util.List;
 public class CallTimerParameters extends Announcement
 {
     //Broadcast Parameters 1: 21-34
-    private static final int[] EMERGENCY_TIMER = new int[]{21, 22, 23, 24, 25, 26, 27, 28, 29};
-    private static final int[] PACKET_TIMER = new int[]{30, 31, 32, 33, 34};
+    private static final BinaryField EMERGENCY_TIMER = BinaryField.range(21, 29);
+    private static final BinaryField PACKET_TIMER = BinaryField.range(30, 34);
 
     //Broadcast Parameters 2: 56-79
-    private static final int[] MOBILE_TO_MOBILE_TIMER = new int[]{56, 57, 58, 59, 60, 61, 62, 63, 64, 65, 66, 67};
-    private static final int[] MOBILE_TO_LINE_TIMER = new int[]{68, 69, 70, 71, 72, 73, 74, 75, 76, 77, 78, 79};
+    private static final BinaryField MOBILE_TO_MOBILE_TIMER = BinaryField.range(56, 67);
+    private static final BinaryField MOBILE_TO_LINE_TIMER = BinaryField.range(68, 79);
 
     private List<Identifier> mIdentifiers;
 
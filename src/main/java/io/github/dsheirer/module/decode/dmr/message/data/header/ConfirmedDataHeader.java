@@ -19,6 +19,7 @@
 
 package io.github.dsheirer.module.decode.dmr.message.data.header;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.module.decode.dmr.DMRSyncPattern;
@@ -34,7 +35,7 @@ import java.util.List;
 public class ConfirmedDataHeader extends OctetDataHeader
 {
     private static final int RE_SYNCHRONIZE_FLAG = 72;
-    private static final int[] SEND_SEQUENCE_NUMBER = new int[]{73, 74, 75};
+    private static final BinaryField SEND_SEQUENCE_NUMBER = BinaryField.range(73, 75);
 
     private List<Identifier> mIdentifiers;
 
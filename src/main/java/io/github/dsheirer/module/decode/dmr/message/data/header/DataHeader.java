@@ -19,6 +19,7 @@
 
 package io.github.dsheirer.module.decode.dmr.message.data.header;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
 import io.github.dsheirer.module.decode.dmr.DMRSyncPattern;
 import io.github.dsheirer.module.decode.dmr.message.CACH;
@@ -30,7 +31,7 @@ import io.github.dsheirer.module.decode.dmr.message.type.DataPacketFormat;
  */
 public class DataHeader extends HeaderMessage
 {
-    private static final int[] DATA_PACKET_FORMAT = new int[]{4, 5, 6, 7};
+    private static final BinaryField DATA_PACKET_FORMAT = BinaryField.range(4, 7);
 
 
     /**
@@ -19,6 +19,7 @@
 
 package io.github.dsheirer.module.decode.dmr.message.data.header;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.module.decode.dmr.DMRSyncPattern;
@@ -34,11 +35,11 @@ import java.util.List;
  */
 public class DefinedShortDataHeader extends PacketSequenceHeader
 {
-    private static final int[] BLOCKS_TO_FOLLOW = new int[]{2, 3, 12, 13, 14, 15};
-    private static final int[] DEFINED_DATA_FORMAT = new int[]{64, 65, 66, 67, 68, 69};
+    private static final BinaryField BLOCKS_TO_FOLLOW = BinaryField.of(2, 3, 12, 13, 14, 15);
+    private static final BinaryField DEFINED_DATA_FORMAT = BinaryField.range(64, 69);
     private static final int RESYNCHRONIZE_FLAG = 70;
     private static final int FULL_MESSAGE_FLAG = 71;
-    private static final int[] BIT_PADDING = new int[]{72, 73, 74, 75, 76, 77, 78, 79};
+    private static final BinaryField BIT_PADDING = BinaryField.range(72, 79);
 
     private List<Identifier> mIdentifiers;
 
@@ -19,6 +19,7 @@
 
 package io.github.dsheirer.module.decode.dmr.message.data.header;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
 import io.github.dsheirer.module.decode.dmr.DMRSyncPattern;
 import io.github.dsheirer.module.decode.dmr.message.CACH;
@@ -31,10 +32,10 @@ import io.github.dsheirer.module.decode.dmr.message.data.SlotType;
  */
 public abstract class OctetDataHeader extends PacketSequenceHeader
 {
-    private static final int[] PAD_OCTET_COUNT = new int[]{3, 12, 13, 14, 15};
+    private static final BinaryField PAD_OCTET_COUNT = BinaryField.of(3, 12, 13, 14, 15);
     private static final int FINAL_FRAGMENT_FLAG = 64;
-    private static final int[] BLOCKS_TO_FOLLOW = new int[]{65, 66, 67, 68, 69, 70, 71};
-    private static final int[] FRAGMENT_SEQUENCE_NUMBER = new int[]{76, 77, 78, 79};
+    private static final BinaryField BLOCKS_TO_FOLLOW = BinaryField.range(65, 71);
+    private static final BinaryField FRAGMENT_SEQUENCE_NUMBER = BinaryField.range(76, 79);
 
     /**
      * Constructs an instance.
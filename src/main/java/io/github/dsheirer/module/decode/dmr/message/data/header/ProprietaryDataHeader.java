@@ -19,6 +19,7 @@
 
 package io.github.dsheirer.module.decode.dmr.message.data.header;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.BinaryMessage;
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
 import io.github.dsheirer.module.decode.dmr.DMRSyncPattern;
@@ -32,8 +33,8 @@ import io.github.dsheirer.module.decode.dmr.message.type.Vendor;
  */
 public class ProprietaryDataHeader extends DataHeader
 {
-    private static final int[] SERVICE_ACCESS_POINT = new int[]{0, 1, 2, 3};
-    private static final int[] VENDOR = new int[]{8, 9, 10, 11, 12, 13, 14, 15};
+    private static final BinaryField SERVICE_ACCESS_POINT = BinaryField.range(0, 3);
+    private static final BinaryField VENDOR = BinaryField.range(8, 15);
 
     /**
      * Constructs an instance.
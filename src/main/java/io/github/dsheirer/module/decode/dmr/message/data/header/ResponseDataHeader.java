@@ -19,6 +19,7 @@
 
 package io.github.dsheirer.module.decode.dmr.message.data.header;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.identifier.integer.IntegerIdentifier;
@@ -39,13 +40,11 @@ import java.util.List;
 public class ResponseDataHeader extends DataHeader
 {
     private static final int RADIO_TALKGROUP_FLAG = 0;
-    private static final int[] SERVICE_ACCESS_POINT = new int[]{8, 9, 10, 11};
-    private static final int[] DESTINATION_IDENTIFIER = new int[]{16, 17, 18, 19, 20, 21, 22, 23, 24, 25, 26, 27, 28,
-        29, 30, 31, 32, 33, 34, 35, 36, 37, 38, 39};
-    private static final int[] SOURCE_RADIO = new int[]{40, 41, 42, 43, 44, 45, 46, 47, 48, 49, 50, 51, 52, 53, 54,
-        55, 56, 57, 58, 59, 60, 61, 62, 63};
-    private static final int[] BLOCKS_TO_FOLLOW = new int[]{65, 66, 67, 68, 69, 70, 71};
-    private static final int[] CLASS_TYPE_STATUS = new int[]{72, 73, 74, 75, 76, 77, 78, 79};
+    private static final BinaryField SERVICE_ACCESS_POINT = BinaryField.range(8, 11);
+    private static final BinaryField DESTINATION_IDENTIFIER = BinaryField.range(16, 39);
+    private static final BinaryField SOURCE_RADIO = BinaryField.range(40, 63);
+    private static final BinaryField BLOCKS_TO_FOLLOW = BinaryField.range(65, 71);
+    private static final BinaryField CLASS_TYPE_STATUS = BinaryField.range(72, 79);
 
     private IntegerIdentifier mDestinationLLID;
     private RadioIdentifier mSourceLLID;
@@ -19,6 +19,7 @@
 
 package io.github.dsheirer.module.decode.dmr.message.data.header;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.identifier.integer.IntegerIdentifier;
@@ -42,18 +43,16 @@ import java.util.List;
 public class UDTHeader extends DataHeader
 {
     private static final int RADIO_TALKGROUP_FLAG = 0;
-    private static final int[] SERVICE_ACCESS_POINT = new int[]{8, 9, 10, 11};
-    private static final int[] UDT_FORMAT = new int[]{3, 12, 13, 14, 15};
-
-    private static final int[] DESTINATION_IDENTIFIER = new int[]{16, 17, 18, 19, 20, 21, 22, 23, 24, 25, 26, 27, 28,
-        29, 30, 31, 32, 33, 34, 35, 36, 37, 38, 39};
-    private static final int[] SOURCE_RADIO = new int[]{40, 41, 42, 43, 44, 45, 46, 47, 48, 49, 50, 51, 52, 53, 54,
-        55, 56, 57, 58, 59, 60, 61, 62, 63};
-    private static final int[] PAD_NIBBLE = new int[]{64, 65, 66, 67, 68};
+    private static final BinaryField SERVICE_ACCESS_POINT = BinaryField.range(8, 11);
+    private static final BinaryField UDT_FORMAT = BinaryField.of(3, 12, 13, 14, 15);
+
+    private static final BinaryField DESTINATION_IDENTIFIER = BinaryField.range(16, 39);
+    private static final BinaryField SOURCE_RADIO = BinaryField.range(40, 63);
+    private static final BinaryField PAD_NIBBLE = BinaryField.range(64, 68);
     private static final int[] UAB = new int[]{70, 71};
     private static final int SUPPLEMENTARY_DATA_FLAG = 72;
     private static final int PROTECT_FLAG = 73;
-    private static final int[] OPCODE = new int[]{74, 75, 76, 77, 78, 79};
+    private static final BinaryField OPCODE = BinaryField.range(74, 79);
 
     private IntegerIdentifier mDestinationLLID;
     private RadioIdentifier mSourceLLID;
@@ -19,6 +19,7 @@
 
 package io.github.dsheirer.module.decode.dmr.message.data.header.hytera;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
 import io.github.dsheirer.module.decode.dmr.DMRSyncPattern;
 import io.github.dsheirer.module.decode.dmr.message.CACH;
@@ -30,8 +31,8 @@ import io.github.dsheirer.module.decode.dmr.message.data.header.ProprietaryDataH
  */
 public class HyteraProprietaryDataHeader extends ProprietaryDataHeader
 {
-    private static final int[] UNKNOWN_1 = new int[]{16, 17, 18, 19, 20, 21, 22, 23};
-    private static final int[] UNKNOWN_2 = new int[]{24, 25, 26, 27, 28, 29, 30, 31};
+    private static final BinaryField UNKNOWN_1 = BinaryField.range(16, 23);
+    private static final BinaryField UNKNOWN_2 = BinaryField.range(24, 31);
 
     /**
      * Constructs an instance.
@@ -19,6 +19,7 @@
 
 package io.github.dsheirer.module.decode.dmr.message.data.header.motorola;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.BinaryMessage;
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
 import io.github.dsheirer.module.decode.dmr.DMRSyncPattern;
@@ -36,13 +37,13 @@ import io.github.dsheirer.module.decode.dmr.message.type.Vendor;
  */
 public class MNISProprietaryDataHeader extends ProprietaryDataHeader
 {
-    private static final int[] SERVICE_ACCESS_POINT = new int[]{0, 1, 2, 3};
-    private static final int[] VENDOR = new int[]{8, 9, 10, 11, 12, 13, 14, 15};
+    private static final BinaryField SERVICE_ACCESS_POINT = BinaryField.range(0, 3);
+    private static final BinaryField VENDOR = BinaryField.range(8, 15);
     //NOTE: the following field definitions are speculative ...
     private static final int[] UNKNOWN_02 = new int[]{16, 17, 18, 19, 20, 21, 22, 23};
     private static final int[] MESSAGE_TYPE = new int[]{24, 25, 26, 27, 28, 29, 30, 31};
-    private static final int[] APPLICATION_TYPE = new int[]{32, 33, 34, 35, 36, 37, 38, 39};
-    private static final int[] PACKET_NUMBER = new int[]{40, 41, 42, 43, 44, 45, 46, 47, 48, 49, 50, 51, 52, 53, 54, 55};
+    private static final BinaryField APPLICATION_TYPE = BinaryField.range(32, 39);
+    private static final BinaryField PACKET_NUMBER = BinaryField.range(40, 55);
     private static final int PACKET_PREFIX_START = 56;
     private static final int PACKET_PREFIX_END = PACKET_PREFIX_START + 24;
 
@@ -19,6 +19,7 @@
 
 package io.github.dsheirer.module.decode.dmr.message.data.lc.full;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.identifier.location.LocationIdentifier;
@@ -38,7 +39,7 @@ public class GPSInformation extends FullLCMessage
 {
     private static final double LATITUDE_UNITS = 180.0 / FastMath.pow(2.0, 24.0);
     private static final double LONGITUDE_UNITS = 360.0 / FastMath.pow(2.0, 25.0);
-    private static final int[] POSITION_ERROR = new int[]{20, 21, 22};
+    private static final BinaryField POSITION_ERROR = BinaryField.range(20, 22);
     private static final int LONGITUDE_START = 23;
     private static final int LONGITUDE_END = 47;
     private static final int LATITUDE_START = 48;
@@ -19,6 +19,7 @@
 
 package io.github.dsheirer.module.decode.dmr.message.data.lc.full;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.identifier.integer.IntegerIdentifier;
@@ -36,15 +37,13 @@ import java.util.List;
  */
 public class TerminatorData extends FullLCMessage
 {
-    private static final int[] DESTINATION_LLID = new int[]{16, 17, 18, 19, 20, 21, 22, 23, 24, 25, 26, 27, 28, 29, 30,
-        31, 32, 33, 34, 35, 36, 37, 38, 39};
-    private static final int[] SOURCE_LLID = new int[]{40, 41, 42, 43, 44, 45, 46, 47, 48, 49, 50, 51, 52, 53, 54, 55,
-        56, 57, 58, 59, 60, 61, 62, 63};
+    private static final BinaryField DESTINATION_LLID = BinaryField.range(16, 39);
+    private static final BinaryField SOURCE_LLID = BinaryField.range(40, 63);
     private static final int GROUP_INDIVIDUAL_FLAG = 64;
     private static final int RESPONSE_REQUESTED = 65;
     private static final int FULL_MESSAGE_FLAG = 66;
     private static final int RESYNC_FLAG = 68;
-    private static final int[] SEND_SEQUENCE_NUMBER = new int[]{69, 70, 71};
+    private static final BinaryField SEND_SEQUENCE_NUMBER = BinaryField.range(69, 71);
 
     private RadioIdentifier mSourceLLID;
     private IntegerIdentifier mDestinationLLID;
@@ -19,6 +19,7 @@
 
 package io.github.dsheirer.module.decode.dmr.message.data.lc.full;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.identifier.radio.RadioIdentifier;
@@ -34,10 +35,8 @@ import java.util.List;
  */
 public class UnitToUnitVoiceChannelUser extends AbstractVoiceChannelUser
 {
-    private static final int[] TARGET_ADDRESS = new int[]{24, 25, 26, 27, 28, 29, 30, 31, 32, 33, 34, 35, 36, 37, 38, 39,
-        40, 41, 42, 43, 44, 45, 46, 47};
-    private static final int[] SOURCE_ADDRESS = new int[]{48, 49, 50, 51, 52, 53, 54, 55, 56, 57, 58, 59, 60, 61, 62,
-        63, 64, 65, 66, 67, 68, 69, 70, 71};
+    private static final BinaryField TARGET_ADDRESS = BinaryField.range(24, 47);
+    private static final BinaryField SOURCE_ADDRESS = BinaryField.range(48, 71);
 
     private RadioIdentifier mSourceRadio;
     private RadioIdentifier mTargetRadio;
@@ -19,6 +19,7 @@
 
 package io.github.dsheirer.module.decode.dmr.message.data.lc.full.hytera;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
 import io.github.dsheirer.identifier.radio.RadioIdentifier;
 import io.github.dsheirer.module.decode.dmr.identifier.DMRRadio;
@@ -30,14 +31,14 @@ import io.github.dsheirer.module.decode.dmr.message.type.ServiceOptions;
  */
 public abstract class HyteraFullLC extends FullLCMessage
 {
-    private static final int[] SERVICE_OPTIONS = new int[]{16, 17, 18, 19, 20, 21, 22, 23};
-    private static final int[] FREE_REPEATER = new int[]{24, 25, 26, 27};
-    private static final int[] PRIORITY_REPEATER = new int[]{28, 29, 30, 31};
-    protected static final int[] TARGET_ADDRESS = new int[]{32, 33, 34, 35, 36, 37, 38, 39, 40, 41, 42, 43, 44, 45, 46, 47};
-    private static final int[] PRIORITY_CALL_HASHED_ADDRESS = new int[]{48, 49, 50, 51, 52, 53, 54, 55};
-    private static final int[] SOURCE_ADDRESS = new int[]{56, 57, 58, 59, 60, 61, 62, 63, 64, 65, 66, 67, 68, 69, 70, 71};
-    private static final int[] UNKNOWN_1 = new int[]{72, 73, 74, 75};
-    private static final int[] UNKNOWN_2 = new int[]{76, 77, 78, 79};
+    private static final BinaryField SERVICE_OPTIONS = BinaryField.range(16, 23);
+    private static final BinaryField FREE_REPEATER = BinaryField.range(24, 27);
+    private static final BinaryField PRIORITY_REPEATER = BinaryField.range(28, 31);
+    protected static final BinaryField TARGET_ADDRESS = BinaryField.range(32, 47);
+    private static final BinaryField PRIORITY_CALL_HASHED_ADDRESS = BinaryField.range(48, 55);
+    private static final BinaryField SOURCE_ADDRESS = BinaryField.range(56, 71);
+    private static final BinaryField UNKNOWN_1 = BinaryField.range(72, 75);
+    private static final BinaryField UNKNOWN_2 = BinaryField.range(76, 79);
 
     private ServiceOptions mServiceOptions;
     private RadioIdentifier mSourceRadio;
@@ -19,6 +19,7 @@
 
 package io.github.dsheirer.module.decode.dmr.message.data.lc.full.motorola;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.identifier.radio.RadioIdentifier;
@@ -38,11 +39,11 @@ import java.util.List;
  */
 public class CapacityPlusGroupVoiceChannelUser extends AbstractVoiceChannelUser implements ITimeslotFrequencyReceiver
 {
-    private static final int[] GROUP_ADDRESS = new int[]{40, 41, 42, 43, 44, 45, 46, 47};
-    private static final int[] VOICE_CHANNEL_REPEATER = new int[]{51, 52, 53, 54};
-    private static final int[] VOICE_CHANNEL_TIMESLOT = new int[]{55};
-    private static final int[] SOURCE_ADDRESS = new int[]{56, 57, 58, 59, 60, 61, 62, 63, 64, 65, 66, 67, 68, 69, 70, 71};
-    private static final int[] UNKNOWN = new int[]{72, 73, 74, 75, 76, 77, 78, 79};
+    private static final BinaryField GROUP_ADDRESS = BinaryField.range(40, 47);
+    private static final BinaryField VOICE_CHANNEL_REPEATER = BinaryField.range(51, 54);
+    private static final BinaryField VOICE_CHANNEL_TIMESLOT = BinaryField.range(55, 55);
+    private static final BinaryField SOURCE_ADDRESS = BinaryField.range(56, 71);
+    private static final BinaryField UNKNOWN = BinaryField.range(72, 79);
 
     private RadioIdentifier mRadio;
     private TalkgroupIdentifier mTalkgroup;
@@ -19,6 +19,7 @@
 
 package io.github.dsheirer.module.decode.dmr.message.data.lc.shorty;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.module.decode.dmr.message.type.Activity;
@@ -31,10 +32,10 @@ import java.util.List;
  */
 public class ActivityUpdateMessage extends ShortLCMessage
 {
-    private static final int[] TIMESLOT_1_ACTIVITY = new int[]{4, 5, 6, 7};
-    private static final int[] TIMESLOT_2_ACTIVITY = new int[]{8, 9, 10, 11};
-    private static final int[] TIMESLOT_1_HASH_ADDRESS = new int[]{12, 13, 14, 15, 16, 17, 18, 19};
-    private static final int[] TIMESLOT_2_HASH_ADDRESS = new int[]{20, 21, 22, 23, 24, 25, 26, 27};
+    private static final BinaryField TIMESLOT_1_ACTIVITY = BinaryField.range(4, 7);
+    private static final BinaryField TIMESLOT_2_ACTIVITY = BinaryField.range(8, 11);
+    private static final BinaryField TIMESLOT_1_HASH_ADDRESS = BinaryField.range(12, 19);
+    private static final BinaryField TIMESLOT_2_HASH_ADDRESS = BinaryField.range(20, 27);
 
     /**
      * Constructs an instance
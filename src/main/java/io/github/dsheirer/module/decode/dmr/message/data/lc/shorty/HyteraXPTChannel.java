@@ -19,6 +19,7 @@
 
 package io.github.dsheirer.module.decode.dmr.message.data.lc.shorty;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
 import io.github.dsheirer.identifier.Identifier;
 
@@ -30,9 +31,9 @@ import java.util.List;
  */
 public class HyteraXPTChannel extends ShortLCMessage
 {
-    private static final int[] FREE_REPEATER = new int[]{12, 13, 14, 15};
-    private static final int[] PRIORITY_CALL_REPEATER = new int[]{16, 17, 18, 19};
-    private static final int[] PRIORITY_CALL_HASHED_ADDRESS = new int[]{20, 21, 22, 23, 24, 25, 26, 27};
+    private static final BinaryField FREE_REPEATER = BinaryField.range(12, 15);
+    private static final BinaryField PRIORITY_CALL_REPEATER = BinaryField.range(16, 19);
+    private static final BinaryField PRIORITY_CALL_HASHED_ADDRESS = BinaryField.range(20, 27);
 
     /**
      * Constructs an instance
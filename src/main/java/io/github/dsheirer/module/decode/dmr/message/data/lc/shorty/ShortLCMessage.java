@@ -18,6 +18,7 @@
  */
 package io.github.dsheirer.module.decode.dmr.message.data.lc.shorty;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.BinaryMessage;
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
 import io.github.dsheirer.message.IMessage;
@@ -31,10 +32,10 @@ import io.github.dsheirer.module.decode.dmr.message.type.Vendor;
 public abstract class ShortLCMessage extends LCMessage implements IMessage
 {
     protected static final int VENDOR_FLAG = 0;
-    protected static final int[] OPCODE = new int[]{0, 1, 2, 3};
+    protected static final BinaryField OPCODE = BinaryField.range(0, 3);
 
     //Note: it is possible that vendor (ie feature ID) is present when the opcode is >= 8, meaning bit 0 is the vendor flag.
-    protected static final int[] VENDOR = new int[]{4, 5, 6, 7, 8, 9, 10, 11};
+    protected static final BinaryField VENDOR = BinaryField.range(4, 11);
 
     /**
      * Constructs an instance
@@ -19,6 +19,7 @@
 
 package io.github.dsheirer.module.decode.dmr.message.data.lc.shorty;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.module.decode.dmr.message.type.SystemIdentityCode;
@@ -33,7 +34,7 @@ public class TrafficChannelSystemParameters extends ShortLCMessage
 {
     private static final int SYSTEM_IDENTITY_CODE_OFFSET = 4;
     private static final int REGISTRATION_REQUIRED_FLAG = 18;
-    private static final int[] COMMON_SLOT_COUNTER = new int[]{19, 20, 21, 22, 23, 24, 25, 26, 27};
+    private static final BinaryField COMMON_SLOT_COUNTER = BinaryField.range(19, 27);
 
     private SystemIdentityCode mSystemIdentityCode;
     private List<Identifier> mIdentifiers;
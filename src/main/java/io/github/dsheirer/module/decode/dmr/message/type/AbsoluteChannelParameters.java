@@ -19,6 +19,7 @@
 
 package io.github.dsheirer.module.decode.dmr.message.type;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
 import io.github.dsheirer.module.decode.dmr.channel.DMRAbsoluteChannel;
 
@@ -31,16 +32,16 @@ public class AbsoluteChannelParameters extends AbstractStructure
 {
     private static final int LAST_BLOCK_FLAG = 0;
     private static final int ENCRYPTION_FLAG = 1;
-    private static final int[] OPCODE = new int[]{2, 3, 4, 5, 6, 7};
-    private static final int[] COLOR_CODE = new int[]{12, 13, 14, 15};
+    private static final BinaryField OPCODE = BinaryField.range(2, 7);
+    private static final BinaryField COLOR_CODE = BinaryField.range(12, 15);
 
     //Note: the ICD only defines a value of 0 for this field, so it's currently unused.
     private static final int[] CDEF_TYPE = new int[]{16, 17, 18, 19};
-    private static final int[] LCN = new int[]{22, 23, 24, 25, 26, 27, 28, 29, 30, 31, 32, 33};
-    private static final int[] UPLINK_FREQUENCY_MHZ = new int[]{34, 35, 36, 37, 38, 39, 40, 41, 42, 43};
-    private static final int[] UPLINK_FREQUENCY_125_HZ = new int[]{44, 45, 46, 47, 48, 49, 50, 51, 52, 53, 54, 55, 56};
-    private static final int[] DOWNLINK_FREQUENCY_MHZ = new int[]{57, 58, 59, 60, 61, 62, 63, 64, 65, 66};
-    private static final int[] DOWNLINK_FREQUENCY_125_HZ = new int[]{67, 68, 69, 70, 71, 72, 73, 74, 75, 76, 77, 78, 79};
+    private static final BinaryField LCN = BinaryField.range(22, 33);
+    private static final BinaryField UPLINK_FREQUENCY_MHZ = BinaryField.range(34, 43);
+    private static final BinaryField UPLINK_FREQUENCY_125_HZ = BinaryField.range(44, 56);
+    private static final BinaryField DOWNLINK_FREQUENCY_MHZ = BinaryField.range(57, 66);
+    private static final BinaryField DOWNLINK_FREQUENCY_125_HZ = BinaryField.range(67, 79);
 
     private DMRAbsoluteChannel mChannel;
     private int mTimeslot;
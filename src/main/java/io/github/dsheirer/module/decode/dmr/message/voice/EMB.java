@@ -19,6 +19,7 @@
 
 package io.github.dsheirer.module.decode.dmr.message.voice;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
 import io.github.dsheirer.module.decode.dmr.message.type.LCSS;
 import org.slf4j.Logger;
@@ -55,9 +56,9 @@ public class EMB
     }
 
     private static final int[] WORD = new int[]{0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15};
-    private static final int[] COLOR_CODE = new int[]{0, 1, 2, 3};
+    private static final BinaryField COLOR_CODE = BinaryField.range(0, 3);
     private static final int ENCRYPTION_PI = 4;
-    private static final int[] LINK_CONTROL_START_STOP = new int[]{5, 6};
+    private static final BinaryField LINK_CONTROL_START_STOP = BinaryField.range(5, 6);
 
     private CorrectedBinaryMessage mMessage;
     private boolean mValid = true;
@@ -27,7 +27,8 @@ import io.github.dsheirer.dsp.filter.decimate.DecimationFilterFactory;
 import io.github.dsheirer.dsp.filter.decimate.IComplexDecimationFilter;
 import io.github.dsheirer.dsp.filter.design.FilterDesignException;
 import io.github.dsheirer.dsp.filter.fir.FIRFilterSpecification;
-import io.github.dsheirer.dsp.filter.fir.complex.ComplexFIRFilter2;
+import io.github.dsheirer.dsp.filter.fir.complex.ComplexFIRFilterFactory;
+import io.github.dsheirer.dsp.filter.fir.complex.IComplexFIRFilter;
 import io.github.dsheirer.dsp.filter.resample.RealResampler;
 import io.github.dsheirer.dsp.fm.SquelchingFMDemodulator;
 import io.github.dsheirer.module.decode.DecoderType;
@@ -56,7 +57,7 @@ public class NBFMDecoder extends PrimaryDecoder implements ISourceEventListener,
 	private static final double POWER_SQUELCH_THRESHOLD_DB = -78.0;
 	private static final int POWER_SQUELCH_RAMP = 4;
 
-	private ComplexFIRFilter2 mIQFilter;
+	private IComplexFIRFilter mIQFilter;
 	private IComplexDecimationFilter mDecimationFilter;
 	private SquelchingFMDemodulator mDemodulator = new SquelchingFMDemodulator(POWER_SQUELCH_ALPHA_DECAY,
 			POWER_SQUELCH_THRESHOLD_DB, POWER_SQUELCH_RAMP);
@@ -338,7 +339,15 @@ public class NBFMDecoder extends PrimaryDecoder implements ISourceEventListener,
 							Window.WindowType.HAMMING, true);
 				}
 
-				mIQFilter = new ComplexFIRFilter2(filterTaps);
+				//The IQ filter processes the decimated channel buffers
+				int blockSize = ComplexFIRFilterFactory.DEFAULT_BLOCK_SIZE;
+
+				if(decimationRate > 0)
+				{
+					blockSize /= decimationRate;
+				}
+
+				mIQFilter = ComplexFIRFilterFactory.getFilter(filterTaps, blockSize);
 
 				mResampler = new RealResampler(decimatedSampleRate, mOutputSampleRate, 2000, 1000);
 
@@ -20,10 +20,10 @@ package io.github.dsheirer.module.decode.p25.phase1;
 
 import io.github.dsheirer.dsp.squelch.PowerMonitor;
 import io.github.dsheirer.dsp.symbol.Dibit;
+import io.github.dsheirer.dsp.symbol.DibitBroadcaster;
 import io.github.dsheirer.dsp.symbol.DibitToByteBufferAssembler;
 import io.github.dsheirer.module.decode.DecoderType;
 import io.github.dsheirer.module.decode.FeedbackDecoder;
-import io.github.dsheirer.sample.Broadcaster;
 import io.github.dsheirer.sample.Listener;
 import io.github.dsheirer.sample.buffer.IReusableByteBufferProvider;
 import io.github.dsheirer.sample.buffer.IReusableComplexBufferListener;
@@ -37,7 +37,7 @@ public abstract class P25P1Decoder extends FeedbackDecoder implements ISourceEve
     IReusableComplexBufferListener, Listener<ReusableComplexBuffer>, IReusableByteBufferProvider
 {
     private double mSampleRate;
-    private Broadcaster<Dibit> mDibitBroadcaster = new Broadcaster<>();
+    private DibitBroadcaster mDibitBroadcaster = new DibitBroadcaster();
     private DibitToByteBufferAssembler mByteBufferAssembler = new DibitToByteBufferAssembler(300);
     private P25P1MessageProcessor mMessageProcessor;
     private Listener<SourceEvent> mSourceEventListener;
@@ -69,7 +69,7 @@ public abstract class P25P1Decoder extends FeedbackDecoder implements ISourceEve
     /**
      * Assembler for packaging Dibit stream into reusable byte buffers.
      */
-    protected Broadcaster<Dibit> getDibitBroadcaster()
+    protected DibitBroadcaster getDibitBroadcaster()
     {
         return mDibitBroadcaster;
     }
@@ -23,7 +23,8 @@ package io.github.dsheirer.module.decode.p25.phase1;
 
 import io.github.dsheirer.dsp.filter.FilterFactory;
 import io.github.dsheirer.dsp.filter.Window.WindowType;
-import io.github.dsheirer.dsp.filter.fir.complex.ComplexFIRFilter2;
+import io.github.dsheirer.dsp.filter.fir.complex.ComplexFIRFilterFactory;
+import io.github.dsheirer.dsp.filter.fir.complex.IComplexFIRFilter;
 import io.github.dsheirer.dsp.gain.ComplexFeedForwardGainControl;
 import io.github.dsheirer.dsp.psk.DQPSKGardnerDemodulator;
 import io.github.dsheirer.dsp.psk.InterpolatingSampleBuffer;
@@ -42,8 +43,6 @@ import org.slf4j.LoggerFactory;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
-import java.util.HashMap;
-import java.util.Map;
 
 public class P25P1DecoderLSM extends P25P1Decoder
 {
@@ -51,8 +50,7 @@ public class P25P1DecoderLSM extends P25P1Decoder
 
     protected static final float SAMPLE_COUNTER_GAIN = 0.3f;
 
-    private Map<Double,float[]> mBasebandFilters = new HashMap<>();
-    private ComplexFIRFilter2 mBasebandFilter;
+    private IComplexFIRFilter mBasebandFilter;
     private ComplexFeedForwardGainControl mAGC = new ComplexFeedForwardGainControl(32);
     protected DQPSKGardnerDemodulator mQPSKDemodulator;
     protected P25P1MessageFramer mMessageFramer;
@@ -79,7 +77,7 @@ public class P25P1DecoderLSM extends P25P1Decoder
     {
         super.setSampleRate(sampleRate);
 
-        mBasebandFilter = new ComplexFIRFilter2(getBasebandFilter());
+        mBasebandFilter = ComplexFIRFilterFactory.getFilter(getBasebandFilter());
 
         mCostasLoop = new CostasLoop(getSampleRate(), getSymbolRate());
         mCostasLoop.setPLLBandwidth(PLLBandwidth.BW_200);
@@ -181,18 +179,8 @@ public class P25P1DecoderLSM extends P25P1Decoder
      */
     private float[] getBasebandFilter()
     {
-        //Attempt to reuse a cached (ie already-designed) filter if available
-        float[] filter = mBasebandFilters.get(getSampleRate());
-
-        if(filter == null)
-        {
-            filter = FilterFactory.getLowPass(getSampleRate(), 7250, 8000, 60,
-                WindowType.HANN, true);
-
-            mBasebandFilters.put(getSampleRate(), filter);
-        }
-
-        return filter;
+        //Windowed designs are inexpensive - design the filter each time rather than caching it per instance
+        return FilterFactory.getLowPass(getSampleRate(), 7250, 8000, 60, WindowType.HANN, true);
     }
 
     public static void main(String[] args)
@@ -121,7 +121,8 @@ public class P25P1Interleave
     /**
      * Deinterleaves the message bits between start and end and returns them in a new message
      * @param pattern to use for deinterleaving
-     * @param interleaved bitset from the original message
+     * @param interleaved bitset from the original message.  Soft bit values are also deinterleaved when this is a
+     * corrected binary message that carries soft bits.
      * @return binary message with length equal to the pattern size
      */
     public static CorrectedBinaryMessage deinterleaveChunk(int[] pattern, BitSet interleaved)
@@ -137,6 +138,24 @@ public class P25P1Interleave
             deinterleaved.set(pattern[i]);
         }
 
+        /* Carry any soft bit values through the deinterleave */
+        if(interleaved instanceof CorrectedBinaryMessage)
+        {
+            float[] softBits = ((CorrectedBinaryMessage)interleaved).getSoftBits();
+
+            if(softBits != null && softBits.length >= pattern.length)
+            {
+                float[] deinterleavedSoftBits = new float[pattern.length];
+
+                for(int i = 0; i < pattern.length; i++)
+                {
+                    deinterleavedSoftBits[pattern[i]] = softBits[i];
+                }
+
+                deinterleaved.setSoftBits(deinterleavedSoftBits);
+            }
+        }
+
         return deinterleaved;
     }
 
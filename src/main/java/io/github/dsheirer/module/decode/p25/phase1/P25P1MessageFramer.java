@@ -28,6 +28,7 @@ import io.github.dsheirer.bits.CorrectedBinaryMessage;
 import io.github.dsheirer.controller.channel.Channel;
 import io.github.dsheirer.dsp.psk.pll.IPhaseLockedLoop;
 import io.github.dsheirer.dsp.symbol.Dibit;
+import io.github.dsheirer.dsp.symbol.ISoftDibitBatchListener;
 import io.github.dsheirer.dsp.symbol.ISyncDetectListener;
 import io.github.dsheirer.message.IMessage;
 import io.github.dsheirer.message.Message;
@@ -64,13 +65,14 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
 import java.util.function.Consumer;
 
 /**
  * P25 Sync Detector and Message Framer.  Includes capability to detect PLL out-of-phase lock errors
  * and issue phase corrections.
  */
-public class P25P1MessageFramer implements Listener<Dibit>, IP25P1DataUnitDetectListener
+public class P25P1MessageFramer implements Listener<Dibit>, ISoftDibitBatchListener, IP25P1DataUnitDetectListener
 {
     private final static Logger mLog = LoggerFactory.getLogger(P25P1MessageFramer.class);
 
@@ -79,6 +81,8 @@ public class P25P1MessageFramer implements Listener<Dibit>, IP25P1DataUnitDetect
     private Listener<Message> mMessageListener;
     private boolean mAssemblingMessage = false;
     private CorrectedBinaryMessage mBinaryMessage;
+    private float[] mSoftBits = new float[0];
+    private boolean mSoftBitsReceived;
     private P25P1DataUnitID mDataUnitID;
     private PDUSequence mPDUSequence;
     private int[] mCorrectedNID;
@@ -173,6 +177,22 @@ public class P25P1MessageFramer implements Listener<Dibit>, IP25P1DataUnitDetect
      */
     @Override
     public void receive(Dibit dibit)
+    {
+        receive(dibit, HARD_DECISION_RELIABILITY, HARD_DECISION_RELIABILITY, false);
+    }
+
+    /**
+     * Processes the dibit and the soft reliability values for each of the dibit's bits.  Soft bit values are captured
+     * for each message bit and attached to the message when it is dispatched, but only when at least one of the
+     * message's dibits was received with demodulator soft values.  Messages assembled only from hard decisions are
+     * dispatched without soft bits, so that the error correction doesn't treat the placeholder values as reliability.
+     *
+     * @param dibit to process
+     * @param bit1Reliability soft value for the first dibit bit
+     * @param bit2Reliability soft value for the second dibit bit
+     * @param soft true if the reliability values are from the demodulator or false for hard decision placeholders
+     */
+    private void receive(Dibit dibit, float bit1Reliability, float bit2Reliability, boolean soft)
     {
         if(mAssemblingMessage)
         {
@@ -193,6 +213,21 @@ public class P25P1MessageFramer implements Listener<Dibit>, IP25P1DataUnitDetect
 
             try
             {
+                if(mSoftBits.length < mBinaryMessage.size())
+                {
+                    mSoftBits = new float[mBinaryMessage.size()];
+                }
+
+                int pointer = mBinaryMessage.pointer();
+
+                if(pointer + 1 < mSoftBits.length)
+                {
+                    mSoftBits[pointer] = bit1Reliability;
+                    mSoftBits[pointer + 1] = bit2Reliability;
+                }
+
+                mSoftBitsReceived |= soft;
+
                 mBinaryMessage.add(dibit.getBit1());
                 mBinaryMessage.add(dibit.getBit2());
                 
@@ -229,10 +264,52 @@ public class P25P1MessageFramer implements Listener<Dibit>, IP25P1DataUnitDetect
         }
     }
 
+    /**
+     * Primary method for streaming batches of decoded dibit symbols.
+     *
+     * @param dibits array of dibit values (0-3)
+     * @param offset to the first dibit
+     * @param length number of dibits
+     */
+    @Override
+    public void receive(byte[] dibits, int offset, int length)
+    {
+        for(int x = offset; x < offset + length; x++)
+        {
+            receive(Dibit.fromValue(dibits[x]));
+        }
+    }
+
+    /**
+     * Primary method for streaming batches of decoded dibit symbols with soft bit values.
+     *
+     * @param dibits array of dibit values (0-3)
+     * @param softBits array of soft bit values, two per dibit
+     * @param offset to the first dibit
+     * @param length number of dibits
+     */
+    @Override
+    public void receive(byte[] dibits, float[] softBits, int offset, int length)
+    {
+        for(int x = offset; x < offset + length; x++)
+        {
+            receive(Dibit.fromValue(dibits[x]), softBits[x * 2], softBits[x * 2 + 1], true);
+        }
+    }
+
     private void dispatchMessage()
     {
         if(mMessageListener != null)
         {
+            //Attach the soft bit values so that the message error detection and correction can use them
+            if(mSoftBitsReceived)
+            {
+                mBinaryMessage.setSoftBits(Arrays.copyOf(mSoftBits, mBinaryMessage.size()));
+            }
+
+            //Any continuation (PDU block) message assembled next starts without soft values
+            mSoftBitsReceived = false;
+
             switch(mDataUnitID)
             {
                 case PACKET_HEADER_DATA_UNIT:
@@ -416,6 +493,7 @@ public class P25P1MessageFramer implements Listener<Dibit>, IP25P1DataUnitDetect
         mCorrectedNID = correctedNid;
         mBinaryMessage = new CorrectedBinaryMessage(dataUnitID.getMessageLength());
         mBinaryMessage.incrementCorrectedBitCount(bitErrors);
+        mSoftBitsReceived = false;
 
         mAssemblingMessage = true;
         mStatusSymbolDibitCounter = 21;
@@ -21,6 +21,7 @@
  */
 package io.github.dsheirer.module.decode.p25.phase1.message.hdu;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.BinaryMessage;
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
 import io.github.dsheirer.edac.Golay18;
@@ -40,42 +41,42 @@ public class HDUMessage extends P25Message
     private static final int[] GOLAY_WORD_STARTS = {0, 18, 36, 54, 72, 90, 108, 126, 144, 162, 180, 198, 216, 234, 252,
         270, 288, 306, 324, 342, 360, 278, 396, 414, 432, 450, 468, 486, 504, 522, 540, 558, 576, 594, 612, 630};
 
-    private static final int[] CW_HEX_0 = {0, 1, 2, 3, 4, 5, 6};
-    private static final int[] CW_HEX_1 = {18, 19, 20, 21, 22, 23};
-    private static final int[] CW_HEX_2 = {36, 37, 38, 39, 40, 41};
-    private static final int[] CW_HEX_3 = {54, 55, 56, 57, 58, 59};
-    private static final int[] CW_HEX_4 = {72, 73, 74, 75, 76, 77};
-    private static final int[] CW_HEX_5 = {90, 91, 92, 93, 94, 95};
-    private static final int[] CW_HEX_6 = {108, 109, 110, 111, 112, 113};
-    private static final int[] CW_HEX_7 = {126, 127, 128, 129, 130, 131};
-    private static final int[] CW_HEX_8 = {144, 145, 146, 147, 148, 149};
-    private static final int[] CW_HEX_9 = {162, 163, 164, 165, 166, 167};
-    private static final int[] CW_HEX_10 = {180, 181, 182, 183, 184, 185};
-    private static final int[] CW_HEX_11 = {198, 199, 200, 201, 202, 203};
-    private static final int[] CW_HEX_12 = {216, 217, 218, 219, 220, 221};
-    private static final int[] CW_HEX_13 = {234, 235, 236, 237, 238, 239};
-    private static final int[] CW_HEX_14 = {252, 253, 254, 255, 256, 257};
-    private static final int[] CW_HEX_15 = {270, 271, 272, 273, 274, 275};
-    private static final int[] CW_HEX_16 = {288, 289, 290, 291, 292, 293};
-    private static final int[] CW_HEX_17 = {306, 307, 308, 309, 310, 311};
-    private static final int[] CW_HEX_18 = {324, 325, 326, 327, 328, 329};
-    private static final int[] CW_HEX_19 = {342, 343, 344, 345, 346, 347};
-    private static final int[] RS_HEX_0 = {360, 361, 362, 363, 364, 365};
-    private static final int[] RS_HEX_1 = {378, 379, 380, 381, 382, 383};
-    private static final int[] RS_HEX_2 = {396, 397, 398, 399, 400, 401};
-    private static final int[] RS_HEX_3 = {414, 415, 416, 417, 418, 419};
-    private static final int[] RS_HEX_4 = {432, 433, 434, 435, 436, 437};
-    private static final int[] RS_HEX_5 = {450, 451, 452, 453, 454, 455};
-    private static final int[] RS_HEX_6 = {468, 469, 470, 471, 472, 473};
-    private static final int[] RS_HEX_7 = {486, 487, 488, 489, 490, 491};
-    private static final int[] RS_HEX_8 = {504, 505, 506, 507, 508, 509};
-    private static final int[] RS_HEX_9 = {522, 523, 524, 525, 526, 527};
-    private static final int[] RS_HEX_10 = {540, 541, 542, 543, 544, 545};
-    private static final int[] RS_HEX_11 = {558, 559, 560, 561, 562, 563};
-    private static final int[] RS_HEX_12 = {576, 577, 578, 579, 580, 581};
-    private static final int[] RS_HEX_13 = {594, 595, 596, 597, 598, 599};
-    private static final int[] RS_HEX_14 = {612, 613, 614, 615, 616, 617};
-    private static final int[] RS_HEX_15 = {630, 631, 632, 633, 634, 635};
+    private static final BinaryField CW_HEX_0 = BinaryField.range(0, 6);
+    private static final BinaryField CW_HEX_1 = BinaryField.range(18, 23);
+    private static final BinaryField CW_HEX_2 = BinaryField.range(36, 41);
+    private static final BinaryField CW_HEX_3 = BinaryField.range(54, 59);
+    private static final BinaryField CW_HEX_4 = BinaryField.range(72, 77);
+    private static final BinaryField CW_HEX_5 = BinaryField.range(90, 95);
+    private static final BinaryField CW_HEX_6 = BinaryField.range(108, 113);
+    private static final BinaryField CW_HEX_7 = BinaryField.range(126, 131);
+    private static final BinaryField CW_HEX_8 = BinaryField.range(144, 149);
+    private static final BinaryField CW_HEX_9 = BinaryField.range(162, 167);
+    private static final BinaryField CW_HEX_10 = BinaryField.range(180, 185);
+    private static final BinaryField CW_HEX_11 = BinaryField.range(198, 203);
+    private static final BinaryField CW_HEX_12 = BinaryField.range(216, 221);
+    private static final BinaryField CW_HEX_13 = BinaryField.range(234, 239);
+    private static final BinaryField CW_HEX_14 = BinaryField.range(252, 257);
+    private static final BinaryField CW_HEX_15 = BinaryField.range(270, 275);
+    private static final BinaryField CW_HEX_16 = BinaryField.range(288, 293);
+    private static final BinaryField CW_HEX_17 = BinaryField.range(306, 311);
+    private static final BinaryField CW_HEX_18 = BinaryField.range(324, 329);
+    private static final BinaryField CW_HEX_19 = BinaryField.range(342, 347);
+    private static final BinaryField RS_HEX_0 = BinaryField.range(360, 365);
+    private static final BinaryField RS_HEX_1 = BinaryField.range(378, 383);
+    private static final BinaryField RS_HEX_2 = BinaryField.range(396, 401);
+    private static final BinaryField RS_HEX_3 = BinaryField.range(414, 419);
+    private static final BinaryField RS_HEX_4 = BinaryField.range(432, 437);
+    private static final BinaryField RS_HEX_5 = BinaryField.range(450, 455);
+    private static final BinaryField RS_HEX_6 = BinaryField.range(468, 473);
+    private static final BinaryField RS_HEX_7 = BinaryField.range(486, 491);
+    private static final BinaryField RS_HEX_8 = BinaryField.range(504, 509);
+    private static final BinaryField RS_HEX_9 = BinaryField.range(522, 527);
+    private static final BinaryField RS_HEX_10 = BinaryField.range(540, 545);
+    private static final BinaryField RS_HEX_11 = BinaryField.range(558, 563);
+    private static final BinaryField RS_HEX_12 = BinaryField.range(576, 581);
+    private static final BinaryField RS_HEX_13 = BinaryField.range(594, 599);
+    private static final BinaryField RS_HEX_14 = BinaryField.range(612, 617);
+    private static final BinaryField RS_HEX_15 = BinaryField.range(630, 635);
 
     private static final ReedSolomon_63_47_17_P25 reedSolomon_63_47_17 = new ReedSolomon_63_47_17_P25();
 
@@ -22,6 +22,7 @@
 
 package io.github.dsheirer.module.decode.p25.phase1.message.hdu;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.BinaryMessage;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.identifier.encryption.EncryptionKeyIdentifier;
@@ -38,14 +39,12 @@ import java.util.List;
  */
 public class HeaderData
 {
-    private static final int[] MESSAGE_INDICATOR_A = {0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18,
-        19, 20, 21, 22, 23, 24, 25, 26, 27, 28, 29, 30, 31, 32, 33, 34, 35};
-    private static final int[] MESSAGE_INDICATOR_B = {36, 37, 38, 39, 40, 41, 42, 43, 44, 45, 46, 47, 48, 49, 50, 51,
-        52, 53, 54, 55, 56, 57, 58, 59, 60, 61, 62, 63, 64, 65, 66, 67, 68, 69, 70, 71};
-    private static final int[] VENDOR_ID = {72, 73, 74, 75, 76, 77, 78, 79};
-    private static final int[] ALGORITHM_ID = {80, 81, 82, 83, 84, 85, 86, 87};
-    private static final int[] KEY_ID = {88, 89, 90, 91, 92, 93, 94, 95, 96, 97, 98, 99, 100, 101, 102, 103};
-    private static final int[] TALKGROUP_ID = {104, 105, 106, 107, 108, 109, 110, 111, 112, 113, 114, 115, 116, 117, 118, 119};
+    private static final BinaryField MESSAGE_INDICATOR_A = BinaryField.range(0, 35);
+    private static final BinaryField MESSAGE_INDICATOR_B = BinaryField.range(36, 71);
+    private static final BinaryField VENDOR_ID = BinaryField.range(72, 79);
+    private static final BinaryField ALGORITHM_ID = BinaryField.range(80, 87);
+    private static final BinaryField KEY_ID = BinaryField.range(88, 103);
+    private static final BinaryField TALKGROUP_ID = BinaryField.range(104, 119);
 
     private boolean mValid = true;
     private BinaryMessage mMessage;
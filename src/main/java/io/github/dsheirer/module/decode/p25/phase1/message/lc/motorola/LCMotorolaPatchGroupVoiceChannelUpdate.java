@@ -22,6 +22,7 @@
 
 package io.github.dsheirer.module.decode.p25.phase1.message.lc.motorola;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.BinaryMessage;
 import io.github.dsheirer.channel.IChannelDescriptor;
 import io.github.dsheirer.identifier.Identifier;
@@ -39,12 +40,12 @@ import java.util.List;
  */
 public class LCMotorolaPatchGroupVoiceChannelUpdate extends MotorolaLinkControlWord implements IFrequencyBandReceiver
 {
-    private static final int[] UNKNOWN_1 = {16, 17, 18, 19, 20, 21, 22, 23};
-    private static final int[] PATCH_GROUP = {24, 25, 26, 27, 28, 29, 30, 31, 32, 33, 34, 35, 36, 37, 38, 39};
-    private static final int[] UNKNOWN_2 = {40, 41, 42, 43, 44, 45, 46, 47};
-    private static final int[] UNKNOWN_3 = {48, 49, 50, 51, 52, 53, 54, 55};
-    private static final int[] FREQUENCY_BAND = {56, 57, 58, 59};
-    private static final int[] CHANNEL_NUMBER = {60, 61, 62, 63, 64, 65, 66, 67, 68, 69, 70, 71};
+    private static final BinaryField UNKNOWN_1 = BinaryField.range(16, 23);
+    private static final BinaryField PATCH_GROUP = BinaryField.range(24, 39);
+    private static final BinaryField UNKNOWN_2 = BinaryField.range(40, 47);
+    private static final BinaryField UNKNOWN_3 = BinaryField.range(48, 55);
+    private static final BinaryField FREQUENCY_BAND = BinaryField.range(56, 59);
+    private static final BinaryField CHANNEL_NUMBER = BinaryField.range(60, 71);
 
     private APCO25PatchGroup mPatchGroup;
     private IChannelDescriptor mChannel;
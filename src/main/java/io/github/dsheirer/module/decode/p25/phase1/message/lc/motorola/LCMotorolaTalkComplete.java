@@ -22,6 +22,7 @@
 
 package io.github.dsheirer.module.decode.p25.phase1.message.lc.motorola;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.BinaryMessage;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.module.decode.p25.identifier.radio.APCO25RadioIdentifier;
@@ -35,10 +36,9 @@ import java.util.List;
  */
 public class LCMotorolaTalkComplete extends LinkControlWord
 {
-    private static final int[] UNKNOWN_FIELD_1 = {16, 17, 18, 19, 20, 21, 22, 23};
-    private static final int[] UNKNOWN_FIELD_2 = {40, 41, 42, 43, 44, 45, 46, 47};
-    private static final int[] ADDRESS = {48, 49, 50, 51, 52, 53, 54, 55, 56, 57, 58, 59, 60, 61, 62, 63, 64, 65, 66,
-        67, 68, 69, 70, 71};
+    private static final BinaryField UNKNOWN_FIELD_1 = BinaryField.range(16, 23);
+    private static final BinaryField UNKNOWN_FIELD_2 = BinaryField.range(40, 47);
+    private static final BinaryField ADDRESS = BinaryField.range(48, 71);
 
     private Identifier mAddress;
     private List<Identifier> mIdentifiers;
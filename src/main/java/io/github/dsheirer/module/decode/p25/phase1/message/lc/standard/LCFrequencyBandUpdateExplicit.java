@@ -22,6 +22,7 @@
 
 package io.github.dsheirer.module.decode.p25.phase1.message.lc.standard;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.BinaryMessage;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.module.decode.p25.phase1.message.IFrequencyBand;
@@ -35,13 +36,12 @@ import java.util.List;
  */
 public class LCFrequencyBandUpdateExplicit extends LinkControlWord implements IFrequencyBand
 {
-    private static final int[] FREQUENCY_BAND_IDENTIFIER = {8, 9, 10, 11};
-    private static final int[] BANDWIDTH = {12, 13, 14, 15};
+    private static final BinaryField FREQUENCY_BAND_IDENTIFIER = BinaryField.range(8, 11);
+    private static final BinaryField BANDWIDTH = BinaryField.range(12, 15);
     private static final int TRANSMIT_OFFSET_SIGN = 16;
-    private static final int[] TRANSMIT_OFFSET = {17, 18, 19, 20, 21, 22, 23, 24, 25, 26, 27, 28, 29};
-    private static final int[] CHANNEL_SPACING = {30, 31, 32, 33, 34, 35, 36, 37, 38, 39};
-    private static final int[] BASE_FREQUENCY = {40, 41, 42, 43, 44, 45, 46, 47, 48, 49, 50, 51, 52, 53, 54, 55, 56, 57,
-            58, 59, 60, 61, 62, 63, 64, 65, 66, 67, 68, 69, 70, 71};
+    private static final BinaryField TRANSMIT_OFFSET = BinaryField.range(17, 29);
+    private static final BinaryField CHANNEL_SPACING = BinaryField.range(30, 39);
+    private static final BinaryField BASE_FREQUENCY = BinaryField.range(40, 71);
 
     /**
      * Constructs a Link Control Word from the binary message sequence.
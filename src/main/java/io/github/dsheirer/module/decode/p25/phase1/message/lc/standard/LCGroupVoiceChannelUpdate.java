@@ -22,6 +22,7 @@
 
 package io.github.dsheirer.module.decode.p25.phase1.message.lc.standard;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.BinaryMessage;
 import io.github.dsheirer.channel.IChannelDescriptor;
 import io.github.dsheirer.identifier.Identifier;
@@ -38,12 +39,12 @@ import java.util.List;
  */
 public class LCGroupVoiceChannelUpdate extends LinkControlWord implements IFrequencyBandReceiver
 {
-    public static final int[] FREQUENCY_BAND_A = {8, 9, 10, 11};
-    public static final int[] CHANNEL_A = {12, 13, 14, 15, 16, 17, 18, 19, 20, 21, 22, 23};
-    public static final int[] GROUP_ADDRESS_A = {24, 25, 26, 27, 28, 29, 30, 31, 32, 33, 34, 35, 36, 37, 38, 39};
-    public static final int[] FREQUENCY_BAND_B = {40, 41, 42, 43};
-    public static final int[] CHANNEL_B = {44, 45, 46, 47, 48, 49, 50, 51, 52, 53, 54, 55};
-    public static final int[] GROUP_ADDRESS_B = {56, 57, 58, 59, 60, 61, 62, 63, 64, 65, 66, 67, 68, 69, 70, 71};
+    public static final BinaryField FREQUENCY_BAND_A = BinaryField.range(8, 11);
+    public static final BinaryField CHANNEL_A = BinaryField.range(12, 23);
+    public static final BinaryField GROUP_ADDRESS_A = BinaryField.range(24, 39);
+    public static final BinaryField FREQUENCY_BAND_B = BinaryField.range(40, 43);
+    public static final BinaryField CHANNEL_B = BinaryField.range(44, 55);
+    public static final BinaryField GROUP_ADDRESS_B = BinaryField.range(56, 71);
 
     private IChannelDescriptor mChannelA;
     private IChannelDescriptor mChannelB;
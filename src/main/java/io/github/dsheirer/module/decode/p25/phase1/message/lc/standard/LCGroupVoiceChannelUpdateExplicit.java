@@ -22,6 +22,7 @@
 
 package io.github.dsheirer.module.decode.p25.phase1.message.lc.standard;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.BinaryMessage;
 import io.github.dsheirer.channel.IChannelDescriptor;
 import io.github.dsheirer.identifier.Identifier;
@@ -39,12 +40,12 @@ import java.util.List;
  */
 public class LCGroupVoiceChannelUpdateExplicit extends LinkControlWord implements IFrequencyBandReceiver
 {
-    public static final int[] SERVICE_OPTIONS = {16, 17, 18, 19, 20, 21, 22, 23};
-    public static final int[] GROUP_ADDRESS = {24, 25, 26, 27, 28, 29, 30, 31, 32, 33, 34, 35, 36, 37, 38, 39};
-    public static final int[] DOWNLINK_FREQUENCY_BAND = {40, 41, 42, 43};
-    public static final int[] DOWNLINK_CHANNEL = {44, 45, 46, 47, 48, 49, 50, 51, 52, 53, 54, 55};
-    public static final int[] UPLINK_FREQUENCY_BAND = {56, 57, 58, 59};
-    public static final int[] UPLINK_CHANNEL = {60, 61, 62, 63, 64, 65, 66, 67, 68, 69, 70, 71};
+    public static final BinaryField SERVICE_OPTIONS = BinaryField.range(16, 23);
+    public static final BinaryField GROUP_ADDRESS = BinaryField.range(24, 39);
+    public static final BinaryField DOWNLINK_FREQUENCY_BAND = BinaryField.range(40, 43);
+    public static final BinaryField DOWNLINK_CHANNEL = BinaryField.range(44, 55);
+    public static final BinaryField UPLINK_FREQUENCY_BAND = BinaryField.range(56, 59);
+    public static final BinaryField UPLINK_CHANNEL = BinaryField.range(60, 71);
 
     private VoiceServiceOptions mVoiceServiceOptions;
     private IChannelDescriptor mChannel;
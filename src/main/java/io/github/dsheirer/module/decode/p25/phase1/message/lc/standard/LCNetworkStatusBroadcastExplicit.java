@@ -20,6 +20,7 @@
 
 package io.github.dsheirer.module.decode.p25.phase1.message.lc.standard;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.BinaryMessage;
 import io.github.dsheirer.channel.IChannelDescriptor;
 import io.github.dsheirer.identifier.Identifier;
@@ -37,12 +38,12 @@ import java.util.List;
  */
 public class LCNetworkStatusBroadcastExplicit extends LinkControlWord implements IFrequencyBandReceiver
 {
-    private static final int[] WACN = {8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20, 21, 22, 23, 24, 25, 26, 27};
-    private static final int[] SYSTEM = {28, 29, 30, 31, 32, 33, 34, 35, 36, 37, 38, 39};
-    private static final int[] DOWNLINK_FREQUENCY_BAND = {40, 41, 42, 43};
-    private static final int[] DOWNLINK_CHANNEL_NUMBER = {44, 45, 46, 47, 48, 49, 50, 51, 52, 53, 54, 55};
-    private static final int[] UPLINK_FREQUENCY_BAND = {56, 57, 58, 59};
-    private static final int[] UPLINK_CHANNEL_NUMBER = {60, 61, 62, 63, 64, 65, 66, 67, 68, 69, 70, 71};
+    private static final BinaryField WACN = BinaryField.range(8, 27);
+    private static final BinaryField SYSTEM = BinaryField.range(28, 39);
+    private static final BinaryField DOWNLINK_FREQUENCY_BAND = BinaryField.range(40, 43);
+    private static final BinaryField DOWNLINK_CHANNEL_NUMBER = BinaryField.range(44, 55);
+    private static final BinaryField UPLINK_FREQUENCY_BAND = BinaryField.range(56, 59);
+    private static final BinaryField UPLINK_CHANNEL_NUMBER = BinaryField.range(60, 71);
 
     private List<Identifier> mIdentifiers;
     private Identifier mWACN;
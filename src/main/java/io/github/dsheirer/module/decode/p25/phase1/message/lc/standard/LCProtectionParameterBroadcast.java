@@ -22,6 +22,7 @@
 
 package io.github.dsheirer.module.decode.p25.phase1.message.lc.standard;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.BinaryMessage;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.identifier.encryption.EncryptionKeyIdentifier;
@@ -38,10 +39,9 @@ import java.util.List;
 public class LCProtectionParameterBroadcast extends LinkControlWord
 {
     private static final int[] RESERVED = {8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20, 21, 22, 23};
-    private static final int[] ALGORITHM_ID = {24, 25, 26, 27, 28, 29, 30, 31};
-    private static final int[] KEY_ID = {32, 33, 34, 35, 36, 37, 38, 39, 40, 41, 42, 43, 44, 45, 46, 47};
-    private static final int[] TARGET_ADDRESS = {48, 49, 50, 51, 52, 53, 54, 55, 56, 57, 58, 59, 60, 61, 62, 63, 64,
-            65, 66, 67, 68, 69, 70, 71};
+    private static final BinaryField ALGORITHM_ID = BinaryField.range(24, 31);
+    private static final BinaryField KEY_ID = BinaryField.range(32, 47);
+    private static final BinaryField TARGET_ADDRESS = BinaryField.range(48, 71);
 
     private Identifier mEncryptionKey;
     private Identifier mTargetAddress;
@@ -20,6 +20,7 @@
 
 package io.github.dsheirer.module.decode.p25.phase1.message.lc.standard;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.BinaryMessage;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.module.decode.p25.phase1.message.lc.LinkControlWord;
@@ -33,11 +34,9 @@ import java.util.List;
  */
 public class LCSystemServiceBroadcast extends LinkControlWord
 {
-    private static final int[] REQUEST_PRIORITY_LEVEL = {20, 21, 22, 23};
-    private static final int[] AVAILABLE_SERVICES = {24, 25, 26, 27, 28, 29, 30, 31, 32, 33, 34, 35, 36, 37, 38, 39, 40, 41, 42, 43, 44,
-            45, 46, 47};
-    private static final int[] SUPPORTED_SERVICES = {48, 49, 50, 51, 52, 53, 54, 55, 56, 57, 58, 59, 60, 61,
-            62, 63, 64, 65, 66, 67, 68, 69, 70, 71};
+    private static final BinaryField REQUEST_PRIORITY_LEVEL = BinaryField.range(20, 23);
+    private static final BinaryField AVAILABLE_SERVICES = BinaryField.range(24, 47);
+    private static final BinaryField SUPPORTED_SERVICES = BinaryField.range(48, 71);
 
     /**
      * Constructs a Link Control Word from the binary message sequence.
@@ -22,6 +22,7 @@
 
 package io.github.dsheirer.module.decode.p25.phase1.message.lc.standard;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.BinaryMessage;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.module.decode.p25.identifier.talkgroup.APCO25Talkgroup;
@@ -37,11 +38,10 @@ import java.util.List;
 public class LCTelephoneInterconnectVoiceChannelUser extends LinkControlWord
 {
     private static final int[] RESERVED_1 = {8, 9, 10, 11, 12, 13, 14, 15};
-    private static final int[] SERVICE_OPTIONS = {16, 17, 18, 19, 20, 21, 22, 23};
+    private static final BinaryField SERVICE_OPTIONS = BinaryField.range(16, 23);
     private static final int[] RESERVED_2 = {24, 25, 26, 27, 28, 29, 30, 31};
-    private static final int[] CALL_TIMER = {32, 33, 34, 35, 36, 37, 38, 39, 40, 41, 42, 43, 44, 45, 46, 47};
-    private static final int[] ADDRESS = {48, 49, 50, 51, 52, 53, 54, 55, 56, 57, 58, 59, 60, 61, 62, 63, 64,
-            65, 66, 67, 68, 69, 70, 71};
+    private static final BinaryField CALL_TIMER = BinaryField.range(32, 47);
+    private static final BinaryField ADDRESS = BinaryField.range(48, 71);
 
     private VoiceServiceOptions mVoiceServiceOptions;
     private Identifier mAddress;
@@ -23,6 +23,7 @@
 package io.github.dsheirer.module.decode.p25.phase1.message.ldu;
 
 import io.github.dsheirer.audio.codec.mbe.IEncryptionSyncParameters;
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.BinaryMessage;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.identifier.encryption.EncryptionKeyIdentifier;
@@ -36,17 +37,17 @@ import java.util.List;
  */
 public class EncryptionSyncParameters implements IEncryptionSyncParameters
 {
-    private static final int[] MESSAGE_INDICATOR_1 = {0, 1, 2, 3, 4, 5, 6, 7};
-    private static final int[] MESSAGE_INDICATOR_2 = {8, 9, 10, 11, 12, 13, 14, 15};
-    private static final int[] MESSAGE_INDICATOR_3 = {16, 17, 18, 19, 20, 21, 22, 23};
-    private static final int[] MESSAGE_INDICATOR_4 = {24, 25, 26, 27, 28, 29, 30, 31};
-    private static final int[] MESSAGE_INDICATOR_5 = {32, 33, 34, 35, 36, 37, 38, 39};
-    private static final int[] MESSAGE_INDICATOR_6 = {40, 41, 42, 43, 44, 45, 46, 47};
-    private static final int[] MESSAGE_INDICATOR_7 = {48, 49, 50, 51, 52, 53, 54, 55};
-    private static final int[] MESSAGE_INDICATOR_8 = {56, 57, 58, 59, 60, 61, 62, 63};
-    private static final int[] MESSAGE_INDICATOR_9 = {64, 65, 66, 67, 68, 69, 70, 71};
-    private static final int[] ALGORITHM_ID = {72, 73, 74, 75, 76, 77, 78, 79};
-    private static final int[] KEY_ID = {80, 81, 82, 83, 84, 85, 86, 87, 88, 89, 90, 91, 92, 93, 94, 95};
+    private static final BinaryField MESSAGE_INDICATOR_1 = BinaryField.range(0, 7);
+    private static final BinaryField MESSAGE_INDICATOR_2 = BinaryField.range(8, 15);
+    private static final BinaryField MESSAGE_INDICATOR_3 = BinaryField.range(16, 23);
+    private static final BinaryField MESSAGE_INDICATOR_4 = BinaryField.range(24, 31);
+    private static final BinaryField MESSAGE_INDICATOR_5 = BinaryField.range(32, 39);
+    private static final BinaryField MESSAGE_INDICATOR_6 = BinaryField.range(40, 47);
+    private static final BinaryField MESSAGE_INDICATOR_7 = BinaryField.range(48, 55);
+    private static final BinaryField MESSAGE_INDICATOR_8 = BinaryField.range(56, 63);
+    private static final BinaryField MESSAGE_INDICATOR_9 = BinaryField.range(64, 71);
+    private static final BinaryField ALGORITHM_ID = BinaryField.range(72, 79);
+    private static final BinaryField KEY_ID = BinaryField.range(80, 95);
 
     private BinaryMessage mMessage;
     private boolean mValid = true;
@@ -20,6 +20,7 @@
 
 package io.github.dsheirer.module.decode.p25.phase1.message.ldu;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
 import io.github.dsheirer.module.decode.p25.phase1.message.P25Message;
 import org.slf4j.Logger;
@@ -42,8 +43,8 @@ public abstract class LDUMessage extends P25Message
     public static final int IMBE_FRAME_8 = 1248;
     public static final int IMBE_FRAME_9 = 1424;
 
-    public static final int[] LOW_SPEED_DATA = {1392, 1393, 1394, 1395, 1396, 1397,
-            1398, 1399, 1408, 1409, 1410, 1411, 1412, 1413, 1414, 1415};
+    public static final BinaryField LOW_SPEED_DATA = BinaryField.of(1392, 1393, 1394, 1395, 1396, 1397,
+            1398, 1399, 1408, 1409, 1410, 1411, 1412, 1413, 1414, 1415);
 
     public LDUMessage(CorrectedBinaryMessage message, int nac, long timestamp)
     {
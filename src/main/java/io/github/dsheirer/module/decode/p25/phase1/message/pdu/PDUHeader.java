@@ -22,6 +22,7 @@
 
 package io.github.dsheirer.module.decode.p25.phase1.message.pdu;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.BinaryMessage;
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
 import io.github.dsheirer.identifier.Identifier;
@@ -42,10 +43,10 @@ public class PDUHeader implements IBitErrorProvider
 
     public static final int CONFIRMATION_REQUIRED_INDICATOR = 1;
     public static final int PACKET_DIRECTION_INDICATOR = 2;
-    public static final int[] PDU_FORMAT = {3, 4, 5, 6, 7};
-    public static final int[] VENDOR_ID = {16, 17, 18, 19, 20, 21, 22, 23};
-    public static final int[] LOGICAL_LINK_ID = {24, 25, 26, 27, 28, 29, 30, 31, 32, 33, 34, 35, 36, 37, 38, 39, 40, 41, 42, 43, 44, 45, 46, 47};
-    public static final int[] BLOCKS_TO_FOLLOW = {49, 50, 51, 52, 53, 54, 55};
+    public static final BinaryField PDU_FORMAT = BinaryField.range(3, 7);
+    public static final BinaryField VENDOR_ID = BinaryField.range(16, 23);
+    public static final BinaryField LOGICAL_LINK_ID = BinaryField.range(24, 47);
+    public static final BinaryField BLOCKS_TO_FOLLOW = BinaryField.range(49, 55);
     public static final int[] PDU_CRC = {80, 81, 82, 83, 84, 85, 86, 87, 88, 89, 90, 91, 92, 93, 94, 95};
 
     protected boolean mValid;
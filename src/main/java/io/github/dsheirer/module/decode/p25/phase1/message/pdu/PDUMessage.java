@@ -21,6 +21,7 @@
  */
 package io.github.dsheirer.module.decode.p25.phase1.message.pdu;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.module.decode.p25.identifier.radio.APCO25RadioIdentifier;
@@ -40,14 +41,13 @@ public class PDUMessage extends P25Message
     public static final int CONFIRMATION_REQUIRED_INDICATOR = 65;
     public static final int PACKET_DIRECTION_INDICATOR = 66;
     public static final int[] FORMAT = {67, 68, 69, 70, 71};
-    public static final int[] SAP_ID = {74, 75, 76, 77, 78, 79};
-    public static final int[] VENDOR_ID = {80, 81, 82, 83, 84, 85, 86, 87};
-    public static final int[] LOGICAL_LINK_ID = {88, 89, 90, 91, 92, 93, 94, 95, 96, 97,
-            98, 99, 100, 101, 102, 103, 104, 105, 106, 107, 108, 109, 110, 111};
-    public static final int[] BLOCKS_TO_FOLLOW = {113, 114, 115, 116, 117, 118, 119};
-    public static final int[] PAD_OCTET_COUNT = {123, 124, 125, 126, 127};
-    public static final int[] OPCODE = {122, 123, 124, 125, 126, 127};
-    public static final int[] DATA_HEADER_OFFSET = {138, 139, 140, 141, 142, 143};
+    public static final BinaryField SAP_ID = BinaryField.range(74, 79);
+    public static final BinaryField VENDOR_ID = BinaryField.range(80, 87);
+    public static final BinaryField LOGICAL_LINK_ID = BinaryField.range(88, 111);
+    public static final BinaryField BLOCKS_TO_FOLLOW = BinaryField.range(113, 119);
+    public static final BinaryField PAD_OCTET_COUNT = BinaryField.range(123, 127);
+    public static final BinaryField OPCODE = BinaryField.range(122, 127);
+    public static final BinaryField DATA_HEADER_OFFSET = BinaryField.range(138, 143);
     public static final int[] PDU_CRC = {144, 145, 146, 147, 148, 149, 150, 151, 152,
             153, 154, 155, 156, 157, 158, 159};
 
@@ -22,6 +22,7 @@
 package io.github.dsheirer.module.decode.p25.phase1.message.pdu;
 
 import io.github.dsheirer.alias.AliasList;
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.BinaryMessage;
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
 import io.github.dsheirer.edac.trellis.ViterbiDecoder_1_2_P25;
@@ -77,23 +78,20 @@ import io.github.dsheirer.module.decode.p25.reference.PDUFormat;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.BitSet;
-
 public class PDUMessageFactory
 {
     private final static Logger mLog = LoggerFactory.getLogger(PDUMessageFactory.class);
 
-    private static final int[] BLOCK_0_UMBTC_OPCODE = {2, 3, 4, 5, 6, 7};
-    private static final int PDU0_BEGIN = 0;
-    private static final int PDU0_END = 196;
+    private static final BinaryField BLOCK_0_UMBTC_OPCODE = BinaryField.range(2, 7);
 
     private static final ViterbiDecoder_1_2_P25 VITERBI_HALF_RATE_DECODER = new ViterbiDecoder_1_2_P25();
 
     public static PDUSequence createPacketSequence(int nac, long timestamp, CorrectedBinaryMessage correctedBinaryMessage)
     {
-        //Get deinterleaved header chunk
-        BitSet interleaved = correctedBinaryMessage.get(PDU0_BEGIN, PDU0_END);
-        CorrectedBinaryMessage deinterleaved = P25P1Interleave.deinterleaveChunk(P25P1Interleave.DATA_DEINTERLEAVE, interleaved);
+        //Get deinterleaved header chunk.  The deinterleave only uses the first 196 bits of the message and carries the
+        //message soft bits through to the trellis decoder.
+        CorrectedBinaryMessage deinterleaved = P25P1Interleave.deinterleaveChunk(P25P1Interleave.DATA_DEINTERLEAVE,
+            correctedBinaryMessage);
 
         //Decode 1/2 rate trellis encoded PDU header
         CorrectedBinaryMessage viterbiDecoded = VITERBI_HALF_RATE_DECODER.decode(deinterleaved);
@@ -19,6 +19,7 @@
  */
 package io.github.dsheirer.module.decode.p25.phase1.message.pdu.ambtc;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
 import io.github.dsheirer.module.decode.p25.P25Utils;
 import io.github.dsheirer.module.decode.p25.phase1.message.pdu.PDUHeader;
@@ -31,8 +32,8 @@ import io.github.dsheirer.module.decode.p25.reference.Vendor;
  */
 public class AMBTCHeader extends PDUHeader
 {
-    public static final int[] SAP_ID = {10, 11, 12, 13, 14, 15};
-    public static final int[] OPCODE = {58, 59, 60, 61, 62, 63};
+    public static final BinaryField SAP_ID = BinaryField.range(10, 15);
+    public static final BinaryField OPCODE = BinaryField.range(58, 63);
     public static final int[] DATA = {64, 65, 66, 67, 68, 69, 70, 71, 72, 73, 74, 75, 76, 77, 78, 79};
 
     public AMBTCHeader(CorrectedBinaryMessage message, boolean passesCRC)
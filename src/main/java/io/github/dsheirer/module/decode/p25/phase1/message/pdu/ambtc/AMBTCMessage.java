@@ -20,6 +20,7 @@
 
 package io.github.dsheirer.module.decode.p25.phase1.message.pdu.ambtc;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.BinaryMessage;
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
 import io.github.dsheirer.identifier.Identifier;
@@ -35,8 +36,7 @@ import java.util.List;
 
 public abstract class AMBTCMessage extends P25Message implements IBitErrorProvider
 {
-    protected static final int[] HEADER_ADDRESS = {24, 25, 26, 27, 28, 29, 30, 31, 32, 33, 34, 35, 36, 37, 38, 39,
-        40, 41, 42, 43, 44, 45, 46, 47};
+    protected static final BinaryField HEADER_ADDRESS = BinaryField.range(24, 47);
 
     private PDUSequence mPDUSequence;
 
@@ -22,6 +22,7 @@
 
 package io.github.dsheirer.module.decode.p25.phase1.message.pdu.ambtc.isp;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.module.decode.p25.identifier.APCO25Lra;
 import io.github.dsheirer.module.decode.p25.identifier.APCO25System;
@@ -36,14 +37,12 @@ import java.util.List;
 
 public class AMBTCLocationRegistrationRequest extends AMBTCMessage
 {
-    private static final int[] HEADER_WACN = {64, 65, 66, 67, 68, 69, 70, 71, 72, 73, 74, 75, 76, 77, 78, 79};
-    private static final int[] BLOCK_0_WACN = {0, 1, 2, 3};
-    private static final int[] BLOCK_0_SYSTEM = {4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15};
-    private static final int[] BLOCK_0_SOURCE_ID = {16, 17, 18, 19, 20, 21, 22, 23, 24, 25, 26, 27, 28, 29, 30, 31, 32,
-        33, 34, 35, 36, 37, 38, 39};
-    private static final int[] BLOCK_0_PREVIOUS_LRA = {40, 41, 42, 43, 44, 45, 46, 47};
-    private static final int[] BLOCK_0_GROUP_ADDRESS = {48, 49, 50, 51, 52, 53, 54, 55, 56, 57, 58,
-        59, 60, 61, 62, 63};
+    private static final BinaryField HEADER_WACN = BinaryField.range(64, 79);
+    private static final BinaryField BLOCK_0_WACN = BinaryField.range(0, 3);
+    private static final BinaryField BLOCK_0_SYSTEM = BinaryField.range(4, 15);
+    private static final BinaryField BLOCK_0_SOURCE_ID = BinaryField.range(16, 39);
+    private static final BinaryField BLOCK_0_PREVIOUS_LRA = BinaryField.range(40, 47);
+    private static final BinaryField BLOCK_0_GROUP_ADDRESS = BinaryField.range(48, 63);
 
     private Identifier mWacn;
     private Identifier mSystem;
@@ -22,6 +22,7 @@
 
 package io.github.dsheirer.module.decode.p25.phase1.message.pdu.ambtc.isp;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.module.decode.p25.identifier.APCO25System;
 import io.github.dsheirer.module.decode.p25.identifier.APCO25Wacn;
@@ -36,12 +37,11 @@ import java.util.List;
 
 public class AMBTCUnitAcknowledgeResponse extends AMBTCMessage
 {
-    private static final int[] ACKNOWLEDGED_SERVICE_OPCODE = {66, 67, 68, 69, 70, 71};
-    private static final int[] HEADER_WACN = {72, 73, 74, 75, 76, 77, 78, 79};
-    private static final int[] BLOCK_0_WACN = {0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11};
-    private static final int[] BLOCK_0_SYSTEM = {12, 13, 14, 15, 16, 17, 18, 19, 20, 21, 22, 23};
-    private static final int[] BLOCK_0_TARGET_ID = {24, 25, 26, 27, 28, 29, 30, 31, 32, 33, 34, 35, 36, 37, 38, 39, 40,
-        41, 42, 43, 44, 45, 46, 47};
+    private static final BinaryField ACKNOWLEDGED_SERVICE_OPCODE = BinaryField.range(66, 71);
+    private static final BinaryField HEADER_WACN = BinaryField.range(72, 79);
+    private static final BinaryField BLOCK_0_WACN = BinaryField.range(0, 11);
+    private static final BinaryField BLOCK_0_SYSTEM = BinaryField.range(12, 23);
+    private static final BinaryField BLOCK_0_TARGET_ID = BinaryField.range(24, 47);
     private static final int[] BLOCK_0_RESERVED = {48, 49, 50, 51, 52, 53, 54, 55, 56, 57, 58, 59, 60, 61, 62, 63};
 
     private Opcode mAcknowledgedService;
@@ -22,6 +22,7 @@
 
 package io.github.dsheirer.module.decode.p25.phase1.message.pdu.ambtc.osp;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.module.decode.p25.identifier.radio.APCO25FullyQualifiedRadioIdentifier;
 import io.github.dsheirer.module.decode.p25.identifier.radio.APCO25RadioIdentifier;
@@ -38,17 +39,15 @@ import java.util.List;
  */
 public class AMBTCGroupAffiliationResponse extends AMBTCMessage
 {
-    private static final int[] HEADER_SOURCE_WACN = {64, 65, 66, 67, 68, 69, 70, 71, 72, 73, 74, 75, 76, 77, 78, 79};
-    private static final int[] BLOCK_0_SOURCE_WACN = {0, 1, 2, 3};
-    private static final int[] BLOCK_0_SOURCE_SYSTEM = {4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15};
-    private static final int[] BLOCK_0_SOURCE_ID = {16, 17, 18, 19, 20, 21, 22, 23, 24, 25, 26, 27, 28, 29, 30, 31, 32,
-        33, 34, 35, 36, 37, 38, 39};
-    private static final int[] BLOCK_0_GROUP_WACN = {40, 41, 42, 43, 44, 45, 46, 47, 48, 49, 50, 51, 52, 53, 54, 55,
-        56, 57, 58, 59};
-    private static final int[] BLOCK_0_GROUP_SYSTEM = {60, 61, 62, 63, 64, 65, 66, 67, 68, 69, 70, 71};
-    private static final int[] BLOCK_0_GROUP_ID = {72, 73, 74, 75, 76, 77, 78, 79, 80, 81, 82, 83, 84, 85, 86, 87};
-    private static final int[] BLOCK_0_ANNOUNCEMENT_GROUP_ID = {88, 89, 90, 91, 92, 93, 94, 95};
-    private static final int[] BLOCK_1_ANNOUNCEMENT_GROUP_ID = {0, 1, 2, 3, 4, 5, 6, 7};
+    private static final BinaryField HEADER_SOURCE_WACN = BinaryField.range(64, 79);
+    private static final BinaryField BLOCK_0_SOURCE_WACN = BinaryField.range(0, 3);
+    private static final BinaryField BLOCK_0_SOURCE_SYSTEM = BinaryField.range(4, 15);
+    private static final BinaryField BLOCK_0_SOURCE_ID = BinaryField.range(16, 39);
+    private static final BinaryField BLOCK_0_GROUP_WACN = BinaryField.range(40, 59);
+    private static final BinaryField BLOCK_0_GROUP_SYSTEM = BinaryField.range(60, 71);
+    private static final BinaryField BLOCK_0_GROUP_ID = BinaryField.range(72, 87);
+    private static final BinaryField BLOCK_0_ANNOUNCEMENT_GROUP_ID = BinaryField.range(88, 95);
+    private static final BinaryField BLOCK_1_ANNOUNCEMENT_GROUP_ID = BinaryField.range(0, 7);
 
     private Identifier mTargetAddress;
     private APCO25FullyQualifiedRadioIdentifier mSourceId;
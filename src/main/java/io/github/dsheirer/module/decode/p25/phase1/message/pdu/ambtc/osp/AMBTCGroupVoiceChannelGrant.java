@@ -22,6 +22,7 @@
 
 package io.github.dsheirer.module.decode.p25.phase1.message.pdu.ambtc.osp;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.channel.IChannelDescriptor;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.module.decode.p25.identifier.channel.APCO25Channel;
@@ -39,14 +40,14 @@ import java.util.List;
 
 public class AMBTCGroupVoiceChannelGrant extends AMBTCMessage implements IFrequencyBandReceiver
 {
-    private static final int[] HEADER_SERVICE_OPTIONS = {64, 65, 66, 67, 68, 69, 70, 71};
+    private static final BinaryField HEADER_SERVICE_OPTIONS = BinaryField.range(64, 71);
     private static final int[] HEADER_RESERVED = {72, 73, 74, 75, 76, 77, 78, 79};
     private static final int[] BLOCK_0_RESERVED = {0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15};
-    private static final int[] BLOCK_0_DOWNLINK_FREQUENCY_BAND = {16, 17, 18, 19};
-    private static final int[] BLOCK_0_DOWNLINK_CHANNEL_NUMBER = {20, 21, 22, 23, 24, 25, 26, 27, 28, 29, 30, 31};
-    private static final int[] BLOCK_0_UPLINK_FREQUENCY_BAND = {32, 33, 34, 35};
-    private static final int[] BLOCK_0_UPLINK_CHANNEL_NUMBER = {36, 37, 38, 39, 40, 41, 42, 43, 44, 45, 46, 47};
-    private static final int[] BLOCK_0_GROUP_ADDRESS = {48, 49, 50, 51, 52, 53, 54, 55, 56, 57, 58, 59, 60, 61, 62, 63};
+    private static final BinaryField BLOCK_0_DOWNLINK_FREQUENCY_BAND = BinaryField.range(16, 19);
+    private static final BinaryField BLOCK_0_DOWNLINK_CHANNEL_NUMBER = BinaryField.range(20, 31);
+    private static final BinaryField BLOCK_0_UPLINK_FREQUENCY_BAND = BinaryField.range(32, 35);
+    private static final BinaryField BLOCK_0_UPLINK_CHANNEL_NUMBER = BinaryField.range(36, 47);
+    private static final BinaryField BLOCK_0_GROUP_ADDRESS = BinaryField.range(48, 63);
 
     private VoiceServiceOptions mVoiceServiceOptions;
     private APCO25Channel mChannel;
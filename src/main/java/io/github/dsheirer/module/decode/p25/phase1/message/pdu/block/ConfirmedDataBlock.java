@@ -20,6 +20,7 @@
 
 package io.github.dsheirer.module.decode.p25.phase1.message.pdu.block;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.BinaryMessage;
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
 import io.github.dsheirer.edac.CRC;
@@ -32,7 +33,7 @@ public class ConfirmedDataBlock extends DataBlock
 {
     private final static Logger mLog = LoggerFactory.getLogger(ConfirmedDataBlock.class);
 
-    public static final int[] SEQUENCE_NUMBER = {0, 1, 2, 3, 4, 5, 6};
+    public static final BinaryField SEQUENCE_NUMBER = BinaryField.range(0, 6);
     public static final int PAYLOAD_START = 16;
     public static final int PAYLOAD_END = 144;
 
@@ -20,6 +20,7 @@
 
 package io.github.dsheirer.module.decode.p25.phase1.message.pdu.packet.sndcp;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.BinaryMessage;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.module.decode.p25.reference.RejectReason;
@@ -32,8 +33,8 @@ import java.util.List;
  */
 public class ActivateTdsContextReject extends SNDCPMessage
 {
-    private static final int[] NSAPI = {4, 5, 6, 7};
-    private static final int[] REJECT_REASON = {8, 9, 10, 11, 12, 13, 14, 15};
+    private static final BinaryField NSAPI = BinaryField.range(4, 7);
+    private static final BinaryField REJECT_REASON = BinaryField.range(8, 15);
 
     /**
      * Constructs an SNDCP message parser instance.
@@ -20,6 +20,7 @@
 
 package io.github.dsheirer.module.decode.p25.phase1.message.pdu.packet.sndcp;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.BinaryMessage;
 import io.github.dsheirer.module.decode.ip.Header;
 import io.github.dsheirer.module.decode.p25.reference.IPHeaderCompression;
@@ -34,10 +35,10 @@ import io.github.dsheirer.module.decode.p25.reference.UDPHeaderCompression;
  */
 public class SNDCPPacketHeader extends Header
 {
-    private static final int[] PDU_TYPE = {0, 1, 2, 3};
-    private static final int[] NSAPI = {4, 5, 6, 7};
-    private static final int[] PACKET_HEADER_COMPRESSION = {8, 9, 10, 11};
-    private static final int[] DATAGRAM_HEADER_COMPRESSION = {12, 13, 14, 15};
+    private static final BinaryField PDU_TYPE = BinaryField.range(0, 3);
+    private static final BinaryField NSAPI = BinaryField.range(4, 7);
+    private static final BinaryField PACKET_HEADER_COMPRESSION = BinaryField.range(8, 11);
+    private static final BinaryField DATAGRAM_HEADER_COMPRESSION = BinaryField.range(12, 15);
 
     private boolean mOutboundMessage;
 
@@ -19,6 +19,7 @@
  */
 package io.github.dsheirer.module.decode.p25.phase1.message.pdu.response;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
 import io.github.dsheirer.module.decode.p25.phase1.message.pdu.PDUHeader;
 import io.github.dsheirer.module.decode.p25.reference.PacketResponse;
@@ -28,7 +29,7 @@ public class ResponseHeader extends PDUHeader
 {
     public static final int[] RESPONSE = {8,9,10,11,12,13,14,15};
     public static final int SOURCE_LLID_FLAG = 48;
-    public static final int[] FROM_LOGICAL_LINK_ID = {56,57,58,59,60,61,62,63,64,65,66,67,68,69,70,71,72,73,74,75,76,77,78,79};
+    public static final BinaryField FROM_LOGICAL_LINK_ID = BinaryField.range(56, 79);
 
     public ResponseHeader(CorrectedBinaryMessage message, boolean passesCRC)
     {
@@ -19,6 +19,7 @@
  */
 package io.github.dsheirer.module.decode.p25.phase1.message.pdu.umbtc;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
 import io.github.dsheirer.module.decode.p25.P25Utils;
 import io.github.dsheirer.module.decode.p25.phase1.message.pdu.PDUHeader;
@@ -30,10 +31,10 @@ import io.github.dsheirer.module.decode.p25.reference.Vendor;
  */
 public class UMBTCHeader extends PDUHeader
 {
-    public static final int[] SAP_ID = {10, 11, 12, 13, 14, 15};
-    public static final int[] PAD_OCTET_COUNT = {59, 60, 61, 62, 63};
+    public static final BinaryField SAP_ID = BinaryField.range(10, 15);
+    public static final BinaryField PAD_OCTET_COUNT = BinaryField.range(59, 63);
     public static final int[] RESERVED = {64, 65, 66, 67, 68, 69, 70, 71};
-    public static final int[] DATA_HEADER_OFFSET = {74, 75, 76, 77, 78, 79};
+    public static final BinaryField DATA_HEADER_OFFSET = BinaryField.range(74, 79);
 
     public UMBTCHeader(CorrectedBinaryMessage message, boolean passesCRC)
     {
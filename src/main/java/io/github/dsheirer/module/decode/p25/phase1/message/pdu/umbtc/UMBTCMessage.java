@@ -20,6 +20,7 @@
 
 package io.github.dsheirer.module.decode.p25.phase1.message.pdu.umbtc;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.message.IBitErrorProvider;
 import io.github.dsheirer.module.decode.p25.P25Utils;
@@ -34,9 +35,8 @@ import java.util.List;
 
 public abstract class UMBTCMessage extends P25Message implements IBitErrorProvider
 {
-    protected static final int[] HEADER_ADDRESS = {24, 25, 26, 27, 28, 29, 30, 31, 32, 33, 34, 35, 36, 37, 38, 39,
-        40, 41, 42, 43, 44, 45, 46, 47};
-    private static final int[] BLOCK_0_OPCODE = {2, 3, 4, 5, 6, 7};
+    protected static final BinaryField HEADER_ADDRESS = BinaryField.range(24, 47);
+    private static final BinaryField BLOCK_0_OPCODE = BinaryField.range(2, 7);
 
     private PDUSequence mPDUSequence;
 
@@ -21,6 +21,7 @@
  */
 package io.github.dsheirer.module.decode.p25.phase1.message.tsbk.motorola.osp;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
 import io.github.dsheirer.channel.IChannelDescriptor;
 import io.github.dsheirer.identifier.Identifier;
@@ -43,8 +44,8 @@ public class MotorolaBaseStationId extends OSPMessage implements IFrequencyBandR
     public static final int[] CHARACTER_6 = {46, 47, 48, 49, 50, 51};
     public static final int[] CHARACTER_7 = {52, 53, 54, 55, 56, 57};
     public static final int[] CHARACTER_8 = {58, 59, 60, 61, 62, 63};
-    public static final int[] FREQUENCY_BAND = {64, 65, 66, 67};
-    public static final int[] CHANNEL_NUMBER = {68, 69, 70, 71, 72, 73, 74, 75, 76, 77, 78, 79};
+    public static final BinaryField FREQUENCY_BAND = BinaryField.range(64, 67);
+    public static final BinaryField CHANNEL_NUMBER = BinaryField.range(68, 79);
 
     private String mCWID;
     private IChannelDescriptor mChannel;
@@ -21,6 +21,7 @@
  */
 package io.github.dsheirer.module.decode.p25.phase1.message.tsbk.motorola.osp;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.identifier.patch.PatchGroup;
@@ -35,10 +36,10 @@ import java.util.List;
 
 public class PatchGroupDelete extends OSPMessage
 {
-    public static final int[] PATCH_GROUP_ADDRESS = {16, 17, 18, 19, 20, 21, 22, 23, 24, 25, 26, 27, 28, 29, 30, 31};
-    public static final int[] GROUP_ADDRESS_1 = {32, 33, 34, 35, 36, 37, 38, 39, 40, 41, 42, 43, 44, 45, 46, 47};
-    public static final int[] GROUP_ADDRESS_2 = {48, 49, 50, 51, 52, 53, 54, 55, 56, 57, 58, 59, 60, 61, 62, 63};
-    public static final int[] GROUP_ADDRESS_3 = {64, 65, 66, 67, 68, 69, 70, 71, 72, 73, 74, 75, 76, 77, 78, 79};
+    public static final BinaryField PATCH_GROUP_ADDRESS = BinaryField.range(16, 31);
+    public static final BinaryField GROUP_ADDRESS_1 = BinaryField.range(32, 47);
+    public static final BinaryField GROUP_ADDRESS_2 = BinaryField.range(48, 63);
+    public static final BinaryField GROUP_ADDRESS_3 = BinaryField.range(64, 79);
 
     private APCO25PatchGroup mPatchGroup;
     private TalkgroupIdentifier mGroupAddress1;
@@ -21,6 +21,7 @@
  */
 package io.github.dsheirer.module.decode.p25.phase1.message.tsbk.motorola.osp;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
 import io.github.dsheirer.channel.IChannelDescriptor;
 import io.github.dsheirer.identifier.Identifier;
@@ -40,12 +41,11 @@ import java.util.List;
 
 public class PatchGroupVoiceChannelGrant extends OSPMessage implements IFrequencyBandReceiver
 {
-    public static final int[] SERVICE_OPTIONS = {16, 17, 18, 19, 20, 21, 22, 23};
-    public static final int[] FREQUENCY_BAND = {24, 25, 26, 27};
-    public static final int[] CHANNEL_NUMBER = {28, 29, 30, 31, 32, 33, 34, 35, 36, 37, 38, 39};
-    public static final int[] PATCH_GROUP_ADDRESS = {40, 41, 42, 43, 44, 45, 46, 47, 48, 49, 50, 51, 52, 53, 54, 55};
-    public static final int[] SOURCE_ADDRESS = {56, 57, 58, 59, 60, 61, 62, 63, 64, 65, 66, 67, 68, 69, 70, 71, 72, 73,
-        74, 75, 76, 77, 78, 79};
+    public static final BinaryField SERVICE_OPTIONS = BinaryField.range(16, 23);
+    public static final BinaryField FREQUENCY_BAND = BinaryField.range(24, 27);
+    public static final BinaryField CHANNEL_NUMBER = BinaryField.range(28, 39);
+    public static final BinaryField PATCH_GROUP_ADDRESS = BinaryField.range(40, 55);
+    public static final BinaryField SOURCE_ADDRESS = BinaryField.range(56, 79);
 
     private VoiceServiceOptions mVoiceServiceOptions;
     private APCO25Channel mChannel;
@@ -21,6 +21,7 @@
  */
 package io.github.dsheirer.module.decode.p25.phase1.message.tsbk.motorola.osp;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
 import io.github.dsheirer.channel.IChannelDescriptor;
 import io.github.dsheirer.identifier.Identifier;
@@ -38,12 +39,12 @@ import java.util.List;
 
 public class PatchGroupVoiceChannelGrantUpdate extends OSPMessage implements IFrequencyBandReceiver
 {
-    public static final int[] FREQUENCY_BAND_1 = {16, 17, 18, 19};
-    public static final int[] CHANNEL_NUMBER_1 = {20, 21, 22, 23, 24, 25, 26, 27, 28, 29, 30, 31};
-    public static final int[] PATCH_GROUP_1 = {32, 33, 34, 35, 36, 37, 38, 39, 40, 41, 42, 43, 44, 45, 46, 47};
-    public static final int[] FREQUENCY_BAND_2 = {48, 49, 50, 51};
-    public static final int[] CHANNEL_NUMBER_2 = {52, 53, 54, 55, 56, 57, 58, 59, 60, 61, 62, 63};
-    public static final int[] PATCH_GROUP_2 = {64, 65, 66, 67, 68, 69, 70, 71, 72, 73, 74, 75, 76, 77, 78, 79};
+    public static final BinaryField FREQUENCY_BAND_1 = BinaryField.range(16, 19);
+    public static final BinaryField CHANNEL_NUMBER_1 = BinaryField.range(20, 31);
+    public static final BinaryField PATCH_GROUP_1 = BinaryField.range(32, 47);
+    public static final BinaryField FREQUENCY_BAND_2 = BinaryField.range(48, 51);
+    public static final BinaryField CHANNEL_NUMBER_2 = BinaryField.range(52, 63);
+    public static final BinaryField PATCH_GROUP_2 = BinaryField.range(64, 79);
 
     private PatchGroupIdentifier mPatchGroup1;
     private PatchGroupIdentifier mPatchGroup2;
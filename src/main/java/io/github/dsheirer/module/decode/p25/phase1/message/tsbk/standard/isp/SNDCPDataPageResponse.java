@@ -22,6 +22,7 @@
 
 package io.github.dsheirer.module.decode.p25.phase1.message.tsbk.standard.isp;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.module.decode.p25.identifier.radio.APCO25RadioIdentifier;
@@ -38,12 +39,11 @@ import java.util.List;
  */
 public class SNDCPDataPageResponse extends ISPMessage
 {
-    private static final int[] DATA_SERVICE_OPTIONS = {16, 17, 18, 19, 20, 21, 22, 23};
-    private static final int[] ANSWER_RESPONSE = {24, 25, 26, 27, 28, 29, 30, 31};
-    private static final int[] DATA_ACCESS_CONTROL = {32, 33, 34, 35, 36, 37, 38, 39, 40, 41, 42, 43, 44, 45, 46, 47};
+    private static final BinaryField DATA_SERVICE_OPTIONS = BinaryField.range(16, 23);
+    private static final BinaryField ANSWER_RESPONSE = BinaryField.range(24, 31);
+    private static final BinaryField DATA_ACCESS_CONTROL = BinaryField.range(32, 47);
     private static final int[] RESERVED = {48, 49, 50, 51, 52, 53, 54, 55};
-    private static final int[] SOURCE_ADDRESS = {56, 57, 58, 59, 60, 61, 62, 63, 64, 65, 66, 67, 68, 69, 70, 71, 72, 73,
-            74, 75, 76, 77, 78, 79};
+    private static final BinaryField SOURCE_ADDRESS = BinaryField.range(56, 79);
 
     private DataServiceOptions mDataServiceOptions;
     private Identifier mSourceAddress;
@@ -22,6 +22,7 @@
 
 package io.github.dsheirer.module.decode.p25.phase1.message.tsbk.standard.isp;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.module.decode.p25.identifier.APCO25System;
@@ -40,11 +41,10 @@ import java.util.List;
 public class UnitRegistrationRequest extends ISPMessage
 {
     private static final int EMERGENCY_FLAG = 16;
-    private static final int[] CAPABILITY = {17, 18, 19, 20, 21, 22, 23};
-    private static final int[] WACN = {24, 25, 26, 27, 28, 29, 30, 31, 32, 33, 34, 35, 36, 37, 38, 39, 40, 41, 42, 43};
-    private static final int[] SYSTEM = {44, 45, 46, 47, 48, 49, 50, 51, 52, 53, 54, 55};
-    private static final int[] SOURCE_ID = {56, 57, 58, 59, 60, 61, 62, 63, 64, 65, 66, 67, 68, 69, 70, 71, 72, 73,
-            74, 75, 76, 77, 78, 79};
+    private static final BinaryField CAPABILITY = BinaryField.range(17, 23);
+    private static final BinaryField WACN = BinaryField.range(24, 43);
+    private static final BinaryField SYSTEM = BinaryField.range(44, 55);
+    private static final BinaryField SOURCE_ID = BinaryField.range(56, 79);
 
     private Capability mCapability;
     private Identifier mWACN;
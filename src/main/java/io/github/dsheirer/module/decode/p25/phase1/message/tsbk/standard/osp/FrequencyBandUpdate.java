@@ -22,6 +22,7 @@
 
 package io.github.dsheirer.module.decode.p25.phase1.message.tsbk.standard.osp;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.module.decode.p25.phase1.P25P1DataUnitID;
@@ -36,13 +37,12 @@ import java.util.List;
  */
 public class FrequencyBandUpdate extends OSPMessage implements IFrequencyBand
 {
-    private static final int[] FREQUENCY_BAND_IDENTIFIER = {16, 17, 18, 19};
-    private static final int[] BANDWIDTH = {20, 21, 22, 23, 24, 25, 26, 27, 28};
+    private static final BinaryField FREQUENCY_BAND_IDENTIFIER = BinaryField.range(16, 19);
+    private static final BinaryField BANDWIDTH = BinaryField.range(20, 28);
     private static final int TRANSMIT_OFFSET_SIGN = 29;
-    private static final int[] TRANSMIT_OFFSET = {30, 31, 32, 33, 34, 35, 36, 37};
-    private static final int[] CHANNEL_SPACING = {38, 39, 40, 41, 42, 43, 44, 45, 46, 47};
-    private static final int[] BASE_FREQUENCY = {48, 49, 50, 51, 52, 53, 54, 55, 56, 57, 58, 59, 60, 61, 62, 63, 64,
-        65, 66, 67, 68, 69, 70, 71, 72, 73, 74, 75, 76, 77, 78, 79};
+    private static final BinaryField TRANSMIT_OFFSET = BinaryField.range(30, 37);
+    private static final BinaryField CHANNEL_SPACING = BinaryField.range(38, 47);
+    private static final BinaryField BASE_FREQUENCY = BinaryField.range(48, 79);
 
     /**
      * Constructs a TSBK from the binary message sequence.
@@ -22,6 +22,7 @@
 
 package io.github.dsheirer.module.decode.p25.phase1.message.tsbk.standard.osp;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
 import io.github.dsheirer.channel.IChannelDescriptor;
 import io.github.dsheirer.identifier.Identifier;
@@ -39,12 +40,12 @@ import java.util.List;
  */
 public class GroupVoiceChannelGrantUpdate extends OSPMessage implements IFrequencyBandReceiver
 {
-    private static final int[] FREQUENCY_BAND_A = {16, 17, 18, 19};
-    private static final int[] CHANNEL_NUMBER_A = {20, 21, 22, 23, 24, 25, 26, 27, 28, 29, 30, 31};
-    private static final int[] GROUP_ADDRESS_A = {32, 33, 34, 35, 36, 37, 38, 39, 40, 41, 42, 43, 44, 45, 46, 47};
-    private static final int[] FREQUENCY_BAND_B = {48, 49, 50, 51};
-    private static final int[] CHANNEL_NUMBER_B = {52, 53, 54, 55, 56, 57, 58, 59, 60, 61, 62, 63};
-    private static final int[] GROUP_ADDRESS_B = {64, 65, 66, 67, 68, 69, 70, 71, 72, 73, 74, 75, 76, 77, 78, 79};
+    private static final BinaryField FREQUENCY_BAND_A = BinaryField.range(16, 19);
+    private static final BinaryField CHANNEL_NUMBER_A = BinaryField.range(20, 31);
+    private static final BinaryField GROUP_ADDRESS_A = BinaryField.range(32, 47);
+    private static final BinaryField FREQUENCY_BAND_B = BinaryField.range(48, 51);
+    private static final BinaryField CHANNEL_NUMBER_B = BinaryField.range(52, 63);
+    private static final BinaryField GROUP_ADDRESS_B = BinaryField.range(64, 79);
 
     private APCO25Channel mChannelA;
     private Identifier mGroupAddressA;
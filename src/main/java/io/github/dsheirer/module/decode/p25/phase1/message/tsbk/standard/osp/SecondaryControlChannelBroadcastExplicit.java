@@ -22,6 +22,7 @@
 
 package io.github.dsheirer.module.decode.p25.phase1.message.tsbk.standard.osp;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
 import io.github.dsheirer.channel.IChannelDescriptor;
 import io.github.dsheirer.identifier.Identifier;
@@ -41,14 +42,14 @@ import java.util.List;
  */
 public class SecondaryControlChannelBroadcastExplicit extends OSPMessage implements IFrequencyBandReceiver
 {
-    private static final int[] RFSS = {16, 17, 18, 19, 20, 21, 22, 23};
-    private static final int[] SITE = {24, 25, 26, 27, 28, 29, 30, 31};
-    private static final int[] TRANSMIT_FREQUENCY_BAND = {32, 33, 34, 35};
-    private static final int[] TRANSMIT_CHANNEL_NUMBER = {36, 37, 38, 39, 40, 41, 42, 43, 44, 45, 46, 47};
+    private static final BinaryField RFSS = BinaryField.range(16, 23);
+    private static final BinaryField SITE = BinaryField.range(24, 31);
+    private static final BinaryField TRANSMIT_FREQUENCY_BAND = BinaryField.range(32, 35);
+    private static final BinaryField TRANSMIT_CHANNEL_NUMBER = BinaryField.range(36, 47);
     private static final int[] RESERVED = {48, 49, 50, 51, 52, 53, 54, 55};
-    private static final int[] RECEIVE_FREQUENCY_BAND = {56, 57, 58, 59};
-    private static final int[] RECEIVE_CHANNEL_NUMBER = {60, 61, 62, 63, 64, 65, 66, 67, 68, 69, 70, 71};
-    private static final int[] SYSTEM_SERVICE_CLASS = {72, 73, 74, 75, 76, 77, 78, 79};
+    private static final BinaryField RECEIVE_FREQUENCY_BAND = BinaryField.range(56, 59);
+    private static final BinaryField RECEIVE_CHANNEL_NUMBER = BinaryField.range(60, 71);
+    private static final BinaryField SYSTEM_SERVICE_CLASS = BinaryField.range(72, 79);
 
     private Identifier mRfss;
     private Identifier mSite;
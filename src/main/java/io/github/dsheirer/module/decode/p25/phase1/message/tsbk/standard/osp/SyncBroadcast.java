@@ -20,6 +20,7 @@
 
 package io.github.dsheirer.module.decode.p25.phase1.message.tsbk.standard.osp;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.module.decode.p25.phase1.P25P1DataUnitID;
@@ -42,17 +43,17 @@ public class SyncBroadcast extends OSPMessage
     public static final int[] RESERVED = {16, 17, 18, 19, 20, 21, 22, 23, 24, 25, 26, 27, 28};
     public static final int SYSTEM_TIME_NOT_LOCKED_TO_EXTERNAL_REFERENCE_FLAG = 29;
     public static final int MICRO_SLOTS_TO_MINUTE_ROLLOVER_UNLOCKED_FLAG = 30;
-    public static final int[] LEAP_SECOND_CORRECTION = {31, 32};
+    public static final BinaryField LEAP_SECOND_CORRECTION = BinaryField.range(31, 32);
     public static final int LOCAL_TIME_OFFSET_VALID_FLAG = 33;
     public static final int LOCAL_TIME_OFFSET_SIGN = 34;
-    public static final int[] LOCAL_TIME_OFFSET_HOURS = {35, 36, 37, 38};
+    public static final BinaryField LOCAL_TIME_OFFSET_HOURS = BinaryField.range(35, 38);
     public static final int LOCAL_TIME_OFFSET_HALF_HOUR = 39;
     public static final int[] YEAR = {40, 41, 42, 43, 44, 45, 46};
     public static final int[] MONTH = {47, 48, 49, 50};
-    public static final int[] DAY = {51, 52, 53, 54, 55};
-    public static final int[] HOURS = {56, 57, 58, 59, 60};
-    public static final int[] MINUTES = {61, 62, 63, 65, 65, 66};
-    public static final int[] MICRO_SLOTS = {67, 68, 69, 70, 71, 72, 73, 74, 75, 76, 77, 78, 79};
+    public static final BinaryField DAY = BinaryField.range(51, 55);
+    public static final BinaryField HOURS = BinaryField.range(56, 60);
+    public static final BinaryField MINUTES = BinaryField.of(61, 62, 63, 65, 65, 66);
+    public static final BinaryField MICRO_SLOTS = BinaryField.range(67, 79);
 
     private static final DateFormat TIME_FORMATTER = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss.SSS Z");
     private static final TimeZone NO_TIME_ZONE = new SimpleTimeZone(0, "NONE");
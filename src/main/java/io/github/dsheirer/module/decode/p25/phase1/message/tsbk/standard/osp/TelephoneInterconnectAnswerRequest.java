@@ -22,6 +22,7 @@
 
 package io.github.dsheirer.module.decode.p25.phase1.message.tsbk.standard.osp;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.module.decode.p25.identifier.radio.APCO25RadioIdentifier;
@@ -38,18 +39,17 @@ import java.util.List;
  */
 public class TelephoneInterconnectAnswerRequest extends OSPMessage
 {
-    private static final int[] DIGIT_1 = {16, 17, 18, 19};
-    private static final int[] DIGIT_2 = {20, 21, 22, 23};
-    private static final int[] DIGIT_3 = {24, 25, 26, 27};
-    private static final int[] DIGIT_4 = {28, 29, 30, 31};
-    private static final int[] DIGIT_5 = {32, 33, 34, 35};
-    private static final int[] DIGIT_6 = {36, 37, 38, 39};
-    private static final int[] DIGIT_7 = {40, 41, 42, 43};
-    private static final int[] DIGIT_8 = {44, 45, 46, 47};
-    private static final int[] DIGIT_9 = {48, 49, 50, 51};
-    private static final int[] DIGIT_10 = {52, 53, 54, 55};
-    private static final int[] TARGET_ADDRESS = {56, 57, 58, 59, 60, 61, 62, 63, 64, 65, 66, 67, 68, 69, 70, 71, 72,
-            73, 74, 75, 76, 77, 78, 79};
+    private static final BinaryField DIGIT_1 = BinaryField.range(16, 19);
+    private static final BinaryField DIGIT_2 = BinaryField.range(20, 23);
+    private static final BinaryField DIGIT_3 = BinaryField.range(24, 27);
+    private static final BinaryField DIGIT_4 = BinaryField.range(28, 31);
+    private static final BinaryField DIGIT_5 = BinaryField.range(32, 35);
+    private static final BinaryField DIGIT_6 = BinaryField.range(36, 39);
+    private static final BinaryField DIGIT_7 = BinaryField.range(40, 43);
+    private static final BinaryField DIGIT_8 = BinaryField.range(44, 47);
+    private static final BinaryField DIGIT_9 = BinaryField.range(48, 51);
+    private static final BinaryField DIGIT_10 = BinaryField.range(52, 55);
+    private static final BinaryField TARGET_ADDRESS = BinaryField.range(56, 79);
 
     private Identifier mTelephoneNumber;
     private Identifier mTargetAddress;
@@ -24,6 +24,7 @@ import io.github.dsheirer.bits.CorrectedBinaryMessage;
 import io.github.dsheirer.controller.channel.Channel;
 import io.github.dsheirer.dsp.psk.pll.IPhaseLockedLoop;
 import io.github.dsheirer.dsp.symbol.Dibit;
+import io.github.dsheirer.dsp.symbol.IDibitBatchListener;
 import io.github.dsheirer.dsp.symbol.ISyncDetectListener;
 import io.github.dsheirer.log.ApplicationLog;
 import io.github.dsheirer.message.IMessage;
@@ -54,7 +55,7 @@ import java.util.function.Consumer;
  * P25 Sync Detector and Message Framer.  Includes capability to detect PLL out-of-phase lock errors
  * and issue phase corrections.
  */
-public class P25P2MessageFramer implements Listener<Dibit>
+public class P25P2MessageFramer implements Listener<Dibit>, IDibitBatchListener
 {
     private final static Logger mLog = LoggerFactory.getLogger(P25P2MessageFramer.class);
 
@@ -173,6 +174,22 @@ public class P25P2MessageFramer implements Listener<Dibit>
         mSuperFrameDetector.receive(dibit);
     }
 
+    /**
+     * Primary method for streaming batches of decoded dibit symbols.
+     *
+     * @param dibits array of dibit values (0-3)
+     * @param offset to the first dibit
+     * @param length number of dibits
+     */
+    @Override
+    public void receive(byte[] dibits, int offset, int length)
+    {
+        for(int x = offset; x < offset + length; x++)
+        {
+            receive(Dibit.fromValue(dibits[x]));
+        }
+    }
+
     private void reset(int bitsProcessed)
     {
         updateBitsProcessed(bitsProcessed);
@@ -22,6 +22,7 @@
 
 package io.github.dsheirer.module.decode.p25.phase2.message;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.BinaryMessage;
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
 import io.github.dsheirer.module.decode.p25.phase2.enumeration.ISCHSequence;
@@ -73,10 +74,10 @@ public class InterSlotSignallingChannel
     }
 
     private static final int[] RESERVED = {0, 1};
-    private static final int[] CHANNEL_NUMBER = {2, 3};
-    private static final int[] ISCH_SEQUENCE = {4, 5};
+    private static final BinaryField CHANNEL_NUMBER = BinaryField.range(2, 3);
+    private static final BinaryField ISCH_SEQUENCE = BinaryField.range(4, 5);
     private static final int INBOUND_SACCH_FREE_INDICATOR = 6;
-    private static final int[] SUPERFRAME_SEQUENCE = {7, 8};
+    private static final BinaryField SUPERFRAME_SEQUENCE = BinaryField.range(7, 8);
 
     private CorrectedBinaryMessage mMessage;
     private boolean mValid;
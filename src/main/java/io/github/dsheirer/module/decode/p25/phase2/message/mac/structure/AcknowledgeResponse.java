@@ -22,6 +22,7 @@
 
 package io.github.dsheirer.module.decode.p25.phase2.message.mac.structure;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.module.decode.p25.identifier.APCO25Wacn;
@@ -39,15 +40,12 @@ public class AcknowledgeResponse extends MacStructure
 {
     private static final int ADDITIONAL_INFORMATION_INDICATOR = 8;
     private static final int EXTENDED_ADDRESS = 9;
-    private static final int[] SERVICE_TYPE = {10, 11, 12, 13, 14, 15};
-
-    private static final int[] TARGET_WACN = {16, 17, 18, 19, 20, 21, 22, 23, 24, 25, 26, 27, 28, 29, 30, 31, 32, 33,
-        34, 35};
-    private static final int[] TARGET_SYSTEM = {36, 37, 38, 39, 40, 41, 42, 43, 44, 45, 46, 47};
-    private static final int[] TARGET_ADDRESS = {48, 49, 50, 51, 52, 53, 54, 55, 56, 57, 58, 59, 60, 61, 62, 63, 64,
-        65, 66, 67, 68, 69, 70, 71};
-    private static final int[] SOURCE_ADDRESS = {24, 25, 26, 27, 28, 29, 30, 31, 32, 33, 34, 35, 36, 37, 38, 39, 40,
-        41, 42, 43, 44, 45, 46, 47};
+    private static final BinaryField SERVICE_TYPE = BinaryField.range(10, 15);
+
+    private static final BinaryField TARGET_WACN = BinaryField.range(16, 35);
+    private static final BinaryField TARGET_SYSTEM = BinaryField.range(36, 47);
+    private static final BinaryField TARGET_ADDRESS = BinaryField.range(48, 71);
+    private static final BinaryField SOURCE_ADDRESS = BinaryField.range(24, 47);
 
     private List<Identifier> mIdentifiers;
 
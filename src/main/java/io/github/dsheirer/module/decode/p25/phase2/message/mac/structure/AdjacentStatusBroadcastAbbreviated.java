@@ -22,6 +22,7 @@
 
 package io.github.dsheirer.module.decode.p25.phase2.message.mac.structure;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
 import io.github.dsheirer.channel.IChannelDescriptor;
 import io.github.dsheirer.identifier.Identifier;
@@ -43,18 +44,18 @@ import java.util.List;
  */
 public class AdjacentStatusBroadcastAbbreviated extends MacStructure implements IFrequencyBandReceiver
 {
-    private static final int[] LRA = {8, 9, 10, 11, 12, 13, 14, 15};
+    private static final BinaryField LRA = BinaryField.range(8, 15);
     private static final int CONVENTIONAL_CHANNEL_FLAG = 16;
     private static final int SITE_FAILURE_FLAG = 17;
     private static final int VALID_INFORMATION_FLAG = 18;
     private static final int ACTIVE_NETWORK_CONNECTION_TO_RFSS_CONTROLLER_FLAG = 19;
-    private static final int[] SYSTEM_ID = {20, 21, 22, 23, 24, 25, 26, 27, 28, 29, 30, 31};
+    private static final BinaryField SYSTEM_ID = BinaryField.range(20, 31);
 
-    private static final int[] RFSS_ID = {32, 33, 34, 35, 36, 37, 38, 39};
-    private static final int[] SITE_ID = {40, 41, 42, 43, 44, 45, 46, 47};
-    private static final int[] FREQUENCY_BAND = {48, 49, 50, 51};
-    private static final int[] CHANNEL_NUMBER = {52, 53, 54, 55, 56, 57, 58, 59, 60, 61, 62, 63};
-    private static final int[] SERVICE_CLASS = {64, 65, 66, 67, 68, 69, 70, 71};
+    private static final BinaryField RFSS_ID = BinaryField.range(32, 39);
+    private static final BinaryField SITE_ID = BinaryField.range(40, 47);
+    private static final BinaryField FREQUENCY_BAND = BinaryField.range(48, 51);
+    private static final BinaryField CHANNEL_NUMBER = BinaryField.range(52, 63);
+    private static final BinaryField SERVICE_CLASS = BinaryField.range(64, 71);
 
     private List<Identifier> mIdentifiers;
     private Identifier mLRA;
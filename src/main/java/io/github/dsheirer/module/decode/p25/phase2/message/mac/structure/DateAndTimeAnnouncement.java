@@ -22,6 +22,7 @@
 
 package io.github.dsheirer.module.decode.p25.phase2.message.mac.structure;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.module.decode.p25.phase2.message.mac.MacStructure;
@@ -40,10 +41,8 @@ public class DateAndTimeAnnouncement extends MacStructure
     private static final int VT_FLAG = 9;
     private static final int VL_FLAG = 10;
     private static final int[] LOCAL_TIME_OFFSET = {12, 13, 14, 15, 16, 17, 18, 19, 20, 21, 22, 23};
-    private static final int[] DATE = {24, 25, 26, 27, 28, 29, 30, 31, 32, 33, 34, 35, 36, 37, 38, 39, 40, 41, 42, 43,
-        44, 45, 46, 47};
-    private static final int[] TIME = {48, 49, 50, 51, 52, 53, 54, 55, 56, 57, 58, 59, 60, 61, 62, 63, 64, 65, 66, 67,
-        68, 69, 70, 71};
+    private static final BinaryField DATE = BinaryField.range(24, 47);
+    private static final BinaryField TIME = BinaryField.range(48, 71);
 
     /**
      * Constructs the message
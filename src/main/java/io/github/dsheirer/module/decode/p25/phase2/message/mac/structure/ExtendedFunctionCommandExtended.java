@@ -22,6 +22,7 @@
 
 package io.github.dsheirer.module.decode.p25.phase2.message.mac.structure;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.module.decode.p25.identifier.radio.APCO25FullyQualifiedRadioIdentifier;
@@ -37,16 +38,12 @@ import java.util.List;
  */
 public class ExtendedFunctionCommandExtended extends MacStructure
 {
-    private static final int[] FUNCTION = {16, 17, 18, 19, 20, 21, 22, 23, 24, 25, 26, 27, 28, 29, 30, 31};
-    private static final int[] ARGUMENTS = {32, 33, 34, 35, 36, 37, 38, 39, 40, 41, 42, 43, 44, 45, 46, 47, 48, 49, 50,
-        51, 52, 53, 54, 55};
-    private static final int[] TARGET_ADDRESS = {56, 57, 58, 59, 60, 61, 62, 63, 64, 65, 66, 67, 68, 69, 70, 71, 72, 73,
-        74, 75, 76, 77, 78, 79};
-    private static final int[] FULLY_QUALIFIED_SOURCE_WACN = {80, 81, 82, 83, 84, 85, 86, 87, 88, 89, 90, 91, 92, 93,
-        94, 95, 96, 97, 98, 99};
-    private static final int[] FULLY_QUALIFIED_SOURCE_SYSTEM = {100, 101, 102, 103, 104, 105, 106, 107, 108, 109, 110, 111};
-    private static final int[] FULLY_QUALIFIED_SOURCE_ID = {112, 113, 114, 115, 116, 117, 118, 119, 120, 121, 122, 123,
-        124, 125, 126, 127, 128, 129, 130, 131, 132, 133, 134, 135};
+    private static final BinaryField FUNCTION = BinaryField.range(16, 31);
+    private static final BinaryField ARGUMENTS = BinaryField.range(32, 55);
+    private static final BinaryField TARGET_ADDRESS = BinaryField.range(56, 79);
+    private static final BinaryField FULLY_QUALIFIED_SOURCE_WACN = BinaryField.range(80, 99);
+    private static final BinaryField FULLY_QUALIFIED_SOURCE_SYSTEM = BinaryField.range(100, 111);
+    private static final BinaryField FULLY_QUALIFIED_SOURCE_ID = BinaryField.range(112, 135);
 
     private ExtendedFunction mExtendedFunction;
     private String mArguments;
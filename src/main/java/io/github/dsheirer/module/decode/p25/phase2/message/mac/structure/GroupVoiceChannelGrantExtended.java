@@ -22,6 +22,7 @@
 
 package io.github.dsheirer.module.decode.p25.phase2.message.mac.structure;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
 import io.github.dsheirer.channel.IChannelDescriptor;
 import io.github.dsheirer.identifier.Identifier;
@@ -41,14 +42,13 @@ import java.util.List;
  */
 public class GroupVoiceChannelGrantExtended extends MacStructure implements IFrequencyBandReceiver
 {
-    private static final int[] SERVICE_OPTIONS = {8, 9, 10, 11, 12, 13, 14, 15};
-    private static final int[] TRANSMIT_FREQUENCY_BAND = {16, 17, 18, 19};
-    private static final int[] TRANSMIT_CHANNEL_NUMBER = {20, 21, 22, 23, 24, 25, 26, 27, 28, 29, 30, 31};
-    private static final int[] RECEIVE_FREQUENCY_BAND = {32, 33, 34, 35};
-    private static final int[] RECEIVE_CHANNEL_NUMBER = {36, 37, 38, 39, 40, 41, 42, 43, 44, 45, 46, 47};
-    private static final int[] GROUP_ADDRESS = {48, 49, 50, 51, 52, 53, 54, 55, 56, 57, 58, 59, 60, 61, 62, 63};
-    private static final int[] SOURCE_ADDRESS = {64, 65, 66, 67, 68, 69, 70, 71, 72, 73, 74, 75, 76, 77, 78, 79, 80, 81,
-        82, 83, 84, 85, 86, 87};
+    private static final BinaryField SERVICE_OPTIONS = BinaryField.range(8, 15);
+    private static final BinaryField TRANSMIT_FREQUENCY_BAND = BinaryField.range(16, 19);
+    private static final BinaryField TRANSMIT_CHANNEL_NUMBER = BinaryField.range(20, 31);
+    private static final BinaryField RECEIVE_FREQUENCY_BAND = BinaryField.range(32, 35);
+    private static final BinaryField RECEIVE_CHANNEL_NUMBER = BinaryField.range(36, 47);
+    private static final BinaryField GROUP_ADDRESS = BinaryField.range(48, 63);
+    private static final BinaryField SOURCE_ADDRESS = BinaryField.range(64, 87);
 
     private List<Identifier> mIdentifiers;
     private APCO25Channel mChannel;
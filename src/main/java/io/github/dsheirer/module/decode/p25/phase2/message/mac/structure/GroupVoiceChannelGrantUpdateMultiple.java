@@ -22,6 +22,7 @@
 
 package io.github.dsheirer.module.decode.p25.phase2.message.mac.structure;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
 import io.github.dsheirer.channel.IChannelDescriptor;
 import io.github.dsheirer.identifier.Identifier;
@@ -40,21 +41,20 @@ import java.util.List;
  */
 public class GroupVoiceChannelGrantUpdateMultiple extends MacStructure implements IFrequencyBandReceiver
 {
-    private static final int[] SERVICE_OPTIONS_A = {8, 9, 10, 11, 12, 13, 14, 15};
-    private static final int[] FREQUENCY_BAND_A = {16, 17, 18, 19};
-    private static final int[] CHANNEL_NUMBER_A = {20, 21, 22, 23, 24, 25, 26, 27, 28, 29, 30, 31};
-    private static final int[] GROUP_ADDRESS_A = {32, 33, 34, 35, 36, 37, 38, 39, 40, 41, 42, 43, 44, 45, 46, 47};
-
-    private static final int[] SERVICE_OPTIONS_B = {48, 49, 50, 51, 52, 53, 54, 55};
-    private static final int[] FREQUENCY_BAND_B = {56, 57, 58, 59};
-    private static final int[] CHANNEL_NUMBER_B = {60, 61, 62, 63, 64, 65, 66, 67, 68, 69, 70, 71};
-    private static final int[] GROUP_ADDRESS_B = {72, 73, 74, 75, 76, 77, 78, 79, 80, 81, 82, 83, 84, 85, 86, 87};
-
-    private static final int[] SERVICE_OPTIONS_C = {88, 89, 90, 91, 92, 93, 94, 95};
-    private static final int[] FREQUENCY_BAND_C = {96, 97, 98, 99};
-    private static final int[] CHANNEL_NUMBER_C = {100, 101, 102, 103, 104, 105, 106, 107, 108, 109, 110, 111};
-    private static final int[] GROUP_ADDRESS_C = {112, 113, 114, 115, 116, 117, 118, 119, 120, 121, 122, 123, 124, 125,
-        126, 127};
+    private static final BinaryField SERVICE_OPTIONS_A = BinaryField.range(8, 15);
+    private static final BinaryField FREQUENCY_BAND_A = BinaryField.range(16, 19);
+    private static final BinaryField CHANNEL_NUMBER_A = BinaryField.range(20, 31);
+    private static final BinaryField GROUP_ADDRESS_A = BinaryField.range(32, 47);
+
+    private static final BinaryField SERVICE_OPTIONS_B = BinaryField.range(48, 55);
+    private static final BinaryField FREQUENCY_BAND_B = BinaryField.range(56, 59);
+    private static final BinaryField CHANNEL_NUMBER_B = BinaryField.range(60, 71);
+    private static final BinaryField GROUP_ADDRESS_B = BinaryField.range(72, 87);
+
+    private static final BinaryField SERVICE_OPTIONS_C = BinaryField.range(88, 95);
+    private static final BinaryField FREQUENCY_BAND_C = BinaryField.range(96, 99);
+    private static final BinaryField CHANNEL_NUMBER_C = BinaryField.range(100, 111);
+    private static final BinaryField GROUP_ADDRESS_C = BinaryField.range(112, 127);
 
     private List<Identifier> mIdentifiers;
     private VoiceServiceOptions mVoiceServiceOptionsA;
@@ -22,6 +22,7 @@
 
 package io.github.dsheirer.module.decode.p25.phase2.message.mac.structure;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
 import io.github.dsheirer.channel.IChannelDescriptor;
 import io.github.dsheirer.identifier.Identifier;
@@ -41,20 +42,19 @@ import java.util.List;
  */
 public class GroupVoiceChannelGrantUpdateMultipleExplicit extends MacStructure implements IFrequencyBandReceiver
 {
-    private static final int[] SERVICE_OPTIONS_A = {8, 9, 10, 11, 12, 13, 14, 15};
-    private static final int[] TRANSMIT_FREQUENCY_BAND_A = {16, 17, 18, 19};
-    private static final int[] TRANSMIT_CHANNEL_NUMBER_A = {20, 21, 22, 23, 24, 25, 26, 27, 28, 29, 30, 31};
-    private static final int[] RECEIVE_FREQUENCY_BAND_A = {32, 33, 34, 35};
-    private static final int[] RECEIVE_CHANNEL_NUMBER_A = {36, 37, 38, 39, 40, 41, 42, 43, 44, 45, 46, 47};
-    private static final int[] GROUP_ADDRESS_A = {48, 49, 50, 51, 52, 53, 54, 55, 56, 57, 58, 59, 60, 61, 62, 63};
-
-    private static final int[] SERVICE_OPTIONS_B = {64, 65, 66, 67, 68, 69, 70, 71};
-    private static final int[] TRANSMIT_FREQUENCY_BAND_B = {72, 73, 74, 75};
-    private static final int[] TRANSMIT_CHANNEL_NUMBER_B = {76, 77, 78, 79, 80, 81, 82, 83, 84, 85, 86, 87};
-    private static final int[] RECEIVE_FREQUENCY_BAND_B = {88, 89, 90, 91};
-    private static final int[] RECEIVE_CHANNEL_NUMBER_B = {92, 93, 94, 95, 96, 97, 98, 99, 100, 101, 102, 103};
-    private static final int[] GROUP_ADDRESS_B = {104, 105, 106, 107, 108, 109, 110, 111, 112, 113, 114, 115, 116, 117,
-        118, 119};
+    private static final BinaryField SERVICE_OPTIONS_A = BinaryField.range(8, 15);
+    private static final BinaryField TRANSMIT_FREQUENCY_BAND_A = BinaryField.range(16, 19);
+    private static final BinaryField TRANSMIT_CHANNEL_NUMBER_A = BinaryField.range(20, 31);
+    private static final BinaryField RECEIVE_FREQUENCY_BAND_A = BinaryField.range(32, 35);
+    private static final BinaryField RECEIVE_CHANNEL_NUMBER_A = BinaryField.range(36, 47);
+    private static final BinaryField GROUP_ADDRESS_A = BinaryField.range(48, 63);
+
+    private static final BinaryField SERVICE_OPTIONS_B = BinaryField.range(64, 71);
+    private static final BinaryField TRANSMIT_FREQUENCY_BAND_B = BinaryField.range(72, 75);
+    private static final BinaryField TRANSMIT_CHANNEL_NUMBER_B = BinaryField.range(76, 87);
+    private static final BinaryField RECEIVE_FREQUENCY_BAND_B = BinaryField.range(88, 91);
+    private static final BinaryField RECEIVE_CHANNEL_NUMBER_B = BinaryField.range(92, 103);
+    private static final BinaryField GROUP_ADDRESS_B = BinaryField.range(104, 119);
 
     private List<Identifier> mIdentifiers;
     private VoiceServiceOptions mVoiceServiceOptionsA;
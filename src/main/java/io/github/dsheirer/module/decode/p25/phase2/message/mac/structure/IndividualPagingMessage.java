@@ -22,6 +22,7 @@
 
 package io.github.dsheirer.module.decode.p25.phase2.message.mac.structure;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.BinaryMessage;
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
 import io.github.dsheirer.identifier.Identifier;
@@ -40,15 +41,11 @@ public class IndividualPagingMessage extends MacStructure
     private static final int PRIORITY_ID_2 = 9;
     private static final int PRIORITY_ID_3 = 10;
     private static final int PRIORITY_ID_4 = 11;
-    private static final int[] ID_COUNT = {14, 15};
-    private static final int[] TARGET_ADDRESS_1 = {16, 17, 18, 19, 20, 21, 22, 23, 24, 25, 26, 27, 28, 29, 30, 31, 32,
-        33, 34, 35, 36, 37, 38, 39};
-    private static final int[] TARGET_ADDRESS_2 = {40, 41, 42, 43, 44, 45, 46, 47, 48, 49, 50, 51, 52, 53, 54, 55, 56,
-        57, 58, 59, 60, 61, 62, 63};
-    private static final int[] TARGET_ADDRESS_3 = {64, 65, 66, 67, 68, 69, 70, 71, 72, 73, 74, 75, 76, 77, 78, 79, 80,
-        81, 82, 83, 84, 85, 86, 87};
-    private static final int[] TARGET_ADDRESS_4 = {88, 89, 90, 91, 92, 93, 94, 95, 96, 97, 98, 99, 100, 101, 102, 103,
-        104, 105, 106, 107, 108, 109, 110, 111};
+    private static final BinaryField ID_COUNT = BinaryField.range(14, 15);
+    private static final BinaryField TARGET_ADDRESS_1 = BinaryField.range(16, 39);
+    private static final BinaryField TARGET_ADDRESS_2 = BinaryField.range(40, 63);
+    private static final BinaryField TARGET_ADDRESS_3 = BinaryField.range(64, 87);
+    private static final BinaryField TARGET_ADDRESS_4 = BinaryField.range(88, 111);
 
     private List<Identifier> mIdentifiers;
     private Identifier mTargetAddress1;
@@ -22,6 +22,7 @@
 
 package io.github.dsheirer.module.decode.p25.phase2.message.mac.structure;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.module.decode.p25.identifier.radio.APCO25RadioIdentifier;
@@ -37,10 +38,9 @@ import java.util.List;
  */
 public class PowerControlSignalQuality extends MacStructure
 {
-    private static final int[] TARGET_ADDRESS = {8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20, 21, 22, 23, 24, 25,
-        26, 27, 28, 29, 30, 31};
-    private static final int[] RF_LEVEL = {32, 33, 34, 35};
-    private static final int[] BIT_ERROR_RATE = {36, 37, 38, 39};
+    private static final BinaryField TARGET_ADDRESS = BinaryField.range(8, 31);
+    private static final BinaryField RF_LEVEL = BinaryField.range(32, 35);
+    private static final BinaryField BIT_ERROR_RATE = BinaryField.range(36, 39);
 
     private List<Identifier> mIdentifiers;
     private Identifier mTargetAddress;
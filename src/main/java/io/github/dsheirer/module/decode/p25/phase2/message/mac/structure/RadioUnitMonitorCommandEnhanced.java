@@ -22,6 +22,7 @@
 
 package io.github.dsheirer.module.decode.p25.phase2.message.mac.structure;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
 import io.github.dsheirer.identifier.Identifier;
 import io.github.dsheirer.module.decode.p25.identifier.radio.APCO25RadioIdentifier;
@@ -38,16 +39,14 @@ import java.util.List;
  */
 public class RadioUnitMonitorCommandEnhanced extends MacStructure
 {
-    private static final int[] TARGET_ADDRESS = {8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20, 21, 22, 23, 24, 25,
-        26, 27, 28, 29, 30, 31};
-    private static final int[] TALKGROUP_ID = {32, 33, 34, 35, 36, 37, 38, 39, 40, 41, 42, 43, 44, 45, 46, 47};
-    private static final int[] SOURCE_ADDRESS = {48, 49, 50, 51, 52, 53, 54, 55, 56, 57, 58, 59, 60, 61, 62, 63, 64,
-        65, 66, 67, 68, 69, 70, 71};
+    private static final BinaryField TARGET_ADDRESS = BinaryField.range(8, 31);
+    private static final BinaryField TALKGROUP_ID = BinaryField.range(32, 47);
+    private static final BinaryField SOURCE_ADDRESS = BinaryField.range(48, 71);
     private static final int SM = 72; //Stealth Mode?
     private static final int TG = 73;
-    private static final int[] TRANSMIT_TIME = {80, 81, 82, 83, 84, 85, 86, 87};
-    private static final int[] KEY_ID = {88, 89, 90, 91, 92, 93, 94, 95};
-    private static final int[] ALGORITHM_ID = {96, 97, 98, 99, 100, 101, 102, 103, 104, 105, 106, 107, 108, 109, 110, 111};
+    private static final BinaryField TRANSMIT_TIME = BinaryField.range(80, 87);
+    private static final BinaryField KEY_ID = BinaryField.range(88, 95);
+    private static final BinaryField ALGORITHM_ID = BinaryField.range(96, 111);
 
 
     private List<Identifier> mIdentifiers;
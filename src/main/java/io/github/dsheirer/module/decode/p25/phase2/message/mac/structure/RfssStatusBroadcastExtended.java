@@ -22,6 +22,7 @@
 
 package io.github.dsheirer.module.decode.p25.phase2.message.mac.structure;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
 import io.github.dsheirer.channel.IChannelDescriptor;
 import io.github.dsheirer.identifier.Identifier;
@@ -44,18 +45,18 @@ import java.util.List;
  */
 public class RfssStatusBroadcastExtended extends MacStructure implements IFrequencyBandReceiver
 {
-    private static final int[] LRA = {8, 9, 10, 11, 12, 13, 14, 15};
+    private static final BinaryField LRA = BinaryField.range(8, 15);
     private static final int R = 18;
     private static final int A = 19;
-    private static final int[] SYSTEM_ID = {20, 21, 22, 23, 24, 25, 26, 27, 28, 29, 30, 31};
-
-    private static final int[] RFSS_ID = {32, 33, 34, 35, 36, 37, 38, 39};
-    private static final int[] SITE_ID = {40, 41, 42, 43, 44, 45, 46, 47};
-    private static final int[] TRANSMIT_FREQUENCY_BAND = {48, 49, 50, 51};
-    private static final int[] TRANSMIT_CHANNEL_NUMBER = {52, 53, 54, 55, 56, 57, 58, 59, 60, 61, 62, 63};
-    private static final int[] RECEIVE_FREQUENCY_BAND = {64, 65, 66, 67};
-    private static final int[] RECEIVE_CHANNEL_NUMBER = {68, 69, 70, 71, 72, 73, 74, 75, 76, 77, 78, 79};
-    private static final int[] SERVICE_CLASS = {80, 81, 82, 83, 84, 85, 86, 87};
+    private static final BinaryField SYSTEM_ID = BinaryField.range(20, 31);
+
+    private static final BinaryField RFSS_ID = BinaryField.range(32, 39);
+    private static final BinaryField SITE_ID = BinaryField.range(40, 47);
+    private static final BinaryField TRANSMIT_FREQUENCY_BAND = BinaryField.range(48, 51);
+    private static final BinaryField TRANSMIT_CHANNEL_NUMBER = BinaryField.range(52, 63);
+    private static final BinaryField RECEIVE_FREQUENCY_BAND = BinaryField.range(64, 67);
+    private static final BinaryField RECEIVE_CHANNEL_NUMBER = BinaryField.range(68, 79);
+    private static final BinaryField SERVICE_CLASS = BinaryField.range(80, 87);
 
     private List<Identifier> mIdentifiers;
     private Identifier mLRA;
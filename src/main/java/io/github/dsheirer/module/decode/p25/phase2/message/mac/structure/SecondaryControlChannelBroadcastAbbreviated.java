@@ -22,6 +22,7 @@
 
 package io.github.dsheirer.module.decode.p25.phase2.message.mac.structure;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
 import io.github.dsheirer.channel.IChannelDescriptor;
 import io.github.dsheirer.identifier.Identifier;
@@ -40,14 +41,14 @@ import java.util.List;
  */
 public class SecondaryControlChannelBroadcastAbbreviated extends MacStructure implements IFrequencyBandReceiver
 {
-    private static final int[] RFSS = {8,9,10,11,12,13,14,15};
-    private static final int[] SITE = {16, 17, 18, 19, 20, 21, 22, 23};
-    private static final int[] FREQUENCY_BAND_A = {24, 25, 26, 27};
-    private static final int[] CHANNEL_NUMBER_A = {28, 29, 30, 31, 32, 33, 34, 35, 36, 37, 38, 39};
-    private static final int[] SYSTEM_SERVICE_CLASS_A = {40, 41, 42, 43, 44, 45, 46, 47};
-    private static final int[] FREQUENCY_BAND_B = {48, 49, 50, 51};
-    private static final int[] CHANNEL_NUMBER_B = {52, 53, 54, 55, 56, 57, 58, 59, 60, 61, 62, 63};
-    private static final int[] SYSTEM_SERVICE_CLASS_B = {64, 65, 66, 67, 68, 69, 70, 71};
+    private static final BinaryField RFSS = BinaryField.range(8, 15);
+    private static final BinaryField SITE = BinaryField.range(16, 23);
+    private static final BinaryField FREQUENCY_BAND_A = BinaryField.range(24, 27);
+    private static final BinaryField CHANNEL_NUMBER_A = BinaryField.range(28, 39);
+    private static final BinaryField SYSTEM_SERVICE_CLASS_A = BinaryField.range(40, 47);
+    private static final BinaryField FREQUENCY_BAND_B = BinaryField.range(48, 51);
+    private static final BinaryField CHANNEL_NUMBER_B = BinaryField.range(52, 63);
+    private static final BinaryField SYSTEM_SERVICE_CLASS_B = BinaryField.range(64, 71);
 
     private Identifier mRfss;
     private Identifier mSite;
@@ -22,6 +22,7 @@
 
 package io.github.dsheirer.module.decode.p25.phase2.message.mac.structure;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
 import io.github.dsheirer.channel.IChannelDescriptor;
 import io.github.dsheirer.identifier.Identifier;
@@ -40,13 +41,13 @@ import java.util.List;
  */
 public class SecondaryControlChannelBroadcastExplicit extends MacStructure implements IFrequencyBandReceiver
 {
-    private static final int[] RFSS = {8, 9, 10, 11, 12, 13, 14, 15};
-    private static final int[] SITE = {16, 17, 18, 19, 20, 21, 22, 23};
-    private static final int[] TRANSMIT_FREQUENCY_BAND = {24, 25, 26, 27};
-    private static final int[] TRANSMIT_CHANNEL_NUMBER = {28, 29, 30, 31, 32, 33, 34, 35, 36, 37, 38, 39};
-    private static final int[] RECEIVE_FREQUENCY_BAND = {40, 41, 42, 43};
-    private static final int[] RECEIVE_CHANNEL_NUMBER = {44, 45, 46, 47, 48, 49, 50, 51, 52, 53, 54, 55};
-    private static final int[] SYSTEM_SERVICE_CLASS = {56, 57, 58, 59, 60, 61, 62, 63};
+    private static final BinaryField RFSS = BinaryField.range(8, 15);
+    private static final BinaryField SITE = BinaryField.range(16, 23);
+    private static final BinaryField TRANSMIT_FREQUENCY_BAND = BinaryField.range(24, 27);
+    private static final BinaryField TRANSMIT_CHANNEL_NUMBER = BinaryField.range(28, 39);
+    private static final BinaryField RECEIVE_FREQUENCY_BAND = BinaryField.range(40, 43);
+    private static final BinaryField RECEIVE_CHANNEL_NUMBER = BinaryField.range(44, 55);
+    private static final BinaryField SYSTEM_SERVICE_CLASS = BinaryField.range(56, 63);
 
     private Identifier mRfss;
     private Identifier mSite;
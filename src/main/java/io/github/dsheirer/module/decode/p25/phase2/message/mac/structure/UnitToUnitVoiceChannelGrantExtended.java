@@ -22,6 +22,7 @@
 
 package io.github.dsheirer.module.decode.p25.phase2.message.mac.structure;
 
+import io.github.dsheirer.bits.BinaryField;
 import io.github.dsheirer.bits.CorrectedBinaryMessage;
 import io.github.dsheirer.channel.IChannelDescriptor;
 import io.github.dsheirer.identifier.Identifier;
@@ -40,17 +41,14 @@ import java.util.List;
  */
 public class UnitToUnitVoiceChannelGrantExtended extends MacStructure implements IFrequencyBandReceiver
 {
-    private static final int[] TRANSMIT_FREQUENCY_BAND = {8, 9, 10, 11};
-    private static final int[] TRANSMIT_CHANNEL_NUMBER = {12, 13, 14, 15, 16, 17, 18, 19, 20, 21, 22, 23};
-    private static final int[] RECEIVE_FREQUENCY_BAND = {24, 25, 26, 27};
-    private static final int[] RECEIVE_CHANNEL_NUMBER = {28, 29, 30, 31, 32, 33, 34, 35, 36, 37, 38, 39};
-    private static final int[] FULLY_QUALIFIED_SOURCE_WACN = {40, 41, 42, 43, 44, 45, 46, 47, 48, 49, 50, 51, 52, 53,
-        54, 55, 56, 57, 58, 59};
-    private static final int[] FULLY_QUALIFIED_SOURCE_SYSTEM = {60, 61, 62, 63, 64, 65, 66, 67, 68, 69, 70, 71};
-    private static final int[] FULLY_QUALIFIED_SOURCE_ID = {72, 73, 74, 75, 76, 77, 78, 79, 80, 81, 82, 83, 84, 85, 86,
-        87, 88, 89, 90, 91, 92, 93, 94, 95};
-    private static final int[] TARGET_ADDRESS = {96, 97, 98, 99, 100, 101, 102, 103, 104, 105, 106, 107, 108, 109, 110,
-        111, 112, 113, 114, 115, 116, 117, 118, 119};
+    private static final BinaryField TRANSMIT_FREQUENCY_BAND = BinaryField.range(8, 11);
+    private static final BinaryField TRANSMIT_CHANNEL_NUMBER = BinaryField.range(12, 23);
+    private static final BinaryField RECEIVE_FREQUENCY_BAND = BinaryField.range(24, 27);
+    private static final BinaryField RECEIVE_CHANNEL_NUMBER = BinaryField.range(28, 39);
+    private static final BinaryField FULLY_QUALIFIED_SOURCE_WACN = BinaryField.range(40, 59);
+    private static final BinaryField FULLY_QUALIFIED_SOURCE_SYSTEM = BinaryField.range(60, 71);
+    private static final BinaryField FULLY_QUALIFIED_SOURCE_ID = BinaryField.range(72, 95);
+    private static final BinaryField TARGET_ADDRESS = BinaryField.range(96, 119);
 
     private APCO25Channel mChannel;
     private List<Identifier> mIdentifiers;
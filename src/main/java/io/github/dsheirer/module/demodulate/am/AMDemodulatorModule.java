@@ -21,7 +21,8 @@ import io.github.dsheirer.dsp.filter.Window;
 import io.github.dsheirer.dsp.filter.Window.WindowType;
 import io.github.dsheirer.dsp.filter.design.FilterDesignException;
 import io.github.dsheirer.dsp.filter.fir.FIRFilterSpecification;
-import io.github.dsheirer.dsp.filter.fir.complex.ComplexFIRFilter2;
+import io.github.dsheirer.dsp.filter.fir.complex.ComplexFIRFilterFactory;
+import io.github.dsheirer.dsp.filter.fir.complex.IComplexFIRFilter;
 import io.github.dsheirer.dsp.filter.fir.real.RealFIRFilter2;
 import io.github.dsheirer.dsp.filter.resample.RealResampler;
 import io.github.dsheirer.dsp.gain.AutomaticGainControl;
@@ -48,7 +49,7 @@ public class AMDemodulatorModule extends Module implements ISourceEventListener,
 {
     private final static Logger mLog = LoggerFactory.getLogger(AMDemodulatorModule.class);
     private static float[] mLowPassFilterTaps;
-    private ComplexFIRFilter2 mIQFilter;
+    private IComplexFIRFilter mIQFilter;
     private AMDemodulator mDemodulator;
     private RealFIRFilter2 mLowPassFilter;
     private AutomaticGainControl mAGC = new AutomaticGainControl();
@@ -230,7 +231,7 @@ public class AMDemodulatorModule extends Module implements ISourceEventListener,
                         Window.WindowType.HAMMING, true);
                 }
 
-                mIQFilter = new ComplexFIRFilter2(filterTaps);
+                mIQFilter = ComplexFIRFilterFactory.getFilter(filterTaps);
 
                 mResampler = new RealResampler(sampleRate, mOutputSampleRate, 2000, 1000);
 
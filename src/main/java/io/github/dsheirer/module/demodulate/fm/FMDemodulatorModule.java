@@ -19,7 +19,8 @@ import io.github.dsheirer.dsp.filter.FilterFactory;
 import io.github.dsheirer.dsp.filter.Window;
 import io.github.dsheirer.dsp.filter.design.FilterDesignException;
 import io.github.dsheirer.dsp.filter.fir.FIRFilterSpecification;
-import io.github.dsheirer.dsp.filter.fir.complex.ComplexFIRFilter2;
+import io.github.dsheirer.dsp.filter.fir.complex.ComplexFIRFilterFactory;
+import io.github.dsheirer.dsp.filter.fir.complex.IComplexFIRFilter;
 import io.github.dsheirer.dsp.filter.resample.RealResampler;
 import io.github.dsheirer.dsp.fm.FMDemodulator;
 import io.github.dsheirer.dsp.squelch.PowerMonitor;
@@ -45,7 +46,7 @@ public class FMDemodulatorModule extends Module implements ISourceEventListener,
 {
     private final static Logger mLog = LoggerFactory.getLogger(FMDemodulatorModule.class);
 
-    private ComplexFIRFilter2 mIQFilter;
+    private IComplexFIRFilter mIQFilter;
     private FMDemodulator mDemodulator = new FMDemodulator();
     private PowerMonitor mPowerMonitor = new PowerMonitor();
     private RealResampler mResampler;
@@ -218,7 +219,7 @@ public class FMDemodulatorModule extends Module implements ISourceEventListener,
                             Window.WindowType.HAMMING, true);
                 }
 
-                mIQFilter = new ComplexFIRFilter2(filterTaps);
+                mIQFilter = ComplexFIRFilterFactory.getFilter(filterTaps);
 
                 mResampler = new RealResampler(sampleRate, mOutputSampleRate, 2000, 1000);
 
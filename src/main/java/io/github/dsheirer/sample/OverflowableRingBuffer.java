@@ -0,0 +1,380 @@
+/*******************************************************************************
+ * sdr-trunk
+ * Copyright (C) 2014-2018 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by  the Free Software Foundation, either version 3 of the License, or  (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful,  but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License  along with this program.
+ * If not, see <http://www.gnu.org/licenses/>
+ *
+ ******************************************************************************/
+package io.github.dsheirer.sample;
+
+import io.github.dsheirer.source.Source;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded single-producer ring buffer with the same overflow and reset threshold semantics as the
+ * OverflowableTransferQueue.
+ *
+ * The ring storage is allocated once at construction, so offering and draining elements does not create any
+ * garbage.  Exactly one thread may invoke offer().  The producer publishes each element with an ordered write of the
+ * tail index and the consumer releases each slot with an ordered write of the head index, so the producer never
+ * blocks.  The consumer side methods (poll(), drainTo() and clear()) are serialized with an internal lock so that
+ * clear() or dispose() can safely be invoked from another thread (e.g. a source dispose request) while a scheduled
+ * drain is still running.  The lock is uncontended in normal operation and is taken once per drainTo() call.
+ *
+ * Once the number of queued elements exceeds the maximum size the buffer enters an overflow state and all inbound
+ * elements are ignored until the consumer drains the buffer to or below the reset threshold.  Because the overflow
+ * state is entered by the producer as soon as the maximum size is exceeded, the ring never needs to hold more than
+ * maximum size + 1 elements.
+ *
+ * Occupancy and overflow counters are maintained so that queue pressure can be monitored per channel.
+ */
+public class OverflowableRingBuffer<E>
+{
+    private IOverflowListener mOverflowListener;
+    private Source mSourceOverflowListener;
+
+    private final Object[] mElements;
+    private final int mMask;
+    private final AtomicLong mHead = new AtomicLong();
+    private final AtomicLong mTail = new AtomicLong();
+    private final AtomicBoolean mOverflow = new AtomicBoolean();
+    private final Object mConsumerLock = new Object();
+    private volatile boolean mDisposed;
+    private final int mMaximumSize;
+    private final int mResetThreshold;
+
+    private volatile int mPeakSize;
+    private volatile long mOverflowCount;
+    private volatile long mDroppedCount;
+
+    /**
+     * Constructs an instance.
+     *
+     * @param maximumSize of the queue.  Overflow state will occur once queue size exceeds this value.
+     * @param resetThreshold for resetting overflow state to normal, once queue size is at or below this value.
+     */
+    public OverflowableRingBuffer(int maximumSize, int resetThreshold)
+    {
+        if(maximumSize < 1 || maximumSize >= (1 << 30))
+        {
+            throw new IllegalArgumentException("Maximum size must be in the range 1 to 2^30: " + maximumSize);
+        }
+
+        mMaximumSize = maximumSize;
+        mResetThreshold = resetThreshold;
+
+        int capacity = Integer.highestOneBit(maximumSize) << 1;
+        mElements = new Object[capacity];
+        mMask = capacity - 1;
+    }
+
+    /**
+     * Disposes this buffer and clears any queued elements.  Any elements offered after disposal are discarded.  Safe
+     * to invoke from any thread.
+     */
+    public void dispose()
+    {
+        mDisposed = true;
+        clear();
+        mOverflowListener = null;
+        mSourceOverflowListener = null;
+    }
+
+    /**
+     * Adds the element to the queue if able to do so without exceeding maximum queue size.  Otherwise, ignores
+     * the element.  Invoke from the producer thread only.
+     */
+    public void offer(E e)
+    {
+        if(mOverflow.get() || mDisposed)
+        {
+            discard(e);
+            return;
+        }
+
+        long tail = mTail.get();
+        int size = (int)(tail - mHead.get());
+
+        //Can't happen while the overflow state is honored, but protects the ring against a misbehaving producer
+        if(size >= mElements.length)
+        {
+            discard(e);
+            return;
+        }
+
+        mElements[(int)tail & mMask] = e;
+        mTail.lazySet(tail + 1);
+
+        //Dispose may have cleared the buffer between the check above and publishing the element
+        if(mDisposed)
+        {
+            clear();
+            return;
+        }
+
+        size++;
+
+        if(size > mPeakSize)
+        {
+            mPeakSize = size;
+        }
+
+        if(size > mMaximumSize)
+        {
+            mOverflowCount++;
+            setOverflow(true);
+        }
+    }
+
+    /**
+     * Counts and discards an element that can't be enqueued.
+     */
+    private void discard(E e)
+    {
+        mDroppedCount++;
+        overflow(e);
+    }
+
+    /**
+     * Invoked when the buffer is in an overflow state.  The element argument is thrown away.  Override this method
+     * in subclasses to perform any necessary cleanup action(s).
+     *
+     * @param e element that is being thrown away due to an overflow condition
+     */
+    protected void overflow(E e)
+    {
+        //No-op.  Override in subclass to perform any cleanup actions during overflow
+    }
+
+    /**
+     * Removes and returns a single element from the head of the queue or null if the queue is empty.
+     */
+    public E poll()
+    {
+        synchronized(mConsumerLock)
+        {
+            return pollElement();
+        }
+    }
+
+    /**
+     * Removes the head element.  Caller must hold the consumer lock.
+     */
+    @SuppressWarnings("unchecked")
+    private E pollElement()
+    {
+        long head = mHead.get();
+
+        if(head == mTail.get())
+        {
+            return null;
+        }
+
+        int index = (int)head & mMask;
+        E element = (E)mElements[index];
+        mElements[index] = null;
+        mHead.lazySet(head + 1);
+
+        return element;
+    }
+
+    /**
+     * Retrieves elements from the queue into the collection up to the maximum number of elements specified.
+     *
+     * @return number of elements transferred to the collection
+     */
+    public int drainTo(Collection<? super E> collection, int maxElements)
+    {
+        synchronized(mConsumerLock)
+        {
+            return drainElements(collection, maxElements);
+        }
+    }
+
+    /**
+     * Drains elements.  Caller must hold the consumer lock.
+     */
+    @SuppressWarnings("unchecked")
+    private int drainElements(Collection<? super E> collection, int maxElements)
+    {
+        long head = mHead.get();
+        long tail = mTail.get();
+        int drainCount = (int)Math.min(tail - head, maxElements);
+
+        for(int x = 0; x < drainCount; x++)
+        {
+            int index = (int)(head + x) & mMask;
+            collection.add((E)mElements[index]);
+            mElements[index] = null;
+        }
+
+        if(drainCount > 0)
+        {
+            mHead.lazySet(head + drainCount);
+        }
+
+        if(mOverflow.get() && (tail - head - drainCount) <= mResetThreshold)
+        {
+            setOverflow(false);
+        }
+
+        return drainCount;
+    }
+
+    /**
+     * Retrieves all currently queued elements from the queue into the collection.
+     *
+     * @return number of elements transferred to the collection
+     */
+    public int drainTo(Collection<? super E> collection)
+    {
+        return drainTo(collection, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Sets a listener to receive overflow state change events.
+     */
+    public void setOverflowListener(IOverflowListener listener)
+    {
+        mOverflowListener = listener;
+    }
+
+    /**
+     * Sets the source to receive overflow state change events (in addition to an IOverflow listener)
+     */
+    public void setSourceOverflowListener(Source source)
+    {
+        mSourceOverflowListener = source;
+    }
+
+    /**
+     * Toggles the overflow state and broadcast state change to listener
+     */
+    private void setOverflow(boolean overflow)
+    {
+        if(mOverflow.compareAndSet(!overflow, overflow))
+        {
+            IOverflowListener listener = mOverflowListener;
+
+            if(listener != null)
+            {
+                listener.sourceOverflow(overflow);
+            }
+
+            Source source = mSourceOverflowListener;
+
+            if(source != null)
+            {
+                source.broadcastOverflowState(overflow);
+            }
+        }
+    }
+
+    /**
+     * Removes all elements from the queue, passing each to the clear(element) method, and resets the overflow state.
+     * Safe to invoke from any thread.
+     */
+    public void clear()
+    {
+        synchronized(mConsumerLock)
+        {
+            E element = pollElement();
+
+            while(element != null)
+            {
+                clear(element);
+                element = pollElement();
+            }
+
+            mOverflow.set(false);
+        }
+    }
+
+    /**
+     * Invoked for each element that is removed from the queue by the clear() method.  Override this method in
+     * subclasses to perform any necessary cleanup action(s).
+     *
+     * @param e element that is being cleared from the queue
+     */
+    protected void clear(E e)
+    {
+        //No-op.  Override in subclass to perform any cleanup actions when cleared
+    }
+
+    /**
+     * Current number of queued elements
+     */
+    public int size()
+    {
+        return (int)(mTail.get() - mHead.get());
+    }
+
+    /**
+     * Number of element slots preallocated for the ring
+     */
+    public int getCapacity()
+    {
+        return mElements.length;
+    }
+
+    /**
+     * Largest number of queued elements observed since construction or the last counter reset
+     */
+    public int getPeakSize()
+    {
+        return mPeakSize;
+    }
+
+    /**
+     * Number of times that the queue has entered an overflow state
+     */
+    public long getOverflowCount()
+    {
+        return mOverflowCount;
+    }
+
+    /**
+     * Number of elements that were discarded while the queue was in an overflow state
+     */
+    public long getDroppedCount()
+    {
+        return mDroppedCount;
+    }
+
+    /**
+     * Indicates if the queue is currently in an overflow state
+     */
+    public boolean isOverflow()
+    {
+        return mOverflow.get();
+    }
+
+    /**
+     * Resets the peak size, overflow and dropped element counters.
+     */
+    public void resetCounters()
+    {
+        mPeakSize = size();
+        mOverflowCount = 0;
+        mDroppedCount = 0;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "Queue size:" + size() + " peak:" + mPeakSize + " capacity:" + mElements.length +
+            " max:" + mMaximumSize + " reset:" + mResetThreshold + " overflows:" + mOverflowCount +
+            " dropped:" + mDroppedCount + (isOverflow() ? " OVERFLOW" : "");
+    }
+}
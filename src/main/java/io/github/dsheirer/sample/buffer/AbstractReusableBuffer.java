@@ -28,6 +28,17 @@ public abstract class AbstractReusableBuffer
     protected long mTimestamp;
     protected AtomicInteger mUserCount = new AtomicInteger();
     private String mDebugName;
+    private long mIdleTimestamp;
+    private volatile String mLastOwner;
+    private volatile String mCheckoutSite;
+    private volatile long mCheckoutTimestamp;
+    private volatile boolean mLeakReported;
+
+    public static final String PROPERTY_LEAK_DETECTION_ENABLED = "buffer.leak.detection.enabled";
+
+    private static final StackWalker OWNER_STACK_WALKER =
+        StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+    private static volatile boolean sLeakDetectionEnabled = false;
 
     public AbstractReusableBuffer(IReusableBufferDisposedListener bufferDisposedListener, long timestamp)
     {
@@ -75,12 +86,14 @@ public abstract class AbstractReusableBuffer
     }
 
     /**
-     * Sets the user count to 0 and recycles this buffer
+     * Sets the user count to 0 and recycles this buffer, unless the user count was already zero.
      */
     public void clearUserCount()
     {
-        mUserCount.set(0);
-        recycle();
+        if(mUserCount.getAndSet(0) > 0)
+        {
+            recycle();
+        }
     }
 
     /**
@@ -91,36 +104,151 @@ public abstract class AbstractReusableBuffer
      * indicate that they have finished processing the buffer so that when the user count reaches zero, this buffer
      * can be reused.
      *
-     * This method is thread-safe.
+     * This method is thread-safe and lock-free.  Only the caller whose decrement moves the user count from one to zero
+     * recycles the buffer, so a buffer is returned to its owner exactly once per use.
+     *
+     * @throws IllegalStateException if the user count was already zero, indicating that this method was invoked by
+     * more than the expected user count.
      */
-    public synchronized void decrementUserCount()
+    public void decrementUserCount()
     {
-        if(mUserCount.decrementAndGet() <= 0)
+        int count = mUserCount.decrementAndGet();
+
+        if(count == 0)
         {
+            recordOwner();
             recycle();
         }
+        else if(count < 0)
+        {
+            //Restore the count, unless another thread has already changed it
+            mUserCount.compareAndSet(count, 0);
+
+            throw new IllegalStateException("User count is below zero.  This indicates that this buffer's decrement" +
+                " user count was invoked by more than the expected user count" +
+                (sLeakDetectionEnabled ? " - last owner: " + mLastOwner : ""));
+        }
+        else
+        {
+            recordOwner();
+        }
     }
 
     /**
      * Sends this buffer back to the owning buffer queue for reuse
      */
-    private synchronized void recycle()
+    private void recycle()
     {
         prepareForRecycle();
 
-        if(mBufferDisposedListener != null)
+        IReusableBufferDisposedListener listener = mBufferDisposedListener;
+
+        if(listener != null)
         {
-            mBufferDisposedListener.disposed(this);
+            listener.disposed(this);
         }
+    }
+
+    /**
+     * Turns on/off the debug leak detection mode for all reusable buffers.  When enabled, each buffer records the
+     * thread and calling method that last changed its user count, so that an over-released or leaked buffer can be
+     * traced to its last owner.  This adds a stack walk to each user count change and should only be used for
+     * debugging.
+     */
+    public static void setLeakDetectionEnabled(boolean enabled)
+    {
+        sLeakDetectionEnabled = enabled;
+    }
 
-        if(mUserCount.get() < 0)
+    /**
+     * Indicates if the debug leak detection mode is enabled
+     */
+    public static boolean isLeakDetectionEnabled()
+    {
+        return sLeakDetectionEnabled;
+    }
+
+    /**
+     * Thread and calling method that last changed the user count for this buffer, when leak detection is enabled.
+     *
+     * @return last owner description or null
+     */
+    public String getLastOwner()
+    {
+        return mLastOwner;
+    }
+
+    /**
+     * Records the current thread and the first calling method outside of the reusable buffer and buffer queue classes
+     * as the last owner of this buffer, when leak detection is enabled.
+     */
+    private void recordOwner()
+    {
+        if(sLeakDetectionEnabled)
         {
-            mUserCount.set(0);
-            throw new IllegalStateException("User count is below zero.  This indicates that this buffer's decrement" +
-                " user count was invoked by more than the expected user count");
+            mLastOwner = Thread.currentThread().getName() + " " + getCaller();
         }
     }
 
+    /**
+     * Records the checkout time and the calling method that checked out this buffer from its owning buffer queue,
+     * when leak detection is enabled.  Invoked when the user count increases from zero.
+     */
+    private void recordCheckout()
+    {
+        if(sLeakDetectionEnabled)
+        {
+            mCheckoutSite = getCaller();
+            mCheckoutTimestamp = System.currentTimeMillis();
+            mLeakReported = false;
+        }
+    }
+
+    /**
+     * Identifies the first calling method outside of the reusable buffer and buffer queue classes
+     */
+    private static String getCaller()
+    {
+        return OWNER_STACK_WALKER.walk(frames -> frames
+            .filter(frame -> !AbstractReusableBuffer.class.isAssignableFrom(frame.getDeclaringClass()) &&
+                !AbstractReusableBufferQueue.class.isAssignableFrom(frame.getDeclaringClass()))
+            .findFirst()
+            .map(frame -> frame.getClassName() + "." + frame.getMethodName() + ":" + frame.getLineNumber())
+            .orElse("unknown"));
+    }
+
+    /**
+     * Calling method that last checked out this buffer from its owning buffer queue, when leak detection is enabled.
+     */
+    String getCheckoutSite()
+    {
+        return mCheckoutSite;
+    }
+
+    /**
+     * Time that this buffer was last checked out from its owning buffer queue, when leak detection is enabled.
+     */
+    long getCheckoutTimestamp()
+    {
+        return mCheckoutTimestamp;
+    }
+
+    /**
+     * Indicates if this buffer has already been reported as a possible leak for the current checkout
+     */
+    boolean isLeakReported()
+    {
+        return mLeakReported;
+    }
+
+    /**
+     * Flags this buffer as reported as a possible leak for the current checkout
+     */
+    void setLeakReported()
+    {
+        mLeakReported = true;
+    }
+
     /**
      * Invoked just prior to notifying the owner that this buffer is ready for prepareForRecycle.  This method
      * is intended for sub-class implementations to perform any prepareForRecycle cleanup actions.
@@ -141,7 +269,12 @@ public abstract class AbstractReusableBuffer
      */
     public void incrementUserCount()
     {
-        mUserCount.incrementAndGet();
+        if(mUserCount.incrementAndGet() == 1)
+        {
+            recordCheckout();
+        }
+
+        recordOwner();
     }
 
     /**
@@ -159,7 +292,12 @@ public abstract class AbstractReusableBuffer
     {
         if(additionalUserCount >= 0)
         {
-            mUserCount.addAndGet(additionalUserCount);
+            if(mUserCount.addAndGet(additionalUserCount) == additionalUserCount && additionalUserCount > 0)
+            {
+                recordCheckout();
+            }
+
+            recordOwner();
         }
         else
         {
@@ -167,6 +305,39 @@ public abstract class AbstractReusableBuffer
         }
     }
 
+    /**
+     * Size class for this buffer used by the owning buffer queue to match recycled buffers to buffer requests.
+     * Sub-classes that wrap an array should return the array length.
+     */
+    protected int getSizeClass()
+    {
+        return 0;
+    }
+
+    /**
+     * Approximate number of bytes of sample storage held by this buffer
+     */
+    public long getMemoryFootprint()
+    {
+        return 0;
+    }
+
+    /**
+     * Time when this buffer was last returned to the owning buffer queue
+     */
+    long getIdleTimestamp()
+    {
+        return mIdleTimestamp;
+    }
+
+    /**
+     * Sets the time when this buffer was returned to the owning buffer queue
+     */
+    void setIdleTimestamp(long timestamp)
+    {
+        mIdleTimestamp = timestamp;
+    }
+
     /**
      * Number of users currently registered for this buffer
      */
@@ -18,19 +18,74 @@
  */
 package io.github.dsheirer.sample.buffer;
 
+import io.github.dsheirer.util.ThreadPool;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Queue;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.LinkedTransferQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * Pool of reusable buffers.  Recycled (idle) buffers are held in size-class buckets so that a request for a buffer
+ * of a given size is served by a buffer that already has that size, avoiding a reallocation of the buffer's array.
+ *
+ * The pool can optionally be bounded with a maximum idle footprint (bytes held by idle buffers) and an idle timeout.
+ * Recycled buffers that would push the idle footprint over the maximum, or that sit idle longer than the timeout,
+ * are evicted from the pool and left for garbage collection.  Both bounds are disabled by default and the defaults
+ * for all pools can be set via setPoolDefaults().
+ *
+ * Per-pool statistics track created, recycled, evicted and live (checked out) buffers and the live buffer high-water
+ * mark.
+ *
+ * When buffer leak detection is enabled (see AbstractReusableBuffer.setLeakDetectionEnabled()), each pool tracks the
+ * buffers that it creates and each buffer records the calling method that checked it out of the pool.  A periodic
+ * detector logs any buffer that has not been recycled within the leak detection window, along with the pool debug
+ * name, the checkout site and the last owner, so that a module that doesn't decrement the user count can be found.
+ */
 public abstract class AbstractReusableBufferQueue<T extends AbstractReusableBuffer>
         implements IReusableBufferDisposedListener<T>
 {
     private final static Logger mLog = LoggerFactory.getLogger(AbstractReusableBufferQueue.class);
 
-    private Queue<T> mReusableBufferQueue = new LinkedTransferQueue<>();
-    private int mBufferCount = 0;
+    public static final String PROPERTY_POOL_MAXIMUM_IDLE_FOOTPRINT_KB = "buffer.pool.maximum.idle.footprint.kb";
+    public static final String PROPERTY_POOL_IDLE_TIMEOUT_SECONDS = "buffer.pool.idle.timeout.seconds";
+    public static final String PROPERTY_LEAK_DETECTION_WINDOW_SECONDS = "buffer.leak.detection.window.seconds";
+
+    //Interval between sweeps for idle buffers that have exceeded the idle timeout
+    private static final long IDLE_SWEEP_INTERVAL_MS = 1000;
+
+    private static volatile long sDefaultMaximumIdleFootprint = 0;
+    private static volatile long sDefaultIdleTimeout = 0;
+
+    //Buffer queues that are tracking buffers for leak detection
+    private static final Set<AbstractReusableBufferQueue<?>> sLeakTrackingQueues =
+        Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+    private static volatile long sLeakDetectionWindow = TimeUnit.SECONDS.toMillis(60);
+    private static ScheduledFuture<?> sLeakDetectorFuture;
+
+    private Set<T> mTrackedBuffers;
+    private AtomicLong mLeakCount = new AtomicLong();
+
+    private Map<Integer,Queue<T>> mIdleBuffers = new ConcurrentHashMap<>();
+    private AtomicLong mIdleFootprint = new AtomicLong();
+    private AtomicLong mCreatedCount = new AtomicLong();
+    private AtomicLong mRecycledCount = new AtomicLong();
+    private AtomicLong mEvictedCount = new AtomicLong();
+    private AtomicLong mIdleCount = new AtomicLong();
+    private AtomicLong mLiveHighWaterMark = new AtomicLong();
+    private volatile long mLastIdleSweep = System.currentTimeMillis();
+    private long mMaximumIdleFootprint = sDefaultMaximumIdleFootprint;
+    private long mIdleTimeout = sDefaultIdleTimeout;
     private String mDebugName;
 
     //Set to true to log when reusable buffers are created to monitor proper user count management
@@ -53,6 +108,50 @@ public abstract class AbstractReusableBufferQueue<T extends AbstractReusableBuff
     {
     }
 
+    /**
+     * Sets the default pool bounds that are applied to each buffer queue that is created after this method is invoked.
+     *
+     * @param maximumIdleFootprint in bytes for idle buffers held by a pool, or 0 for no limit
+     * @param idleTimeout in milliseconds before an idle buffer is evicted from a pool, or 0 for no timeout
+     */
+    public static void setPoolDefaults(long maximumIdleFootprint, long idleTimeout)
+    {
+        sDefaultMaximumIdleFootprint = Math.max(maximumIdleFootprint, 0);
+        sDefaultIdleTimeout = Math.max(idleTimeout, 0);
+    }
+
+    /**
+     * Sets the time that a buffer can remain checked out of its pool before it is reported as a possible leak, when
+     * buffer leak detection is enabled.
+     *
+     * @param window in milliseconds
+     */
+    public static void setLeakDetectionWindow(long window)
+    {
+        sLeakDetectionWindow = Math.max(window, 1000);
+    }
+
+    /**
+     * Sets the maximum number of bytes that can be held by idle buffers in this pool.  Recycled buffers that would
+     * exceed this footprint are evicted.
+     *
+     * @param maximumIdleFootprint in bytes, or 0 for no limit
+     */
+    public void setMaximumIdleFootprint(long maximumIdleFootprint)
+    {
+        mMaximumIdleFootprint = Math.max(maximumIdleFootprint, 0);
+    }
+
+    /**
+     * Sets the time that a buffer can sit idle in this pool before it is evicted.
+     *
+     * @param idleTimeout in milliseconds, or 0 for no timeout
+     */
+    public void setIdleTimeout(long idleTimeout)
+    {
+        mIdleTimeout = Math.max(idleTimeout, 0);
+    }
+
     /**
      * Turns on/off logging of buffer creation
      */
@@ -66,15 +165,20 @@ public abstract class AbstractReusableBufferQueue<T extends AbstractReusableBuff
      */
     public void dispose()
     {
-        T buffer = mReusableBufferQueue.poll();
-
-        while(buffer != null)
+        for(Queue<T> queue: mIdleBuffers.values())
         {
-            buffer.dispose();
-            buffer = mReusableBufferQueue.poll();
+            T buffer = queue.poll();
+
+            while(buffer != null)
+            {
+                removeIdle(buffer);
+                buffer.dispose();
+                buffer = queue.poll();
+            }
         }
 
-        mBufferCount = 0;
+        sLeakTrackingQueues.remove(this);
+        mTrackedBuffers = null;
     }
 
     /**
@@ -86,37 +190,341 @@ public abstract class AbstractReusableBufferQueue<T extends AbstractReusableBuff
     @Override
     public void disposed(T reusableBuffer)
     {
-        mReusableBufferQueue.offer(reusableBuffer);
+        mRecycledCount.incrementAndGet();
+
+        long footprint = reusableBuffer.getMemoryFootprint();
+
+        if(mMaximumIdleFootprint > 0 && mIdleFootprint.get() + footprint > mMaximumIdleFootprint)
+        {
+            evict(reusableBuffer);
+        }
+        else
+        {
+            reusableBuffer.setIdleTimestamp(System.currentTimeMillis());
+            mIdleFootprint.addAndGet(footprint);
+            mIdleCount.incrementAndGet();
+            mIdleBuffers.computeIfAbsent(reusableBuffer.getSizeClass(), sizeClass -> new LinkedTransferQueue<>())
+                .offer(reusableBuffer);
+        }
+
+        if(mIdleTimeout > 0)
+        {
+            evictIdleBuffers();
+        }
     }
 
     /**
-     * Get a recycled buffer from the queue
+     * Get a recycled buffer from the queue, from any size class.
      */
     protected T getRecycledBuffer()
     {
-        return mReusableBufferQueue.poll();
+        for(Queue<T> queue: mIdleBuffers.values())
+        {
+            T buffer = queue.poll();
+
+            if(buffer != null)
+            {
+                removeIdle(buffer);
+                return buffer;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Get a recycled buffer from the queue, preferring a buffer from the requested size class.  When there are no idle
+     * buffers in the requested size class, a buffer from another size class is returned (which the caller will
+     * resize), so that the total number of buffers managed by this pool doesn't grow.
+     *
+     * @param sizeClass of the requested buffer (ie array length)
+     * @return buffer or null if there are no idle buffers
+     */
+    protected T getRecycledBuffer(int sizeClass)
+    {
+        Queue<T> queue = mIdleBuffers.get(sizeClass);
+
+        if(queue != null)
+        {
+            T buffer = queue.poll();
+
+            if(buffer != null)
+            {
+                removeIdle(buffer);
+                return buffer;
+            }
+        }
+
+        return getRecycledBuffer();
+    }
+
+    /**
+     * Removes the buffer from the idle accounting once it is removed from an idle bucket.
+     */
+    private void removeIdle(T buffer)
+    {
+        mIdleFootprint.addAndGet(-buffer.getMemoryFootprint());
+        mIdleCount.decrementAndGet();
+        updateHighWaterMark();
+    }
+
+    /**
+     * Evicts the buffer from this pool
+     */
+    private void evict(T buffer)
+    {
+        mEvictedCount.incrementAndGet();
+        buffer.dispose();
+
+        Set<T> trackedBuffers = mTrackedBuffers;
+
+        if(trackedBuffers != null)
+        {
+            trackedBuffers.remove(buffer);
+        }
     }
 
     /**
-     * Increments the count of buffers managed by this queue.  Note: this method is NOT thread safe
+     * Evicts buffers that have been idle longer than the idle timeout.  Each bucket is served first-in first-out, so
+     * the oldest idle buffer is always at the head of each bucket.  Sweeps run at most once per sweep interval.
      */
-    protected void incrementBufferCount()
+    private void evictIdleBuffers()
     {
-        mBufferCount++;
+        long now = System.currentTimeMillis();
+
+        if(now - mLastIdleSweep < IDLE_SWEEP_INTERVAL_MS)
+        {
+            return;
+        }
+
+        mLastIdleSweep = now;
+
+        for(Queue<T> queue: mIdleBuffers.values())
+        {
+            T buffer = queue.peek();
+
+            while(buffer != null && (now - buffer.getIdleTimestamp()) > mIdleTimeout)
+            {
+                if(queue.remove(buffer))
+                {
+                    mIdleFootprint.addAndGet(-buffer.getMemoryFootprint());
+                    mIdleCount.decrementAndGet();
+                    evict(buffer);
+                }
+
+                buffer = queue.peek();
+            }
+        }
+    }
+
+    /**
+     * Increments the count of buffers managed by this queue and tracks the new buffer when leak detection is enabled.
+     *
+     * @param buffer that was created by this queue
+     */
+    protected void incrementBufferCount(T buffer)
+    {
+        long count = mCreatedCount.incrementAndGet();
+        updateHighWaterMark();
+
+        if(AbstractReusableBuffer.isLeakDetectionEnabled())
+        {
+            track(buffer);
+        }
 
         if(mBufferCreationLoggingEnabled)
         {
-            mLog.debug("Buffer Created - count:" + mBufferCount +
+            mLog.debug("Buffer Created - count:" + count +
                 " debug:" + (mDebugName != null ? mDebugName : "null") + " class:" + this.getClass());
         }
     }
 
     /**
-     * Current count of buffers created by this queue
+     * Adds the buffer to the set of buffers tracked for leak detection and registers this queue with the leak detector.
+     */
+    private synchronized void track(T buffer)
+    {
+        if(mTrackedBuffers == null)
+        {
+            mTrackedBuffers = ConcurrentHashMap.newKeySet();
+            registerLeakTracking(this);
+        }
+
+        mTrackedBuffers.add(buffer);
+    }
+
+    /**
+     * Registers the queue with the leak detector and starts the leak detector if it isn't already running
+     */
+    private static void registerLeakTracking(AbstractReusableBufferQueue<?> queue)
+    {
+        sLeakTrackingQueues.add(queue);
+
+        synchronized(sLeakTrackingQueues)
+        {
+            if(sLeakDetectorFuture == null && ThreadPool.SCHEDULED != null)
+            {
+                long interval = Math.max(sLeakDetectionWindow / 4, 1000);
+                sLeakDetectorFuture = ThreadPool.SCHEDULED.scheduleAtFixedRate(AbstractReusableBufferQueue::detectLeaks,
+                    interval, interval, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    /**
+     * Checks each leak tracking queue for buffers that have been checked out longer than the leak detection window.
+     */
+    static void detectLeaks()
+    {
+        List<AbstractReusableBufferQueue<?>> queues;
+
+        synchronized(sLeakTrackingQueues)
+        {
+            queues = new ArrayList<>(sLeakTrackingQueues);
+        }
+
+        long now = System.currentTimeMillis();
+
+        for(AbstractReusableBufferQueue<?> queue: queues)
+        {
+            try
+            {
+                queue.detectLeaks(now);
+            }
+            catch(Throwable throwable)
+            {
+                mLog.error("Error while checking reusable buffer queue for leaked buffers", throwable);
+            }
+        }
+    }
+
+    /**
+     * Logs each tracked buffer that has been checked out longer than the leak detection window.  Each buffer is
+     * reported once per checkout.
+     *
+     * @param now current time in milliseconds
+     */
+    private void detectLeaks(long now)
+    {
+        Set<T> trackedBuffers = mTrackedBuffers;
+
+        if(trackedBuffers == null)
+        {
+            return;
+        }
+
+        for(T buffer: trackedBuffers)
+        {
+            if(buffer.getUserCount() > 0 && !buffer.isLeakReported() &&
+                (now - buffer.getCheckoutTimestamp()) > sLeakDetectionWindow)
+            {
+                buffer.setLeakReported();
+                mLeakCount.incrementAndGet();
+
+                mLog.warn("Possible buffer leak - queue [" + (mDebugName != null ? mDebugName : getClass().getSimpleName()) +
+                    "] buffer not recycled after " + ((now - buffer.getCheckoutTimestamp()) / 1000) +
+                    " seconds - checked out by [" + buffer.getCheckoutSite() + "] last owner [" +
+                    buffer.getLastOwner() + "] user count [" + buffer.getUserCount() + "] " + getStatistics());
+            }
+        }
+    }
+
+    /**
+     * Number of buffers reported as possible leaks by the leak detector
+     */
+    public long getLeakCount()
+    {
+        return mLeakCount.get();
+    }
+
+    /**
+     * Updates the live buffer high-water mark
+     */
+    private void updateHighWaterMark()
+    {
+        long live = getLiveCount();
+        long highWaterMark = mLiveHighWaterMark.get();
+
+        while(live > highWaterMark && !mLiveHighWaterMark.compareAndSet(highWaterMark, live))
+        {
+            highWaterMark = mLiveHighWaterMark.get();
+        }
+    }
+
+    /**
+     * Current count of buffers managed by this queue, either checked out to users or idle in the pool
      */
     protected int getBufferCount()
     {
-        return mBufferCount;
+        return (int)(mCreatedCount.get() - mEvictedCount.get());
+    }
+
+    /**
+     * Total number of buffers created by this pool
+     */
+    public long getCreatedCount()
+    {
+        return mCreatedCount.get();
+    }
+
+    /**
+     * Total number of buffers returned to this pool by users
+     */
+    public long getRecycledCount()
+    {
+        return mRecycledCount.get();
+    }
+
+    /**
+     * Total number of buffers evicted from this pool due to the maximum idle footprint or the idle timeout
+     */
+    public long getEvictedCount()
+    {
+        return mEvictedCount.get();
+    }
+
+    /**
+     * Number of buffers currently idle in this pool
+     */
+    public long getIdleCount()
+    {
+        return mIdleCount.get();
+    }
+
+    /**
+     * Number of bytes currently held by idle buffers in this pool
+     */
+    public long getIdleFootprint()
+    {
+        return mIdleFootprint.get();
+    }
+
+    /**
+     * Number of buffers currently checked out to users
+     */
+    public long getLiveCount()
+    {
+        return mCreatedCount.get() - mEvictedCount.get() - mIdleCount.get();
+    }
+
+    /**
+     * Largest number of buffers that have been checked out to users at the same time
+     */
+    public long getLiveHighWaterMark()
+    {
+        return mLiveHighWaterMark.get();
+    }
+
+    /**
+     * Summary of the statistics for this pool
+     */
+    public String getStatistics()
+    {
+        return "Buffer Pool [" + (mDebugName != null ? mDebugName : getClass().getSimpleName()) + "] live:" +
+            getLiveCount() + " high water mark:" + getLiveHighWaterMark() + " idle:" + getIdleCount() +
+            " idle bytes:" + getIdleFootprint() + " created:" + getCreatedCount() + " recycled:" +
+            getRecycledCount() + " evicted:" + getEvictedCount() +
+            (mTrackedBuffers != null ? " leaks:" + getLeakCount() : "");
     }
 
     /**
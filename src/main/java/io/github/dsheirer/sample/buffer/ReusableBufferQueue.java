@@ -40,13 +40,13 @@ public class ReusableBufferQueue extends AbstractReusableBufferQueue<ReusableFlo
      */
     public ReusableFloatBuffer getBuffer(int size)
     {
-        ReusableFloatBuffer buffer = getRecycledBuffer();
+        ReusableFloatBuffer buffer = getRecycledBuffer(size);
 
         if(buffer == null)
         {
             buffer = new ReusableFloatBuffer(this, new float[size]);
             buffer.setDebugName("Owner:" + getDebugName());
-            incrementBufferCount();
+            incrementBufferCount(buffer);
         }
 
         buffer.resize(size);
@@ -63,13 +63,13 @@ public class ReusableBufferQueue extends AbstractReusableBufferQueue<ReusableFlo
      */
     public ReusableFloatBuffer getBuffer(float[] samples, long timestamp)
     {
-        ReusableFloatBuffer buffer = getRecycledBuffer();
+        ReusableFloatBuffer buffer = getRecycledBuffer(samples.length);
 
         if(buffer == null)
         {
             buffer = new ReusableFloatBuffer(this, new float[samples.length]);
             buffer.setDebugName("Owner:" + getDebugName());
-            incrementBufferCount();
+            incrementBufferCount(buffer);
         }
 
         buffer.reloadFrom(samples, timestamp);
@@ -82,6 +82,18 @@ public class ReusableByteBuffer extends AbstractReusableBuffer
         return getBytes().length;
     }
 
+    @Override
+    protected int getSizeClass()
+    {
+        return mSamples.length;
+    }
+
+    @Override
+    public long getMemoryFootprint()
+    {
+        return mSamples.length;
+    }
+
     /**
      * Resizes the internal array to the size argument
      *
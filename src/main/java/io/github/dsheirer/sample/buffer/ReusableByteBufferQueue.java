@@ -37,13 +37,13 @@ public class ReusableByteBufferQueue extends AbstractReusableBufferQueue<Reusabl
      */
     public ReusableByteBuffer getBuffer(int size)
     {
-        ReusableByteBuffer buffer = getRecycledBuffer();
+        ReusableByteBuffer buffer = getRecycledBuffer(size);
 
         if(buffer == null)
         {
             buffer = new ReusableByteBuffer(this, new byte[size]);
             buffer.setDebugName("Owner:" + getDebugName());
-            incrementBufferCount();
+            incrementBufferCount(buffer);
         }
 
         buffer.resize(size);
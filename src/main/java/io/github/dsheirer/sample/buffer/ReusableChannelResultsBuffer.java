@@ -52,6 +52,24 @@ public class ReusableChannelResultsBuffer extends AbstractReusableBuffer
         mLength = null;
     }
 
+    @Override
+    public long getMemoryFootprint()
+    {
+        long footprint = 0;
+
+        for(float[] buffer: mEmptyBuffers)
+        {
+            footprint += (long)buffer.length * Float.BYTES;
+        }
+
+        for(float[] buffer: mFilledBuffers)
+        {
+            footprint += (long)buffer.length * Float.BYTES;
+        }
+
+        return footprint;
+    }
+
     /**
      * Gets an empty channel results array correctly sized to the requested length.  This method should be used to
      * obtain all empty channel results buffers to fill with information and add back to this buffer so that the results
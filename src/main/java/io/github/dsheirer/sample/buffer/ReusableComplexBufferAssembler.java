@@ -23,8 +23,6 @@ import io.github.dsheirer.dsp.filter.channelizer.SampleTimestampManager;
 import io.github.dsheirer.sample.Listener;
 import org.apache.commons.lang3.Validate;
 
-import java.nio.FloatBuffer;
-
 /**
  * Assembles complex float samples into a ComplexBuffer containing an array of floats.  Monitors incoming sample count
  * to accurately assign a relative timestamp to each assembled buffer.
@@ -34,7 +32,9 @@ public class ReusableComplexBufferAssembler
 //    private final static Logger mLog = LoggerFactory.getLogger(ReusableComplexBufferAssembler.class);
     private ReusableComplexBufferQueue mReusableComplexBufferQueue = new ReusableComplexBufferQueue("ReusableComplexBufferAssembler");
     private SampleTimestampManager mTimestampManager;
-    private FloatBuffer mBuffer;
+    private ReusableComplexBuffer mCurrentBuffer;
+    private float[] mCurrentSamples;
+    private int mPointer;
     private int mBufferSize;
     private long mCurrentBufferTimestamp;
     private Listener<ReusableComplexBuffer> mListener;
@@ -43,7 +43,6 @@ public class ReusableComplexBufferAssembler
     {
         Validate.isTrue(bufferSize % 2 == 0);
         mBufferSize = bufferSize;
-        mBuffer = FloatBuffer.allocate(mBufferSize);
         mTimestampManager = new SampleTimestampManager(sampleRate);
     }
 
@@ -56,7 +55,7 @@ public class ReusableComplexBufferAssembler
     {
         mTimestampManager.setReferenceTimestamp(timestamp);
 
-        if(mBuffer.position() == 0)
+        if(mPointer == 0)
         {
             mCurrentBufferTimestamp = timestamp;
         }
@@ -64,9 +63,31 @@ public class ReusableComplexBufferAssembler
 
     public void dispose()
     {
+        if(mCurrentBuffer != null)
+        {
+            mCurrentBuffer.decrementUserCount();
+            mCurrentBuffer = null;
+            mCurrentSamples = null;
+        }
+
         mReusableComplexBufferQueue.dispose();
     }
 
+    /**
+     * Reusable buffer that is currently being filled.  Samples are assembled directly into a buffer from the reusable
+     * buffer queue so that no intermediate copy is needed when the buffer is dispatched.
+     */
+    private float[] getCurrentSamples()
+    {
+        if(mCurrentSamples == null)
+        {
+            mCurrentBuffer = mReusableComplexBufferQueue.getBuffer(mBufferSize);
+            mCurrentSamples = mCurrentBuffer.getSamples();
+        }
+
+        return mCurrentSamples;
+    }
+
     /**
      * Adds the samples to this assembler.  As each buffer is assembled, it will be dispatched to the registered
      * listener.
@@ -76,17 +97,15 @@ public class ReusableComplexBufferAssembler
      */
     public void receive(float inphase, float quadrature)
     {
-        if(mBuffer.remaining() >= 2)
-        {
-            mBuffer.put(inphase);
-            mBuffer.put(quadrature);
+        float[] samples = getCurrentSamples();
+        samples[mPointer++] = inphase;
+        samples[mPointer++] = quadrature;
 
-            mTimestampManager.increment(1);
+        mTimestampManager.increment(1);
 
-            if(!mBuffer.hasRemaining())
-            {
-                flush();
-            }
+        if(mPointer >= mBufferSize)
+        {
+            flush();
         }
     }
 
@@ -98,38 +117,21 @@ public class ReusableComplexBufferAssembler
      */
     public void receive(float[] samples)
     {
-        if(mBuffer.remaining() >= samples.length)
-        {
-            mBuffer.put(samples);
-            mTimestampManager.increment(samples.length / 2);
+        int offset = 0;
 
-            if(!mBuffer.hasRemaining())
-            {
-                flush();
-            }
-        }
-        else
+        while(offset < samples.length)
         {
-            int offset = 0;
-
-            while(offset < samples.length)
-            {
-                int toCopy = mBuffer.remaining();
+            int toCopy = Math.min(mBufferSize - mPointer, samples.length - offset);
 
-                if((samples.length - offset) < toCopy)
-                {
-                    toCopy = samples.length - offset;
-                }
+            System.arraycopy(samples, offset, getCurrentSamples(), mPointer, toCopy);
 
-                mBuffer.put(samples, offset, toCopy);
+            offset += toCopy;
+            mPointer += toCopy;
+            mTimestampManager.increment(toCopy / 2);
 
-                offset += toCopy;
-                mTimestampManager.increment(toCopy / 2);
-
-                if(!mBuffer.hasRemaining())
-                {
-                    flush();
-                }
+            if(mPointer >= mBufferSize)
+            {
+                flush();
             }
         }
     }
@@ -151,15 +153,16 @@ public class ReusableComplexBufferAssembler
     {
         Listener<ReusableComplexBuffer> listener = mListener;
 
-        if(listener != null && mBuffer.position() > 0)
+        if(listener != null && mPointer > 0)
         {
-            mBuffer.rewind();
-            ReusableComplexBuffer reusableComplexBuffer = mReusableComplexBufferQueue.getBuffer(mBufferSize);
-            reusableComplexBuffer.reloadFrom(mBuffer, mCurrentBufferTimestamp);
+            ReusableComplexBuffer reusableComplexBuffer = mCurrentBuffer;
+            mCurrentBuffer = null;
+            mCurrentSamples = null;
+            reusableComplexBuffer.setTimestamp(mCurrentBufferTimestamp);
             listener.receive(reusableComplexBuffer);
         }
 
-        mBuffer.rewind();
+        mPointer = 0;
         mCurrentBufferTimestamp = mTimestampManager.getCurrentTimestamp();
     }
 
@@ -50,13 +50,13 @@ public class ReusableComplexBufferQueue extends AbstractReusableBufferQueue<Reus
      */
     public ReusableComplexBuffer getBuffer(int size)
     {
-        ReusableComplexBuffer buffer = getRecycledBuffer();
+        ReusableComplexBuffer buffer = getRecycledBuffer(size);
 
         if(buffer == null)
         {
             buffer = new ReusableComplexBuffer(this, new float[size]);
             buffer.setDebugName("Owner:" + getDebugName());
-            incrementBufferCount();
+            incrementBufferCount(buffer);
         }
 
         buffer.resize(size);
@@ -73,14 +73,14 @@ public class ReusableComplexBufferQueue extends AbstractReusableBufferQueue<Reus
      */
     public ReusableComplexBuffer getBuffer(float[] samples, long timestamp)
     {
-        ReusableComplexBuffer buffer = getRecycledBuffer();
+        ReusableComplexBuffer buffer = getRecycledBuffer(samples.length);
 
         if(buffer == null)
         {
             buffer = new ReusableComplexBuffer(this, samples);
             buffer.setTimestamp(timestamp);
             buffer.setDebugName("Owner:" + getDebugName());
-            incrementBufferCount();
+            incrementBufferCount(buffer);
         }
         else
         {
@@ -69,6 +69,18 @@ public class ReusableFloatBuffer extends AbstractReusableBuffer
         return getSamples().length;
     }
 
+    @Override
+    protected int getSizeClass()
+    {
+        return mSamples.length;
+    }
+
+    @Override
+    public long getMemoryFootprint()
+    {
+        return (long)mSamples.length * Float.BYTES;
+    }
+
     /**
      * Constructs a timestamped complex buffer using the current system time in milliseconds.
      *
@@ -0,0 +1,31 @@
+/*******************************************************************************
+ * sdr-trunk
+ * Copyright (C) 2014-2018 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify it under the terms of the GNU General Public
+ * License as published by  the Free Software Foundation, either version 3 of the License, or  (at your option) any
+ * later version.
+ *
+ * This program is distributed in the hope that it will be useful,  but WITHOUT ANY WARRANTY; without even the implied
+ * warranty of  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License  along with this program.
+ * If not, see <http://www.gnu.org/licenses/>
+ *
+ ******************************************************************************/
+package io.github.dsheirer.sample.complex;
+
+/**
+ * Receives a batch of interleaved complex samples (inphase, quadrature, inphase, ...) in a single call.
+ */
+public interface ComplexSampleBatchListener
+{
+    /**
+     * Receives a batch of complex samples.
+     *
+     * @param samples array of interleaved inphase and quadrature values
+     * @param offset to the first inphase value in the array
+     * @param length number of float values (2 x complex sample count) to process
+     */
+    void receive(float[] samples, int offset, int length);
+}
@@ -15,16 +15,15 @@
  ******************************************************************************/
 package io.github.dsheirer.source.tuner.channel;
 
-import io.github.dsheirer.dsp.filter.cic.ComplexPrimeCICDecimate;
+import io.github.dsheirer.dsp.filter.cic.ComplexCICDecimator;
 import io.github.dsheirer.dsp.filter.design.FilterDesignException;
 import io.github.dsheirer.dsp.mixer.IOscillator;
-import io.github.dsheirer.dsp.mixer.LowPhaseNoiseOscillator;
+import io.github.dsheirer.dsp.mixer.NumericallyControlledOscillator;
 import io.github.dsheirer.sample.IOverflowListener;
 import io.github.dsheirer.sample.Listener;
-import io.github.dsheirer.sample.buffer.OverflowableReusableBufferTransferQueue;
+import io.github.dsheirer.sample.buffer.OverflowableReusableBufferRingBuffer;
 import io.github.dsheirer.sample.buffer.ReusableComplexBuffer;
 import io.github.dsheirer.sample.buffer.ReusableComplexBufferQueue;
-import io.github.dsheirer.sample.complex.Complex;
 import io.github.dsheirer.source.SourceEvent;
 
 import java.util.ArrayList;
@@ -45,10 +44,10 @@ public class CICTunerChannelSource extends TunerChannelSource implements Listene
     //Threshold for resetting buffer overflow condition
     private static final int BUFFER_OVERFLOW_RESET_THRESHOLD = 100;
 
-    private OverflowableReusableBufferTransferQueue<ReusableComplexBuffer> mBuffer;
+    private OverflowableReusableBufferRingBuffer<ReusableComplexBuffer> mBuffer;
     private ReusableComplexBufferQueue mReusableComplexBufferQueue = new ReusableComplexBufferQueue("CICTunerChannelSource");
     private IOscillator mFrequencyCorrectionMixer;
-    private ComplexPrimeCICDecimate mDecimationFilter;
+    private ComplexCICDecimator mDecimationFilter;
     private List<ReusableComplexBuffer> mSampleBuffers = new ArrayList<>();
     private double mChannelSampleRate;
     private long mChannelFrequencyCorrection = 0;
@@ -71,17 +70,17 @@ public class CICTunerChannelSource extends TunerChannelSource implements Listene
 
         int decimation = (int)(sampleRate / channelSpecification.getMinimumSampleRate());
 
-        mDecimationFilter = new ComplexPrimeCICDecimate(sampleRate, decimation, channelSpecification.getPassFrequency(),
+        mDecimationFilter = new ComplexCICDecimator(sampleRate, decimation, channelSpecification.getPassFrequency(),
             channelSpecification.getStopFrequency());
 
-        mBuffer = new OverflowableReusableBufferTransferQueue<>(BUFFER_MAX_CAPACITY, BUFFER_OVERFLOW_RESET_THRESHOLD);
+        mBuffer = new OverflowableReusableBufferRingBuffer<>(BUFFER_MAX_CAPACITY, BUFFER_OVERFLOW_RESET_THRESHOLD);
 
         //Setup the frequency mixer to the current source frequency
         mChannelSampleRate = sampleRate / (double)decimation;
         mTunerFrequency = tunerChannel.getFrequency();
         long frequencyOffset = mTunerFrequency - getTunerChannel().getFrequency();
 
-        mFrequencyCorrectionMixer = new LowPhaseNoiseOscillator(frequencyOffset, sampleRate);
+        mFrequencyCorrectionMixer = new NumericallyControlledOscillator(frequencyOffset, sampleRate);
     }
 
     /**
@@ -96,6 +95,12 @@ public class CICTunerChannelSource extends TunerChannelSource implements Listene
         mBuffer.setOverflowListener(listener);
     }
 
+    @Override
+    public OverflowableReusableBufferRingBuffer<ReusableComplexBuffer> getBufferQueue()
+    {
+        return mBuffer;
+    }
+
     @Override
     public void dispose()
     {
@@ -229,16 +234,7 @@ public class CICTunerChannelSource extends TunerChannelSource implements Listene
             float[] translatedSamples = translatedComplexBuffer.getSamples();
 
             /* Perform frequency translation */
-            for(int x = 0; x < samples.length; x += 2)
-            {
-                mFrequencyCorrectionMixer.rotate();
-
-                translatedSamples[x] = Complex.multiplyInphase(samples[x], samples[x + 1],
-                    mFrequencyCorrectionMixer.inphase(), mFrequencyCorrectionMixer.quadrature());
-
-                translatedSamples[x + 1] = Complex.multiplyQuadrature(samples[x], samples[x + 1],
-                    mFrequencyCorrectionMixer.inphase(), mFrequencyCorrectionMixer.quadrature());
-            }
+            mFrequencyCorrectionMixer.mixComplex(samples, translatedSamples);
 
             mDecimationFilter.receive(translatedComplexBuffer);
             complexBuffer.decrementUserCount();
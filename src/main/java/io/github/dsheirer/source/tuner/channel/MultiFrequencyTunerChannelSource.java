@@ -22,6 +22,7 @@ package io.github.dsheirer.source.tuner.channel;
 
 import com.google.common.eventbus.Subscribe;
 import io.github.dsheirer.sample.Listener;
+import io.github.dsheirer.sample.OverflowableRingBuffer;
 import io.github.dsheirer.sample.buffer.ReusableComplexBuffer;
 import io.github.dsheirer.source.Source;
 import io.github.dsheirer.source.SourceEvent;
@@ -152,6 +153,13 @@ public class MultiFrequencyTunerChannelSource extends TunerChannelSource
         }
     }
 
+    @Override
+    public OverflowableRingBuffer<?> getBufferQueue()
+    {
+        TunerChannelSource tunerChannelSource = mTunerChannelSource;
+        return tunerChannelSource != null ? tunerChannelSource.getBufferQueue() : null;
+    }
+
     @Override
     public void stop()
     {
@@ -17,7 +17,7 @@
 package io.github.dsheirer.source.tuner.channel;
 
 import io.github.dsheirer.sample.Listener;
-import io.github.dsheirer.sample.buffer.OverflowableReusableBufferTransferQueue;
+import io.github.dsheirer.sample.buffer.OverflowableReusableBufferRingBuffer;
 import io.github.dsheirer.sample.buffer.ReusableComplexBuffer;
 import io.github.dsheirer.source.ISourceEventListener;
 import io.github.dsheirer.source.SourceEvent;
@@ -37,8 +37,8 @@ public class PassThroughChannelSource extends TunerChannelSource implements ISou
 {
     private final static Logger mLog = LoggerFactory.getLogger(PassThroughChannelSource.class);
     private TunerController mTunerController;
-    private OverflowableReusableBufferTransferQueue<ReusableComplexBuffer> mBufferQueue =
-            new OverflowableReusableBufferTransferQueue<>(500, 100);
+    private OverflowableReusableBufferRingBuffer<ReusableComplexBuffer> mBufferQueue =
+            new OverflowableReusableBufferRingBuffer<>(500, 100);
     private List<ReusableComplexBuffer> mBuffersToProcess = new ArrayList<>();
     private Listener<ReusableComplexBuffer> mComplexBufferListener;
 
@@ -112,6 +112,12 @@ public class PassThroughChannelSource extends TunerChannelSource implements ISou
         mBuffersToProcess.clear();
     }
 
+    @Override
+    public OverflowableReusableBufferRingBuffer<ReusableComplexBuffer> getBufferQueue()
+    {
+        return mBufferQueue;
+    }
+
     @Override
     public double getSampleRate()
     {
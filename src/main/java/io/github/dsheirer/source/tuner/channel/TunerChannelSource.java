@@ -22,6 +22,7 @@
 package io.github.dsheirer.source.tuner.channel;
 
 import io.github.dsheirer.sample.Listener;
+import io.github.dsheirer.sample.OverflowableRingBuffer;
 import io.github.dsheirer.sample.buffer.ReusableComplexBuffer;
 import io.github.dsheirer.source.ComplexSource;
 import io.github.dsheirer.source.ISourceEventProcessor;
@@ -109,6 +110,17 @@ public abstract class TunerChannelSource extends ComplexSource implements ISourc
      */
     protected abstract void processSamples();
 
+    /**
+     * Internal queue that hands sample buffers from the tuner to this channel source.  Exposes the queue occupancy
+     * and overflow counters so that queue pressure can be monitored per channel.
+     *
+     * @return buffer queue or null if this channel source does not buffer samples internally
+     */
+    public OverflowableRingBuffer<?> getBufferQueue()
+    {
+        return null;
+    }
+
     /**
      * Tuner channel for this tuner channel source
      */
@@ -260,4 +260,102 @@ public class ArcTangent
 		
 		return angle;
 	}
+
+	/**
+	 * Maximum absolute error (radians) of the float polynomial arc-tangent methods below.  The polynomial error is
+	 * 1.0e-5 and float evaluation adds up to a further 0.2e-5.
+	 */
+	public static final float sPOLYNOMIAL_MAXIMUM_ERROR = 1.2e-5f;
+
+	public static final float sHALF_PI_FLOAT = (float)(FastMath.PI / 2.0);
+	public static final float sPI_FLOAT = (float)FastMath.PI;
+
+	//Odd polynomial approximation of atan(z) for |z| <= 1 (Abramowitz & Stegun 4.4.49) with |error| <= 1e-5
+	public static final float sATAN_A1 = 0.9998660f;
+	public static final float sATAN_A3 = -0.3302995f;
+	public static final float sATAN_A5 = 0.1801410f;
+	public static final float sATAN_A7 = -0.0851330f;
+	public static final float sATAN_A9 = 0.0208351f;
+
+	/**
+	 * Polynomial arc-tangent for arguments in the range -1 to 1.
+	 *
+	 * @param z argument in the range -1 to 1
+	 * @return angle in radians (+/- pi/4)
+	 */
+	public static float atanUnit( float z )
+	{
+		float z2 = z * z;
+		return z * ( sATAN_A1 + z2 * ( sATAN_A3 + z2 * ( sATAN_A5 + z2 * ( sATAN_A7 + z2 * sATAN_A9 ) ) ) );
+	}
+
+	/**
+	 * Float arc-tangent of the vector (x,y) in the range -pi to pi using a polynomial approximation with a
+	 * maximum error of sPOLYNOMIAL_MAXIMUM_ERROR radians.
+	 *
+	 * @param y coordinate
+	 * @param x coordinate
+	 * @return angle in radians
+	 */
+	public static float atan2( float y, float x )
+	{
+		float x_abs = Math.abs( x );
+		float y_abs = Math.abs( y );
+
+		if( x_abs == 0.0f && y_abs == 0.0f )
+		{
+			return 0.0f;
+		}
+
+		float angle;
+
+		if( x_abs >= y_abs )
+		{
+			angle = atanUnit( y_abs / x_abs );
+		}
+		else
+		{
+			angle = sHALF_PI_FLOAT - atanUnit( x_abs / y_abs );
+		}
+
+		if( x < 0.0f )
+		{
+			angle = sPI_FLOAT - angle;
+		}
+
+		return y < 0.0f ? -angle : angle;
+	}
+
+	/**
+	 * Float arc-tangent of the ratio y/x in the range -pi/2 to pi/2 using a polynomial approximation with a
+	 * maximum error of sPOLYNOMIAL_MAXIMUM_ERROR radians.  Returns 0 when x is 0, which is consistent with the
+	 * divide-by-zero handling of the FM demodulator.
+	 *
+	 * @param y numerator
+	 * @param x denominator
+	 * @return angle in radians
+	 */
+	public static float atan( float y, float x )
+	{
+		if( x == 0.0f )
+		{
+			return 0.0f;
+		}
+
+		float x_abs = Math.abs( x );
+		float y_abs = Math.abs( y );
+		float angle;
+
+		if( x_abs >= y_abs )
+		{
+			angle = atanUnit( y_abs / x_abs );
+		}
+		else
+		{
+			angle = sHALF_PI_FLOAT - atanUnit( x_abs / y_abs );
+		}
+
+		//Sign of the ratio y/x
+		return ( ( y < 0.0f ) != ( x < 0.0f ) ) ? -angle : angle;
+	}
 }
@@ -0,0 +1,86 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2021 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.util;
+
+import io.github.dsheirer.properties.SystemProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Determines if the DSP classes can use the JDK incubator Vector API implementations.
+ *
+ * The jdk.incubator.vector module must be added to the JVM at runtime (--add-modules jdk.incubator.vector) and the
+ * vector implementations can be disabled by setting the dsp.vector.enabled application property to false, in which
+ * case each of the DSP classes falls back to its scalar implementation.
+ *
+ * The vector implementation classes are compiled separately from the main classes (see the vector source set in
+ * build.gradle) so that the default compile doesn't require the incubator module.  The main classes must not reference
+ * them directly and should load them with getImplementation() instead.
+ */
+public class VectorSupport
+{
+    private final static Logger mLog = LoggerFactory.getLogger(VectorSupport.class);
+    public static final String PROPERTY_VECTOR_ENABLED = "dsp.vector.enabled";
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+    private static volatile Boolean mVectorSupported;
+
+    /**
+     * Indicates if the Vector API implementations can be used.
+     */
+    public static boolean isSupported()
+    {
+        if(mVectorSupported == null)
+        {
+            boolean enabled = SystemProperties.getInstance().get(PROPERTY_VECTOR_ENABLED, true);
+            boolean available = ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent();
+
+            mVectorSupported = enabled && available;
+
+            mLog.info("DSP implementation: " + (mVectorSupported ? "vector" : "scalar") +
+                (enabled ? "" : " (vector disabled by application property)") +
+                (available ? "" : " (" + VECTOR_MODULE + " module not loaded)"));
+        }
+
+        return mVectorSupported;
+    }
+
+    /**
+     * Loads the Vector API implementation class.
+     *
+     * @param className fully qualified name of the vector implementation class
+     * @param type that the vector implementation class extends or implements
+     * @return implementation class or null if the Vector API is not supported or the class cannot be loaded
+     */
+    public static <T> Class<? extends T> getImplementation(String className, Class<T> type)
+    {
+        if(isSupported())
+        {
+            try
+            {
+                return Class.forName(className).asSubclass(type);
+            }
+            catch(ClassNotFoundException | ClassCastException | LinkageError e)
+            {
+                mLog.error("Unable to load vector implementation [" + className + "] - using scalar implementation", e);
+            }
+        }
+
+        return null;
+    }
+}
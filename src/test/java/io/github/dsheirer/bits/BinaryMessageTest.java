@@ -0,0 +1,285 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2021 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+
+package io.github.dsheirer.bits;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Randomized equivalence tests for the packed (bulk) field extraction in BinaryMessage, PackedBinaryMessage and
+ * BinaryField.  Each message is shadowed by a plain BitSet that receives the same modifications, and every field
+ * read is compared against a bit-at-a-time reference read of the shadow, with reads interleaved between the
+ * modifications so that the in-place updates of the packed copy are exercised.
+ */
+class BinaryMessageTest
+{
+    private static final int ITERATIONS = 2000;
+    private static final int STEPS = 40;
+
+    /**
+     * Reference bit-at-a-time read of the bit positions, MSB first
+     */
+    private static long reference(BitSet bitSet, int[] bits, int offset)
+    {
+        long value = 0;
+
+        for(int bit : bits)
+        {
+            value = (value << 1) | (bitSet.get(bit + offset) ? 1 : 0);
+        }
+
+        return value;
+    }
+
+    /**
+     * Reference bit-at-a-time read of the contiguous bit range, inclusive
+     */
+    private static long reference(BitSet bitSet, int start, int end)
+    {
+        long value = 0;
+
+        for(int x = start; x <= end; x++)
+        {
+            value = (value << 1) | (bitSet.get(x) ? 1 : 0);
+        }
+
+        return value;
+    }
+
+    /**
+     * Applies the same random modification to the message and the shadow bit set
+     */
+    private static void modify(Random random, BinaryMessage message, BitSet shadow)
+    {
+        int size = message.size();
+        int index = random.nextInt(size + 8);
+        int end = Math.min(index + random.nextInt(80), size + 70);
+
+        switch(random.nextInt(10))
+        {
+            case 0:
+                message.set(index);
+                shadow.set(index);
+                break;
+            case 1:
+                message.clear(index);
+                shadow.clear(index);
+                break;
+            case 2:
+                message.flip(index);
+                shadow.flip(index);
+                break;
+            case 3:
+                message.flip(index, end);
+                shadow.flip(index, end);
+                break;
+            case 4:
+                boolean value = random.nextBoolean();
+                message.set(index, end, value);
+                shadow.set(index, end, value);
+                break;
+            case 5:
+                message.clear(index, end);
+                shadow.clear(index, end);
+                break;
+            case 6:
+                int width = 1 + random.nextInt(32);
+                int xorValue = random.nextInt();
+                message.xor(index, width, xorValue);
+
+                for(int x = 0; x < width; x++)
+                {
+                    if((Long.rotateLeft(1, width - x - 1) & xorValue) != 0)
+                    {
+                        shadow.flip(index + x);
+                    }
+                }
+                break;
+            case 7:
+                BitSet other = new BitSet();
+
+                for(int x = 0; x < 10; x++)
+                {
+                    other.set(random.nextInt(size));
+                }
+
+                message.xor(other);
+                shadow.xor(other);
+                break;
+            case 8:
+                if(end > index)
+                {
+                    boolean wrap = shadow.get(index);
+
+                    message.rotateLeft(index, end);
+
+                    for(int x = index; x < end; x++)
+                    {
+                        shadow.set(x, shadow.get(x + 1));
+                    }
+
+                    shadow.set(end, wrap);
+                }
+                break;
+            default:
+                int loadWidth = 1 + random.nextInt(64);
+                long loadValue = random.nextLong();
+                message.load(index, loadWidth, loadValue);
+
+                for(int x = 0; x < loadWidth; x++)
+                {
+                    shadow.set(index + x, (loadValue & Long.rotateLeft(1, loadWidth - x - 1)) != 0);
+                }
+                break;
+        }
+    }
+
+    /**
+     * Random field bit positions made of contiguous runs with occasional out of sequence positions
+     */
+    private static int[] randomField(Random random, int size, int length)
+    {
+        int[] bits = new int[length];
+        int pointer = random.nextInt(size);
+
+        for(int x = 0; x < length; x++)
+        {
+            bits[x] = random.nextInt(4) == 0 ? random.nextInt(size) : pointer++;
+        }
+
+        return bits;
+    }
+
+    @Test
+    void fieldReadsMatchBitwiseReference()
+    {
+        Random random = new Random(1);
+
+        for(int iteration = 0; iteration < ITERATIONS; iteration++)
+        {
+            int size = 1 + random.nextInt(400);
+            BinaryMessage message = new BinaryMessage(size);
+            BitSet shadow = new BitSet();
+
+            for(int step = 0; step < STEPS; step++)
+            {
+                modify(random, message, shadow);
+
+                int offset = random.nextInt(3);
+                int[] intBits = randomField(random, size, 1 + random.nextInt(32));
+                assertEquals((int)reference(shadow, intBits, 0), message.getInt(intBits), "getInt(int[])");
+                assertEquals((int)reference(shadow, intBits, offset), message.getInt(intBits, offset),
+                    "getInt(int[], offset)");
+
+                int[] longBits = randomField(random, size, 1 + random.nextInt(64));
+                assertEquals(reference(shadow, longBits, 0), message.getLong(longBits), "getLong(int[])");
+                assertEquals(reference(shadow, longBits, offset), message.getLong(longBits, offset),
+                    "getLong(int[], offset)");
+
+                int[] byteBits = randomField(random, size, 8);
+                assertEquals((byte)reference(shadow, byteBits, 0), message.getByte(byteBits), "getByte(int[])");
+
+                BinaryField field = BinaryField.of(intBits);
+                assertEquals(message.getInt(intBits), message.getInt(field), "getInt(BinaryField)");
+                assertEquals(message.getInt(intBits, offset), message.getInt(field, offset),
+                    "getInt(BinaryField, offset)");
+
+                int start = random.nextInt(size + 4);
+                int end = start + random.nextInt(32);
+                assertEquals((int)reference(shadow, start, end), message.getInt(start, end), "getInt(start, end)");
+                assertEquals(reference(shadow, start, start + 40), message.getLong(start, start + 40),
+                    "getLong(start, end)");
+                assertEquals(message.getInt(start, end), message.getInt(BinaryField.range(start, end)),
+                    "getInt(BinaryField.range())");
+
+                int validBits = size - start + 1;
+                long byteValue = reference(shadow, start, start + 7);
+
+                if(validBits < 8)
+                {
+                    byteValue = validBits > 0 ? byteValue & (0xFF << (8 - validBits)) : 0;
+                }
+
+                assertEquals((byte)byteValue, message.getByte(start), "getByte(index) with zero padding");
+            }
+        }
+    }
+
+    @Test
+    void clonedMessagesDoNotShareFieldState()
+    {
+        BinaryMessage message = new BinaryMessage(128);
+        message.set(5);
+        assertEquals(1, message.getInt(0, 5));
+
+        BinaryMessage clone = (BinaryMessage)message.clone();
+        clone.flip(0);
+
+        assertEquals(1, message.getInt(0, 5), "original is unchanged by a modification of the clone");
+        assertEquals(0x21, clone.getInt(0, 5));
+    }
+
+    @Test
+    void negativeBitPositionsAreRejected()
+    {
+        BinaryMessage message = new BinaryMessage(64);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> message.getInt(new int[]{-1}));
+        assertThrows(IndexOutOfBoundsException.class, () -> message.getInt(-1, 3));
+        assertThrows(IllegalArgumentException.class, () -> BinaryField.of(-1, 0));
+    }
+
+    @Test
+    void packedMessageMatchesBinaryMessage()
+    {
+        Random random = new Random(2);
+
+        for(int iteration = 0; iteration < ITERATIONS; iteration++)
+        {
+            int size = 1 + random.nextInt(400);
+            BinaryMessage message = new BinaryMessage(size);
+
+            for(int x = 0; x < size; x++)
+            {
+                message.set(x, random.nextBoolean());
+            }
+
+            PackedBinaryMessage packed = message.toPackedBinaryMessage();
+            assertEquals(message.toString(), packed.toString());
+            assertEquals(message.toString(), packed.toBinaryMessage().toString(), "round trip");
+
+            int start = random.nextInt(size);
+            int width = 1 + random.nextInt(Math.min(64, size - start));
+            assertEquals(message.getLong(start, start + width - 1), packed.getLong(start, width));
+
+            //Writes through a sub-message view are visible in the parent
+            PackedBinaryMessage view = packed.getSubMessage(start, start + width);
+            long value = random.nextLong();
+            view.setLong(0, width, value);
+            message.load(start, width, value);
+            assertEquals(message.toString(), packed.toString(), "view write");
+            assertEquals(view.toString(), view.copy().toString(), "copy");
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2021 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.dsp.filter.channelizer;
+
+import io.github.dsheirer.sample.buffer.ReusableComplexBufferQueue;
+import io.github.dsheirer.util.ThreadPool;
+import io.github.dsheirer.util.VectorSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.text.DecimalFormat;
+import java.util.Collections;
+import java.util.Random;
+
+/**
+ * Throughput and heap allocation benchmark for the polyphase channelizer: serial, parallel, sparse (single active
+ * channel) and, when the jdk.incubator.vector module is loaded, the vector implementation.
+ */
+public class ComplexPolyphaseChannelizerM2Benchmark
+{
+    private final static Logger mLog = LoggerFactory.getLogger(ComplexPolyphaseChannelizerM2Benchmark.class);
+    private static final DecimalFormat DECIMAL_FORMAT = new DecimalFormat("0.0");
+    private static final String VECTOR_CHANNELIZER_CLASS =
+        "io.github.dsheirer.dsp.filter.channelizer.VectorComplexPolyphaseChannelizerM2";
+    private static final int BUFFER_SAMPLE_COUNT = 65536;
+    private static final int ITERATIONS = 500;
+
+    public static void main(String[] args)
+    {
+        int threads = Math.max(Runtime.getRuntime().availableProcessors(), 2);
+
+        try
+        {
+            benchmark(new ComplexPolyphaseChannelizerM2(10_000_000.0, 9));
+
+            ComplexPolyphaseChannelizerM2 parallel = new ComplexPolyphaseChannelizerM2(10_000_000.0, 9);
+            parallel.setThreadCount(threads);
+            benchmark(parallel);
+
+            ComplexPolyphaseChannelizerM2 sparse = new ComplexPolyphaseChannelizerM2(10_000_000.0, 9);
+            sparse.setThreadCount(threads);
+            sparse.setActiveChannels(Collections.singletonList(1));
+            benchmark(sparse);
+
+            Class<? extends ComplexPolyphaseChannelizerM2> vectorClass =
+                VectorSupport.getImplementation(VECTOR_CHANNELIZER_CLASS, ComplexPolyphaseChannelizerM2.class);
+
+            if(vectorClass != null)
+            {
+                benchmark(vectorClass.getConstructor(double.class, int.class).newInstance(10_000_000.0, 9));
+                benchmark(new ComplexPolyphaseChannelizerM2(20_000_000.0, 9));
+                benchmark(vectorClass.getConstructor(double.class, int.class).newInstance(20_000_000.0, 9));
+            }
+        }
+        catch(Exception e)
+        {
+            mLog.error("Error creating channelizer", e);
+        }
+
+        ThreadPool.SCHEDULED.shutdown();
+        mLog.info("Finished");
+    }
+
+    /**
+     * Measures channelizer throughput and, when the JVM supports it, the heap allocation rate of the calling
+     * (filtering) thread.
+     *
+     * @param channelizer to test
+     */
+    private static void benchmark(ComplexPolyphaseChannelizerM2 channelizer)
+    {
+        channelizer.start();
+
+        Random random = new Random();
+        float[] samples = new float[BUFFER_SAMPLE_COUNT * 2];
+
+        for(int x = 0; x < samples.length; x++)
+        {
+            samples[x] = (2.0f * random.nextFloat()) - 1.0f;
+        }
+
+        ReusableComplexBufferQueue bufferQueue = new ReusableComplexBufferQueue("Channelizer Benchmark");
+
+        for(int x = 0; x < ITERATIONS; x++)
+        {
+            channelizer.receive(bufferQueue.getBuffer(samples, 0));
+        }
+
+        long allocatedStart = getAllocatedBytes();
+        long start = System.nanoTime();
+
+        for(int x = 0; x < ITERATIONS; x++)
+        {
+            channelizer.receive(bufferQueue.getBuffer(samples, 0));
+        }
+
+        double seconds = (System.nanoTime() - start) / 1E9d;
+        long allocated = getAllocatedBytes() - allocatedStart;
+        double samplesProcessed = (double)ITERATIONS * BUFFER_SAMPLE_COUNT;
+
+        channelizer.stop();
+
+        mLog.info(channelizer.getClass().getSimpleName() + " Threads: " + channelizer.getThreadCount() +
+            " Channels: " + channelizer.getChannelCount() +
+            " Elapsed: " + DECIMAL_FORMAT.format(seconds * 1E3) + " ms Throughput: " +
+            DECIMAL_FORMAT.format(samplesProcessed / seconds / 1E6) + " MS/s" +
+            (allocatedStart < 0 ? "" : " Allocated: " + DECIMAL_FORMAT.format(allocated / samplesProcessed) +
+                " bytes/sample (" + DECIMAL_FORMAT.format(allocated / seconds / 1E6) + " MB/s)"));
+    }
+
+    /**
+     * Bytes allocated by the current thread, or -1 if the JVM doesn't provide per-thread allocation counts.
+     */
+    static long getAllocatedBytes()
+    {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+
+        if(threadMXBean instanceof com.sun.management.ThreadMXBean)
+        {
+            return ((com.sun.management.ThreadMXBean)threadMXBean)
+                .getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+
+        return -1;
+    }
+}
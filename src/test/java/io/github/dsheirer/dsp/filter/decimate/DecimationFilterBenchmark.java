@@ -0,0 +1,76 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2021 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.dsp.filter.decimate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Throughput benchmark for the real and complex decimation filters for each supported decimation rate.
+ */
+public class DecimationFilterBenchmark
+{
+    private final static Logger mLog = LoggerFactory.getLogger(DecimationFilterBenchmark.class);
+
+    public static void main(String[] args)
+    {
+        int sampleCount = 8192;
+        int iterations = 20_000;
+
+        float[] samples = new float[sampleCount * 2];
+
+        for(int x = 0; x < samples.length; x++)
+        {
+            samples[x] = (float)Math.sin(x * 0.1);
+        }
+
+        float[] output = new float[samples.length];
+
+        for(int round = 0; round < 2; round++)
+        {
+            for(int rate = 2; rate <= 1024; rate *= 2)
+            {
+                IRealDecimationFilter realFilter = DecimationFilterFactory.getRealDecimationFilter(rate);
+                IComplexDecimationFilter complexFilter = DecimationFilterFactory.getComplexDecimationFilter(rate);
+
+                long start = System.nanoTime();
+
+                for(int x = 0; x < iterations; x++)
+                {
+                    realFilter.decimateReal(samples, sampleCount, output);
+                }
+
+                double realElapsed = (System.nanoTime() - start) / 1E9d;
+                start = System.nanoTime();
+
+                for(int x = 0; x < iterations; x++)
+                {
+                    complexFilter.decimateComplex(samples, samples.length, output);
+                }
+
+                double complexElapsed = (System.nanoTime() - start) / 1E9d;
+                double samplesProcessed = (double)sampleCount * iterations;
+
+                mLog.info("Decimate X" + rate + " Real MSamples/Sec:" +
+                    (int)(samplesProcessed / realElapsed / 1E6) + " Complex MSamples/Sec:" +
+                    (int)(samplesProcessed / complexElapsed / 1E6));
+            }
+        }
+    }
+}
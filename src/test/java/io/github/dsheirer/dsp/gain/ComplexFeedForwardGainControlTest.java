@@ -0,0 +1,144 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2021 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.dsp.gain;
+
+import io.github.dsheirer.sample.buffer.ReusableComplexBuffer;
+import io.github.dsheirer.sample.buffer.ReusableComplexBufferQueue;
+import io.github.dsheirer.sample.complex.Complex;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Regression tests for the block gain processing in ComplexFeedForwardGainControl.  Each buffer is compared against
+ * a reference copy of the original per-buffer gain loop (maximum Complex.envelope() across the buffer, floored at the
+ * minimum envelope, with the objective envelope divided by that maximum applied to each sample).
+ */
+class ComplexFeedForwardGainControlTest
+{
+    private static final int ITERATIONS = 500;
+    private static final float[] AMPLITUDES = {0.0f, 0.00001f, 0.001f, 0.1f, 1.0f, 10.0f, 1000.0f};
+
+    /**
+     * Reference per-buffer gain
+     */
+    private static float referenceGain(float[] samples)
+    {
+        float maxEnvelope = ComplexFeedForwardGainControl.MINIMUM_ENVELOPE;
+
+        for(int x = 0; x < samples.length; x += 2)
+        {
+            float envelope = Complex.envelope(samples[x], samples[x + 1]);
+
+            if(envelope > maxEnvelope)
+            {
+                maxEnvelope = envelope;
+            }
+        }
+
+        return ComplexFeedForwardGainControl.OBJECTIVE_ENVELOPE / maxEnvelope;
+    }
+
+    /**
+     * Reference per-buffer gain applied to the samples
+     */
+    private static float[] reference(float[] samples)
+    {
+        float gain = referenceGain(samples);
+        float[] processed = new float[samples.length];
+
+        for(int x = 0; x < samples.length; x += 2)
+        {
+            processed[x] = samples[x] * gain;
+            processed[x + 1] = samples[x + 1] * gain;
+        }
+
+        return processed;
+    }
+
+    /**
+     * Creates a buffer of random complex samples scaled to the amplitude, with a few exact ties between the inphase
+     * and quadrature magnitudes.
+     */
+    private static float[] createSamples(Random random, float amplitude)
+    {
+        float[] samples = new float[2 * (1 + random.nextInt(1024))];
+
+        for(int x = 0; x < samples.length; x++)
+        {
+            samples[x] = (random.nextFloat() * 2.0f - 1.0f) * amplitude;
+        }
+
+        samples[1] = -samples[0];
+
+        return samples;
+    }
+
+    @Test
+    void filterArrayMatchesPerBufferGain()
+    {
+        Random random = new Random(1);
+        ComplexFeedForwardGainControl gainControl = new ComplexFeedForwardGainControl(16);
+
+        for(int x = 0; x < ITERATIONS; x++)
+        {
+            float[] samples = createSamples(random, AMPLITUDES[x % AMPLITUDES.length]);
+            float[] expected = reference(samples);
+
+            assertArrayEquals(expected, gainControl.filter(samples), "Iteration " + x);
+            assertEquals(referenceGain(samples), gainControl.getGain(), "Iteration " + x);
+        }
+    }
+
+    @Test
+    void filterBufferMatchesPerBufferGain()
+    {
+        Random random = new Random(2);
+        ComplexFeedForwardGainControl gainControl = new ComplexFeedForwardGainControl(16);
+        ReusableComplexBufferQueue queue = new ReusableComplexBufferQueue("ComplexFeedForwardGainControlTest");
+
+        for(int x = 0; x < ITERATIONS; x++)
+        {
+            float[] samples = createSamples(random, AMPLITUDES[x % AMPLITUDES.length]);
+            float[] expected = reference(samples);
+
+            ReusableComplexBuffer buffer = queue.getBuffer(samples, x);
+            ReusableComplexBuffer filtered = gainControl.filter(buffer);
+
+            assertArrayEquals(expected, filtered.getSamples(), "Iteration " + x);
+            assertEquals(x, filtered.getTimestamp(), "Iteration " + x);
+            assertEquals(referenceGain(samples), gainControl.getGain(), "Iteration " + x);
+            filtered.decrementUserCount();
+        }
+    }
+
+    @Test
+    void silenceIsLimitedByMinimumEnvelope()
+    {
+        ComplexFeedForwardGainControl gainControl = new ComplexFeedForwardGainControl(16);
+        float[] silence = new float[256];
+
+        assertArrayEquals(silence, gainControl.filter(silence));
+        assertEquals(ComplexFeedForwardGainControl.MINIMUM_ENVELOPE, gainControl.getMaxEnvelope());
+        assertEquals(ComplexFeedForwardGainControl.OBJECTIVE_ENVELOPE / ComplexFeedForwardGainControl.MINIMUM_ENVELOPE,
+            gainControl.getGain());
+    }
+}
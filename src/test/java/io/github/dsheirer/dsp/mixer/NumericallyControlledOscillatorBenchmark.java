@@ -0,0 +1,89 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2021 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.dsp.mixer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Accuracy and mixing throughput benchmark for the numerically controlled oscillator versus the low phase noise
+ * oscillator.
+ */
+public class NumericallyControlledOscillatorBenchmark
+{
+    private final static Logger mLog = LoggerFactory.getLogger(NumericallyControlledOscillatorBenchmark.class);
+    private static final double PHASE_UNITS_PER_CYCLE = 4294967296.0; //2^32
+
+    public static void main(String[] args)
+    {
+        double frequency = 12345.678;
+        double sampleRate = 50000.0;
+        int sampleCount = 1 << 20;
+
+        NumericallyControlledOscillator nco = new NumericallyControlledOscillator(frequency, sampleRate);
+
+        //Measure the quantized phase increment so that the frequency resolution offset is excluded from the error
+        int startPhase = nco.getPhase();
+        nco.rotate();
+        double cyclesPerSample = (nco.getPhase() - startPhase) / PHASE_UNITS_PER_CYCLE;
+        nco.setPhase(startPhase);
+
+        float[] samples = nco.generateComplex(sampleCount);
+
+        double maxError = 0.0;
+
+        for(int x = 0; x < sampleCount; x++)
+        {
+            double angle = 2.0 * Math.PI * ((cyclesPerSample * x) % 1.0);
+            maxError = Math.max(maxError, Math.abs(samples[2 * x] - Math.cos(angle)));
+            maxError = Math.max(maxError, Math.abs(samples[2 * x + 1] - Math.sin(angle)));
+        }
+
+        mLog.info("Maximum error versus ideal tone over [" + sampleCount + "] samples: " + maxError);
+
+        AbstractOscillator lpno = new LowPhaseNoiseOscillator(frequency, sampleRate);
+        float[] buffer = new float[4096];
+        int iterations = 100000;
+
+        for(int warmup = 0; warmup < 3; warmup++)
+        {
+            for(int x = 0; x < iterations; x++)
+            {
+                nco.mixComplex(buffer);
+                lpno.mixComplex(buffer);
+            }
+        }
+
+        long start = System.nanoTime();
+        for(int x = 0; x < iterations; x++)
+        {
+            lpno.mixComplex(buffer);
+        }
+        long lpnoDuration = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for(int x = 0; x < iterations; x++)
+        {
+            nco.mixComplex(buffer);
+        }
+        long ncoDuration = System.nanoTime() - start;
+
+        mLog.info("Mix Low Phase Noise: " + (lpnoDuration / 1000000) + "ms NCO: " + (ncoDuration / 1000000) + "ms");
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2021 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.edac;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Random;
+
+/**
+ * Microbenchmark that decodes RS(24,12,13) codewords with 0 - 6 symbol errors and reports the decode time and, when
+ * the JVM supports it, the number of bytes allocated per decode by the calling thread.
+ */
+public class BerlekempMasseyBenchmark
+{
+    private final static Logger mLog = LoggerFactory.getLogger(BerlekempMasseyBenchmark.class);
+
+    public static void main(String[] args)
+    {
+        BerlekempMassey decoder = new ReedSolomon_24_12_13_P25();
+        Random random = new Random(1);
+        int iterations = 200000;
+
+        int[][] inputs = new int[1024][63];
+
+        //The all-zeros codeword is a valid codeword, so random symbol errors are applied to it
+        for(int[] input : inputs)
+        {
+            int errors = random.nextInt(7);
+
+            for(int x = 0; x < errors; x++)
+            {
+                input[random.nextInt(24)] = random.nextInt(64);
+            }
+        }
+
+        int[] output = new int[63];
+
+        for(int round = 0; round < 5; round++)
+        {
+            long allocatedStart = getAllocatedBytes();
+            long start = System.nanoTime();
+
+            for(int x = 0; x < iterations; x++)
+            {
+                decoder.decode(inputs[x & 1023], output);
+            }
+
+            long elapsed = System.nanoTime() - start;
+            long allocated = getAllocatedBytes() - allocatedStart;
+
+            mLog.info("Round " + round + ": " + (elapsed / iterations) + " ns/decode" +
+                (allocatedStart < 0 ? "" : ", " + ((double)allocated / iterations) + " bytes allocated/decode"));
+        }
+    }
+
+    /**
+     * Bytes allocated by the current thread, or -1 if the JVM doesn't provide per-thread allocation counts.
+     */
+    private static long getAllocatedBytes()
+    {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+
+        if(threadMXBean instanceof com.sun.management.ThreadMXBean)
+        {
+            return ((com.sun.management.ThreadMXBean)threadMXBean)
+                .getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+
+        return -1;
+    }
+}
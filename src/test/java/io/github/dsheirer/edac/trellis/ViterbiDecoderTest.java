@@ -0,0 +1,273 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2021 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.edac.trellis;
+
+import io.github.dsheirer.bits.CorrectedBinaryMessage;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Encode, corrupt and decode tests for the P25 1/2 rate, P25 3/4 rate and DMR 3/4 rate trellis decoders.  Each
+ * message is 48 random input values encoded from state zero plus a zero flushing input value, which produces the 49
+ * transmitted four-bit values (196 bits) of a trellis coded block.
+ */
+class ViterbiDecoderTest
+{
+    private static final int ITERATIONS = 500;
+    private static final int INPUT_VALUE_COUNT = 48;
+    private static final float CONFIDENT = 1.0f;
+    private static final float UNRELIABLE = 0.1f;
+
+    /**
+     * Decoders under test with their transition matrices
+     */
+    private static final Object[][] DECODERS = new Object[][]
+    {
+        {new ViterbiDecoder_1_2_P25(), ViterbiDecoder_1_2_P25.TRANSITION_MATRIX},
+        {new ViterbiDecoder_3_4_P25(), ViterbiDecoder_3_4_P25.TRANSITION_MATRIX},
+        {new ViterbiDecoder_3_4_DMR(), ViterbiDecoder_3_4_DMR.DMR_TRANSITION_MATRIX}
+    };
+
+    /**
+     * Trellis encodes the input values where the state is the preceding input value
+     */
+    private static int[] encode(int[][] transitionMatrix, int[] inputs)
+    {
+        int[] transmitted = new int[inputs.length + 1];
+        int state = 0;
+
+        for(int x = 0; x < inputs.length; x++)
+        {
+            transmitted[x] = transitionMatrix[state][inputs[x]];
+            state = inputs[x];
+        }
+
+        transmitted[inputs.length] = transitionMatrix[state][0];
+
+        return transmitted;
+    }
+
+    private static int[] createInputs(Random random, ViterbiDecoder decoder)
+    {
+        int[] inputs = new int[INPUT_VALUE_COUNT];
+
+        for(int x = 0; x < inputs.length; x++)
+        {
+            inputs[x] = random.nextInt(decoder.getInputValueCount());
+        }
+
+        return inputs;
+    }
+
+    /**
+     * Indicates if the decoded message contains the input values
+     */
+    private static boolean matches(ViterbiDecoder decoder, int[] inputs, CorrectedBinaryMessage decoded)
+    {
+        int bits = decoder.getInputBitLength();
+
+        if(decoded.size() != inputs.length * bits)
+        {
+            return false;
+        }
+
+        for(int x = 0; x < inputs.length; x++)
+        {
+            if(decoded.getInt(x * bits, x * bits + bits - 1) != inputs[x])
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Converts the transmitted values to a message, most significant bit first
+     */
+    private static CorrectedBinaryMessage toMessage(int[] transmitted)
+    {
+        CorrectedBinaryMessage message = new CorrectedBinaryMessage(transmitted.length * 4);
+
+        for(int x = 0; x < transmitted.length; x++)
+        {
+            for(int bit = 0; bit < 4; bit++)
+            {
+                if((transmitted[x] & (8 >> bit)) != 0)
+                {
+                    message.set(x * 4 + bit);
+                }
+            }
+        }
+
+        return message;
+    }
+
+    @Test
+    void decodesErrorFreeMessages()
+    {
+        Random random = new Random(1);
+
+        for(Object[] entry : DECODERS)
+        {
+            ViterbiDecoder decoder = (ViterbiDecoder)entry[0];
+            int[][] transitionMatrix = (int[][])entry[1];
+            String name = decoder.getClass().getSimpleName();
+
+            for(int x = 0; x < ITERATIONS; x++)
+            {
+                int[] inputs = createInputs(random, decoder);
+                CorrectedBinaryMessage decoded = decoder.decode(encode(transitionMatrix, inputs));
+
+                assertTrue(matches(decoder, inputs, decoded), name + " iteration " + x);
+                assertEquals(0, decoded.getCorrectedBitCount(), name + " iteration " + x);
+            }
+        }
+    }
+
+    /**
+     * Single bit errors spaced eight transmitted values apart are corrected with hard decisions and the corrected bit
+     * count matches the number of injected errors.  Soft bits with uniform reliability decode the same as hard bits.
+     */
+    @Test
+    void correctsSpacedBitErrorsWithHardDecisions()
+    {
+        Random random = new Random(2);
+        float[] uniform = new float[(INPUT_VALUE_COUNT + 1) * 4];
+        Arrays.fill(uniform, CONFIDENT);
+
+        for(Object[] entry : DECODERS)
+        {
+            ViterbiDecoder decoder = (ViterbiDecoder)entry[0];
+            int[][] transitionMatrix = (int[][])entry[1];
+            String name = decoder.getClass().getSimpleName();
+
+            for(int x = 0; x < ITERATIONS; x++)
+            {
+                int[] inputs = createInputs(random, decoder);
+                int[] received = encode(transitionMatrix, inputs);
+                int errors = 0;
+
+                for(int y = random.nextInt(8); y < received.length; y += 8)
+                {
+                    received[y] ^= 1 << random.nextInt(4);
+                    errors++;
+                }
+
+                CorrectedBinaryMessage hard = decoder.decode(received);
+                assertTrue(matches(decoder, inputs, hard), name + " iteration " + x);
+                assertEquals(errors, hard.getCorrectedBitCount(), name + " iteration " + x);
+
+                CorrectedBinaryMessage soft = decoder.decode(received, uniform);
+                assertEquals(hard, soft, name + " iteration " + x);
+                assertEquals(errors, soft.getCorrectedBitCount(), name + " iteration " + x);
+            }
+        }
+    }
+
+    /**
+     * Double bit errors in every fourth transmitted value exceed what hard decisions can correct, but are corrected
+     * when the errored bits are flagged with low soft reliability.
+     */
+    @Test
+    void correctsUnreliableBitErrorsWithSoftDecisions()
+    {
+        Random random = new Random(3);
+
+        for(Object[] entry : DECODERS)
+        {
+            ViterbiDecoder decoder = (ViterbiDecoder)entry[0];
+            int[][] transitionMatrix = (int[][])entry[1];
+            String name = decoder.getClass().getSimpleName();
+            int hardCorrected = 0;
+
+            for(int x = 0; x < ITERATIONS; x++)
+            {
+                int[] inputs = createInputs(random, decoder);
+                int[] received = encode(transitionMatrix, inputs);
+                float[] softBits = new float[received.length * 4];
+                Arrays.fill(softBits, CONFIDENT);
+                int errors = 0;
+
+                for(int y = random.nextInt(4); y < received.length; y += 4)
+                {
+                    int bit1 = random.nextInt(4);
+                    int bit2 = (bit1 + 1 + random.nextInt(3)) % 4;
+                    received[y] ^= (1 << bit1) | (1 << bit2);
+                    softBits[y * 4 + 3 - bit1] = UNRELIABLE;
+                    softBits[y * 4 + 3 - bit2] = UNRELIABLE;
+                    errors += 2;
+                }
+
+                CorrectedBinaryMessage soft = decoder.decode(received, softBits);
+                assertTrue(matches(decoder, inputs, soft), name + " iteration " + x);
+                assertEquals(errors, soft.getCorrectedBitCount(), name + " iteration " + x);
+
+                if(matches(decoder, inputs, decoder.decode(received)))
+                {
+                    hardCorrected++;
+                }
+            }
+
+            assertTrue(hardCorrected < ITERATIONS, name + " hard decisions corrected every message");
+        }
+    }
+
+    /**
+     * The P25 decoders use the soft bits carried by the encoded message
+     */
+    @Test
+    void p25DecodersUseMessageSoftBits()
+    {
+        Random random = new Random(4);
+        ViterbiDecoder_1_2_P25 halfRate = new ViterbiDecoder_1_2_P25();
+        ViterbiDecoder_3_4_P25 threeQuarterRate = new ViterbiDecoder_3_4_P25();
+
+        for(int x = 0; x < ITERATIONS; x++)
+        {
+            int[] halfRateInputs = createInputs(random, halfRate);
+            int[] threeQuarterRateInputs = createInputs(random, threeQuarterRate);
+            int[] halfRateReceived = encode(ViterbiDecoder_1_2_P25.TRANSITION_MATRIX, halfRateInputs);
+            int[] threeQuarterRateReceived = encode(ViterbiDecoder_3_4_P25.TRANSITION_MATRIX, threeQuarterRateInputs);
+            float[] softBits = new float[halfRateReceived.length * 4];
+            Arrays.fill(softBits, CONFIDENT);
+
+            for(int y = random.nextInt(4); y < halfRateReceived.length; y += 4)
+            {
+                halfRateReceived[y] ^= 0x6;
+                threeQuarterRateReceived[y] ^= 0x6;
+                softBits[y * 4 + 1] = UNRELIABLE;
+                softBits[y * 4 + 2] = UNRELIABLE;
+            }
+
+            CorrectedBinaryMessage halfRateMessage = toMessage(halfRateReceived);
+            halfRateMessage.setSoftBits(softBits);
+            assertTrue(matches(halfRate, halfRateInputs, halfRate.decode(halfRateMessage)), "Iteration " + x);
+
+            CorrectedBinaryMessage threeQuarterRateMessage = toMessage(threeQuarterRateReceived);
+            threeQuarterRateMessage.setSoftBits(softBits);
+            assertTrue(matches(threeQuarterRate, threeQuarterRateInputs,
+                threeQuarterRate.decode(threeQuarterRateMessage)), "Iteration " + x);
+        }
+    }
+}
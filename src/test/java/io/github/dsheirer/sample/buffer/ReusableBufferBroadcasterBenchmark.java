@@ -0,0 +1,150 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2021 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+package io.github.dsheirer.sample.buffer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Contended fan-out throughput benchmark for the ReusableBufferBroadcaster and the reusable buffer user count.
+ */
+public class ReusableBufferBroadcasterBenchmark
+{
+    private final static Logger mLog = LoggerFactory.getLogger(ReusableBufferBroadcasterBenchmark.class);
+
+    /**
+     * Benchmarks contended fan-out throughput: one producer thread broadcasts each buffer to several listeners that
+     * each hand the buffer to their own consumer thread, which then decrements the user count.  Compares the lock-free
+     * user count protocol against the previous protocol that took the buffer's monitor for every decrement.
+     */
+    public static void main(String[] args)
+    {
+        int consumers = Math.max(Runtime.getRuntime().availableProcessors() - 1, 2);
+        int buffers = 1_000_000;
+
+        for(int round = 0; round < 3; round++)
+        {
+            benchmark("Lock-free", new ReusableBufferQueue("Benchmark"), consumers, buffers);
+            benchmark("Synchronized", new SynchronizedBufferQueue(), consumers, buffers);
+        }
+    }
+
+    private static void benchmark(String label, AbstractReusableBufferQueue<ReusableFloatBuffer> queue, int consumers,
+                                  int buffers)
+    {
+        ReusableBufferBroadcaster<ReusableFloatBuffer> broadcaster = new ReusableBufferBroadcaster<>();
+        List<Thread> threads = new ArrayList<>();
+
+        for(int x = 0; x < consumers; x++)
+        {
+            BlockingQueue<ReusableFloatBuffer> consumerQueue = new ArrayBlockingQueue<>(1024);
+            broadcaster.addListener(buffer -> {
+                try
+                {
+                    consumerQueue.put(buffer);
+                }
+                catch(InterruptedException ie)
+                {
+                    Thread.currentThread().interrupt();
+                }
+            });
+
+            Thread thread = new Thread(() -> {
+                try
+                {
+                    for(int y = 0; y < buffers; y++)
+                    {
+                        consumerQueue.take().decrementUserCount();
+                    }
+                }
+                catch(InterruptedException ie)
+                {
+                    //Benchmark aborted
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        long start = System.nanoTime();
+
+        for(int x = 0; x < buffers; x++)
+        {
+            ReusableFloatBuffer buffer = queue instanceof SynchronizedBufferQueue ?
+                ((SynchronizedBufferQueue)queue).getBuffer(16) : ((ReusableBufferQueue)queue).getBuffer(16);
+            broadcaster.broadcast(buffer);
+        }
+
+        for(Thread thread: threads)
+        {
+            try
+            {
+                thread.join();
+            }
+            catch(InterruptedException ie)
+            {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        double elapsed = (System.nanoTime() - start) / 1E9;
+
+        mLog.info(label + " Consumers:" + consumers + " Buffers/Sec:" + (int)(buffers / elapsed) +
+            " Pool Created:" + queue.getCreatedCount());
+    }
+
+    /**
+     * Buffer queue that produces buffers using the previous monitor-based user count decrement, for benchmarking.
+     */
+    private static class SynchronizedBufferQueue extends AbstractReusableBufferQueue<ReusableFloatBuffer>
+    {
+        public ReusableFloatBuffer getBuffer(int size)
+        {
+            ReusableFloatBuffer buffer = getRecycledBuffer(size);
+
+            if(buffer == null)
+            {
+                buffer = new SynchronizedFloatBuffer(this, new float[size]);
+                incrementBufferCount(buffer);
+            }
+
+            buffer.incrementUserCount();
+            return buffer;
+        }
+    }
+
+    private static class SynchronizedFloatBuffer extends ReusableFloatBuffer
+    {
+        public SynchronizedFloatBuffer(IReusableBufferDisposedListener listener, float[] samples)
+        {
+            super(listener, samples);
+        }
+
+        @Override
+        public synchronized void decrementUserCount()
+        {
+            super.decrementUserCount();
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * *****************************************************************************
+ * Copyright (C) 2014-2021 Dennis Sheirer
+ *
+ * This program is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU General Public License for more details.
+ *
+ * You should have received a copy of the GNU General Public License
+ * along with this program.  If not, see <http://www.gnu.org/licenses/>
+ * ****************************************************************************
+ */
+
+package io.github.dsheirer.dsp.filter.channelizer;
+
+import io.github.dsheirer.dsp.filter.design.FilterDesignException;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Non-Maximally Decimated Polyphase Filter Bank (NMDPFB) channelizer that uses the JDK incubator Vector API for the
+ * filter tap multiply/accumulate and for the top/middle block reordering of the sub-channel results.
+ *
+ * Each group of sub-channels that fits in a vector register is accumulated across all of the filter taps before it
+ * is written back to the accumulator, and each product is added with a separate multiply and add (not fused) so that
+ * the output is identical to the scalar ComplexPolyphaseChannelizerM2 implementation.
+ *
+ * Note: the jdk.incubator.vector module must be added to the JVM at runtime (--add-modules jdk.incubator.vector).
+ * This class is compiled in the vector source set and is loaded with VectorSupport.getImplementation().
+ */
+public class VectorComplexPolyphaseChannelizerM2 extends ComplexPolyphaseChannelizerM2
+{
+    private static final VectorSpecies<Float> SPECIES = FloatVector.SPECIES_PREFERRED;
+
+    /**
+     * Creates a vector NMDPFB channelizer instance.
+     *
+     * @param taps of a low-pass filter designed for the inbound sample rate with a cutoff frequency
+     * equal to the channel bandwidth (sample rate / filters).
+     * @param sampleRate of the incoming sample stream
+     * @param channelCount - number of filters/channels to output.  This number must be even (divisible by 2).
+     */
+    public VectorComplexPolyphaseChannelizerM2(float[] taps, int sampleRate, int channelCount)
+    {
+        super(taps, sampleRate, channelCount);
+    }
+
+    /**
+     * Creates a vector NMDPFB channelizer instance and designs a Perfect Reconstruction prototype filter appropriate
+     * for the baseband sample rate and quantity of filter taps per polyphase sub-channel.
+     *
+     * @param sampleRate to be channelized.
+     * @param tapsPerChannel to use when designing the filter
+     */
+    public VectorComplexPolyphaseChannelizerM2(double sampleRate, int tapsPerChannel) throws FilterDesignException
+    {
+        super(sampleRate, tapsPerChannel);
+    }
+
+    @Override
+    protected void filter(float[] samples, float[] filter, float[] accumulator, int tapsPerChannel)
+    {
+        int subChannelCount = accumulator.length;
+        int loopBound = SPECIES.loopBound(subChannelCount);
+        int tapOffset;
+
+        //Load the first tap products directly into the accumulator so that we don't have to clear it
+        for(int channel = 0; channel < loopBound; channel += SPECIES.length())
+        {
+            FloatVector.fromArray(SPECIES, samples, channel)
+                .mul(FloatVector.fromArray(SPECIES, filter, channel))
+                .intoArray(accumulator, channel);
+        }
+
+        for(int channel = loopBound; channel < subChannelCount; channel++)
+        {
+            accumulator[channel] = samples[channel] * filter[channel];
+        }
+
+        for(int tap = 1; tap < tapsPerChannel; tap++)
+        {
+            tapOffset = tap * subChannelCount;
+
+            for(int channel = 0; channel < loopBound; channel += SPECIES.length())
+            {
+                FloatVector.fromArray(SPECIES, samples, tapOffset + channel)
+                    .mul(FloatVector.fromArray(SPECIES, filter, tapOffset + channel))
+                    .add(FloatVector.fromArray(SPECIES, accumulator, channel))
+                    .intoArray(accumulator, channel);
+            }
+
+            //Process any remaining sub-channels that don't fill a vector
+            for(int channel = loopBound; channel < subChannelCount; channel++)
+            {
+                accumulator[channel] += samples[tapOffset + channel] * filter[tapOffset + channel];
+            }
+        }
+    }
+
+    @Override
+    protected void reorder(float[] accumulator, int[] map, float[] processed)
+    {
+        int loopBound = SPECIES.loopBound(processed.length);
+        int x = 0;
+
+        for(; x < loopBound; x += SPECIES.length())
+        {
+            FloatVector.fromArray(SPECIES, accumulator, 0, map, x).intoArray(processed, x);
+        }
+
+        for(; x < processed.length; x++)
+        {
+            processed[x] = accumulator[map[x]];
+        }
+    }
+}
@@ -0,0 +1,81 @@
+/*******************************************************************************
+ *     SDR Trunk 
+ *     Copyright (C) 2014,2015 Dennis Sheirer
+ *
+ *     This program is free software: you can redistribute it and/or modify
+ *     it under the terms of the GNU General Public License as published by
+ *     the Free Software Foundation, either version 3 of the License, or
+ *     (at your option) any later version.
+ *
+ *     This program is distributed in the hope that it will be useful,
+ *     but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *     MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *     GNU General Public License for more details.
+ *
+ *     You should have received a copy of the GNU General Public License
+ *     along with this program.  If not, see <http://www.gnu.org/licenses/>
+ ******************************************************************************/
+package io.github.dsheirer.dsp.fm;
+
+import io.github.dsheirer.util.ArcTangent;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * FM discriminator (arc-tangent) stage that uses the JDK incubator Vector API to calculate the demodulated output for
+ * arrays of inphase and quadrature phase-delta (conjugate product) values.
+ *
+ * Each lane uses the same polynomial, range reduction and (unfused) operation order as ArcTangent.atan(y, x), so the
+ * output is identical to the scalar implementation.
+ *
+ * Note: the jdk.incubator.vector module must be added to the JVM at runtime (--add-modules jdk.incubator.vector).
+ * This class is compiled in the vector source set and is loaded with VectorSupport.getImplementation().
+ */
+public class VectorFMDiscriminator implements IFMDiscriminator
+{
+    private static final VectorSpecies<Float> SPECIES = FloatVector.SPECIES_PREFERRED;
+
+    @Override
+    public void discriminate(float[] inphase, float[] quadrature, float[] output, int length, float gain)
+    {
+        int loopBound = SPECIES.loopBound(length);
+
+        for(int x = 0; x < loopBound; x += SPECIES.length())
+        {
+            FloatVector i = FloatVector.fromArray(SPECIES, inphase, x);
+            FloatVector q = FloatVector.fromArray(SPECIES, quadrature, x);
+            FloatVector iAbs = i.abs();
+            FloatVector qAbs = q.abs();
+
+            //Reduce the ratio to the range 0 to 1, swapping numerator and denominator when |q| > |i|
+            VectorMask<Float> swapped = qAbs.compare(VectorOperators.GT, iAbs);
+            FloatVector z = iAbs.min(qAbs).div(iAbs.max(qAbs));
+            FloatVector z2 = z.mul(z);
+
+            FloatVector angle = z2.mul(ArcTangent.sATAN_A9).add(ArcTangent.sATAN_A7)
+                .mul(z2).add(ArcTangent.sATAN_A5)
+                .mul(z2).add(ArcTangent.sATAN_A3)
+                .mul(z2).add(ArcTangent.sATAN_A1)
+                .mul(z);
+
+            angle = angle.blend(FloatVector.broadcast(SPECIES, ArcTangent.sHALF_PI_FLOAT).sub(angle), swapped);
+
+            //Apply the sign of the ratio q/i
+            VectorMask<Float> iNegative = i.compare(VectorOperators.LT, 0.0f);
+            VectorMask<Float> qNegative = q.compare(VectorOperators.LT, 0.0f);
+            angle = angle.blend(angle.neg(), iNegative.andNot(qNegative).or(qNegative.andNot(iNegative)));
+
+            //Divide by zero protection
+            angle = angle.blend(0.0f, i.compare(VectorOperators.EQ, 0.0f));
+
+            angle.mul(gain).intoArray(output, x);
+        }
+
+        for(int x = loopBound; x < length; x++)
+        {
+            output[x] = ArcTangent.atan(quadrature[x], inphase[x]) * gain;
+        }
+    }
+}